@@ -277,12 +277,18 @@ export default function BrainVisualizer3D({
       }
     };
 
-    // Handle cell state updates
-    eventSource.addEventListener('message', (event) => {
+    // Handle cell state updates: keyframes carry every cell, frames only the changed ones
+    const handleCells = (event: MessageEvent, keyframe: boolean) => {
       try {
         messageCount++;
         const cellStates: CellState[] = JSON.parse(event.data);
 
+        // A keyframe replaces the whole grid, which may have been resized by an evolution
+        if (keyframe) {
+          gridStateRef.current.clear();
+          gridSizeInitializedRef.current = false;
+        }
+
         // Update grid state
         cellStates.forEach((state) => {
           const key = `${state.x}-${state.y}`;
@@ -291,9 +297,8 @@ export default function BrainVisualizer3D({
 
         setUpdateCount((prev) => prev + cellStates.length);
 
-        // Only detect grid size on first message or when we receive a full snapshot (400 cells for 20x20)
-        // Buffered updates may contain partial data, so we shouldn't recalculate size from them
-        if (!gridSizeInitializedRef.current && cellStates.length > 100) {
+        // Only detect grid size from a keyframe; delta frames contain partial data
+        if (!gridSizeInitializedRef.current && keyframe && cellStates.length > 0) {
           const maxX = Math.max(...cellStates.map((s) => s.x)) + 1;
           const maxY = Math.max(...cellStates.map((s) => s.y)) + 1;
 
@@ -311,7 +316,9 @@ export default function BrainVisualizer3D({
       } catch (error) {
         console.error('Failed to parse brain update:', error, 'Data preview:', event.data?.substring(0, 100));
       }
-    });
+    };
+    eventSource.addEventListener('keyframe', (event) => handleCells(event as MessageEvent, true));
+    eventSource.addEventListener('frame', (event) => handleCells(event as MessageEvent, false));
 
     return () => {
       console.log('Cleaning up brain stream connection');
@@ -0,0 +1,89 @@
+import { useEffect, useSyncExternalStore } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import { config } from '@/lib/config';
+import type { Pet, PlayerProgression, Statistics } from '@/lib/types';
+
+// Whether the update stream is open; polling hooks back off while it is
+let connected = false;
+const listeners = new Set<() => void>();
+
+function setConnected(value: boolean) {
+  if (connected === value) {
+    return;
+  }
+  connected = value;
+  listeners.forEach((listener) => listener());
+}
+
+function subscribe(listener: () => void) {
+  listeners.add(listener);
+  return () => listeners.delete(listener);
+}
+
+/**
+ * Polling interval for queries the update stream keeps fresh: off while the stream is
+ * connected, the configured interval while it is down.
+ */
+export function useLiveRefetchInterval() {
+  const isConnected = useSyncExternalStore(subscribe, () => connected, () => false);
+  return isConnected ? false : config.pollingInterval;
+}
+
+/**
+ * Keep pets, statistics and progression in the query cache up to date from the server's
+ * update stream. Mount once, near the root of the app.
+ */
+export function useLiveUpdates() {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const eventSource = new EventSource(`${config.apiBaseUrl}/stream`);
+
+    eventSource.onopen = () => {
+      setConnected(true);
+    };
+
+    eventSource.onerror = () => {
+      // EventSource reconnects on its own; poll until it does
+      setConnected(false);
+    };
+
+    eventSource.addEventListener('pets', (event) => {
+      const pets: Pet[] = JSON.parse((event as MessageEvent).data);
+      queryClient.setQueryData(['pets'], pets);
+      pets.forEach((pet) => queryClient.setQueryData(['pet', pet.petId], pet));
+    });
+
+    eventSource.addEventListener('pet', (event) => {
+      const pet: Pet = JSON.parse((event as MessageEvent).data);
+      queryClient.setQueryData(['pet', pet.petId], pet);
+      queryClient.setQueryData<Pet[]>(['pets'], (pets) => {
+        if (!pets) {
+          return pets;
+        }
+        const index = pets.findIndex((p) => p.petId === pet.petId);
+        if (index === -1) {
+          return [...pets, pet];
+        }
+        const updated = [...pets];
+        updated[index] = pet;
+        return updated;
+      });
+    });
+
+    eventSource.addEventListener('statistics', (event) => {
+      const statistics: Statistics = JSON.parse((event as MessageEvent).data);
+      queryClient.setQueryData(['statistics'], statistics);
+    });
+
+    eventSource.addEventListener('progression', (event) => {
+      const progression: PlayerProgression = JSON.parse((event as MessageEvent).data);
+      queryClient.setQueryData(['progression'], progression);
+    });
+
+    return () => {
+      eventSource.close();
+      setConnected(false);
+    };
+  }, [queryClient]);
+}
@@ -3,12 +3,15 @@ import { api, ApiError } from '@/lib/api/client';
 import { config } from '@/lib/config';
 import type { CreatePetRequest } from '@/lib/types';
 import { useToast } from '@/hooks/use-toast';
+import { useLiveRefetchInterval } from '@/hooks/use-live-updates';
 
 export function usePets() {
+  const refetchInterval = useLiveRefetchInterval();
+
   return useQuery({
     queryKey: ['pets'],
     queryFn: api.getAllPets,
-    refetchInterval: config.pollingInterval,
+    refetchInterval,
     retry: (failureCount, error) => {
       // Don't retry on 404 errors
       if (error instanceof ApiError && error.isNotFound()) {
@@ -22,11 +25,12 @@ export function usePets() {
 
 export function usePet(id: string) {
   const queryClient = useQueryClient();
+  const refetchInterval = useLiveRefetchInterval();
 
   return useQuery({
     queryKey: ['pet', id],
     queryFn: () => api.getPet(id),
-    refetchInterval: config.pollingInterval,
+    refetchInterval,
     enabled: !!id,
     retry: (failureCount, error) => {
       // Don't retry on 404 errors - pet doesn't exist
@@ -1,12 +1,14 @@
 import { useQuery } from '@tanstack/react-query';
 import { api, ApiError } from '@/lib/api';
-import { config } from '@/lib/config';
+import { useLiveRefetchInterval } from '@/hooks/use-live-updates';
 
 export function useProgression() {
+  const refetchInterval = useLiveRefetchInterval();
+
   return useQuery({
     queryKey: ['progression'],
     queryFn: api.getProgression,
-    refetchInterval: config.pollingInterval,
+    refetchInterval,
     retry: (failureCount, error) => {
       // Don't retry on 404 errors - progression doesn't exist yet
       if (error instanceof ApiError && error.isNotFound()) {
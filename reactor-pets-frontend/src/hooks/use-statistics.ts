@@ -2,12 +2,15 @@ import { useQuery } from '@tanstack/react-query';
 import { api } from '@/lib/api/client';
 import { config } from '@/lib/config';
 import type { LeaderboardType } from '@/lib/types/pet';
+import { useLiveRefetchInterval } from '@/hooks/use-live-updates';
 
 export function useStatistics() {
+  const refetchInterval = useLiveRefetchInterval();
+
   return useQuery({
     queryKey: ['statistics'],
     queryFn: api.getStatistics,
-    refetchInterval: config.pollingInterval,
+    refetchInterval,
   });
 }
 
@@ -3,6 +3,12 @@
 import { QueryClient, QueryClientProvider } from '@tanstack/react-query';
 import { ReactQueryDevtools } from '@tanstack/react-query-devtools';
 import { useState } from 'react';
+import { useLiveUpdates } from '@/hooks/use-live-updates';
+
+function LiveUpdates() {
+  useLiveUpdates();
+  return null;
+}
 
 export function QueryProvider({ children }: { children: React.ReactNode }) {
   const [queryClient] = useState(
@@ -20,6 +26,7 @@ export function QueryProvider({ children }: { children: React.ReactNode }) {
 
   return (
     <QueryClientProvider client={queryClient}>
+      <LiveUpdates />
       {children}
       <ReactQueryDevtools initialIsOpen={false} />
     </QueryClientProvider>
@@ -1,5 +1,6 @@
 package com.reactor.pets.aggregate;
 
+import com.reactor.pets.command.AdvanceGlobalTimeByCommand;
 import com.reactor.pets.command.AdvanceGlobalTimeCommand;
 import com.reactor.pets.command.CreateGlobalTimeCommand;
 import com.reactor.pets.event.GlobalTimeAdvancedEvent;
@@ -12,7 +13,7 @@ import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.AggregateLifecycle;
 import org.axonframework.spring.stereotype.Aggregate;
 
-@Aggregate
+@Aggregate(snapshotTriggerDefinition = "loadTimeSnapshotTrigger", cache = "globalTimeCache")
 @NoArgsConstructor
 public class GlobalTimeAggregate {
 
@@ -34,19 +35,51 @@ public class GlobalTimeAggregate {
         new GlobalTimeCreatedEvent(command.getTimeId(), Instant.now()));
   }
 
+  /**
+   * Advance the clock by one tick.
+   *
+   * @return the new global tick
+   */
   @CommandHandler
-  public void handle(AdvanceGlobalTimeCommand command) {
+  public long handle(AdvanceGlobalTimeCommand command) {
     // Validate aggregate is initialized
     if (timeId == null) {
       throw new IllegalStateException("GlobalTime aggregate not initialized");
     }
 
     // Apply event - tick will be incremented
+    long newGlobalTick = currentGlobalTick + 1;
     AggregateLifecycle.apply(
         new GlobalTimeAdvancedEvent(
             command.getTimeId(),
-            currentGlobalTick + 1,
+            newGlobalTick,
             Instant.now()));
+    return newGlobalTick;
+  }
+
+  /**
+   * Advance the clock by several ticks at once.
+   *
+   * @return the new global tick
+   */
+  @CommandHandler
+  public long handle(AdvanceGlobalTimeByCommand command) {
+    // Validate aggregate is initialized
+    if (timeId == null) {
+      throw new IllegalStateException("GlobalTime aggregate not initialized");
+    }
+    if (command.getTicks() <= 0) {
+      throw new IllegalArgumentException("Ticks to advance must be positive");
+    }
+
+    // Apply event - a single event covers every tick
+    long newGlobalTick = currentGlobalTick + command.getTicks();
+    AggregateLifecycle.apply(
+        new GlobalTimeAdvancedEvent(
+            command.getTimeId(),
+            newGlobalTick,
+            Instant.now()));
+    return newGlobalTick;
   }
 
   @EventSourcingHandler
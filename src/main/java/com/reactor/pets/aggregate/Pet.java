@@ -1,5 +1,6 @@
 package com.reactor.pets.aggregate;
 
+import com.reactor.pets.command.AdvancePetTimeCommand;
 import com.reactor.pets.command.ApplyPermanentModifierCommand;
 import com.reactor.pets.command.CleanPetCommand;
 import com.reactor.pets.command.CreatePetCommand;
@@ -38,19 +39,22 @@ import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetHealthDeterioratedEvent;
 import com.reactor.pets.event.PetMournedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.NoArgsConstructor;
 import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.eventsourcing.EventSourcingHandler;
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.AggregateLifecycle;
+import org.axonframework.modelling.command.CommandHandlerInterceptor;
 import org.axonframework.spring.stereotype.Aggregate;
 
-@Aggregate(snapshotTriggerDefinition = "petSnapshotTrigger")
+@Aggregate(snapshotTriggerDefinition = "petSnapshotTrigger", cache = "petCache")
 @NoArgsConstructor
 public class Pet {
 
@@ -354,6 +358,94 @@ public class Pet {
     }
   }
 
+  /**
+   * Lazy time model: when a command carries the current global tick in its metadata (see
+   * {@link PetTimeModel#GLOBAL_TICK_METADATA}), all decay since the last processed tick is
+   * applied before the command is handled. Time commands then find their ticks already
+   * processed.
+   */
+  @CommandHandlerInterceptor
+  public void catchUpTime(CommandMessage<?> command) {
+    Object globalTick = command.getMetaData().get(PetTimeModel.GLOBAL_TICK_METADATA);
+    if (globalTick == null || !isAlive) {
+      return;
+    }
+
+    long targetTick =
+        globalTick instanceof Number number
+            ? number.longValue()
+            : Long.parseLong(globalTick.toString());
+    if (command.getPayload() instanceof TimeTickCommand tick) {
+      targetTick = Math.max(targetTick, tick.getGlobalTick());
+    } else if (command.getPayload() instanceof AdvancePetTimeCommand advance) {
+      targetTick = Math.max(targetTick, advance.getTargetGlobalTick());
+    }
+    applyElapsedTime(targetTick);
+  }
+
+  @CommandHandler
+  public void handle(AdvancePetTimeCommand command) {
+    // Dead pets no longer age; ticks already processed are ignored by applyElapsedTime
+    if (!isAlive) {
+      return;
+    }
+    applyElapsedTime(command.getTargetGlobalTick());
+  }
+
+  /**
+   * Apply every tick up to {@code targetTick} at once as a single {@link PetTimeAdvancedEvent},
+   * followed by {@link PetDiedEvent} if the pet did not survive. Nothing is applied for ticks
+   * that were already processed.
+   */
+  private void applyElapsedTime(long targetTick) {
+    long elapsed = targetTick - this.currentGlobalTick;
+    if (elapsed <= 0 || targetTick <= this.lastTickSequence) {
+      return;
+    }
+
+    PetTimeModel.State before =
+        new PetTimeModel.State(
+            hunger, happiness, health, age, getLocalAge(), xpMultiplier, lowStatsTicks);
+    PetTimeModel.Outcome outcome = PetTimeModel.advance(before, currentRates(), elapsed);
+    PetTimeModel.State after = outcome.state();
+    Instant now = Instant.now();
+
+    AggregateLifecycle.apply(
+        new PetTimeAdvancedEvent(
+            this.petId,
+            this.currentGlobalTick,
+            this.currentGlobalTick + outcome.ticks(),
+            after.hunger() - before.hunger(),
+            before.happiness() - after.happiness(),
+            after.age() - before.age(),
+            after.health() - before.health(),
+            outcome.deteriorationReason(),
+            after.xpMultiplier() - before.xpMultiplier(),
+            after.xpMultiplier(),
+            after.lowStatsTicks(),
+            now));
+
+    if (outcome.died()) {
+      AggregateLifecycle.apply(
+          new PetDiedEvent(
+              this.petId,
+              this.age,
+              getLocalAge(),
+              "Health reached zero: " + outcome.deteriorationReason(),
+              new ArrayList<>(this.equippedItems.values()),
+              now));
+    }
+  }
+
+  private PetTimeModel.Rates currentRates() {
+    return PetTimeModel.rates(
+        stage,
+        evolutionPath,
+        getTotalModifier(StatModifier.HUNGER_DECAY_RATE),
+        getTotalModifier(StatModifier.HAPPINESS_DECAY_RATE),
+        getTotalModifier(StatModifier.HEALTH_REGEN));
+  }
+
   @CommandHandler
   public void handle(TimeTickCommand command) {
     System.out.println(
@@ -385,31 +477,11 @@ public class Pet {
 
     System.out.println("*** Processing tick for pet: " + command.getPetId());
 
-    // Calculate stat changes based on stage and evolution path
-    int baseHungerIncrease = 3;
-    int baseHappinessDecrease = 2;
-
-    // Adults have slower degradation
-    if (this.stage == PetStage.ADULT) {
-      baseHungerIncrease = 2;
-      baseHappinessDecrease = 1;
-    }
-
-    // Neglected path has faster degradation (50% increase)
-    if (this.evolutionPath == EvolutionPath.NEGLECTED) {
-      baseHungerIncrease = (int) Math.ceil(baseHungerIncrease * 1.5);
-      baseHappinessDecrease = (int) Math.ceil(baseHappinessDecrease * 1.5);
-    }
-
-    // Apply equipment modifiers to decay rates
-    double hungerDecayModifier = 1.0 + getTotalModifier(StatModifier.HUNGER_DECAY_RATE);
-    double happinessDecayModifier = 1.0 + getTotalModifier(StatModifier.HAPPINESS_DECAY_RATE);
+    // Stage, evolution path and equipment determine the decay rates
+    PetTimeModel.Rates rates = currentRates();
 
-    baseHungerIncrease = (int) Math.ceil(baseHungerIncrease * hungerDecayModifier);
-    baseHappinessDecrease = (int) Math.ceil(baseHappinessDecrease * happinessDecayModifier);
-
-    int hungerIncrease = Math.min(baseHungerIncrease, 100 - this.hunger);
-    int happinessDecrease = Math.min(baseHappinessDecrease, this.happiness);
+    int hungerIncrease = Math.min(rates.hungerIncrease(), 100 - this.hunger);
+    int happinessDecrease = Math.min(rates.happinessDecrease(), this.happiness);
 
     // Calculate local age after this tick (will be incremented)
     long nextLocalAge = getLocalAge() + 1;
@@ -428,41 +500,19 @@ public class Pet {
     double newXpMultiplier = multiplierCalc.newValue();
     int newLowStatsTicks = multiplierCalc.newLowStatsTicks();
 
-    // Apply time passed event
-    AggregateLifecycle.apply(
-        new TimePassedEvent(
-            command.getPetId(),
-            hungerIncrease,
-            happinessDecrease,
-            ageIncrease,
-            command.getGlobalTick(),
-            xpMultiplierChange,
-            newXpMultiplier,
-            newLowStatsTicks,
-            Instant.now()));
-
-    // Apply health regeneration from equipment (if any)
-    double healthRegen = getTotalModifier(StatModifier.HEALTH_REGEN);
-    if (healthRegen > 0) {
-      int healthIncrease = (int) Math.ceil(healthRegen);
-      healthIncrease = Math.min(healthIncrease, 100 - this.health);
-      if (healthIncrease > 0) {
-        AggregateLifecycle.apply(
-            new PetCleanedEvent(command.getPetId(), healthIncrease, Instant.now()));
-      }
-    }
+    // Health regeneration from equipment and upgrades comes before deterioration
+    int healthRegenerated = Math.min(rates.healthRegen(), 100 - this.health);
+    int healthAfterRegen = this.health + healthRegenerated;
 
     // Calculate health deterioration after time has passed
-    int newHunger = Math.min(100, this.hunger + hungerIncrease);
-    int newHappiness = Math.max(0, this.happiness - happinessDecrease);
     int healthDecrease = 0;
     String deteriorationReason = null;
 
-    if (newHunger > 80) {
+    if (futureHunger > 80) {
       healthDecrease += 5;
       deteriorationReason = "Extreme hunger";
     }
-    if (newHappiness < 20) {
+    if (futureHappiness < 20) {
       healthDecrease += 3;
       if (deteriorationReason != null) {
         deteriorationReason += " and low happiness";
@@ -470,25 +520,33 @@ public class Pet {
         deteriorationReason = "Low happiness";
       }
     }
+    healthDecrease = Math.min(healthDecrease, healthAfterRegen);
 
-    // Apply health deterioration if needed
-    if (healthDecrease > 0) {
-      healthDecrease = Math.min(healthDecrease, this.health);
-      AggregateLifecycle.apply(
-          new PetHealthDeterioratedEvent(
-              command.getPetId(), healthDecrease, deteriorationReason, Instant.now()));
-    }
+    // One event carries every change of this tick
+    AggregateLifecycle.apply(
+        new PetTickedEvent(
+            command.getPetId(),
+            hungerIncrease,
+            happinessDecrease,
+            ageIncrease,
+            command.getGlobalTick(),
+            xpMultiplierChange,
+            newXpMultiplier,
+            newLowStatsTicks,
+            healthRegenerated,
+            healthDecrease,
+            deteriorationReason,
+            Instant.now()));
 
     // Check for death after health deterioration
-    int newHealth = this.health - healthDecrease;
-    if (newHealth <= 0) {
+    if (this.health <= 0) {
       // Collect equipped items to return to inventory (use ArrayList for Axon serialization)
       var equippedItemsList = new ArrayList<>(this.equippedItems.values());
 
       AggregateLifecycle.apply(
           new PetDiedEvent(
               command.getPetId(),
-              this.age + ageIncrease,
+              this.age,
               getLocalAge(),
               "Health reached zero: " + deteriorationReason,
               equippedItemsList,
@@ -497,9 +555,13 @@ public class Pet {
   }
 
   @EventSourcingHandler
-  public void on(TimePassedEvent event) {
+  public void on(PetTickedEvent event) {
     this.hunger = Math.min(100, this.hunger + event.getHungerIncrease());
     this.happiness = Math.max(0, this.happiness - event.getHappinessDecrease());
+    this.health =
+        Math.max(
+            0,
+            Math.min(100, this.health + event.getHealthRegenerated()) - event.getHealthDecrease());
     this.age += event.getAgeIncrease();
     this.currentGlobalTick = event.getGlobalTick();
     this.lastTickSequence = event.getGlobalTick();
@@ -507,6 +569,19 @@ public class Pet {
     this.lowStatsTicks = event.getNewLowStatsTicks(); // Phase 7E: Track low stats for decay
   }
 
+  @EventSourcingHandler
+  public void on(PetTimeAdvancedEvent event) {
+    this.hunger = Math.min(100, this.hunger + event.getHungerIncrease());
+    this.happiness = Math.max(0, this.happiness - event.getHappinessDecrease());
+    this.health = Math.max(0, Math.min(100, this.health + event.getHealthChange()));
+    this.age += event.getAgeIncrease();
+    this.currentGlobalTick = event.getToGlobalTick();
+    this.lastTickSequence = event.getToGlobalTick();
+    this.xpMultiplier = event.getNewXpMultiplier();
+    this.lowStatsTicks = event.getNewLowStatsTicks();
+  }
+
+  // Legacy: ticks before PetTickedEvent reported deterioration separately
   @EventSourcingHandler
   public void on(PetHealthDeterioratedEvent event) {
     this.health = Math.max(0, this.health - event.getHealthDecrease());
@@ -524,12 +599,14 @@ public class Pet {
       return; // Silently ignore for dead pets
     }
 
-    // Apply mourning event
+    // Mourning effect: 10% of current happiness, minimum 1
+    int happinessLoss = Math.max(1, (int) Math.ceil(happiness * 0.1));
+
     AggregateLifecycle.apply(
         new PetMournedEvent(
             this.petId,
             command.getDeceasedPetId(),
-            command.getHappinessLoss(),
+            happinessLoss,
             Instant.now()));
   }
 
@@ -0,0 +1,253 @@
+package com.reactor.pets.aggregate;
+
+/**
+ * Time decay rules of a pet, shared by the {@link Pet} aggregate and the pet status read model.
+ *
+ * <p>Each tick a pet gains hunger, loses happiness, regenerates health from its modifiers and
+ * loses health while starving or unhappy. Hunger and happiness move linearly until they hit their
+ * bounds, so the health damage per tick changes at most twice over any span of ticks; stats after
+ * K ticks and the tick a pet dies are therefore computed in closed form. Only the XP multiplier is
+ * folded tick by tick, because its periodic bonuses and 5.0x cap have no useful closed form.
+ *
+ * <p>This lets the lazy time model apply any number of elapsed ticks at once instead of one
+ * {@code TimeTickCommand} per tick.
+ */
+public final class PetTimeModel {
+
+  /** Command metadata carrying the current global tick when lazy time evaluation is enabled. */
+  public static final String GLOBAL_TICK_METADATA = "globalTick";
+
+  /** Returned when a transition never happens at the current rates. */
+  public static final long NEVER = Long.MAX_VALUE;
+
+  private static final int MAX_STAT = 100;
+  private static final int EXTREME_HUNGER = 80;
+  private static final int LOW_HAPPINESS = 20;
+  private static final int HUNGER_DAMAGE = 5;
+  private static final int HAPPINESS_DAMAGE = 3;
+  private static final double MAX_XP_MULTIPLIER = 5.0;
+
+  private PetTimeModel() {}
+
+  /** Per-tick stat changes for a pet's current stage, path and modifiers. */
+  public record Rates(int hungerIncrease, int happinessDecrease, int healthRegen) { }
+
+  /** The time-dependent part of a pet's state. */
+  public record State(
+      int hunger,
+      int happiness,
+      int health,
+      int age,
+      long localAge,
+      double xpMultiplier,
+      int lowStatsTicks) { }
+
+  /**
+   * Result of advancing a pet by a number of ticks.
+   *
+   * @param ticks ticks actually applied (fewer than requested if the pet died)
+   * @param deteriorationReason why health dropped on the last damaging tick, or {@code null}
+   */
+  public record Outcome(State state, long ticks, boolean died, String deteriorationReason) { }
+
+  /**
+   * Decay rates for a pet. Adults decay slower, neglected pets 50% faster, and equipment and
+   * permanent upgrades scale the result.
+   */
+  public static Rates rates(
+      PetStage stage,
+      EvolutionPath evolutionPath,
+      double hungerDecayModifier,
+      double happinessDecayModifier,
+      double healthRegenModifier) {
+    int hungerIncrease = 3;
+    int happinessDecrease = 2;
+
+    if (stage == PetStage.ADULT) {
+      hungerIncrease = 2;
+      happinessDecrease = 1;
+    }
+    if (evolutionPath == EvolutionPath.NEGLECTED) {
+      hungerIncrease = (int) Math.ceil(hungerIncrease * 1.5);
+      happinessDecrease = (int) Math.ceil(happinessDecrease * 1.5);
+    }
+
+    hungerIncrease = (int) Math.ceil(hungerIncrease * (1.0 + hungerDecayModifier));
+    happinessDecrease = (int) Math.ceil(happinessDecrease * (1.0 + happinessDecayModifier));
+    int healthRegen = healthRegenModifier > 0 ? (int) Math.ceil(healthRegenModifier) : 0;
+
+    return new Rates(Math.max(0, hungerIncrease), Math.max(0, happinessDecrease), healthRegen);
+  }
+
+  /**
+   * Apply {@code ticks} ticks to {@code from}, stopping at the tick the pet dies.
+   */
+  public static Outcome advance(State from, Rates rates, long ticks) {
+    long deathTick = deathTick(from, rates);
+    long applied = Math.min(ticks, deathTick);
+
+    // XP multiplier and low-stats streak depend on the stats of every tick
+    double xpMultiplier = from.xpMultiplier();
+    int lowStatsTicks = from.lowStatsTicks();
+    int health = from.health();
+    for (long tick = 1; tick <= applied; tick++) {
+      int hunger = hungerAt(from, rates, tick);
+      int happiness = happinessAt(from, rates, tick);
+
+      double change = (from.localAge() + tick) % 50 == 0 ? 0.1 : 0.0;
+      if (hunger <= 30 && happiness >= 70 && health >= 70) {
+        change += 0.05;
+      }
+      boolean lowStats = hunger > 50 || happiness < 50 || health < 50;
+      lowStatsTicks = lowStats ? lowStatsTicks + 1 : 0;
+      if (lowStatsTicks >= 10 && lowStatsTicks % 10 == 0) {
+        change -= 0.05;
+      }
+      xpMultiplier = Math.min(MAX_XP_MULTIPLIER, xpMultiplier + change);
+
+      health = Math.min(MAX_STAT, health + rates.healthRegen()) - damage(hunger, happiness);
+    }
+
+    int hunger = hungerAt(from, rates, applied);
+    int happiness = happinessAt(from, rates, applied);
+    State state =
+        new State(
+            hunger,
+            happiness,
+            Math.max(0, health),
+            from.age() + ageIncrease(from.localAge(), applied),
+            from.localAge() + applied,
+            xpMultiplier,
+            lowStatsTicks);
+    String reason = applied > 0 ? deteriorationReason(hunger, happiness) : null;
+    return new Outcome(state, applied, deathTick <= ticks, reason);
+  }
+
+  /**
+   * Ticks from {@code from} until the pet next needs attention from the time system: its death,
+   * or the age at which it becomes eligible for its next evolution. {@link #NEVER} if neither
+   * happens at the current rates.
+   */
+  public static long ticksUntilTransition(State from, Rates rates, PetStage stage) {
+    return Math.min(deathTick(from, rates), ticksUntilEvolution(from, stage));
+  }
+
+  /**
+   * The tick (counted from 1) on which health reaches zero, or {@link #NEVER}.
+   *
+   * <p>Health damage only changes when hunger crosses {@value #EXTREME_HUNGER} or happiness
+   * drops below {@value #LOW_HAPPINESS}, so at most three spans of constant damage are walked.
+   */
+  static long deathTick(State from, Rates rates) {
+    long hungerOnset = firstTickAbove(from.hunger(), rates.hungerIncrease(), EXTREME_HUNGER);
+    long happinessOnset =
+        firstTickBelow(from.happiness(), rates.happinessDecrease(), LOW_HAPPINESS);
+    long[] starts = {
+      1, Math.min(hungerOnset, happinessOnset), Math.max(hungerOnset, happinessOnset), NEVER
+    };
+
+    long health = from.health();
+    for (int span = 0; span < 3; span++) {
+      long start = starts[span];
+      long end = starts[span + 1] == NEVER ? NEVER : starts[span + 1] - 1;
+      if (start == NEVER || end < start) {
+        continue;
+      }
+      int damage =
+          (start >= hungerOnset ? HUNGER_DAMAGE : 0)
+              + (start >= happinessOnset ? HAPPINESS_DAMAGE : 0);
+      long steps = end == NEVER ? NEVER : end - start + 1;
+
+      long deathStep = stepsToDeath(health, rates.healthRegen(), damage);
+      if (deathStep != NEVER && deathStep <= steps) {
+        return start + deathStep - 1;
+      }
+      health = healthAfter(health, rates.healthRegen(), damage, steps);
+    }
+    return NEVER;
+  }
+
+  private static long ticksUntilEvolution(State from, PetStage stage) {
+    int evolutionAge =
+        switch (stage) {
+          case EGG -> 5;
+          case BABY -> 20;
+          case TEEN -> 50;
+          default -> -1;
+        };
+    if (evolutionAge < 0) {
+      return NEVER;
+    }
+    int agesNeeded = Math.max(1, evolutionAge - from.age());
+    // Age increases whenever local age reaches a multiple of 10
+    return (Math.floorDiv(from.localAge(), 10) + agesNeeded) * 10 - from.localAge();
+  }
+
+  /**
+   * Health after {@code steps} ticks of constant regen and damage, for a pet that survives them.
+   */
+  private static long healthAfter(long health, int regen, int damage, long steps) {
+    // Health converges within MAX_STAT ticks, so longer spans need no more arithmetic
+    long bounded = Math.min(steps, MAX_STAT + 1);
+    if (regen >= damage) {
+      return Math.min(health + bounded * (regen - damage), MAX_STAT - damage);
+    }
+    return Math.min(MAX_STAT, health + regen) - damage - (bounded - 1) * (damage - regen);
+  }
+
+  /** Ticks into a span of constant regen and damage until health reaches zero. */
+  private static long stepsToDeath(long health, int regen, int damage) {
+    if (regen >= damage) {
+      return NEVER;
+    }
+    long afterFirst = Math.min(MAX_STAT, health + regen) - damage;
+    if (afterFirst <= 0) {
+      return 1;
+    }
+    long loss = damage - regen;
+    return 1 + (afterFirst + loss - 1) / loss;
+  }
+
+  private static long firstTickAbove(int value, int increase, int threshold) {
+    if (value > threshold) {
+      return 1;
+    }
+    return increase == 0 ? NEVER : (threshold - value) / increase + 1;
+  }
+
+  private static long firstTickBelow(int value, int decrease, int threshold) {
+    if (value < threshold) {
+      return 1;
+    }
+    return decrease == 0 ? NEVER : (value - threshold) / decrease + 1;
+  }
+
+  private static int hungerAt(State from, Rates rates, long ticks) {
+    long increase = Math.min(ticks, MAX_STAT) * rates.hungerIncrease();
+    return (int) Math.min(MAX_STAT, from.hunger() + increase);
+  }
+
+  private static int happinessAt(State from, Rates rates, long ticks) {
+    long decrease = Math.min(ticks, MAX_STAT) * rates.happinessDecrease();
+    return (int) Math.max(0, from.happiness() - decrease);
+  }
+
+  private static int ageIncrease(long localAge, long ticks) {
+    return (int) (Math.floorDiv(localAge + ticks, 10) - Math.floorDiv(localAge, 10));
+  }
+
+  private static int damage(int hunger, int happiness) {
+    return (hunger > EXTREME_HUNGER ? HUNGER_DAMAGE : 0)
+        + (happiness < LOW_HAPPINESS ? HAPPINESS_DAMAGE : 0);
+  }
+
+  private static String deteriorationReason(int hunger, int happiness) {
+    if (hunger > EXTREME_HUNGER && happiness < LOW_HAPPINESS) {
+      return "Extreme hunger and low happiness";
+    }
+    if (hunger > EXTREME_HUNGER) {
+      return "Extreme hunger";
+    }
+    return happiness < LOW_HAPPINESS ? "Low happiness" : null;
+  }
+}
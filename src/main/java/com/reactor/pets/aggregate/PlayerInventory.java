@@ -26,7 +26,7 @@ import org.axonframework.spring.stereotype.Aggregate;
  * Aggregate representing a player's inventory of equipment items and consumables.
  * Manages unequipped items that can be equipped to pets and consumables that can be used.
  */
-@Aggregate
+@Aggregate(snapshotTriggerDefinition = "loadTimeSnapshotTrigger", cache = "playerInventoryCache")
 @NoArgsConstructor
 public class PlayerInventory {
 
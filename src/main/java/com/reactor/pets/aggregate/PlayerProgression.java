@@ -1,5 +1,6 @@
 package com.reactor.pets.aggregate;
 
+import com.reactor.pets.command.EarnXPBatchCommand;
 import com.reactor.pets.command.EarnXPCommand;
 import com.reactor.pets.command.InitializePlayerCommand;
 import com.reactor.pets.command.PurchaseEquipmentCommand;
@@ -18,6 +19,8 @@ import com.reactor.pets.event.XPEarnedEvent;
 import com.reactor.pets.event.XPSpentEvent;
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import lombok.NoArgsConstructor;
 import org.axonframework.commandhandling.CommandHandler;
@@ -26,7 +29,9 @@ import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.AggregateLifecycle;
 import org.axonframework.spring.stereotype.Aggregate;
 
-@Aggregate
+@Aggregate(
+    snapshotTriggerDefinition = "loadTimeSnapshotTrigger",
+    cache = "playerProgressionCache")
 @NoArgsConstructor
 public class PlayerProgression {
 
@@ -78,6 +83,41 @@ public class PlayerProgression {
             newTotalXP,
             newLifetimeXP,
             command.getSource(),
+            null,
+            Instant.now()));
+  }
+
+  @CommandHandler
+  public void handle(EarnXPBatchCommand command) {
+    // Business rules validation
+    Map<String, Long> xpBySource = command.getXpBySource();
+    if (xpBySource == null || xpBySource.isEmpty()) {
+      throw new IllegalArgumentException("XP batch cannot be empty");
+    }
+    long xpAmount = 0;
+    for (Map.Entry<String, Long> earning : xpBySource.entrySet()) {
+      if (earning.getKey() == null || earning.getKey().isBlank()) {
+        throw new IllegalArgumentException("XP source cannot be empty");
+      }
+      if (earning.getValue() == null || earning.getValue() <= 0) {
+        throw new IllegalArgumentException("XP amount must be positive");
+      }
+      xpAmount += earning.getValue();
+    }
+
+    // One event for the whole batch; the sources stay itemized
+    String source =
+        xpBySource.size() == 1
+            ? xpBySource.keySet().iterator().next()
+            : String.format("%d sources", xpBySource.size());
+    AggregateLifecycle.apply(
+        new XPEarnedEvent(
+            command.getPlayerId(),
+            xpAmount,
+            this.totalXP + xpAmount,
+            this.lifetimeXPEarned + xpAmount,
+            source,
+            new LinkedHashMap<>(xpBySource),
             Instant.now()));
   }
 
@@ -0,0 +1,48 @@
+package com.reactor.pets.api.config;
+
+import com.reactor.pets.api.exception.ProjectionsNotReadyException;
+import com.reactor.pets.config.ProjectionReadinessConfig;
+import com.reactor.pets.service.ProjectionReadinessService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rejects API requests with 503 Service Unavailable until the projections have caught up on
+ * startup, see {@link ProjectionReadinessService}. The projection endpoints stay available so
+ * the catch-up can be followed and rebuilds started.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReadinessGateConfig implements WebMvcConfigurer {
+
+  private final ProjectionReadinessService projectionReadinessService;
+  private final ProjectionReadinessConfig config;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    if (!config.isEnabled() || !config.isGateRequests()) {
+      return;
+    }
+    registry
+        .addInterceptor(
+            new HandlerInterceptor() {
+              @Override
+              public boolean preHandle(
+                  HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (!projectionReadinessService.isReady()
+                    && !CorsUtils.isPreFlightRequest(request)) {
+                  throw new ProjectionsNotReadyException(config.getRetryAfterSeconds());
+                }
+                return true;
+              }
+            })
+        .addPathPatterns("/api/**")
+        .excludePathPatterns("/api/projections/**");
+  }
+}
@@ -1,25 +1,34 @@
 package com.reactor.pets.api.controller;
 
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.BrainRecordingInfo;
+import com.reactor.pets.brain.model.BrainSimulationStatus;
+import com.reactor.pets.brain.model.BrainSummary;
 import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.service.BrainActivityRecorder;
 import com.reactor.pets.brain.service.PetBrainSimulator;
 import com.reactor.pets.query.GetPetStatusQuery;
 import com.reactor.pets.query.PetStatusView;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.queryhandling.QueryGateway;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -39,6 +48,7 @@ import reactor.core.publisher.Mono;
 public class BrainStreamController {
 
   private final PetBrainSimulator brainSimulator;
+  private final BrainActivityRecorder brainActivityRecorder;
   private final QueryGateway queryGateway;
 
   /**
@@ -48,7 +58,13 @@ public class BrainStreamController {
    * simulation starts when the first client connects and stops 30 seconds after the last client
    * disconnects.
    *
+   * <p>Each event id is the simulation tick of its frame. Full frames are sent as
+   * {@code keyframe} events and deltas as {@code frame} events. A reconnecting client that sends
+   * the {@code Last-Event-ID} header receives only the delta frames it missed, or a keyframe if
+   * that tick is no longer buffered.
+   *
    * @param petId The ID of the pet whose brain activity to stream
+   * @param lastEventId The id of the last event the client received (sent by EventSource)
    * @return SSE stream of cell state batches
    */
   @GetMapping(value = "/{petId}/brain/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -66,29 +82,15 @@ public class BrainStreamController {
         @ApiResponse(responseCode = "400", description = "Pet is not alive")
       })
   public Flux<ServerSentEvent<List<CellState>>> streamBrainActivity(
-      @PathVariable String petId) {
-    log.info("Client requesting brain stream for pet: {}", petId);
+      @PathVariable String petId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    log.info("Client requesting brain stream for pet: {} (Last-Event-ID: {})", petId, lastEventId);
+    Long resumeAfterTick = parseLastEventId(lastEventId);
 
     // Query pet status to get current state
-    return Mono.fromFuture(
-            queryGateway.query(
-                new GetPetStatusQuery(petId),
-                PetStatusView.class))
+    return requireLivePet(petId)
         .flatMapMany(
             status -> {
-              if (status == null) {
-                log.warn("Pet not found: {}", petId);
-                return Flux.error(
-                    new IllegalArgumentException("Pet not found: " + petId));
-              }
-
-              if (!status.isAlive()) {
-                log.warn("Cannot stream brain for dead pet: {}", petId);
-                return Flux.error(
-                    new IllegalStateException(
-                        "Cannot stream brain activity for dead pet: " + petId));
-              }
-
               log.info(
                   "Starting brain stream for pet {} (stage: {}, path: {})",
                   petId,
@@ -104,12 +106,9 @@ public class BrainStreamController {
                       status.getHappiness(),
                       status.getHealth(),
                       status.getStage(),
-                      status.getEvolutionPath())
-                  .map(
-                      cellStates ->
-                          ServerSentEvent.<List<CellState>>builder()
-                              .data(cellStates)
-                              .build())
+                      status.getEvolutionPath(),
+                      resumeAfterTick)
+                  .map(this::toServerSentEvent)
                   .doOnSubscribe(
                       sub -> log.info("Client subscribed to brain stream for pet: {}", petId))
                   .doOnCancel(() -> log.info("Client cancelled brain stream for pet: {}", petId))
@@ -121,48 +120,199 @@ public class BrainStreamController {
   }
 
   /**
-   * Get current brain status (for debugging).
+   * Stream aggregate brain activity for a pet via Server-Sent Events.
+   *
+   * <p>Emits one {@link BrainSummary} per {@code brain.simulation.summary-interval-ms}: firing
+   * rate per cortical layer, excitation/inhibition balance, L5 bursts and the dominant
+   * oscillation frequency. Like the cell stream, it keeps the pet's simulation running.
+   *
+   * @param petId The ID of the pet whose brain activity to summarize
+   * @return SSE stream of brain summaries
+   */
+  @GetMapping(value = "/{petId}/brain/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Stream pet brain activity summary",
+      description =
+          "Returns a Server-Sent Event stream of aggregate brain signals, a lightweight"
+              + " alternative to the per-cell stream for dashboards and pet lists.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Summary stream started",
+            content = @Content(schema = @Schema(implementation = BrainSummary.class))),
+        @ApiResponse(responseCode = "404", description = "Pet not found"),
+        @ApiResponse(responseCode = "400", description = "Pet is not alive")
+      })
+  public Flux<ServerSentEvent<BrainSummary>> streamBrainSummary(@PathVariable String petId) {
+    log.info("Client requesting brain summary stream for pet: {}", petId);
+
+    return requireLivePet(petId)
+        .flatMapMany(
+            status ->
+                brainSimulator.subscribeToSummary(
+                    petId,
+                    status.getHunger(),
+                    status.getHappiness(),
+                    status.getHealth(),
+                    status.getStage(),
+                    status.getEvolutionPath()))
+        .map(
+            summary ->
+                ServerSentEvent.<BrainSummary>builder()
+                    .id(Long.toString(summary.getTick()))
+                    .data(summary)
+                    .build())
+        .doOnCancel(() -> log.info("Client cancelled brain summary stream for pet: {}", petId));
+  }
+
+  /**
+   * Get the latest brain activity summary for a pet.
+   *
+   * <p>Served from the summary maintained by the simulation, without touching the grid.
+   *
+   * @param petId The ID of the pet
+   * @return Latest summary, or 404 if the pet has no brain grid yet
+   */
+  @GetMapping("/{petId}/brain/summary")
+  @Operation(
+      summary = "Get brain activity summary",
+      description =
+          "Returns the latest aggregate brain signals. The summary only advances while the"
+              + " simulation runs (i.e. while a stream is connected).")
+  public ResponseEntity<BrainSummary> getBrainSummary(@PathVariable String petId) {
+    return brainSimulator
+        .getSummary(petId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Get the live state of a pet's brain simulation.
+   *
+   * <p>Reads only the simulator's in-memory state (no query bus round-trip), so it never holds a
+   * request thread. Pets whose brain is not in memory are reported as {@code EVICTED}.
    *
    * @param petId The ID of the pet
-   * @return Brain status information
+   * @return Simulation state, subscriber count, tick rate and grid size
    */
   @GetMapping("/{petId}/brain/status")
   @Operation(
       summary = "Get brain status",
-      description = "Returns current brain simulation status for debugging purposes")
-  public ResponseEntity<BrainStatusResponse> getBrainStatus(@PathVariable String petId) {
+      description =
+          "Returns the brain simulation state (RUNNING, IDLE, CACHED or EVICTED), subscriber"
+              + " count, target and effective tick rate, last tick duration and grid size")
+  public Mono<BrainSimulationStatus> getBrainStatus(@PathVariable String petId) {
     log.debug("Brain status requested for pet: {}", petId);
+    return Mono.fromSupplier(() -> brainSimulator.getSimulationStatus(petId));
+  }
 
+  /**
+   * Describe the recorded brain activity available for playback.
+   *
+   * @param petId The ID of the pet
+   * @return Recording window and buffer usage, or 404 if nothing is recorded for the pet
+   */
+  @GetMapping("/{petId}/brain/recording")
+  @Operation(
+      summary = "Get brain recording info",
+      description =
+          "Returns the time window and buffer usage of the recorded brain activity for a pet."
+              + " Requires brain.recorder.enabled=true.")
+  public ResponseEntity<BrainRecordingInfo> getBrainRecording(@PathVariable String petId) {
+    return brainActivityRecorder
+        .getRecordingInfo(petId)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Replay recorded brain activity via Server-Sent Events.
+   *
+   * <p>The stream starts with a keyframe holding the brain state at {@code from}, followed by
+   * the recorded delta frames at their original pacing divided by {@code speed}. It completes at
+   * {@code to} or at the newest recorded frame.
+   *
+   * @param petId The ID of the pet
+   * @param from Start of the playback window (ISO-8601), defaults to the oldest recorded frame
+   * @param to End of the playback window (ISO-8601), defaults to the newest recorded frame
+   * @param speed Playback speed multiplier
+   * @return SSE stream of recorded cell state batches
+   */
+  @GetMapping(value = "/{petId}/brain/playback", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Play back recorded brain activity",
+      description =
+          "Returns a Server-Sent Event stream of recorded brain frames in the same format as the"
+              + " live stream, starting with a keyframe at 'from'.",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Playback started"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No recording for the pet or invalid playback parameters")
+      })
+  public Flux<ServerSentEvent<List<CellState>>> playbackBrainActivity(
+      @PathVariable String petId,
+      @Parameter(description = "Start of the playback window (ISO-8601)")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          Instant from,
+      @Parameter(description = "End of the playback window (ISO-8601)")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          Instant to,
+      @Parameter(description = "Playback speed multiplier") @RequestParam(defaultValue = "1.0")
+          double speed) {
+    log.info("Brain playback requested for pet {} ({} to {}, {}x)", petId, from, to, speed);
+
+    return brainActivityRecorder
+        .playback(petId, from, to, speed)
+        .map(this::toServerSentEvent)
+        .doOnComplete(() -> log.info("Brain playback completed for pet: {}", petId));
+  }
+
+  /**
+   * Look up the pet's status, failing if it does not exist or is dead.
+   */
+  private Mono<PetStatusView> requireLivePet(String petId) {
     return Mono.fromFuture(
             queryGateway.query(
                 new GetPetStatusQuery(petId),
                 PetStatusView.class))
-        .map(
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  log.warn("Pet not found: {}", petId);
+                  return Mono.error(new IllegalArgumentException("Pet not found: " + petId));
+                }))
+        .flatMap(
             status -> {
-              if (status == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(
-                        new BrainStatusResponse(petId, false, "Pet not found", null, null));
-              }
-
               if (!status.isAlive()) {
-                return ResponseEntity.ok(
-                    new BrainStatusResponse(
-                        petId, false, "Pet is dead", status.getStage(), status.getEvolutionPath()));
+                log.warn("Cannot stream brain for dead pet: {}", petId);
+                return Mono.error(
+                    new IllegalStateException(
+                        "Cannot stream brain activity for dead pet: " + petId));
               }
+              return Mono.just(status);
+            });
+  }
 
-              return ResponseEntity.ok(
-                  new BrainStatusResponse(
-                      petId, true, "Ready", status.getStage(), status.getEvolutionPath()));
-            })
-        .block(); // Block for simple status endpoint
+  private ServerSentEvent<List<CellState>> toServerSentEvent(BrainFrame frame) {
+    return ServerSentEvent.<List<CellState>>builder()
+        .id(Long.toString(frame.getTick()))
+        .event(frame.isKeyframe() ? "keyframe" : "frame")
+        .data(frame.getCells())
+        .build();
   }
 
-  /** Response DTO for brain status endpoint. */
-  private record BrainStatusResponse(
-      String petId,
-      boolean available,
-      String message,
-      com.reactor.pets.aggregate.PetStage stage,
-      com.reactor.pets.aggregate.EvolutionPath evolutionPath) { }
+  private Long parseLastEventId(String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      log.debug("Ignoring malformed Last-Event-ID: {}", lastEventId);
+      return null;
+    }
+  }
 }
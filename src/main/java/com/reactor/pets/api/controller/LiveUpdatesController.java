@@ -0,0 +1,272 @@
+package com.reactor.pets.api.controller;
+
+import com.reactor.pets.api.dto.PetStatusResponse;
+import com.reactor.pets.api.dto.PlayerProgressionResponse;
+import com.reactor.pets.api.dto.StatisticsResponse;
+import com.reactor.pets.config.LiveUpdatesConfig;
+import com.reactor.pets.query.GetAllPetsQuery;
+import com.reactor.pets.query.GetPlayerProgressionQuery;
+import com.reactor.pets.query.GetStatisticsQuery;
+import com.reactor.pets.query.PetStatistics;
+import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.query.PlayerProgressionView;
+import com.reactor.pets.util.PetAsciiArt;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.QueryGateway;
+import org.axonframework.queryhandling.SubscriptionQueryResult;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller streaming read model changes via Server-Sent Events (SSE).
+ *
+ * <p>One connection replaces polling of the pet list, statistics and player progression. It is
+ * backed by Axon subscription queries: the projections emit each view they change, and only
+ * those views are pushed to the client. Pet updates are conflated per pet and sent at most once
+ * per {@code live-updates.conflate-interval-ms}, so a tick changing every alive pet costs a slow
+ * client one event per pet rather than filling its update buffer.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Live Updates", description = "Server-sent read model updates")
+public class LiveUpdatesController {
+
+  private static final String PLAYER_ID = "PLAYER_1";
+
+  private final QueryGateway queryGateway;
+  private final LiveUpdatesConfig config;
+
+  /**
+   * Stream read model changes via Server-Sent Events.
+   *
+   * <p>Event names and payloads:
+   *
+   * <ul>
+   *   <li>{@code pets}: every pet, sent once on connect
+   *   <li>{@code pet}: one pet whose status changed, with its latest view
+   *   <li>{@code statistics}: global statistics, on connect and after every change
+   *   <li>{@code progression}: player progression, on connect, after every change and when the
+   *       highest multiplier of the alive pets changes
+   * </ul>
+   *
+   * @return SSE stream of updates, one event per changed view
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Stream read model updates",
+      description =
+          "Returns a Server-Sent Event stream with the current pets, statistics and progression,"
+              + " followed by every pet, statistics or progression view that changes.")
+  @ApiResponse(responseCode = "200", description = "Update stream started")
+  public Flux<ServerSentEvent<Object>> streamUpdates() {
+    log.info("Client connected to live update stream");
+
+    SubscriptionQueryResult<List<PetStatusView>, PetStatusView> pets =
+        queryGateway.subscriptionQuery(
+            GetAllPetsQuery.class.getName(),
+            new GetAllPetsQuery(),
+            ResponseTypes.multipleInstancesOf(PetStatusView.class),
+            ResponseTypes.instanceOf(PetStatusView.class),
+            config.getUpdateBufferSize());
+    SubscriptionQueryResult<PetStatistics, PetStatistics> statistics =
+        queryGateway.subscriptionQuery(
+            GetStatisticsQuery.class.getName(),
+            new GetStatisticsQuery(),
+            ResponseTypes.instanceOf(PetStatistics.class),
+            ResponseTypes.instanceOf(PetStatistics.class),
+            config.getUpdateBufferSize());
+    SubscriptionQueryResult<PlayerProgressionView, PlayerProgressionView> progression =
+        queryGateway.subscriptionQuery(
+            GetPlayerProgressionQuery.class.getName(),
+            new GetPlayerProgressionQuery(PLAYER_ID),
+            ResponseTypes.instanceOf(PlayerProgressionView.class),
+            ResponseTypes.instanceOf(PlayerProgressionView.class),
+            config.getUpdateBufferSize());
+
+    // Per-connection state for the progression's current multiplier and unsent pet views
+    MultiplierTracker multipliers = new MultiplierTracker();
+    PendingPets pendingPets = new PendingPets();
+    AtomicReference<PlayerProgressionView> latestProgression = new AtomicReference<>();
+    Mono<List<PetStatusView>> initialPets = pets.initialResult().cache();
+
+    Flux<ServerSentEvent<Object>> petEvents =
+        initialPets
+            .map(
+                views -> {
+                  views.forEach(multipliers::update);
+                  return event("pets", views.stream().map(this::mapToResponse).toList());
+                })
+            .concatWith(
+                Flux.interval(Duration.ofMillis(config.getConflateIntervalMs()))
+                    .onBackpressureDrop()
+                    .concatMapIterable(tick -> pendingPets.drain())
+                    .flatMap(
+                        view -> {
+                          ServerSentEvent<Object> petEvent = event("pet", mapToResponse(view));
+                          PlayerProgressionView current = latestProgression.get();
+                          if (!multipliers.update(view) || current == null) {
+                            return Flux.just(petEvent);
+                          }
+                          return Flux.just(
+                              petEvent,
+                              event("progression", mapToResponse(current, multipliers.highest())));
+                        }));
+
+    // Drains the subscription as fast as views are emitted, keeping only each pet's latest
+    Flux<ServerSentEvent<Object>> petUpdates =
+        pets.updates().doOnNext(pendingPets::offer).thenMany(Flux.empty());
+
+    Flux<ServerSentEvent<Object>> statisticsEvents =
+        statistics
+            .initialResult()
+            .concatWith(statistics.updates())
+            .map(stats -> event("statistics", mapToResponse(stats)));
+
+    // Starts after the initial pets so the first progression event has the current multiplier
+    Flux<ServerSentEvent<Object>> progressionEvents =
+        initialPets
+            .thenMany(progression.initialResult().concatWith(progression.updates()))
+            .doOnNext(latestProgression::set)
+            .map(view -> event("progression", mapToResponse(view, multipliers.highest())));
+
+    return Flux.merge(petEvents, petUpdates, statisticsEvents, progressionEvents)
+        .doFinally(
+            signal -> {
+              pets.cancel();
+              statistics.cancel();
+              progression.cancel();
+              log.info("Live update stream closed ({})", signal);
+            });
+  }
+
+  private static ServerSentEvent<Object> event(String name, Object data) {
+    return ServerSentEvent.builder(data).event(name).build();
+  }
+
+  private PetStatusResponse mapToResponse(PetStatusView view) {
+    return PetStatusResponse.builder()
+        .petId(view.getPetId())
+        .name(view.getName())
+        .type(view.getType())
+        .stage(view.getStage())
+        .evolutionPath(view.getEvolutionPath())
+        .isAlive(view.isAlive())
+        .age(view.getAge())
+        .localAge(view.getLocalAge())
+        .birthGlobalTick(view.getBirthGlobalTick())
+        .currentGlobalTick(view.getCurrentGlobalTick())
+        .xpMultiplier(view.getXpMultiplier())
+        .hunger(view.getHunger())
+        .happiness(view.getHappiness())
+        .health(view.getHealth())
+        .lastUpdated(view.getLastUpdated())
+        .asciiArt(PetAsciiArt.getArt(view.getType(), view.getStage()))
+        .build();
+  }
+
+  private StatisticsResponse mapToResponse(PetStatistics stats) {
+    return StatisticsResponse.builder()
+        .totalPetsCreated(stats.getTotalPetsCreated())
+        .totalPetsDied(stats.getTotalPetsDied())
+        .currentlyAlive(stats.getTotalPetsCreated() - stats.getTotalPetsDied())
+        .averageLifespan(stats.getAverageLifespan())
+        .longestLivedPetName(stats.getLongestLivedPetName())
+        .longestLivedPetId(stats.getLongestLivedPetId())
+        .longestLivedPetAge(stats.getLongestLivedPetAge())
+        .stageDistribution(stats.getStageDistribution())
+        .lastUpdated(stats.getLastUpdated())
+        .build();
+  }
+
+  private PlayerProgressionResponse mapToResponse(
+      PlayerProgressionView progression, double currentMultiplier) {
+    return new PlayerProgressionResponse(
+        progression.getPlayerId(),
+        progression.getTotalXP(),
+        progression.getLifetimeXPEarned(),
+        currentMultiplier,
+        progression.getHighestXPMultiplier(),
+        progression.getTotalXPSpent(),
+        progression.getPermanentUpgrades());
+  }
+
+  /**
+   * Latest view of each pet changed since the last drain, in the order the pets first changed.
+   */
+  private static final class PendingPets {
+
+    private Map<String, PetStatusView> views = new LinkedHashMap<>();
+
+    synchronized void offer(PetStatusView view) {
+      views.put(view.getPetId(), view);
+    }
+
+    synchronized List<PetStatusView> drain() {
+      if (views.isEmpty()) {
+        return List.of();
+      }
+      List<PetStatusView> drained = List.copyOf(views.values());
+      views = new LinkedHashMap<>();
+      return drained;
+    }
+  }
+
+  /**
+   * Highest XP multiplier among alive pets, kept up to date from pet updates. The maximum is
+   * only recomputed when the pet holding it drops or dies.
+   */
+  private static final class MultiplierTracker {
+
+    private final Map<String, Double> alive = new HashMap<>();
+    private String highestPetId;
+    private double highest = 1.0;
+
+    /** Record a pet's latest view; true if the highest multiplier changed. */
+    synchronized boolean update(PetStatusView view) {
+      double before = highest;
+      if (view.isAlive()) {
+        alive.put(view.getPetId(), view.getXpMultiplier());
+      } else {
+        alive.remove(view.getPetId());
+      }
+
+      if (view.isAlive() && (highestPetId == null || view.getXpMultiplier() >= highest)) {
+        highestPetId = view.getPetId();
+        highest = view.getXpMultiplier();
+      } else if (view.getPetId().equals(highestPetId)) {
+        highestPetId = null;
+        highest = 1.0;
+        alive.forEach(
+            (petId, multiplier) -> {
+              if (highestPetId == null || multiplier > highest) {
+                highestPetId = petId;
+                highest = multiplier;
+              }
+            });
+      }
+      return highest != before;
+    }
+
+    synchronized double highest() {
+      return highest;
+    }
+  }
+}
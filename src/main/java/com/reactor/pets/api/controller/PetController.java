@@ -20,6 +20,7 @@ import com.reactor.pets.query.GetPetStatusQuery;
 import com.reactor.pets.query.PetEventDto;
 import com.reactor.pets.query.PetStatusView;
 import com.reactor.pets.service.PetCreationService;
+import com.reactor.pets.service.ReadConsistencyService;
 import com.reactor.pets.util.PetAsciiArt;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +33,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
 import org.axonframework.queryhandling.QueryGateway;
@@ -41,6 +43,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -52,9 +55,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Pet Management", description = "Endpoints for managing virtual pets")
 public class PetController {
 
+  private static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+  private static final String PET_STATUS_PROCESSOR = "pet-status";
+  private static final String PET_HISTORY_PROCESSOR = "pet-history";
+
   private final CommandGateway commandGateway;
   private final QueryGateway queryGateway;
   private final PetCreationService petCreationService;
+  private final ReadConsistencyService readConsistencyService;
 
   @PostMapping
   @Operation(summary = "Create a new pet", description = "Creates a new virtual pet with the specified name and type. "
@@ -72,12 +80,10 @@ public class PetController {
     return petCreationService
         .createPetWithCost(petId, request.getName(), request.getType())
         .thenCompose(
-            createdPetId -> {
-              // Query the newly created pet with retry logic for eventual consistency
-              return queryPetWithRetry(createdPetId, 5, 50)
-                  .thenApply(
-                      view -> ResponseEntity.status(HttpStatus.CREATED).body(mapToResponse(view)));
-            })
+            createdPetId ->
+                readConsistencyService
+                    .awaitCurrentToken(PET_STATUS_PROCESSOR, createdPetId)
+                    .thenCompose(token -> statusAt(createdPetId, token, HttpStatus.CREATED)))
         .exceptionally(ex -> {
           log.error("Failed to create pet", ex);
           return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -104,12 +110,14 @@ public class PetController {
       @ApiResponse(responseCode = "404", description = "Pet not found")
   })
   public CompletableFuture<ResponseEntity<PetStatusResponse>> getPetStatus(
-      @Parameter(description = "Pet ID") @PathVariable String petId) {
+      @Parameter(description = "Pet ID") @PathVariable String petId,
+      @Parameter(description = "Wait until the status reflects this token from a command response")
+          @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken) {
     log.info("REST API: Getting status for pet: {}", petId);
 
     GetPetStatusQuery query = new GetPetStatusQuery(petId);
-    return queryGateway
-        .query(query, PetStatusView.class)
+    return awaitToken(PET_STATUS_PROCESSOR, petId, consistencyToken)
+        .thenCompose(ignored -> queryGateway.query(query, PetStatusView.class))
         .thenApply(view -> ResponseEntity.ok(mapToResponse(view)));
   }
 
@@ -124,16 +132,10 @@ public class PetController {
       @Parameter(description = "Pet ID") @PathVariable String petId) {
     log.info("REST API: Feeding pet: {}", petId);
 
-    FeedPetCommand command = new FeedPetCommand(petId, 20);
+    CommandMessage<?> command = readConsistencyService.withConsistencyToken(new FeedPetCommand(petId, 20));
     return commandGateway
         .send(command)
-        .thenCompose(
-            result -> {
-              GetPetStatusQuery query = new GetPetStatusQuery(petId);
-              return queryGateway
-                  .query(query, PetStatusView.class)
-                  .thenApply(view -> ResponseEntity.ok(mapToResponse(view)));
-            });
+        .thenCompose(result -> statusAfterCommand(petId, command, HttpStatus.OK));
   }
 
   @PostMapping("/{petId}/play")
@@ -147,16 +149,10 @@ public class PetController {
       @Parameter(description = "Pet ID") @PathVariable String petId) {
     log.info("REST API: Playing with pet: {}", petId);
 
-    PlayWithPetCommand command = new PlayWithPetCommand(petId);
+    CommandMessage<?> command = readConsistencyService.withConsistencyToken(new PlayWithPetCommand(petId));
     return commandGateway
         .send(command)
-        .thenCompose(
-            result -> {
-              GetPetStatusQuery query = new GetPetStatusQuery(petId);
-              return queryGateway
-                  .query(query, PetStatusView.class)
-                  .thenApply(view -> ResponseEntity.ok(mapToResponse(view)));
-            });
+        .thenCompose(result -> statusAfterCommand(petId, command, HttpStatus.OK));
   }
 
   @PostMapping("/{petId}/clean")
@@ -170,16 +166,10 @@ public class PetController {
       @Parameter(description = "Pet ID") @PathVariable String petId) {
     log.info("REST API: Cleaning pet: {}", petId);
 
-    CleanPetCommand command = new CleanPetCommand(petId);
+    CommandMessage<?> command = readConsistencyService.withConsistencyToken(new CleanPetCommand(petId));
     return commandGateway
         .send(command)
-        .thenCompose(
-            result -> {
-              GetPetStatusQuery query = new GetPetStatusQuery(petId);
-              return queryGateway
-                  .query(query, PetStatusView.class)
-                  .thenApply(view -> ResponseEntity.ok(mapToResponse(view)));
-            });
+        .thenCompose(result -> statusAfterCommand(petId, command, HttpStatus.OK));
   }
 
   @GetMapping("/{petId}/history")
@@ -190,12 +180,18 @@ public class PetController {
   })
   public CompletableFuture<ResponseEntity<PetHistoryResponse>> getPetHistory(
       @Parameter(description = "Pet ID") @PathVariable String petId,
-      @Parameter(description = "Maximum number of events to return (max 50)") @RequestParam(defaultValue = "10") int limit) {
-    log.info("REST API: Getting history for pet: {}, limit: {}", petId, limit);
+      @Parameter(description = "Maximum number of events to return (max 50)") @RequestParam(defaultValue = "10") int limit,
+      @Parameter(description = "Only events before this sequence number (nextBefore of the previous page)")
+          @RequestParam(required = false) Long before,
+      @Parameter(description = "Wait until the history reflects this token from a command response")
+          @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken) {
+    log.info("REST API: Getting history for pet: {}, limit: {}, before: {}", petId, limit, before);
 
-    GetPetHistoryQuery query = new GetPetHistoryQuery(petId, limit);
-    return queryGateway
-        .query(query, ResponseTypes.multipleInstancesOf(PetEventDto.class))
+    GetPetHistoryQuery query = new GetPetHistoryQuery(petId, limit, before);
+    return awaitToken(PET_HISTORY_PROCESSOR, petId, consistencyToken)
+        .thenCompose(
+            ignored ->
+                queryGateway.query(query, ResponseTypes.multipleInstancesOf(PetEventDto.class)))
         .thenApply(
             events -> {
               PetHistoryResponse response = PetHistoryResponse.builder()
@@ -207,9 +203,14 @@ public class PetController {
                                   .eventType(e.getEventType())
                                   .timestamp(e.getTimestamp())
                                   .payload(e.getDetails())
+                                  .sequenceNumber(e.getSequenceNumber())
                                   .build())
                           .toList())
                   .totalEvents(events.size())
+                  .nextBefore(
+                      events.isEmpty() || events.get(0).getSequenceNumber() == 0
+                          ? null
+                          : events.get(0).getSequenceNumber())
                   .build();
               return ResponseEntity.ok(response);
             });
@@ -262,10 +263,12 @@ public class PetController {
                 ResponseEntity.status(HttpStatus.NOT_FOUND).<Void>build());
           }
           // Send equip command to Pet aggregate
-          EquipItemCommand command = new EquipItemCommand(petId, item, request.getSlot());
+          CommandMessage<?> command =
+              readConsistencyService.withConsistencyToken(
+                  new EquipItemCommand(petId, item, request.getSlot()));
           return commandGateway
               .send(command)
-              .thenApply(result -> ResponseEntity.ok().<Void>build());
+              .thenApply(result -> withConsistencyToken(command));
         })
         .exceptionally(ex -> {
           log.error("Failed to equip item", ex);
@@ -286,10 +289,12 @@ public class PetController {
     log.info("REST API: Unequipping item from pet {} in slot {}", petId, request.getSlot());
 
     // Send unequip command to Pet aggregate
-    UnequipItemCommand command = new UnequipItemCommand(petId, request.getSlot());
+    CommandMessage<?> command =
+        readConsistencyService.withConsistencyToken(
+            new UnequipItemCommand(petId, request.getSlot()));
     return commandGateway
         .send(command)
-        .thenApply(result -> ResponseEntity.ok().<Void>build())
+        .thenApply(result -> withConsistencyToken(command))
         .exceptionally(ex -> {
           log.error("Failed to unequip item", ex);
           return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -318,36 +323,38 @@ public class PetController {
   }
 
   /**
-   * Queries for a pet with retry logic to handle eventual consistency.
-   * Retries with exponential backoff if the pet is not found yet.
-   *
-   * @param petId          the ID of the pet to query
-   * @param maxRetries     maximum number of retry attempts
-   * @param initialDelayMs initial delay in milliseconds (doubles on each retry)
-   * @return CompletableFuture with the pet status view
+   * Query the pet's status once the pet-status projection has passed the events of the command
+   * that just completed, and hand the consistency token to the client for later reads.
    */
-  private CompletableFuture<PetStatusView> queryPetWithRetry(
-      String petId, int maxRetries, long initialDelayMs) {
-    GetPetStatusQuery query = new GetPetStatusQuery(petId);
+  private CompletableFuture<ResponseEntity<PetStatusResponse>> statusAfterCommand(
+      String petId, CommandMessage<?> command, HttpStatus status) {
+    return readConsistencyService
+        .awaitCommandToken(PET_STATUS_PROCESSOR, petId, command)
+        .thenCompose(token -> statusAt(petId, token, status));
+  }
 
+  private CompletableFuture<ResponseEntity<PetStatusResponse>> statusAt(
+      String petId, long token, HttpStatus status) {
     return queryGateway
-        .query(query, PetStatusView.class)
-        .exceptionallyCompose(ex -> {
-          if (maxRetries > 0) {
-            log.debug("Pet {} not found yet, retrying... ({} retries left)",
-                petId, maxRetries);
+        .query(new GetPetStatusQuery(petId), PetStatusView.class)
+        .thenApply(
+            view ->
+                ResponseEntity.status(status)
+                    .header(CONSISTENCY_TOKEN_HEADER, String.valueOf(token))
+                    .body(mapToResponse(view)));
+  }
 
-            // Delay and retry with exponential backoff
-            return CompletableFuture
-                .runAsync(() -> {
-                },
-                    CompletableFuture.delayedExecutor(initialDelayMs,
-                        java.util.concurrent.TimeUnit.MILLISECONDS))
-                .thenCompose(v -> queryPetWithRetry(petId, maxRetries - 1, initialDelayMs * 2));
-          } else {
-            log.error("Pet {} not found after all retries", petId);
-            return CompletableFuture.failedFuture(ex);
-          }
-        });
+  private CompletableFuture<Boolean> awaitToken(
+      String processorName, String petId, Long consistencyToken) {
+    return consistencyToken != null
+        ? readConsistencyService.awaitProcessed(processorName, petId, consistencyToken)
+        : CompletableFuture.completedFuture(true);
+  }
+
+  private ResponseEntity<Void> withConsistencyToken(CommandMessage<?> command) {
+    return ResponseEntity.ok()
+        .header(
+            CONSISTENCY_TOKEN_HEADER, String.valueOf(readConsistencyService.tokenFor(command)))
+        .build();
   }
 }
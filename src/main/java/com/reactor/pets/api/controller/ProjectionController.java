@@ -0,0 +1,126 @@
+package com.reactor.pets.api.controller;
+
+import com.reactor.pets.api.dto.ProjectionCatchUpResponse;
+import com.reactor.pets.api.dto.ProjectionReadinessResponse;
+import com.reactor.pets.api.dto.ProjectionRebuildResponse;
+import com.reactor.pets.service.ProjectionCatchUp;
+import com.reactor.pets.service.ProjectionReadiness;
+import com.reactor.pets.service.ProjectionReadinessService;
+import com.reactor.pets.service.ProjectionRebuildProgress;
+import com.reactor.pets.service.ProjectionRebuildService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/projections")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Projections", description = "Endpoints for rebuilding projections and readiness")
+public class ProjectionController {
+
+  private final ProjectionRebuildService projectionRebuildService;
+  private final ProjectionReadinessService projectionReadinessService;
+
+  @GetMapping("/readiness")
+  @Operation(
+      summary = "Get startup readiness",
+      description =
+          "Reports whether the projections have caught up with the event store as it was on"
+              + " startup, and the lag of each event processor")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Projections caught up, API ready"),
+        @ApiResponse(responseCode = "503", description = "Projections still catching up")
+      })
+  public ResponseEntity<ProjectionReadinessResponse> getReadiness() {
+    ProjectionReadiness readiness = projectionReadinessService.readiness();
+    return ResponseEntity.status(
+            readiness.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(mapToResponse(readiness));
+  }
+
+  @PostMapping("/{processorName}/rebuild")
+  @Operation(
+      summary = "Rebuild a projection",
+      description =
+          "Clears the projection and replays the event store into it on all segments in parallel")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "202", description = "Rebuild started or already running"),
+        @ApiResponse(responseCode = "400", description = "Projection cannot be rebuilt")
+      })
+  public ResponseEntity<ProjectionRebuildResponse> rebuild(
+      @Parameter(description = "Event processor name", example = "pet-status") @PathVariable
+          String processorName) {
+    log.info("REST API: Rebuilding projection {}", processorName);
+
+    ProjectionRebuildProgress progress = projectionRebuildService.start(processorName);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(mapToResponse(progress));
+  }
+
+  @GetMapping("/{processorName}/rebuild")
+  @Operation(
+      summary = "Get rebuild progress",
+      description = "Retrieves progress, replay rate and ETA of the latest rebuild")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved progress"),
+        @ApiResponse(responseCode = "404", description = "Projection not rebuilt since startup")
+      })
+  public ResponseEntity<ProjectionRebuildResponse> getRebuildProgress(
+      @Parameter(description = "Event processor name", example = "pet-status") @PathVariable
+          String processorName) {
+    return projectionRebuildService
+        .progress(processorName)
+        .map(progress -> ResponseEntity.ok(mapToResponse(progress)))
+        .orElse(ResponseEntity.notFound().build());
+  }
+
+  private ProjectionRebuildResponse mapToResponse(ProjectionRebuildProgress progress) {
+    return ProjectionRebuildResponse.builder()
+        .processorName(progress.getProcessorName())
+        .completed(progress.isCompleted())
+        .startedAt(progress.getStartedAt())
+        .completedAt(progress.getCompletedAt())
+        .segments(progress.getSegments())
+        .position(progress.getPosition())
+        .targetPosition(progress.getTargetPosition())
+        .percentComplete(progress.getPercentComplete())
+        .eventsPerSecond(progress.getEventsPerSecond())
+        .etaSeconds(progress.getEtaSeconds())
+        .build();
+  }
+
+  private ProjectionReadinessResponse mapToResponse(ProjectionReadiness readiness) {
+    return ProjectionReadinessResponse.builder()
+        .ready(readiness.isReady())
+        .startedAt(readiness.getStartedAt())
+        .readyAt(readiness.getReadyAt())
+        .targetPosition(readiness.getTargetPosition())
+        .processors(readiness.getProcessors().stream().map(this::mapToResponse).toList())
+        .build();
+  }
+
+  private ProjectionCatchUpResponse mapToResponse(ProjectionCatchUp catchUp) {
+    return ProjectionCatchUpResponse.builder()
+        .processorName(catchUp.getProcessorName())
+        .caughtUp(catchUp.isCaughtUp())
+        .segments(catchUp.getSegments())
+        .position(catchUp.getPosition())
+        .targetPosition(catchUp.getTargetPosition())
+        .lag(catchUp.getLag())
+        .build();
+  }
+}
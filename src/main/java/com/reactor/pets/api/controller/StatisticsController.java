@@ -1,8 +1,10 @@
 package com.reactor.pets.api.controller;
 
+import com.reactor.pets.api.dto.AggregateCacheStatsResponse;
 import com.reactor.pets.api.dto.LeaderboardResponse;
 import com.reactor.pets.api.dto.PetStatusResponse;
 import com.reactor.pets.api.dto.StatisticsResponse;
+import com.reactor.pets.config.BoundedAggregateCache;
 import com.reactor.pets.query.GetLeaderboardQuery;
 import com.reactor.pets.query.PetStatistics;
 import com.reactor.pets.query.PetStatusView;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
   private final PetManagerService petManagerService;
+  private final List<BoundedAggregateCache> aggregateCaches;
 
   @GetMapping("/statistics")
   @Operation(
@@ -55,6 +59,33 @@ public class StatisticsController {
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/statistics/aggregate-cache")
+  @Operation(
+      summary = "Get aggregate cache statistics",
+      description = "Retrieves hit, miss and eviction counters of the aggregate repository caches")
+  @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+  public ResponseEntity<List<AggregateCacheStatsResponse>> getAggregateCacheStatistics() {
+    log.info("REST API: Getting aggregate cache statistics");
+
+    List<AggregateCacheStatsResponse> response =
+        aggregateCaches.stream()
+            .map(BoundedAggregateCache::getStats)
+            .map(
+                stats ->
+                    AggregateCacheStatsResponse.builder()
+                        .aggregate(stats.name())
+                        .size(stats.size())
+                        .maxEntries(stats.maxEntries())
+                        .hits(stats.hits())
+                        .misses(stats.misses())
+                        .evictions(stats.evictions())
+                        .hitRatio(stats.hitRatio())
+                        .build())
+            .toList();
+
+    return ResponseEntity.ok(response);
+  }
+
   @GetMapping("/leaderboard")
   @Operation(
       summary = "Get leaderboard",
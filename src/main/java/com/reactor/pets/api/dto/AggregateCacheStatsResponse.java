@@ -0,0 +1,36 @@
+package com.reactor.pets.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Hit and miss counters of an aggregate repository cache")
+public class AggregateCacheStatsResponse {
+
+  @Schema(description = "Aggregate type the cache holds", example = "Pet")
+  private String aggregate;
+
+  @Schema(description = "Aggregates currently cached", example = "842")
+  private int size;
+
+  @Schema(description = "Maximum number of cached aggregates", example = "10000")
+  private int maxEntries;
+
+  @Schema(description = "Loads served from the cache", example = "120345")
+  private long hits;
+
+  @Schema(description = "Loads that read the event store", example = "912")
+  private long misses;
+
+  @Schema(description = "Aggregates evicted to stay within the size bound", example = "0")
+  private long evictions;
+
+  @Schema(description = "Fraction of loads served from the cache", example = "0.99")
+  private double hitRatio;
+}
@@ -24,6 +24,11 @@ public class PetHistoryResponse {
   @Schema(description = "Total number of events", example = "25")
   private int totalEvents;
 
+  @Schema(
+      description = "Pass as 'before' to get the previous page; null once the first event is reached",
+      example = "120")
+  private Long nextBefore;
+
   @Data
   @Builder
   @NoArgsConstructor
@@ -39,5 +44,8 @@ public class PetHistoryResponse {
 
     @Schema(description = "Event payload as JSON string")
     private Object payload;
+
+    @Schema(description = "Position in the pet's event stream", example = "42")
+    private long sequenceNumber;
   }
 }
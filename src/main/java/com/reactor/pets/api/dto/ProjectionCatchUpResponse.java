@@ -0,0 +1,33 @@
+package com.reactor.pets.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Startup catch-up of one event processor")
+public class ProjectionCatchUpResponse {
+
+  @Schema(description = "Event processor name", example = "pet-status")
+  private String processorName;
+
+  @Schema(description = "Whether the processor has reached the target position")
+  private boolean caughtUp;
+
+  @Schema(description = "Segments claimed by this node", example = "8")
+  private int segments;
+
+  @Schema(description = "Event store position reached by the slowest segment", example = "420000")
+  private long position;
+
+  @Schema(description = "Head of the event store on startup", example = "1000000")
+  private long targetPosition;
+
+  @Schema(description = "Events still to process up to the target position", example = "580000")
+  private long lag;
+}
@@ -0,0 +1,32 @@
+package com.reactor.pets.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Whether the projections have caught up with the event store on startup")
+public class ProjectionReadinessResponse {
+
+  @Schema(description = "Whether every processor has caught up and the API accepts requests")
+  private boolean ready;
+
+  @Schema(description = "When the application started")
+  private Instant startedAt;
+
+  @Schema(description = "When the processors caught up, null while catching up")
+  private Instant readyAt;
+
+  @Schema(description = "Head of the event store on startup, -1 if empty", example = "1000000")
+  private long targetPosition;
+
+  @Schema(description = "Catch-up of each event processor")
+  private List<ProjectionCatchUpResponse> processors;
+}
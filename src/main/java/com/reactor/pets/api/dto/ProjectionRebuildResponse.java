@@ -0,0 +1,46 @@
+package com.reactor.pets.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a projection rebuild")
+public class ProjectionRebuildResponse {
+
+  @Schema(description = "Event processor being rebuilt", example = "pet-status")
+  private String processorName;
+
+  @Schema(description = "Whether the replay has caught up with the target position")
+  private boolean completed;
+
+  @Schema(description = "When the rebuild started")
+  private Instant startedAt;
+
+  @Schema(description = "When the rebuild completed, null while running")
+  private Instant completedAt;
+
+  @Schema(description = "Segments replaying in parallel", example = "8")
+  private int segments;
+
+  @Schema(description = "Event store position reached by the slowest segment", example = "420000")
+  private long position;
+
+  @Schema(description = "Head of the event store when the rebuild started", example = "1000000")
+  private long targetPosition;
+
+  @Schema(description = "Percentage of the events replayed", example = "42.0")
+  private double percentComplete;
+
+  @Schema(description = "Replay rate since the rebuild started", example = "85000")
+  private double eventsPerSecond;
+
+  @Schema(description = "Estimated seconds until completion, -1 if unknown", example = "7")
+  private long etaSeconds;
+}
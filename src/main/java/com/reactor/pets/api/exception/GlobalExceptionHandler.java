@@ -7,6 +7,7 @@ import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.CommandExecutionException;
 import org.axonframework.modelling.command.AggregateNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -132,6 +133,25 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
   }
 
+  @ExceptionHandler(ProjectionsNotReadyException.class)
+  public ResponseEntity<ErrorResponse> handleProjectionsNotReadyException(
+      ProjectionsNotReadyException ex, HttpServletRequest request) {
+    log.debug("Rejected {} while projections catch up", request.getRequestURI());
+
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .error("PROJECTIONS_NOT_READY")
+            .message(ex.getMessage())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .timestamp(Instant.now())
+            .path(request.getRequestURI())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(error);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationException(
       MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,19 @@
+package com.reactor.pets.api.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown for API requests that arrive before the projections have caught up on startup.
+ */
+@Getter
+public class ProjectionsNotReadyException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long retryAfterSeconds;
+
+  public ProjectionsNotReadyException(long retryAfterSeconds) {
+    super("Projections are catching up with the event store, retry shortly");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
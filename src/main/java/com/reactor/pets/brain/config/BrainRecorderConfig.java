@@ -0,0 +1,29 @@
+package com.reactor.pets.brain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "brain.recorder")
+@Data
+public class BrainRecorderConfig {
+
+    // Opt-in: frames are only recorded when enabled
+    private boolean enabled = false;
+
+    // How far back recorded frames stay available for playback
+    private int retentionMinutes = 10;
+
+    // Ring buffer size per pet (older frames are overwritten when full)
+    private int bufferSizeMb = 32;
+
+    // A full keyframe is written at least this often so playback can start anywhere
+    private int keyframeIntervalTicks = 100;
+
+    // Maximum number of pets recorded at once (least recently written is dropped)
+    private int maxRecordings = 16;
+
+    // Directory for memory-mapped ring files; off-heap buffers are used when unset
+    private String directory;
+}
@@ -22,6 +22,15 @@ public class BrainSimulationConfig {
     // Grace period before stopping simulation (milliseconds)
     private long shutdownGracePeriodMs = 30000L; // Default 30 seconds
 
+    // Number of recent frames kept per pet so reconnecting clients can resume via Last-Event-ID
+    private int frameBufferSize = 100;
+
+    // Forces every grid to this size when > 0 (stress testing beyond the 100x100 stage cap)
+    private int gridSizeOverride = 0;
+
+    // How often the brain summary stream emits (the summary itself is updated every tick)
+    private long summaryIntervalMs = 1000L;
+
     // Synaptic weights for directional propagation
     private Map<String, Double> synapticWeights = createDefaultWeights();
 
@@ -0,0 +1,30 @@
+package com.reactor.pets.brain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the brain-stress profile, see {@code BrainStressRunner}.
+ * Grid size is taken from {@code brain.simulation.grid-size-override}.
+ */
+@Component
+@ConfigurationProperties(prefix = "brain.stress")
+@Data
+public class BrainStressConfig {
+
+    // Number of concurrently simulated grids
+    private int grids = 4;
+
+    // How long the simulations run before the final report
+    private int durationSeconds = 60;
+
+    // Interval between intermediate reports
+    private int reportIntervalSeconds = 10;
+
+    // Serialize every frame as the SSE endpoint would, to measure emitted bytes per second
+    private boolean measureBytes = true;
+
+    // Shut the application down after the final report
+    private boolean exitWhenDone = true;
+}
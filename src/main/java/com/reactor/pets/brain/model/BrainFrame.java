@@ -0,0 +1,22 @@
+package com.reactor.pets.brain.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One simulation tick worth of brain activity for a single pet.
+ * Regular frames carry only the cells whose state changed during the tick (delta frames);
+ * keyframes carry every cell in the grid and reset the client-side view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrainFrame {
+    private long tick;              // Per-pet tick number, also used as the SSE event id
+    private boolean keyframe;       // True if cells contains the full grid
+    private List<CellState> cells;  // Changed cells (delta) or all cells (keyframe)
+}
@@ -0,0 +1,27 @@
+package com.reactor.pets.brain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Describes the recorded brain activity currently available for playback for one pet.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrainRecordingInfo {
+    private String petId;
+    private String storage;         // "memory-mapped" or "off-heap"
+    private int frameCount;
+    private int keyframeCount;
+    private long firstTick;
+    private long lastTick;
+    private Instant from;           // Timestamp of the oldest playable frame
+    private Instant to;             // Timestamp of the newest frame
+    private long bytesUsed;         // Bytes held by indexed frames
+    private long capacityBytes;
+}
@@ -0,0 +1,18 @@
+package com.reactor.pets.brain.model;
+
+/**
+ * Lifecycle state of a pet's brain simulation.
+ */
+public enum BrainSimulationState {
+    /** Simulation is ticking and at least one client is subscribed. */
+    RUNNING,
+
+    /** Simulation is still ticking but has no subscribers (shutdown grace period). */
+    IDLE,
+
+    /** Simulation is stopped; grid and parameters are kept in memory for a quick restart. */
+    CACHED,
+
+    /** No grid in memory (never watched, or the brain was stopped). */
+    EVICTED
+}
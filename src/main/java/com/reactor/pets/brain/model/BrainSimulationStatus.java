@@ -0,0 +1,26 @@
+package com.reactor.pets.brain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Point-in-time view of a pet's brain simulation, read from the simulator's in-memory state.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrainSimulationStatus {
+    private String petId;
+    private BrainSimulationState state;
+    private int subscriberCount;
+    private int gridWidth;                  // 0 when evicted
+    private int gridHeight;
+    private long currentTick;               // Last published frame number
+    private int tickIntervalMs;             // Configured interval, 0 when evicted
+    private double targetTicksPerSecond;
+    private double effectiveTicksPerSecond; // Achieved rate, 0 unless running or idle
+    private double lastTickMillis;          // Duration of the most recent tick
+}
@@ -0,0 +1,32 @@
+package com.reactor.pets.brain.model;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregate brain signals for one pet at one tick, maintained incrementally by the simulation.
+ * Rates are fractions of cells (0.0 to 1.0) firing during the tick.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrainSummary {
+    private String petId;
+    private long tick;
+    private long timestamp;
+    private int totalCells;
+    private int firingCells;
+    private double firingRate;
+    private Map<CorticalLayer, Double> layerFiringRates;
+    private double excitatoryFiringRate;
+    private double inhibitoryFiringRate;
+    private double excitationInhibitionBalance; // -1.0 (all inhibitory) to 1.0 (all excitatory)
+    private int l5BurstingCells;                // L5 cells currently in burst mode
+    private int l5BurstOnsets;                  // L5 bursts started within the analysis window
+    private double meanActivation;
+    private double dominantFrequencyHz;         // Strongest oscillation of the firing rate, 0 if unknown
+}
@@ -0,0 +1,22 @@
+package com.reactor.pets.brain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Timing of a pet's brain simulation loop.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrainTickStats {
+    private long ticks;                     // Ticks measured since the brain was initialized
+    private double lastTickMillis;          // Duration of the most recent tick
+    private double meanTickMillis;
+    private double maxTickMillis;
+    private double effectiveTicksPerSecond; // Smoothed rate actually achieved (may lag the target)
+    private long lastTickAt;                // Epoch millis of the most recent tick, 0 if none
+}
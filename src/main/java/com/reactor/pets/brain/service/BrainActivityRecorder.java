@@ -0,0 +1,221 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.config.BrainRecorderConfig;
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.BrainRecordingInfo;
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.Grid;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records published brain frames into per-pet off-heap ring buffers and plays them back.
+ *
+ * <p>Recording is opt-in ({@code brain.recorder.enabled}) because it costs one buffer of
+ * {@code buffer-size-mb} per watched pet. Playback re-emits the recorded frames with their
+ * original pacing, optionally sped up, in the same keyframe/delta format as the live stream.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BrainActivityRecorder {
+
+    private static final int BYTES_PER_MB = 1024 * 1024;
+
+    private final PetBrainSimulator brainSimulator;
+    private final BrainRecorderConfig config;
+
+    // Map of petId -> recording
+    private final Map<String, BrainRecording> recordings = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        if (!config.isEnabled()) {
+            log.info("Brain activity recorder disabled");
+            return;
+        }
+        brainSimulator.addFrameListener(this::record);
+        log.info(
+                "Brain activity recorder enabled: {}MB per pet, {} min retention, storage: {}",
+                config.getBufferSizeMb(),
+                config.getRetentionMinutes(),
+                config.getDirectory() != null ? config.getDirectory() : "off-heap");
+    }
+
+    void record(String petId, Grid grid, BrainFrame frame) {
+        BrainRecording recording = recordings.get(petId);
+        if (recording == null) {
+            evictIfFull();
+            recording = recordings.computeIfAbsent(petId, this::createRecording);
+        }
+        recording.append(grid, frame, System.currentTimeMillis());
+    }
+
+    private BrainRecording createRecording(String petId) {
+        log.info("Starting brain recording for pet {}", petId);
+        return new BrainRecording(
+                petId,
+                config.getBufferSizeMb() * BYTES_PER_MB,
+                Duration.ofMinutes(config.getRetentionMinutes()).toMillis(),
+                config.getKeyframeIntervalTicks(),
+                config.getDirectory() != null ? Path.of(config.getDirectory()) : null);
+    }
+
+    /**
+     * Drop the least recently written recording when the limit is reached.
+     */
+    private void evictIfFull() {
+        while (recordings.size() >= config.getMaxRecordings()) {
+            String oldestPetId = null;
+            long oldestWrite = Long.MAX_VALUE;
+            for (Map.Entry<String, BrainRecording> entry : recordings.entrySet()) {
+                long lastWrite = entry.getValue().getLastWriteMillis();
+                if (lastWrite < oldestWrite) {
+                    oldestWrite = lastWrite;
+                    oldestPetId = entry.getKey();
+                }
+            }
+            if (oldestPetId == null) {
+                return;
+            }
+            BrainRecording evicted = recordings.remove(oldestPetId);
+            if (evicted != null) {
+                log.info(
+                        "Dropping brain recording for pet {} (recording limit reached)",
+                        oldestPetId);
+                evicted.close();
+            }
+        }
+    }
+
+    public Optional<BrainRecordingInfo> getRecordingInfo(String petId) {
+        return Optional.ofNullable(recordings.get(petId)).map(BrainRecording::info);
+    }
+
+    /**
+     * Replay recorded brain activity between {@code from} and {@code to}.
+     *
+     * <p>The first frame is a keyframe with the brain state at {@code from}; the remaining frames
+     * follow at their recorded intervals divided by {@code speed}. Playback ends early if the
+     * frames still to come are overwritten by the live recording.
+     *
+     * @param from start of the window, or {@code null} for the oldest recorded frame
+     * @param to end of the window, or {@code null} for the newest recorded frame
+     * @param speed playback speed multiplier (2.0 = twice as fast)
+     */
+    public Flux<BrainFrame> playback(String petId, Instant from, Instant to, double speed) {
+        if (speed <= 0 || Double.isNaN(speed) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Playback speed must be a positive number");
+        }
+        BrainRecording recording = recordings.get(petId);
+        if (recording == null) {
+            throw new IllegalArgumentException("No brain recording for pet: " + petId);
+        }
+        long fromMillis = (from != null) ? from.toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = (to != null) ? to.toEpochMilli() : Long.MAX_VALUE;
+        if (fromMillis > toMillis) {
+            throw new IllegalArgumentException("Playback 'from' must not be after 'to'");
+        }
+
+        return Flux.defer(() -> {
+            List<BrainRecording.Entry> entries = recording.entriesBetween(fromMillis, toMillis);
+            if (entries.isEmpty()) {
+                return Flux.empty();
+            }
+
+            // Fold the keyframe and any deltas before 'from' into the starting keyframe
+            int start = 1;
+            while (start < entries.size() && entries.get(start).timestampMillis() < fromMillis) {
+                start++;
+            }
+            BrainFrame startFrame = foldKeyframe(recording, entries.subList(0, start));
+            if (startFrame == null) {
+                return Flux.empty(); // Overwritten while we were reading
+            }
+
+            List<BrainRecording.Entry> remaining = entries.subList(start, entries.size());
+            long[] previousMillis = {entries.get(start - 1).timestampMillis()};
+
+            Flux<BrainFrame> paced = Flux.fromIterable(remaining)
+                    .concatMap(entry -> {
+                        long gap = Math.max(0, entry.timestampMillis() - previousMillis[0]);
+                        previousMillis[0] = entry.timestampMillis();
+                        return Mono.delay(Duration.ofMillis(Math.round(gap / speed)))
+                                .map(ignored -> Optional.ofNullable(recording.read(entry)));
+                    })
+                    .takeWhile(Optional::isPresent)
+                    .map(decoded -> toFrame(decoded.get()));
+
+            return Flux.concat(Mono.just(startFrame), paced);
+        });
+    }
+
+    private static BrainFrame foldKeyframe(
+            BrainRecording recording, List<BrainRecording.Entry> prefix) {
+        BrainFrameCodec.EncodedFrame keyframe = recording.read(prefix.get(0));
+        if (keyframe == null) {
+            return null;
+        }
+        int[] state = new int[keyframe.width() * keyframe.height()];
+        apply(state, keyframe);
+
+        BrainFrameCodec.EncodedFrame last = keyframe;
+        for (int i = 1; i < prefix.size(); i++) {
+            BrainFrameCodec.EncodedFrame delta = recording.read(prefix.get(i));
+            if (delta == null) {
+                return null;
+            }
+            if (delta.width() * delta.height() != state.length) {
+                state = new int[delta.width() * delta.height()];
+            }
+            apply(state, delta);
+            last = delta;
+        }
+
+        List<CellState> cells = new ArrayList<>(state.length);
+        for (int index = 0; index < state.length; index++) {
+            cells.add(BrainFrameCodec.toCellState(
+                    index, state[index], last.width(), last.height(), last.timestamp()));
+        }
+        return new BrainFrame(last.tick(), true, cells);
+    }
+
+    private static void apply(int[] state, BrainFrameCodec.EncodedFrame frame) {
+        int[] indices = frame.indices();
+        int[] packed = frame.packedStates();
+        for (int i = 0; i < indices.length; i++) {
+            state[indices[i]] = packed[i];
+        }
+    }
+
+    private static BrainFrame toFrame(BrainFrameCodec.EncodedFrame decoded) {
+        int[] indices = decoded.indices();
+        int[] packed = decoded.packedStates();
+        List<CellState> cells = new ArrayList<>(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            cells.add(BrainFrameCodec.toCellState(
+                    indices[i], packed[i], decoded.width(), decoded.height(),
+                    decoded.timestamp()));
+        }
+        return new BrainFrame(decoded.tick(), decoded.keyframe(), cells);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        recordings.values().forEach(BrainRecording::close);
+        recordings.clear();
+    }
+}
@@ -0,0 +1,182 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.CellType;
+import com.reactor.pets.brain.model.CorticalLayer;
+import com.reactor.pets.brain.model.NeuronPhase;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encoding of brain frames for the activity recorder.
+ *
+ * <p>Record layout:
+ * <pre>
+ *   long  tick
+ *   long  timestamp (epoch millis)
+ *   short width, short height
+ *   byte  keyframe flag
+ *   int   cell count
+ *   per cell: varint index gap, byte activation, byte state
+ * </pre>
+ *
+ * <p>Cells are written in ascending grid order, so the gap to the previous cell index is usually
+ * a single byte. Activation is quantized to steps of 0.005; the state byte packs the neuron
+ * phase, firing, burst mode and cell type. Layers are derived from the y coordinate on decode.
+ */
+final class BrainFrameCodec {
+
+    private static final double MIN_ACTIVATION = -0.1;
+    private static final double ACTIVATION_STEPS_PER_UNIT = 200.0;
+    private static final NeuronPhase[] PHASES = NeuronPhase.values();
+
+    private static final int PHASE_MASK = 0x07;
+    private static final int FIRING_FLAG = 0x08;
+    private static final int BURST_FLAG = 0x10;
+    private static final int INHIBITORY_FLAG = 0x20;
+
+    private BrainFrameCodec() {
+        // Utility class
+    }
+
+    /**
+     * Pack the visible state of a cell into 16 bits: activation (high byte) and state (low byte).
+     * Two cells with the same packed value look identical to a viewer.
+     */
+    static int pack(CellState state) {
+        double activation = Math.max(MIN_ACTIVATION, Math.min(1.0, state.getActivation()));
+        int activationByte =
+                (int) Math.round((activation - MIN_ACTIVATION) * ACTIVATION_STEPS_PER_UNIT);
+
+        NeuronPhase phase =
+                (state.getNeuronPhase() != null) ? state.getNeuronPhase() : NeuronPhase.RESTING;
+        int flags = phase.ordinal() & PHASE_MASK;
+        if (state.isFiring()) {
+            flags |= FIRING_FLAG;
+        }
+        if (state.isBurstMode()) {
+            flags |= BURST_FLAG;
+        }
+        if (state.getCellType() == CellType.INHIBITORY) {
+            flags |= INHIBITORY_FLAG;
+        }
+        return (activationByte << 8) | flags;
+    }
+
+    /**
+     * Encode a frame. {@code indices} must be ascending (row-major grid order).
+     */
+    static byte[] encode(
+            long tick,
+            long timestamp,
+            int width,
+            int height,
+            boolean keyframe,
+            int[] indices,
+            int[] packedStates,
+            int count) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + count * 3);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(tick);
+            out.writeLong(timestamp);
+            out.writeShort(width);
+            out.writeShort(height);
+            out.writeByte(keyframe ? 1 : 0);
+            out.writeInt(count);
+
+            int previousIndex = -1;
+            for (int i = 0; i < count; i++) {
+                writeVarInt(out, indices[i] - previousIndex);
+                previousIndex = indices[i];
+                out.writeByte(packedStates[i] >>> 8);
+                out.writeByte(packedStates[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode brain frame " + tick, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static EncodedFrame decode(byte[] record) {
+        ByteBuffer in = ByteBuffer.wrap(record);
+        long tick = in.getLong();
+        long timestamp = in.getLong();
+        int width = in.getShort() & 0xFFFF;
+        int height = in.getShort() & 0xFFFF;
+        boolean keyframe = in.get() == 1;
+        int count = in.getInt();
+
+        int[] indices = new int[count];
+        int[] packedStates = new int[count];
+        int previousIndex = -1;
+        for (int i = 0; i < count; i++) {
+            previousIndex += readVarInt(in);
+            indices[i] = previousIndex;
+            packedStates[i] = ((in.get() & 0xFF) << 8) | (in.get() & 0xFF);
+        }
+        return new EncodedFrame(tick, timestamp, width, height, keyframe, indices, packedStates);
+    }
+
+    static CellState toCellState(int index, int packed, int width, int height, long timestamp) {
+        int x = index % width;
+        int y = index / width;
+        int flags = packed & 0xFF;
+        double activation = Math.min(
+                1.0, ((packed >>> 8) & 0xFF) / ACTIVATION_STEPS_PER_UNIT + MIN_ACTIVATION);
+        boolean firing = (flags & FIRING_FLAG) != 0;
+        CellType cellType =
+                (flags & INHIBITORY_FLAG) != 0 ? CellType.INHIBITORY : CellType.EXCITATORY;
+
+        return CellState.builder()
+                .cellId(String.format("cell-%d-%d", x, y))
+                .x(x)
+                .y(y)
+                .activation(activation)
+                .refractoryCountdown(0)
+                .lastFiredAt(firing ? timestamp : 0L)
+                .timestamp(timestamp)
+                .isFiring(firing)
+                .layer(CorticalLayer.fromYPosition(y, height))
+                .cellType(cellType)
+                .neuronPhase(PHASES[Math.min(flags & PHASE_MASK, PHASES.length - 1)])
+                .phaseCountdown(0)
+                .burstMode((flags & BURST_FLAG) != 0)
+                .burstCount(0)
+                .build();
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * A decoded frame: cell indices (row-major) and packed states, see {@link #pack}.
+     */
+    record EncodedFrame(
+            long tick,
+            long timestamp,
+            int width,
+            int height,
+            boolean keyframe,
+            int[] indices,
+            int[] packedStates) { }
+}
@@ -0,0 +1,13 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.Grid;
+
+/**
+ * Callback for every frame published by {@link PetBrainSimulator}.
+ * Invoked on the simulation thread right after the tick, so implementations must be fast.
+ */
+@FunctionalInterface
+public interface BrainFrameListener {
+    void onFrame(String petId, Grid grid, BrainFrame frame);
+}
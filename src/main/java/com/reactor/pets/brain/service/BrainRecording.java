@@ -0,0 +1,324 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.BrainRecordingInfo;
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.Grid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ring buffer of encoded brain frames for a single pet, stored outside the Java heap.
+ *
+ * <p>Frames are kept in a memory-mapped file when a directory is given, otherwise in a direct
+ * {@link ByteBuffer}. Only an index of offsets lives on the heap. When the buffer is full the
+ * oldest frames are overwritten; frames older than the retention window are dropped from the
+ * index. A keyframe is written periodically so playback can start near any point in time.
+ */
+@Slf4j
+class BrainRecording implements AutoCloseable {
+
+    private final String petId;
+    private final int capacity;
+    private final long retentionMillis;
+    private final int keyframeIntervalTicks;
+    private final ByteBuffer buffer;
+    private final FileChannel channel;
+    private final Path file;
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private long nextSequence;
+    private int writePosition;
+    private long bytesUsed;
+    private int keyframeCount;
+    private long lastWriteMillis;
+
+    // Last recorded state of every cell, used to drop cells that did not visibly change
+    private int width;
+    private int height;
+    private int[] lastPacked;
+    private long lastKeyframeTick;
+
+    BrainRecording(
+            String petId,
+            int capacityBytes,
+            long retentionMillis,
+            int keyframeIntervalTicks,
+            Path directory) {
+        this.petId = petId;
+        this.capacity = capacityBytes;
+        this.retentionMillis = retentionMillis;
+        this.keyframeIntervalTicks = Math.max(1, keyframeIntervalTicks);
+
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+                this.file = directory.resolve("brain-" + sanitize(petId) + ".ring");
+                this.channel = FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Failed to create brain recording file for pet " + petId, e);
+            }
+        } else {
+            this.file = null;
+            this.channel = null;
+            this.buffer = ByteBuffer.allocateDirect(capacityBytes);
+        }
+    }
+
+    /**
+     * Record a published frame. {@code grid} is the pet's current grid, which already holds the
+     * state described by the frame.
+     */
+    synchronized void append(Grid grid, BrainFrame frame, long timestampMillis) {
+        if (grid == null) {
+            return;
+        }
+
+        boolean keyframe = frame.isKeyframe()
+                || lastPacked == null
+                || grid.getWidth() != width
+                || grid.getHeight() != height
+                || frame.getTick() - lastKeyframeTick >= keyframeIntervalTicks;
+
+        byte[] record = keyframe
+                ? encodeKeyframe(grid, frame.getTick(), timestampMillis)
+                : encodeDelta(frame, timestampMillis);
+        if (record == null) {
+            return; // Nothing visibly changed
+        }
+
+        write(record, frame.getTick(), timestampMillis, keyframe);
+        evictExpired(timestampMillis);
+        lastWriteMillis = timestampMillis;
+    }
+
+    private byte[] encodeKeyframe(Grid grid, long tick, long timestampMillis) {
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int size = width * height;
+        if (lastPacked == null || lastPacked.length != size) {
+            lastPacked = new int[size];
+        }
+
+        int[] indices = new int[size];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                indices[index] = index;
+                lastPacked[index] = BrainFrameCodec.pack(grid.getCell(x, y).getCurrentState());
+            }
+        }
+        lastKeyframeTick = tick;
+
+        return BrainFrameCodec.encode(
+                tick, timestampMillis, width, height, true, indices, lastPacked, size);
+    }
+
+    private byte[] encodeDelta(BrainFrame frame, long timestampMillis) {
+        List<CellState> cells = frame.getCells();
+        int[] indices = new int[cells.size()];
+        int[] packed = new int[cells.size()];
+        int count = 0;
+        boolean sorted = true;
+
+        for (CellState cell : cells) {
+            int index = cell.getY() * width + cell.getX();
+            if (index < 0 || index >= lastPacked.length) {
+                continue;
+            }
+            int state = BrainFrameCodec.pack(cell);
+            if (lastPacked[index] == state) {
+                continue;
+            }
+            lastPacked[index] = state;
+            if (count > 0 && index <= indices[count - 1]) {
+                sorted = false;
+            }
+            indices[count] = index;
+            packed[count] = state;
+            count++;
+        }
+
+        if (count == 0) {
+            return null;
+        }
+        if (!sorted) {
+            sortByIndex(indices, packed, count);
+        }
+        return BrainFrameCodec.encode(
+                frame.getTick(), timestampMillis, width, height, false, indices, packed, count);
+    }
+
+    private void write(byte[] record, long tick, long timestampMillis, boolean keyframe) {
+        int length = record.length;
+        if (length > capacity) {
+            log.warn(
+                    "Brain frame for pet {} ({} bytes) exceeds recording buffer, dropped",
+                    petId, length);
+            return;
+        }
+
+        if (writePosition + length > capacity) {
+            // Wrap around; frames left past the old write position are the oldest in the ring
+            while (!entries.isEmpty() && entries.peekFirst().offset() >= writePosition) {
+                evictFirst();
+            }
+            writePosition = 0;
+        }
+
+        // Drop the oldest frames whose bytes are about to be overwritten
+        int end = writePosition + length;
+        while (!entries.isEmpty()
+                && entries.peekFirst().offset() >= writePosition
+                && entries.peekFirst().offset() < end) {
+            evictFirst();
+        }
+
+        buffer.put(writePosition, record);
+        entries.addLast(new Entry(
+                nextSequence++, tick, timestampMillis, writePosition, length, keyframe));
+        writePosition = end;
+        bytesUsed += length;
+        if (keyframe) {
+            keyframeCount++;
+        }
+    }
+
+    private void evictExpired(long nowMillis) {
+        long cutoff = nowMillis - retentionMillis;
+        while (!entries.isEmpty() && entries.peekFirst().timestampMillis() < cutoff) {
+            evictFirst();
+        }
+    }
+
+    private void evictFirst() {
+        Entry evicted = entries.pollFirst();
+        bytesUsed -= evicted.length();
+        if (evicted.keyframe()) {
+            keyframeCount--;
+        }
+    }
+
+    /**
+     * Read back a recorded frame, or {@code null} if it has been overwritten since it was listed.
+     */
+    synchronized BrainFrameCodec.EncodedFrame read(Entry entry) {
+        Entry oldest = entries.peekFirst();
+        if (oldest == null || entry.sequence() < oldest.sequence()) {
+            return null;
+        }
+        byte[] record = new byte[entry.length()];
+        buffer.get(entry.offset(), record);
+        return BrainFrameCodec.decode(record);
+    }
+
+    /**
+     * List the frames needed to play back {@code [fromMillis, toMillis]}: the latest keyframe at
+     * or before {@code fromMillis} (or the oldest keyframe if none), followed by every frame up
+     * to {@code toMillis}.
+     */
+    synchronized List<Entry> entriesBetween(long fromMillis, long toMillis) {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.timestampMillis() > toMillis) {
+                break;
+            }
+            if (entry.keyframe() && entry.timestampMillis() <= fromMillis) {
+                result.clear();
+            }
+            if (!result.isEmpty() || entry.keyframe()) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    synchronized BrainRecordingInfo info() {
+        Entry firstKeyframe = null;
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext() && firstKeyframe == null; ) {
+            Entry entry = it.next();
+            if (entry.keyframe()) {
+                firstKeyframe = entry;
+            }
+        }
+        Entry last = entries.peekLast();
+
+        return BrainRecordingInfo.builder()
+                .petId(petId)
+                .storage(channel != null ? "memory-mapped" : "off-heap")
+                .frameCount(entries.size())
+                .keyframeCount(keyframeCount)
+                .firstTick(firstKeyframe != null ? firstKeyframe.tick() : 0L)
+                .lastTick(last != null ? last.tick() : 0L)
+                .from(firstKeyframe != null
+                        ? Instant.ofEpochMilli(firstKeyframe.timestampMillis()) : null)
+                .to(last != null ? Instant.ofEpochMilli(last.timestampMillis()) : null)
+                .bytesUsed(bytesUsed)
+                .capacityBytes(capacity)
+                .build();
+    }
+
+    synchronized long getLastWriteMillis() {
+        return lastWriteMillis;
+    }
+
+    @Override
+    public synchronized void close() {
+        entries.clear();
+        if (channel != null) {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to clean up brain recording file {}", file, e);
+            }
+        }
+    }
+
+    private static void sortByIndex(int[] indices, int[] packed, int count) {
+        // Index fits in the upper bits, packed state (16 bits) in the lower bits
+        long[] pairs = new long[count];
+        for (int i = 0; i < count; i++) {
+            pairs[i] = ((long) indices[i] << 16) | packed[i];
+        }
+        Arrays.sort(pairs);
+        for (int i = 0; i < count; i++) {
+            indices[i] = (int) (pairs[i] >>> 16);
+            packed[i] = (int) (pairs[i] & 0xFFFF);
+        }
+    }
+
+    private static String sanitize(String petId) {
+        return petId.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+
+    /**
+     * Heap-side index of one recorded frame.
+     */
+    record Entry(
+            long sequence,
+            long tick,
+            long timestampMillis,
+            int offset,
+            int length,
+            boolean keyframe) { }
+}
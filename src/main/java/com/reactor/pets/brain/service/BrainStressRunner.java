@@ -0,0 +1,176 @@
+package com.reactor.pets.brain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.pets.aggregate.EvolutionPath;
+import com.reactor.pets.aggregate.PetStage;
+import com.reactor.pets.brain.config.BrainSimulationConfig;
+import com.reactor.pets.brain.config.BrainStressConfig;
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.BrainTickStats;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Capacity test for the brain simulation: runs several large grids through the regular
+ * {@link PetBrainSimulator} subscribe/tick/publish path and reports tick latency, heap per grid
+ * and emitted bytes per second.
+ *
+ * <p>Activate with {@code --spring.profiles.active=brain-stress}; see
+ * {@code application-brain-stress.yml} for the knobs.
+ */
+@Slf4j
+@Component
+@Profile("brain-stress")
+@RequiredArgsConstructor
+public class BrainStressRunner implements ApplicationRunner {
+
+    private static final String PET_ID_PREFIX = "stress-pet-";
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final PetBrainSimulator brainSimulator;
+    private final BrainSimulationConfig simulationConfig;
+    private final BrainStressConfig stressConfig;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final AtomicLong emittedBytes = new AtomicLong();
+    private final AtomicLong emittedFrames = new AtomicLong();
+    private final AtomicLong emittedCells = new AtomicLong();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int grids = stressConfig.getGrids();
+        if (simulationConfig.getGridSizeOverride() <= 0) {
+            log.warn("brain.simulation.grid-size-override is not set, using stage grid sizes");
+        }
+        log.info(
+                "Brain stress run: {} grids of {}x{} for {}s",
+                grids,
+                simulationConfig.getGridSizeOverride(),
+                simulationConfig.getGridSizeOverride(),
+                stressConfig.getDurationSeconds());
+
+        List<String> petIds = new ArrayList<>(grids);
+        for (int i = 0; i < grids; i++) {
+            petIds.add(PET_ID_PREFIX + i);
+        }
+
+        // Build every grid before any simulation starts so the heap delta is grids only
+        long heapBefore = usedHeapAfterGc();
+        long buildStart = System.nanoTime();
+        for (String petId : petIds) {
+            brainSimulator.updatePetState(
+                    petId, 50, 50, 100, PetStage.ADULT, EvolutionPath.HEALTHY);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long heapPerGrid = (usedHeapAfterGc() - heapBefore) / Math.max(1, grids);
+        log.info(
+                "Built {} grids in {}ms, heap per grid: {} MB",
+                grids, buildMillis, String.format("%.1f", heapPerGrid / BYTES_PER_MB));
+
+        List<Disposable> subscriptions = new ArrayList<>(grids);
+        for (String petId : petIds) {
+            subscriptions.add(
+                    brainSimulator
+                            .subscribeToBrain(
+                                    petId, 50, 50, 100, PetStage.ADULT, EvolutionPath.HEALTHY)
+                            .publishOn(Schedulers.boundedElastic())
+                            .subscribe(this::countFrame));
+        }
+
+        long startNanos = System.nanoTime();
+        long[] lastReport = {startNanos, 0L};
+        Flux.interval(Duration.ofSeconds(stressConfig.getReportIntervalSeconds()))
+                .take(Duration.ofSeconds(stressConfig.getDurationSeconds()))
+                .doOnNext(i -> report(petIds, heapPerGrid, lastReport, false))
+                .blockLast();
+
+        report(petIds, heapPerGrid, lastReport, true);
+
+        subscriptions.forEach(Disposable::dispose);
+        petIds.forEach(brainSimulator::stopBrain);
+
+        if (stressConfig.isExitWhenDone()) {
+            log.info("Brain stress run finished, shutting down");
+            SpringApplication.exit(applicationContext, () -> 0);
+        }
+    }
+
+    private void countFrame(BrainFrame frame) {
+        emittedFrames.incrementAndGet();
+        emittedCells.addAndGet(frame.getCells().size());
+        if (!stressConfig.isMeasureBytes()) {
+            return;
+        }
+        try {
+            // Same payload the SSE endpoint writes per event
+            emittedBytes.addAndGet(objectMapper.writeValueAsBytes(frame.getCells()).length);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize brain frame {}", frame.getTick(), e);
+        }
+    }
+
+    private void report(
+            List<String> petIds, long heapPerGrid, long[] lastReport, boolean finalReport) {
+        long now = System.nanoTime();
+        double seconds = (now - lastReport[0]) / 1_000_000_000.0;
+        long bytes = emittedBytes.get();
+        long bytesSinceLast = bytes - lastReport[1];
+        lastReport[0] = now;
+        lastReport[1] = bytes;
+
+        double meanTick = 0;
+        double maxTick = 0;
+        double ticksPerSecond = 0;
+        int measured = 0;
+        for (String petId : petIds) {
+            BrainTickStats stats = brainSimulator.getTickStats(petId).orElse(null);
+            if (stats == null || stats.getTicks() == 0) {
+                continue;
+            }
+            measured++;
+            meanTick += stats.getMeanTickMillis();
+            maxTick = Math.max(maxTick, stats.getMaxTickMillis());
+            ticksPerSecond += stats.getEffectiveTicksPerSecond();
+        }
+        if (measured > 0) {
+            meanTick /= measured;
+            ticksPerSecond /= measured;
+        }
+
+        log.info(
+                "{} grids={} tick mean={}ms max={}ms rate={}/s per grid, heap/grid={}MB,"
+                        + " frames={} cells={} emitted={} MB/s",
+                finalReport ? "[brain-stress FINAL]" : "[brain-stress]",
+                measured,
+                String.format("%.2f", meanTick),
+                String.format("%.2f", maxTick),
+                String.format("%.1f", ticksPerSecond),
+                String.format("%.1f", heapPerGrid / BYTES_PER_MB),
+                emittedFrames.get(),
+                emittedCells.get(),
+                String.format("%.2f", seconds > 0 ? bytesSinceLast / BYTES_PER_MB / seconds : 0));
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
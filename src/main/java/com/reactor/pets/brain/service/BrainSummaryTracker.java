@@ -0,0 +1,227 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.model.BrainSummary;
+import com.reactor.pets.brain.model.Cell;
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.CellType;
+import com.reactor.pets.brain.model.CorticalLayer;
+import com.reactor.pets.brain.model.Grid;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Maintains the {@link BrainSummary} of one grid from the per-cell state changes of each tick.
+ *
+ * <p>Counts are built once from the grid and then adjusted by {@link #update} as cells are
+ * evaluated, so producing a summary never scans the grid again. The dominant oscillation is
+ * tracked with a sliding DFT over the last {@link #WINDOW} firing rates.
+ *
+ * <p>Not thread-safe: updates come from the pet's single simulation thread. The latest summary
+ * is published through a volatile field for readers on other threads.
+ */
+final class BrainSummaryTracker {
+
+    static final int WINDOW = 64;
+    private static final int BINS = WINDOW / 2;
+    private static final double MIN_POWER = 1e-9;
+    private static final CorticalLayer[] LAYERS = CorticalLayer.values();
+
+    // Twiddle factors: COS[n] = cos(2 * pi * n / WINDOW)
+    private static final double[] COS = new double[WINDOW];
+    private static final double[] SIN = new double[WINDOW];
+
+    static {
+        for (int n = 0; n < WINDOW; n++) {
+            double angle = 2 * Math.PI * n / WINDOW;
+            COS[n] = Math.cos(angle);
+            SIN[n] = Math.sin(angle);
+        }
+    }
+
+    private final String petId;
+    private final int totalCells;
+    private final int[] layerCells = new int[LAYERS.length];
+    private final int[] layerFiring = new int[LAYERS.length];
+    private int excitatoryCells;
+    private int inhibitoryCells;
+    private int excitatoryFiring;
+    private int inhibitoryFiring;
+    private int l5Bursting;
+    private double activationSum;
+
+    // Per-tick counter of L5 burst onsets, summed over the window
+    private int tickBurstOnsets;
+    private final int[] burstOnsetWindow = new int[WINDOW];
+    private int burstOnsetsInWindow;
+
+    // Sliding DFT of the firing rate
+    private final double[] samples = new double[WINDOW];
+    private final double[] re = new double[BINS + 1];
+    private final double[] im = new double[BINS + 1];
+    private int head;
+    private long sampleCount;
+
+    private volatile BrainSummary latest;
+
+    BrainSummaryTracker(String petId, Grid grid, long initialTick) {
+        this.petId = petId;
+        this.totalCells = grid.getWidth() * grid.getHeight();
+
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                Cell cell = grid.getCell(x, y);
+                layerCells[cell.getLayer().ordinal()]++;
+                if (cell.getCellType() == CellType.INHIBITORY) {
+                    inhibitoryCells++;
+                } else {
+                    excitatoryCells++;
+                }
+                add(cell, cell.getCurrentState(), 1);
+                activationSum += cell.getCurrentState().getActivation();
+            }
+        }
+        this.latest = snapshot(initialTick, 0L, System.currentTimeMillis());
+    }
+
+    /**
+     * Account for one cell moving from {@code previous} to {@code current}.
+     */
+    void update(Cell cell, CellState previous, CellState current) {
+        activationSum += current.getActivation() - previous.getActivation();
+
+        if (previous.isFiring() != current.isFiring()
+                || previous.isBurstMode() != current.isBurstMode()) {
+            add(cell, previous, -1);
+            add(cell, current, 1);
+            if (!previous.isBurstMode()
+                    && current.isBurstMode()
+                    && cell.getLayer() == CorticalLayer.LAYER_5) {
+                tickBurstOnsets++;
+            }
+        }
+    }
+
+    private void add(Cell cell, CellState state, int sign) {
+        if (state.isFiring()) {
+            layerFiring[cell.getLayer().ordinal()] += sign;
+            if (cell.getCellType() == CellType.INHIBITORY) {
+                inhibitoryFiring += sign;
+            } else {
+                excitatoryFiring += sign;
+            }
+        }
+        if (state.isBurstMode() && cell.getLayer() == CorticalLayer.LAYER_5) {
+            l5Bursting += sign;
+        }
+    }
+
+    /**
+     * Close the current tick and publish its summary.
+     *
+     * @param tickIntervalMs simulation tick interval, used to convert DFT bins to Hz
+     */
+    BrainSummary completeTick(long tick, long tickIntervalMs, long timestamp) {
+        int slot = head;
+        burstOnsetsInWindow += tickBurstOnsets - burstOnsetWindow[slot];
+        burstOnsetWindow[slot] = tickBurstOnsets;
+        tickBurstOnsets = 0;
+        slide(rate(excitatoryFiring + inhibitoryFiring, totalCells));
+
+        BrainSummary summary = snapshot(tick, tickIntervalMs, timestamp);
+        latest = summary;
+        return summary;
+    }
+
+    BrainSummary getLatest() {
+        return latest;
+    }
+
+    private BrainSummary snapshot(long tick, long tickIntervalMs, long timestamp) {
+        int firing = excitatoryFiring + inhibitoryFiring;
+
+        Map<CorticalLayer, Double> layerRates = new EnumMap<>(CorticalLayer.class);
+        for (CorticalLayer layer : LAYERS) {
+            layerRates.put(layer, rate(layerFiring[layer.ordinal()], layerCells[layer.ordinal()]));
+        }
+
+        double excitatoryRate = rate(excitatoryFiring, excitatoryCells);
+        double inhibitoryRate = rate(inhibitoryFiring, inhibitoryCells);
+        double rateSum = excitatoryRate + inhibitoryRate;
+
+        return BrainSummary.builder()
+                .petId(petId)
+                .tick(tick)
+                .timestamp(timestamp)
+                .totalCells(totalCells)
+                .firingCells(firing)
+                .firingRate(rate(firing, totalCells))
+                .layerFiringRates(layerRates)
+                .excitatoryFiringRate(excitatoryRate)
+                .inhibitoryFiringRate(inhibitoryRate)
+                .excitationInhibitionBalance(
+                        rateSum > 0 ? (excitatoryRate - inhibitoryRate) / rateSum : 0.0)
+                .l5BurstingCells(l5Bursting)
+                .l5BurstOnsets(burstOnsetsInWindow)
+                .meanActivation(totalCells > 0 ? activationSum / totalCells : 0.0)
+                .dominantFrequencyHz(dominantFrequencyHz(tickIntervalMs))
+                .build();
+    }
+
+    /**
+     * Push a firing rate into the window, updating every DFT bin in O(WINDOW / 2).
+     * The bins are recomputed exactly once per window to stop rounding errors accumulating.
+     */
+    private void slide(double sample) {
+        double delta = sample - samples[head];
+        samples[head] = sample;
+        head = (head + 1) % WINDOW;
+        sampleCount++;
+
+        if (sampleCount % WINDOW == 0) {
+            recompute();
+            return;
+        }
+        for (int k = 1; k <= BINS; k++) {
+            double r = re[k] + delta;
+            double i = im[k];
+            re[k] = r * COS[k] - i * SIN[k];
+            im[k] = r * SIN[k] + i * COS[k];
+        }
+    }
+
+    private void recompute() {
+        for (int k = 1; k <= BINS; k++) {
+            double r = 0;
+            double i = 0;
+            for (int n = 0; n < WINDOW; n++) {
+                // Oldest sample first; head points at the oldest after the last write
+                double x = samples[(head + n) % WINDOW];
+                int phase = (k * n) % WINDOW;
+                r += x * COS[phase];
+                i -= x * SIN[phase];
+            }
+            re[k] = r;
+            im[k] = i;
+        }
+    }
+
+    private double dominantFrequencyHz(long tickIntervalMs) {
+        if (sampleCount < WINDOW || tickIntervalMs <= 0) {
+            return 0.0;
+        }
+        int bestBin = 0;
+        double bestPower = MIN_POWER;
+        for (int k = 1; k <= BINS; k++) {
+            double power = re[k] * re[k] + im[k] * im[k];
+            if (power > bestPower) {
+                bestPower = power;
+                bestBin = k;
+            }
+        }
+        return bestBin * 1000.0 / (WINDOW * tickIntervalMs);
+    }
+
+    private static double rate(int count, int total) {
+        return total > 0 ? (double) count / total : 0.0;
+    }
+}
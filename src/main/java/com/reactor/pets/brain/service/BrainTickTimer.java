@@ -0,0 +1,58 @@
+package com.reactor.pets.brain.service;
+
+import com.reactor.pets.brain.model.BrainTickStats;
+
+/**
+ * Accumulates tick durations and the achieved tick rate of one simulation loop.
+ * The rate is an exponentially weighted moving average of the interval between tick starts.
+ */
+final class BrainTickTimer {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double RATE_SMOOTHING = 0.1;
+
+    private long ticks;
+    private long lastTickNanos;
+    private long totalTickNanos;
+    private long maxTickNanos;
+    private long lastStartNanos;
+    private double smoothedIntervalNanos;
+    private long lastTickAt;
+
+    synchronized void record(long startNanos, long endNanos) {
+        long duration = endNanos - startNanos;
+        ticks++;
+        lastTickNanos = duration;
+        totalTickNanos += duration;
+        maxTickNanos = Math.max(maxTickNanos, duration);
+        lastTickAt = System.currentTimeMillis();
+
+        if (lastStartNanos != 0) {
+            long interval = startNanos - lastStartNanos;
+            smoothedIntervalNanos = (smoothedIntervalNanos == 0)
+                    ? interval
+                    : smoothedIntervalNanos + RATE_SMOOTHING * (interval - smoothedIntervalNanos);
+        }
+        lastStartNanos = startNanos;
+    }
+
+    /**
+     * Forget the rate measured before the simulation was paused.
+     */
+    synchronized void restart() {
+        lastStartNanos = 0;
+        smoothedIntervalNanos = 0;
+    }
+
+    synchronized BrainTickStats snapshot() {
+        return BrainTickStats.builder()
+                .ticks(ticks)
+                .lastTickMillis(lastTickNanos / NANOS_PER_MILLI)
+                .meanTickMillis(ticks > 0 ? totalTickNanos / NANOS_PER_MILLI / ticks : 0.0)
+                .maxTickMillis(maxTickNanos / NANOS_PER_MILLI)
+                .effectiveTicksPerSecond(
+                        smoothedIntervalNanos > 0 ? 1_000_000_000.0 / smoothedIntervalNanos : 0.0)
+                .lastTickAt(lastTickAt)
+                .build();
+    }
+}
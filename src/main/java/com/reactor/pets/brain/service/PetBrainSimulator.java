@@ -3,22 +3,33 @@ package com.reactor.pets.brain.service;
 import com.reactor.pets.aggregate.EvolutionPath;
 import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.brain.config.BrainSimulationConfig;
+import com.reactor.pets.brain.model.BrainFrame;
 import com.reactor.pets.brain.model.BrainParameters;
+import com.reactor.pets.brain.model.BrainSimulationState;
+import com.reactor.pets.brain.model.BrainSimulationStatus;
+import com.reactor.pets.brain.model.BrainSummary;
+import com.reactor.pets.brain.model.BrainTickStats;
 import com.reactor.pets.brain.model.Cell;
 import com.reactor.pets.brain.model.CellState;
 import com.reactor.pets.brain.model.Grid;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 
 /**
@@ -54,6 +65,27 @@ public class PetBrainSimulator {
     private final ConcurrentHashMap<String, java.util.concurrent.ScheduledFuture<?>>
             shutdownTasks = new ConcurrentHashMap<>();
 
+    // Map of petId -> tick counter (frame numbers, used as SSE event ids)
+    private final ConcurrentHashMap<String, AtomicLong> tickCounters = new ConcurrentHashMap<>();
+
+    // Map of petId -> frame sink (replays the last N frames to late subscribers)
+    private final ConcurrentHashMap<String, Sinks.Many<BrainFrame>> frameSinks =
+            new ConcurrentHashMap<>();
+
+    // Map of petId -> incrementally maintained activity summary of the current grid
+    private final ConcurrentHashMap<String, BrainSummaryTracker> summaryTrackers =
+            new ConcurrentHashMap<>();
+
+    // Map of petId -> summary sink (new subscribers start from the tracker's latest summary)
+    private final ConcurrentHashMap<String, Sinks.Many<BrainSummary>> summarySinks =
+            new ConcurrentHashMap<>();
+
+    // Map of petId -> tick timing of the simulation loop
+    private final ConcurrentHashMap<String, BrainTickTimer> tickTimers = new ConcurrentHashMap<>();
+
+    // Observers of every published frame (e.g. the activity recorder)
+    private final List<BrainFrameListener> frameListeners = new CopyOnWriteArrayList<>();
+
     public PetBrainSimulator(
             PetBrainRuleEngine ruleEngine,
             PetBrainMapper petBrainMapper,
@@ -85,22 +117,46 @@ public class PetBrainSimulator {
 
         // Calculate initial parameters
         BrainParameters params =
-                petBrainMapper.calculateBrainParameters(
-                        hunger, happiness, health, stage, evolutionPath);
+                calculateParameters(hunger, happiness, health, stage, evolutionPath);
         currentParameters.put(petId, params);
 
         // Create grid (but don't start simulation yet)
         Grid grid = new Grid(params.getGridSize(), params.getGridSize());
         petGrids.put(petId, grid);
 
+        // Frame numbering and ring buffer survive grid re-creation so clients keep streaming
+        tickCounters.computeIfAbsent(petId, k -> new AtomicLong(0));
+        frameSinks.computeIfAbsent(
+                petId, k -> Sinks.many().replay().limit(config.getFrameBufferSize()));
+
         // Seed initial pattern based on stage
         seedPatternForStage(grid, stage);
 
+        // Summary counts start from the seeded grid and are updated by the tick loop from then on
+        summaryTrackers.put(
+                petId, new BrainSummaryTracker(petId, grid, tickCounters.get(petId).get()));
+        summarySinks.computeIfAbsent(petId, k -> Sinks.many().multicast().directBestEffort());
+
         log.info(
                 "Brain grid initialized for pet {}: {}x{} grid (simulation not started)",
                 petId, params.getGridSize(), params.getGridSize());
     }
 
+    private BrainParameters calculateParameters(
+            int hunger,
+            int happiness,
+            int health,
+            PetStage stage,
+            EvolutionPath evolutionPath) {
+        BrainParameters params =
+                petBrainMapper.calculateBrainParameters(
+                        hunger, happiness, health, stage, evolutionPath);
+        if (config.getGridSizeOverride() > 0) {
+            params.setGridSize(config.getGridSizeOverride());
+        }
+        return params;
+    }
+
     /**
      * Start simulation for a pet (called when first subscriber connects).
      */
@@ -170,8 +226,7 @@ public class PetBrainSimulator {
 
         // Calculate new parameters
         BrainParameters newParams =
-                petBrainMapper.calculateBrainParameters(
-                        hunger, happiness, health, stage, evolutionPath);
+                calculateParameters(hunger, happiness, health, stage, evolutionPath);
         BrainParameters oldParams = currentParameters.get(petId);
 
         // Check if grid size changed (evolution stage transition)
@@ -191,6 +246,14 @@ public class PetBrainSimulator {
             petGrids.remove(petId);
             ensureGridInitialized(petId, hunger, happiness, health, stage, evolutionPath);
 
+            // Push the resized grid to connected clients as a keyframe with a tick of its own,
+            // so a client resuming after the last delta frame still receives it
+            Grid resizedGrid = petGrids.get(petId);
+            AtomicLong tickCounter = tickCounters.get(petId);
+            if (resizedGrid != null && tickCounter != null) {
+                publishFrame(petId, buildKeyframe(resizedGrid, tickCounter.incrementAndGet()));
+            }
+
             // Restart simulation if it was running
             if (wasRunning) {
                 startBrainSimulation(petId);
@@ -232,17 +295,204 @@ public class PetBrainSimulator {
         petGrids.remove(petId);
         currentParameters.remove(petId);
         subscriberCounts.remove(petId);
+        tickCounters.remove(petId);
+        summaryTrackers.remove(petId);
+        tickTimers.remove(petId);
+        Sinks.Many<BrainFrame> sink = frameSinks.remove(petId);
+        if (sink != null) {
+            sink.tryEmitComplete();
+        }
+        Sinks.Many<BrainSummary> summarySink = summarySinks.remove(petId);
+        if (summarySink != null) {
+            summarySink.tryEmitComplete();
+        }
         log.info("Brain stopped for pet {}", petId);
     }
 
     /**
-     * Subscribe to cell state updates for a pet's brain.
-     * Called when WebSocket client connects.
+     * Subscribe to brain frames for a pet, starting with a full keyframe.
+     *
+     * @see #subscribeToBrain(String, int, int, int, PetStage, EvolutionPath, Long)
+     */
+    public Flux<BrainFrame> subscribeToBrain(
+            String petId,
+            int hunger,
+            int happiness,
+            int health,
+            PetStage stage,
+            EvolutionPath evolutionPath) {
+        return subscribeToBrain(petId, hunger, happiness, health, stage, evolutionPath, null);
+    }
+
+    /**
+     * Subscribe to brain frames for a pet's brain.
+     * Called when an SSE client connects (or reconnects).
      * Increments subscriber count and starts simulation if needed.
      *
-     * Returns Flux of CellState updates for WebSocket streaming.
+     * <p>When {@code lastEventId} is given and the frames after it are still in the pet's ring
+     * buffer, only those missed delta frames are replayed. Otherwise the stream starts with a
+     * keyframe containing every cell, followed by delta frames.
+     *
+     * @param lastEventId tick of the last frame the client received, or null for a fresh stream
+     * @return Flux of frames numbered by tick
+     */
+    public Flux<BrainFrame> subscribeToBrain(
+            String petId,
+            int hunger,
+            int happiness,
+            int health,
+            PetStage stage,
+            EvolutionPath evolutionPath,
+            Long lastEventId) {
+
+        attachSubscriber(petId, hunger, happiness, health, stage, evolutionPath);
+
+        Grid grid = petGrids.get(petId);
+        Sinks.Many<BrainFrame> sink = frameSinks.get(petId);
+        AtomicLong tickCounter = tickCounters.get(petId);
+        if (grid == null || sink == null || tickCounter == null) {
+            unsubscribeFromBrain(petId);
+            return Flux.empty();
+        }
+
+        log.info(
+                "Client subscribed to brain for pet {} (subscriber count: {}, last event id: {})",
+                petId,
+                subscriberCounts.get(petId).get(),
+                lastEventId);
+
+        Flux<BrainFrame> frames = sink.asFlux();
+        Flux<BrainFrame> stream;
+        if (lastEventId == null) {
+            stream = Flux.defer(() -> keyframeThenDeltas(petId, grid, frames));
+        } else {
+            long resumeAfter = lastEventId;
+            // The replay sink emits its oldest buffered frame first: if that frame directly
+            // follows the client's last event, every missed delta is still available
+            stream = frames.switchOnFirst(
+                    (first, bufferedFrames) -> {
+                        if (first.hasValue()
+                                && first.get().getTick() <= resumeAfter + 1
+                                && resumeAfter <= tickCounter.get()) {
+                            log.info(
+                                    "Resuming brain stream for pet {} after tick {}",
+                                    petId, resumeAfter);
+                            return bufferedFrames.filter(frame -> frame.getTick() > resumeAfter);
+                        }
+                        log.info(
+                                "Tick {} fell out of the frame buffer for pet {}, sending"
+                                        + " keyframe",
+                                resumeAfter, petId);
+                        return keyframeThenDeltas(petId, grid, bufferedFrames);
+                    });
+        }
+
+        return stream
+                .doOnComplete(() ->
+                        log.warn("Brain stream completed for pet {}", petId))
+                .doFinally(
+                        signalType -> {
+                            log.info("Brain stream finally block triggered for pet {} with signal: {}", petId, signalType);
+                            // Client disconnected - decrement subscriber count
+                            unsubscribeFromBrain(petId);
+                        });
+    }
+
+    /**
+     * Subscribe to the pet's brain activity summary, sampled every
+     * {@code brain.simulation.summary-interval-ms}. Keeps the simulation running like a frame
+     * subscriber, but only a few hundred bytes per interval leave the server.
+     */
+    public Flux<BrainSummary> subscribeToSummary(
+            String petId,
+            int hunger,
+            int happiness,
+            int health,
+            PetStage stage,
+            EvolutionPath evolutionPath) {
+
+        attachSubscriber(petId, hunger, happiness, health, stage, evolutionPath);
+
+        Sinks.Many<BrainSummary> sink = summarySinks.get(petId);
+        if (sink == null) {
+            unsubscribeFromBrain(petId);
+            return Flux.empty();
+        }
+
+        Duration interval = Duration.ofMillis(config.getSummaryIntervalMs());
+        return Flux.concat(
+                        Mono.justOrEmpty(getSummary(petId)),
+                        sink.asFlux().sample(interval))
+                .doFinally(signalType -> unsubscribeFromBrain(petId));
+    }
+
+    /**
+     * Latest activity summary of the pet's brain, or empty if it has no grid.
+     * Reads a cached value and never touches the grid.
+     */
+    public Optional<BrainSummary> getSummary(String petId) {
+        BrainSummaryTracker tracker = summaryTrackers.get(petId);
+        return Optional.ofNullable(tracker).map(BrainSummaryTracker::getLatest);
+    }
+
+    /**
+     * Current lifecycle state and performance of a pet's simulation.
+     * Reads only in-memory maps, so it is cheap enough for frequent health checks.
+     */
+    public BrainSimulationStatus getSimulationStatus(String petId) {
+        Grid grid = petGrids.get(petId);
+        if (grid == null) {
+            return BrainSimulationStatus.builder()
+                    .petId(petId)
+                    .state(BrainSimulationState.EVICTED)
+                    .build();
+        }
+
+        AtomicInteger subscribers = subscriberCounts.get(petId);
+        int subscriberCount = (subscribers != null) ? Math.max(0, subscribers.get()) : 0;
+        boolean running = simulations.containsKey(petId);
+        BrainSimulationState state;
+        if (!running) {
+            state = BrainSimulationState.CACHED;
+        } else if (subscriberCount > 0) {
+            state = BrainSimulationState.RUNNING;
+        } else {
+            state = BrainSimulationState.IDLE;
+        }
+
+        BrainParameters params = currentParameters.get(petId);
+        int tickInterval = (params != null) ? params.getTickInterval() : 0;
+        AtomicLong tickCounter = tickCounters.get(petId);
+        BrainTickTimer tickTimer = tickTimers.get(petId);
+        BrainTickStats tickStats = (tickTimer != null) ? tickTimer.snapshot() : null;
+
+        return BrainSimulationStatus.builder()
+                .petId(petId)
+                .state(state)
+                .subscriberCount(subscriberCount)
+                .gridWidth(grid.getWidth())
+                .gridHeight(grid.getHeight())
+                .currentTick((tickCounter != null) ? tickCounter.get() : 0L)
+                .tickIntervalMs(tickInterval)
+                .targetTicksPerSecond(tickInterval > 0 ? 1000.0 / tickInterval : 0.0)
+                .effectiveTicksPerSecond(
+                        running && tickStats != null ? tickStats.getEffectiveTicksPerSecond() : 0.0)
+                .lastTickMillis((tickStats != null) ? tickStats.getLastTickMillis() : 0.0)
+                .build();
+    }
+
+    /**
+     * Tick timing of the pet's simulation loop, or empty if it has never ticked.
      */
-    public Flux<List<CellState>> subscribeToBrain(
+    public Optional<BrainTickStats> getTickStats(String petId) {
+        return Optional.ofNullable(tickTimers.get(petId)).map(BrainTickTimer::snapshot);
+    }
+
+    /**
+     * Register a subscriber: initialize the grid if needed, cancel any pending shutdown and
+     * start the simulation.
+     */
+    private void attachSubscriber(
             String petId,
             int hunger,
             int happiness,
@@ -268,67 +518,64 @@ public class PetBrainSimulator {
 
         // Start simulation if not already running
         startBrainSimulation(petId);
+    }
 
-        Grid grid = petGrids.get(petId);
-        if (grid == null) {
-            return Flux.empty();
-        }
-
-        log.info(
-                "Client subscribed to brain for pet {} (subscriber count: {})",
-                petId,
-                subscriberCounts.get(petId).get());
+    /**
+     * Emit a keyframe of the current grid, followed by every frame newer than it.
+     */
+    private Flux<BrainFrame> keyframeThenDeltas(
+            String petId, Grid grid, Flux<BrainFrame> frames) {
+        AtomicLong tickCounter = tickCounters.get(petId);
+        BrainFrame keyframe = buildKeyframe(grid, (tickCounter != null) ? tickCounter.get() : 0L);
+        return Flux.concat(
+                Flux.just(keyframe),
+                frames.filter(frame -> frame.getTick() > keyframe.getTick()));
+    }
 
-        // Get current state snapshot to emit immediately for new subscribers
-        List<CellState> currentSnapshot =
+    private BrainFrame buildKeyframe(Grid grid, long tick) {
+        List<CellState> cells =
                 grid.getAllCells().stream()
                         .map(Cell::getCurrentState)
                         .collect(Collectors.toList());
 
-        // Merge all cell state updates from all cells in the grid
-        List<Flux<CellState>> cellFluxes =
-                grid.getAllCells().stream()
-                        .map(Cell::getStateUpdates)
-                        .collect(Collectors.toList());
+        return new BrainFrame(tick, true, cells);
+    }
 
-        // Create ongoing stream with heartbeat to prevent completion
-        // Wrap each cell flux with error handling to prevent one cell from killing the stream
-        List<Flux<CellState>> resilientFluxes = cellFluxes.stream()
-                .map(flux -> flux
-                        .onErrorResume(error -> {
-                            log.error("Cell flux error for pet {}: {}", petId, error.getMessage());
-                            return Flux.empty();
-                        })
-                        .doOnComplete(() -> log.debug("Individual cell flux completed for pet {}", petId))
-                )
-                .collect(Collectors.toList());
-
-        Flux<List<CellState>> ongoingStream = Flux.merge(resilientFluxes)
-                .buffer(Duration.ofMillis(50)) // Batch updates every 50ms
-                .filter(list -> !list.isEmpty())
-                .mergeWith(
-                        // Heartbeat: emit empty list every 30 seconds to keep connection alive
-                        // This prevents the stream from completing if cells go quiet
-                        Flux.interval(Duration.ofSeconds(30))
-                                .map(tick -> List.<CellState>of())
-                                .filter(list -> !list.isEmpty()) // Filter out empty heartbeats
-                )
-                .onErrorContinue((error, obj) ->
-                        log.error("Error in brain stream for pet {}: {}", petId, error.getMessage()))
-                .doOnComplete(() ->
-                        log.warn("Brain stream completed unexpectedly for pet {}", petId));
+    /**
+     * Register a listener that is called for every frame published by any pet's simulation.
+     */
+    public void addFrameListener(BrainFrameListener listener) {
+        frameListeners.add(listener);
+    }
 
-        return Flux.concat(
-                        // First, emit current state snapshot immediately
-                        Flux.just(currentSnapshot),
-                        // Then stream ongoing updates indefinitely
-                        ongoingStream)
-                .doFinally(
-                        signalType -> {
-                            log.info("Brain stream finally block triggered for pet {} with signal: {}", petId, signalType);
-                            // Client disconnected - decrement subscriber count
-                            unsubscribeFromBrain(petId);
-                        });
+    /**
+     * Publish a frame to the pet's ring buffer and all live subscribers.
+     * Synchronized per sink because the tick loop and grid re-creation can emit concurrently.
+     */
+    private void publishFrame(String petId, BrainFrame frame) {
+        Sinks.Many<BrainFrame> sink = frameSinks.get(petId);
+        if (sink == null) {
+            return;
+        }
+        synchronized (sink) {
+            sink.tryEmitNext(frame);
+
+            Grid grid = petGrids.get(petId);
+            for (BrainFrameListener listener : frameListeners) {
+                try {
+                    listener.onFrame(petId, grid, frame);
+                } catch (Exception e) {
+                    log.warn("Brain frame listener failed for pet {}", petId, e);
+                }
+            }
+        }
+    }
+
+    private void publishSummary(String petId, BrainSummary summary) {
+        Sinks.Many<BrainSummary> sink = summarySinks.get(petId);
+        if (sink != null) {
+            sink.tryEmitNext(summary);
+        }
     }
 
     /**
@@ -376,9 +623,16 @@ public class PetBrainSimulator {
 
     private void startSimulation(String petId, int tickInterval) {
         Grid grid = petGrids.get(petId);
-        if (grid == null) {
+        AtomicLong tickCounter = tickCounters.get(petId);
+        BrainSummaryTracker summaryTracker = summaryTrackers.get(petId);
+        if (grid == null || tickCounter == null || summaryTracker == null) {
             return;
         }
+        BrainTickTimer tickTimer = tickTimers.computeIfAbsent(petId, k -> new BrainTickTimer());
+        tickTimer.restart();
+
+        // Grid topology is fixed for the lifetime of the simulation
+        List<Cell> allCells = grid.getAllCells();
 
         // Create tick flux
         Flux<Long> ticker =
@@ -389,19 +643,47 @@ public class PetBrainSimulator {
         reactor.core.Disposable subscription =
                 ticker.subscribe(
                         tick -> {
-                            // Evaluate all cells
-                            List<Cell> allCells = grid.getAllCells();
+                            long tickStart = System.nanoTime();
+
+                            // Evaluate all cells, collecting the ones that changed
+                            List<CellState> changedCells = new ArrayList<>();
 
                             for (Cell cell : allCells) {
+                                CellState previousState = cell.getCurrentState();
                                 List<Cell> neighbors = cell.getNeighbors();
                                 CellState newState = ruleEngine.evaluateCell(cell, neighbors);
+                                if (newState == null) {
+                                    continue;
+                                }
                                 cell.emitState(newState);
+                                summaryTracker.update(cell, previousState, newState);
+                                if (hasChanged(previousState, newState)) {
+                                    changedCells.add(newState);
+                                }
                             }
+
+                            long frameTick = tickCounter.incrementAndGet();
+                            publishFrame(petId, new BrainFrame(frameTick, false, changedCells));
+                            publishSummary(
+                                    petId,
+                                    summaryTracker.completeTick(
+                                            frameTick, tickInterval, System.currentTimeMillis()));
+                            tickTimer.record(tickStart, System.nanoTime());
                         });
 
         simulations.put(petId, subscription);
     }
 
+    /**
+     * A cell belongs in a delta frame only if something visible about it changed.
+     */
+    private static boolean hasChanged(CellState previous, CellState current) {
+        return previous.isFiring() != current.isFiring()
+                || previous.isBurstMode() != current.isBurstMode()
+                || previous.getNeuronPhase() != current.getNeuronPhase()
+                || Double.compare(previous.getActivation(), current.getActivation()) != 0;
+    }
+
     private void stopSimulation(String petId) {
         reactor.core.Disposable subscription = simulations.remove(petId);
         if (subscription != null && !subscription.isDisposed()) {
@@ -504,10 +786,19 @@ public class PetBrainSimulator {
         simulations.values().forEach(reactor.core.Disposable::dispose);
         simulations.clear();
 
+        // Complete all frame streams
+        frameSinks.values().forEach(Sinks.Many::tryEmitComplete);
+        frameSinks.clear();
+        summarySinks.values().forEach(Sinks.Many::tryEmitComplete);
+        summarySinks.clear();
+
         // Clear state
         petGrids.clear();
         currentParameters.clear();
         subscriberCounts.clear();
+        tickCounters.clear();
+        summaryTrackers.clear();
+        tickTimers.clear();
 
         // Shutdown scheduler
         scheduler.shutdown();
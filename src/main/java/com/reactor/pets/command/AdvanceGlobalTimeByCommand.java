@@ -0,0 +1,14 @@
+package com.reactor.pets.command;
+
+import lombok.Value;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * Advances the global clock by several ticks at once (accelerated clock or catch-up).
+ */
+@Value
+public class AdvanceGlobalTimeByCommand {
+  @TargetAggregateIdentifier
+  String timeId;
+  long ticks;
+}
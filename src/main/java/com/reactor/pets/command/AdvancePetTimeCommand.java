@@ -0,0 +1,16 @@
+package com.reactor.pets.command;
+
+import lombok.Value;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * Advances a pet to {@code targetGlobalTick} in one aggregate load, applying every tick it has
+ * not processed yet. Used to catch up after downtime and when the clock runs faster than one
+ * tick per interval. Ticks the pet already processed are ignored.
+ */
+@Value
+public class AdvancePetTimeCommand {
+  @TargetAggregateIdentifier
+  String petId;
+  long targetGlobalTick;
+}
@@ -0,0 +1,16 @@
+package com.reactor.pets.command;
+
+import java.util.Map;
+import lombok.Value;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * Several XP earnings of one player applied at once. The total is the sum of the per-source
+ * amounts.
+ */
+@Value
+public class EarnXPBatchCommand {
+  @TargetAggregateIdentifier
+  String playerId;
+  Map<String, Long> xpBySource; // Source description -> XP earned from it
+}
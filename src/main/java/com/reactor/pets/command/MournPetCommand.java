@@ -5,7 +5,7 @@ import org.axonframework.modelling.command.TargetAggregateIdentifier;
 
 /**
  * Command to make a pet mourn the death of another pet.
- * Reduces the pet's happiness by 10%.
+ * Reduces the pet's happiness by 10% of its current happiness (minimum 1).
  */
 @Value
 public class MournPetCommand {
@@ -13,5 +13,4 @@ public class MournPetCommand {
   String petId;
 
   String deceasedPetId;
-  int happinessLoss;
 }
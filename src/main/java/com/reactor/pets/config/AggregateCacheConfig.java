@@ -0,0 +1,27 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes of the in-JVM caches in front of the event-sourced aggregate repositories. A size of 0
+ * disables caching for that aggregate, so every command loads it from the event store.
+ */
+@Component
+@ConfigurationProperties(prefix = "aggregate-cache")
+@Data
+public class AggregateCacheConfig {
+
+  // Most recently used Pet aggregates kept in memory; should cover all alive pets
+  private int petMaxEntries = 10_000;
+
+  // Most recently used PlayerProgression aggregates kept in memory
+  private int playerProgressionMaxEntries = 1_000;
+
+  // Most recently used PlayerInventory aggregates kept in memory
+  private int playerInventoryMaxEntries = 1_000;
+
+  // The GlobalTimeAggregate is a singleton
+  private int globalTimeMaxEntries = 1;
+}
@@ -0,0 +1,23 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the aggregate-benchmark profile, see {@code AggregateLoadBenchmarkRunner}.
+ */
+@Component
+@ConfigurationProperties(prefix = "benchmark.aggregate-load")
+@Data
+public class AggregateLoadBenchmarkConfig {
+
+  // Events appended to the benchmark player's stream
+  private long totalEvents = 1_000_000;
+
+  // Events between latency reports
+  private long reportEvery = 100_000;
+
+  // Shut the application down after the final report
+  private boolean exitWhenDone = true;
+}
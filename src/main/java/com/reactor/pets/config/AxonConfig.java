@@ -1,17 +1,42 @@
 package com.reactor.pets.config;
 
+import com.reactor.pets.service.ReadConsistencyService;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.axonserver.connector.command.CommandPriorityCalculator;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.DuplicateCommandHandlerResolver;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.config.EventProcessingConfigurer;
+import org.axonframework.eventhandling.async.SequencingPolicy;
+import org.axonframework.eventhandling.async.SequentialPolicy;
 import org.axonframework.eventsourcing.EventCountSnapshotTriggerDefinition;
 import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
 import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.messaging.interceptors.CorrelationDataInterceptor;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.spring.eventsourcing.SpringAggregateSnapshotterFactoryBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
- * Axon Framework configuration for event sourcing and snapshotting.
+ * Axon Framework configuration for event sourcing, snapshotting and command handling.
  *
  * Configures snapshot triggers for aggregates to optimize performance by reducing
  * the number of events that need to be replayed when loading aggregate state.
  */
+@Slf4j
 @Configuration
 public class AxonConfig {
 
@@ -34,4 +59,253 @@ public class AxonConfig {
   public SnapshotTriggerDefinition petSnapshotTrigger(Snapshotter snapshotter) {
     return new EventCountSnapshotTriggerDefinition(snapshotter, 50);
   }
+
+  /**
+   * Configures the snapshot trigger for the long-lived PlayerProgression, PlayerInventory and
+   * GlobalTime aggregates.
+   *
+   * These aggregates live as long as the game does and every pet, tick or purchase appends to
+   * them, so their streams grow without bound. They are snapshotted after
+   * {@code snapshot.event-threshold} events or whenever a load takes longer than
+   * {@code snapshot.load-time-threshold-ms}, keeping load time flat as the stream grows.
+   *
+   * @param snapshotter the asynchronous snapshotter, see {@link #aggregateSnapshotter}
+   * @param config snapshot thresholds
+   * @return snapshot trigger definition for load time or event count
+   */
+  @Bean
+  public SnapshotTriggerDefinition loadTimeSnapshotTrigger(
+      Snapshotter snapshotter, SnapshotConfig config) {
+    return new LoadTimeOrEventCountSnapshotTriggerDefinition(
+        snapshotter, config.getEventThreshold(), config.getLoadTimeThresholdMs());
+  }
+
+  /**
+   * Replaces Axon's default snapshotter, which creates snapshots synchronously on the committing
+   * thread, with one running on a dedicated bounded executor, so that reading and serializing an
+   * aggregate for its snapshot does not delay the command that triggered it.
+   *
+   * Requests beyond {@code snapshot.executor-queue-capacity} are dropped; the aggregate asks for
+   * a snapshot again on one of its next loads. The executor is deliberately not a bean, which
+   * would replace Spring's application task executor.
+   *
+   * @param config executor sizing
+   * @return factory for the Spring-aware aggregate snapshotter
+   */
+  @Bean
+  public SpringAggregateSnapshotterFactoryBean aggregateSnapshotter(SnapshotConfig config) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("snapshotter-");
+    threadFactory.setDaemon(true); // Snapshots are optional, pending ones may be dropped on exit
+    ThreadPoolExecutor snapshotExecutor =
+        new ThreadPoolExecutor(
+            config.getExecutorThreads(),
+            config.getExecutorThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(config.getExecutorQueueCapacity()),
+            threadFactory,
+            (task, pool) -> log.debug("Snapshot queue full, dropping snapshot request"));
+
+    SpringAggregateSnapshotterFactoryBean factory = new SpringAggregateSnapshotterFactoryBean();
+    factory.setExecutor(snapshotExecutor);
+    return factory;
+  }
+
+  /**
+   * Cache in front of the Pet repository. Every tick and interaction targets a pet, so keeping
+   * alive pets in memory removes the snapshot and event reads from steady-state command handling.
+   *
+   * @param config cache sizes
+   * @return bounded pet aggregate cache
+   */
+  @Bean
+  public BoundedAggregateCache petCache(AggregateCacheConfig config) {
+    return new BoundedAggregateCache("Pet", config.getPetMaxEntries());
+  }
+
+  /**
+   * Cache in front of the PlayerProgression repository. Players and inventories share
+   * identifiers, so each aggregate type needs a cache of its own.
+   *
+   * @param config cache sizes
+   * @return bounded player progression aggregate cache
+   */
+  @Bean
+  public BoundedAggregateCache playerProgressionCache(AggregateCacheConfig config) {
+    return new BoundedAggregateCache(
+        "PlayerProgression", config.getPlayerProgressionMaxEntries());
+  }
+
+  /**
+   * Cache in front of the PlayerInventory repository.
+   *
+   * @param config cache sizes
+   * @return bounded player inventory aggregate cache
+   */
+  @Bean
+  public BoundedAggregateCache playerInventoryCache(AggregateCacheConfig config) {
+    return new BoundedAggregateCache("PlayerInventory", config.getPlayerInventoryMaxEntries());
+  }
+
+  /**
+   * Cache for the GlobalTimeAggregate, loaded by every global tick.
+   *
+   * @param config cache sizes
+   * @return bounded global time aggregate cache
+   */
+  @Bean
+  public BoundedAggregateCache globalTimeCache(AggregateCacheConfig config) {
+    return new BoundedAggregateCache("GlobalTime", config.getGlobalTimeMaxEntries());
+  }
+
+  /**
+   * Local command bus with separate bulk and interactive lanes, replacing Axon's default
+   * {@link SimpleCommandBus}. With Axon Server it is the local segment commands are delivered
+   * to; without it, it is the command bus.
+   *
+   * The bulk lane queue is bounded; once full, further bulk commands are rejected instead of
+   * running on the thread that delivered them, which with Axon Server is shared with interactive
+   * commands. The tick dispatcher treats a rejection as a failure and lowers its concurrency
+   * limit, so bulk load backs off at dispatch; the rejected pets catch up on their next tick.
+   *
+   * @param transactionManager transaction manager wrapping each command
+   * @param axonConfiguration Axon configuration providing monitors and correlation data
+   * @param duplicateCommandHandlerResolver resolver for duplicate command handlers
+   * @param config lane sizing and bulk commands
+   * @return the priority lane command bus
+   */
+  @Bean(destroyMethod = "shutdown")
+  @Qualifier("localSegment")
+  @ConditionalOnProperty(
+      prefix = "command-lanes",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public static PriorityLaneCommandBus commandBus(
+      TransactionManager transactionManager,
+      org.axonframework.config.Configuration axonConfiguration,
+      DuplicateCommandHandlerResolver duplicateCommandHandlerResolver,
+      CommandLaneConfig config) {
+    PriorityLaneCommandBus commandBus =
+        new PriorityLaneCommandBus(
+            SimpleCommandBus.builder()
+                .transactionManager(transactionManager)
+                .duplicateCommandHandlerResolver(duplicateCommandHandlerResolver)
+                .messageMonitor(axonConfiguration.messageMonitor(CommandBus.class, "commandBus")),
+            new HashSet<>(config.getBulkCommands()),
+            lane(
+                "bulk-command-",
+                config.getBulkThreads(),
+                new LinkedBlockingQueue<>(config.getBulkQueueCapacity())),
+            lane(
+                "interactive-command-",
+                config.getInteractiveThreads(),
+                new LinkedBlockingQueue<>()));
+    commandBus.registerHandlerInterceptor(
+        new CorrelationDataInterceptor<>(axonConfiguration.correlationDataProviders()));
+    return commandBus;
+  }
+
+  /**
+   * Orders commands waiting for Axon Server's command threads so interactive commands are
+   * delivered before queued bulk commands, matching the lanes of {@link PriorityLaneCommandBus}.
+   *
+   * @param config bulk command names
+   * @return priority calculator ranking bulk commands lowest
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "command-lanes",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public CommandPriorityCalculator commandPriorityCalculator(CommandLaneConfig config) {
+    Set<String> bulkCommands = new HashSet<>(config.getBulkCommands());
+    return command -> bulkCommands.contains(command.getPayloadType().getSimpleName()) ? 0 : 10;
+  }
+
+  /**
+   * Embedded event storage engine used instead of Axon Server when
+   * {@code embedded-event-store.enabled} is set, see the {@code embedded-event-store} profile.
+   * Axon's embedded event store is built on top of it, and tracking processors read its events
+   * in-process.
+   *
+   * @param defaultSerializer serializer for snapshots
+   * @param eventSerializer serializer for events
+   * @param axonConfiguration Axon configuration providing the upcasters and snapshot filter
+   * @param config segment directory and sizing
+   * @return the memory-mapped segment storage engine
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "embedded-event-store", name = "enabled", havingValue = "true")
+  public MappedSegmentEventStorageEngine eventStorageEngine(
+      Serializer defaultSerializer,
+      @Qualifier("eventSerializer") Serializer eventSerializer,
+      org.axonframework.config.Configuration axonConfiguration,
+      EmbeddedEventStoreConfig config) {
+    return MappedSegmentEventStorageEngine.builder()
+        .snapshotSerializer(defaultSerializer)
+        .eventSerializer(eventSerializer)
+        .upcasterChain(axonConfiguration.upcasterChain())
+        .snapshotFilter(axonConfiguration.snapshotFilter())
+        .directory(Path.of(config.getDirectory()))
+        .segmentSize(config.getSegmentSizeMb() * 1024 * 1024)
+        .forceOnAppend(config.isForceOnAppend())
+        .readBatchSize(config.getReadBatchSize())
+        .build();
+  }
+
+  /**
+   * Sequencing policy for the pet-statistics processor. Every event updates the same global
+   * statistics row, so its events must be handled one at a time in order.
+   *
+   * @return policy sequencing all events together
+   */
+  @Bean
+  public SequencingPolicy<Object> fullySequentialPolicy() {
+    return new SequentialPolicy();
+  }
+
+  /**
+   * Registers the dispatch interceptor that adds the current global tick to commands when lazy
+   * time evaluation is enabled ({@code time-tick.lazy-decay}).
+   *
+   * @param commandBus the command bus all gateways dispatch through
+   * @param globalTickInterceptor the interceptor stamping commands with the global tick
+   */
+  @Autowired
+  public void registerGlobalTickInterceptor(
+      CommandBus commandBus, GlobalTickMetaDataInterceptor globalTickInterceptor) {
+    commandBus.registerDispatchInterceptor(globalTickInterceptor);
+  }
+
+  /**
+   * Registers on every event processor the interceptor that wakes queries waiting for that
+   * processor to pass a consistency token, and on the command bus the interceptor that takes
+   * the token of commands asking for one.
+   *
+   * @param configurer the event processing configurer
+   * @param commandBus the command bus commands are handled through
+   * @param readConsistencyService the service tracking waiting queries
+   */
+  @Autowired
+  public void registerReadConsistencyInterceptors(
+      EventProcessingConfigurer configurer,
+      CommandBus commandBus,
+      ReadConsistencyService readConsistencyService) {
+    configurer.registerDefaultHandlerInterceptor(
+        (configuration, processorName) -> readConsistencyService.interceptor(processorName));
+    commandBus.registerHandlerInterceptor(readConsistencyService.commandInterceptor());
+  }
+
+  private static ThreadPoolExecutor lane(
+      String threadNamePrefix, int threads, BlockingQueue<Runnable> queue) {
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        queue,
+        new CustomizableThreadFactory(threadNamePrefix));
+  }
 }
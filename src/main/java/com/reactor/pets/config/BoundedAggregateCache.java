@@ -0,0 +1,197 @@
+package com.reactor.pets.config;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+
+/**
+ * Size-bound, least-recently-used {@link Cache} for aggregate repositories that counts hits,
+ * misses and evictions.
+ *
+ * <p>Axon's caching repository removes an aggregate from its cache when the unit of work that
+ * loaded it rolls back, which includes appends rejected because another node wrote to the same
+ * stream. The next command then loads the aggregate from the event store again, so the cache
+ * never serves a version that lost a conflict.
+ */
+public class BoundedAggregateCache implements Cache {
+
+  /** Point-in-time counters of a cache. */
+  public record Stats(
+      String name, int size, int maxEntries, long hits, long misses, long evictions) {
+
+    public double hitRatio() {
+      long lookups = hits + misses;
+      return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+  }
+
+  private final String name;
+  private final int maxEntries;
+  private final LinkedHashMap<Object, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final List<EntryListener> listeners = new CopyOnWriteArrayList<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public BoundedAggregateCache(String name, int maxEntries) {
+    if (maxEntries < 0) {
+      throw new IllegalArgumentException("Cache size cannot be negative");
+    }
+    this.name = name;
+    this.maxEntries = maxEntries;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <K, V> V get(K key) {
+    Object value;
+    synchronized (entries) {
+      value = entries.get(key);
+    }
+    if (value == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    listeners.forEach(listener -> listener.onEntryRead(key, value));
+    return (V) value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    if (value == null) {
+      remove(key);
+      return;
+    }
+    store(key, value, true);
+  }
+
+  @Override
+  public boolean putIfAbsent(Object key, Object value) {
+    return value != null && store(key, value, false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T computeIfAbsent(Object key, Supplier<T> valueSupplier) {
+    T cached = get(key);
+    if (cached != null) {
+      return cached;
+    }
+    T value = valueSupplier.get();
+    if (value != null && !putIfAbsent(key, value)) {
+      // Another thread stored a value first; return that one like a map would
+      T existing;
+      synchronized (entries) {
+        existing = (T) entries.get(key);
+      }
+      return existing != null ? existing : value;
+    }
+    return value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> void computeIfPresent(Object key, UnaryOperator<V> update) {
+    Object updated;
+    synchronized (entries) {
+      V current = (V) entries.get(key);
+      if (current == null) {
+        return;
+      }
+      updated = update.apply(current);
+      if (updated == null) {
+        entries.remove(key);
+      } else {
+        entries.put(key, updated);
+      }
+    }
+    if (updated == null) {
+      listeners.forEach(listener -> listener.onEntryRemoved(key));
+    } else {
+      listeners.forEach(listener -> listener.onEntryUpdated(key, updated));
+    }
+  }
+
+  @Override
+  public boolean remove(Object key) {
+    boolean removed;
+    synchronized (entries) {
+      removed = entries.remove(key) != null;
+    }
+    if (removed) {
+      listeners.forEach(listener -> listener.onEntryRemoved(key));
+    }
+    return removed;
+  }
+
+  @Override
+  public void removeAll() {
+    List<Object> keys;
+    synchronized (entries) {
+      keys = new ArrayList<>(entries.keySet());
+      entries.clear();
+    }
+    keys.forEach(key -> listeners.forEach(listener -> listener.onEntryRemoved(key)));
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    synchronized (entries) {
+      return entries.containsKey(key);
+    }
+  }
+
+  @Override
+  public Registration registerCacheEntryListener(EntryListener cacheEntryListener) {
+    listeners.add(cacheEntryListener);
+    return () -> listeners.remove(cacheEntryListener);
+  }
+
+  public Stats getStats() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new Stats(name, size, maxEntries, hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  private boolean store(Object key, Object value, boolean replace) {
+    if (maxEntries == 0) {
+      return false;
+    }
+    Object previous;
+    List<Object> evicted = new ArrayList<>();
+    synchronized (entries) {
+      previous = entries.get(key);
+      if (previous != null && !replace) {
+        return false;
+      }
+      entries.put(key, value);
+      Iterator<Map.Entry<Object, Object>> eldest = entries.entrySet().iterator();
+      while (entries.size() > maxEntries && eldest.hasNext()) {
+        evicted.add(eldest.next().getKey());
+        eldest.remove();
+      }
+    }
+    evictions.add(evicted.size());
+    for (EntryListener listener : listeners) {
+      if (previous == null) {
+        listener.onEntryCreated(key, value);
+      } else {
+        listener.onEntryUpdated(key, value);
+      }
+      evicted.forEach(listener::onEntryExpired);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,39 @@
+package com.reactor.pets.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the command lanes that keep bulk time commands from delaying interactive commands,
+ * see {@link PriorityLaneCommandBus}.
+ */
+@Component
+@ConfigurationProperties(prefix = "command-lanes")
+@Data
+public class CommandLaneConfig {
+
+  // Handle commands on separate bulk and interactive thread pools
+  private boolean enabled = true;
+
+  // Simple class names of the commands handled on the bulk lane
+  private List<String> bulkCommands =
+      new ArrayList<>(
+          List.of(
+              "TimeTickCommand",
+              "AdvancePetTimeCommand",
+              "AdvanceGlobalTimeCommand",
+              "AdvanceGlobalTimeByCommand",
+              "EarnXPBatchCommand"));
+
+  // Threads handling bulk commands
+  private int bulkThreads = 8;
+
+  // Bulk commands waiting for a thread; when full further bulk commands are rejected
+  private int bulkQueueCapacity = 10_000;
+
+  // Threads handling all other (interactive) commands
+  private int interactiveThreads = 4;
+}
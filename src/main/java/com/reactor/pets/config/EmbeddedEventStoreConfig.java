@@ -0,0 +1,30 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the embedded event store, see {@link MappedSegmentEventStorageEngine}.
+ */
+@Component
+@ConfigurationProperties(prefix = "embedded-event-store")
+@Data
+public class EmbeddedEventStoreConfig {
+
+  // Store events in-process instead of in Axon Server; requires axon.axonserver.enabled=false
+  private boolean enabled = false;
+
+  // Directory of the event and snapshot segment files
+  private String directory = "./data/events";
+
+  // Size of each memory-mapped segment file; a single event or snapshot must fit in one
+  private int segmentSizeMb = 64;
+
+  // Write every append to disk before it completes; otherwise the operating system writes back
+  // the mapped pages, so events survive a JVM crash but not a machine crash
+  private boolean forceOnAppend = false;
+
+  // Most events handed to an event processor per read
+  private int readBatchSize = 1000;
+}
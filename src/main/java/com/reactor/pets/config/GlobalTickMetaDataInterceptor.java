@@ -0,0 +1,37 @@
+package com.reactor.pets.config;
+
+import com.reactor.pets.aggregate.PetTimeModel;
+import com.reactor.pets.service.PetTimeService;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps outgoing commands with the current global tick while lazy time evaluation is enabled,
+ * so the {@code Pet} aggregate can apply elapsed decay before handling them.
+ */
+@Component
+@RequiredArgsConstructor
+public class GlobalTickMetaDataInterceptor
+    implements MessageDispatchInterceptor<CommandMessage<?>> {
+
+  private final PetTimeService petTimeService;
+
+  @Override
+  public BiFunction<Integer, CommandMessage<?>, CommandMessage<?>> handle(
+      List<? extends CommandMessage<?>> messages) {
+    return (index, command) -> {
+      if (!petTimeService.isLazyDecay()
+          || command.getMetaData().containsKey(PetTimeModel.GLOBAL_TICK_METADATA)) {
+        return command;
+      }
+      return command.andMetaData(
+          Map.of(
+              PetTimeModel.GLOBAL_TICK_METADATA, petTimeService.currentGlobalTick()));
+    };
+  }
+}
@@ -0,0 +1,20 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the server-sent event stream of read model changes.
+ */
+@Component
+@ConfigurationProperties(prefix = "live-updates")
+@Data
+public class LiveUpdatesConfig {
+
+  // Updates buffered per subscription query for a slow client before its stream fails
+  private int updateBufferSize = 8192;
+
+  // Pet updates are conflated per pet and sent to a client at most once per this interval
+  private long conflateIntervalMs = 250;
+}
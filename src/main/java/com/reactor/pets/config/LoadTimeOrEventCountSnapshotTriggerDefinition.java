@@ -0,0 +1,109 @@
+package com.reactor.pets.config;
+
+import java.io.Serializable;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+
+/**
+ * Snapshots an aggregate when either many events have been handled since its last snapshot or
+ * loading it took too long.
+ *
+ * <p>The event count bounds replay work for aggregates with small events; the load time catches
+ * aggregates whose events are expensive to read or apply even when there are few of them. The
+ * snapshot is scheduled once the unit of work has committed, so the (asynchronous) snapshotter
+ * only sees committed events.
+ */
+public class LoadTimeOrEventCountSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+  private final Snapshotter snapshotter;
+  private final int eventThreshold;
+  private final long loadTimeThresholdNanos;
+
+  /**
+   * @param eventThreshold events since the last snapshot that trigger a new one
+   * @param loadTimeThresholdMs load time that triggers a snapshot, 0 to only count events
+   */
+  public LoadTimeOrEventCountSnapshotTriggerDefinition(
+      Snapshotter snapshotter, int eventThreshold, long loadTimeThresholdMs) {
+    if (eventThreshold <= 0) {
+      throw new IllegalArgumentException("Snapshot event threshold must be positive");
+    }
+    this.snapshotter = snapshotter;
+    this.eventThreshold = eventThreshold;
+    this.loadTimeThresholdNanos = loadTimeThresholdMs * 1_000_000L;
+  }
+
+  @Override
+  public SnapshotTrigger prepareTrigger(Class<?> aggregateType) {
+    return new Trigger(snapshotter, aggregateType, eventThreshold, loadTimeThresholdNanos);
+  }
+
+  @Override
+  public SnapshotTrigger reconfigure(Class<?> aggregateType, SnapshotTrigger trigger) {
+    // Triggers of cached aggregates lose their snapshotter when serialized
+    if (trigger instanceof Trigger ours) {
+      ours.snapshotter = snapshotter;
+    }
+    return trigger;
+  }
+
+  static final class Trigger implements SnapshotTrigger, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Snapshotter snapshotter;
+    private final Class<?> aggregateType;
+    private final int eventThreshold;
+    private final long loadTimeThresholdNanos;
+
+    private long loadStartNanos = System.nanoTime();
+    private int eventsSinceSnapshot;
+    private boolean initialized;
+
+    Trigger(
+        Snapshotter snapshotter,
+        Class<?> aggregateType,
+        int eventThreshold,
+        long loadTimeThresholdNanos) {
+      this.snapshotter = snapshotter;
+      this.aggregateType = aggregateType;
+      this.eventThreshold = eventThreshold;
+      this.loadTimeThresholdNanos = loadTimeThresholdNanos;
+    }
+
+    @Override
+    public void eventHandled(EventMessage<?> msg) {
+      if (!(msg instanceof DomainEventMessage<?> event)) {
+        return;
+      }
+      eventsSinceSnapshot++;
+      boolean slowLoad =
+          !initialized
+              && loadTimeThresholdNanos > 0
+              && System.nanoTime() - loadStartNanos > loadTimeThresholdNanos;
+      if (eventsSinceSnapshot >= eventThreshold || slowLoad) {
+        scheduleSnapshot(event.getAggregateIdentifier());
+        eventsSinceSnapshot = 0;
+        loadStartNanos = System.nanoTime();
+      }
+    }
+
+    @Override
+    public void initializationFinished() {
+      initialized = true;
+    }
+
+    private void scheduleSnapshot(String aggregateIdentifier) {
+      if (CurrentUnitOfWork.isStarted()) {
+        CurrentUnitOfWork.get()
+            .afterCommit(u -> snapshotter.scheduleSnapshot(aggregateType, aggregateIdentifier));
+      } else {
+        snapshotter.scheduleSnapshot(aggregateType, aggregateIdentifier);
+      }
+    }
+  }
+}
@@ -0,0 +1,593 @@
+package com.reactor.pets.config;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.common.Assert;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.eventhandling.DomainEventData;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.TrackedDomainEventData;
+import org.axonframework.eventhandling.TrackedEventData;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.AbstractEventStorageEngine;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
+import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
+import org.axonframework.modelling.command.AggregateStreamCreationException;
+import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+
+/**
+ * Embedded event storage engine appending events and snapshots to memory-mapped segment files,
+ * so a single node stores and reads its events without a network hop or a database.
+ *
+ * <p>Events are appended to one {@link MappedSegmentLog} and numbered in append order; that
+ * global index is the {@link GlobalSequenceTrackingToken} of the event, the same token format
+ * Axon Server uses. Snapshots are appended to a log of their own. Three indexes are kept in
+ * memory and rebuilt by scanning the logs on startup:
+ *
+ * <ul>
+ *   <li>the location of every event by global index, which tracking processors read from;
+ *   <li>the sequence numbers and global indexes of every aggregate's events, for loading an
+ *       aggregate and rejecting concurrent appends;
+ *   <li>the location of every aggregate's latest snapshot.
+ * </ul>
+ *
+ * <p>Appends are serialized by a lock; readers take no lock and only see events up to the last
+ * completed append, so a batch becomes visible to tracking processors all at once; a batch that
+ * fails to append is cut off the log and never becomes visible. Only one engine at a time can
+ * open a directory. Unless
+ * {@code forceOnAppend} is set, appended events reach the disk when the operating system writes
+ * back the mapped pages: they survive the JVM crashing, but not the machine. The log does not
+ * take part in database transactions, and superseded snapshots are not compacted away.
+ */
+@Slf4j
+public final class MappedSegmentEventStorageEngine extends AbstractEventStorageEngine
+    implements AutoCloseable {
+
+  private static final String EVENT_SEGMENT_SUFFIX = ".events";
+  private static final String SNAPSHOT_SEGMENT_SUFFIX = ".snapshots";
+
+  // Record layout: flags, sequence number, timestamp, then length-prefixed strings and bytes.
+  // Aggregate type and identifier come first so indexing on startup skips the payload.
+  private static final byte DOMAIN_EVENT = 1;
+  private static final int SEQUENCE_NUMBER_OFFSET = 1;
+  private static final int SECONDS_OFFSET = SEQUENCE_NUMBER_OFFSET + Long.BYTES;
+  private static final int NANOS_OFFSET = SECONDS_OFFSET + Long.BYTES;
+  private static final int AGGREGATE_TYPE_OFFSET = NANOS_OFFSET + Integer.BYTES;
+
+  private final MappedSegmentLog eventLog;
+  private final MappedSegmentLog snapshotLog;
+  private final boolean forceOnAppend;
+  private final int readBatchSize;
+
+  // Location of every event, by global index
+  private final LongSequence eventLocations = new LongSequence(1024);
+  private final Map<String, AggregateStream> aggregateStreams = new ConcurrentHashMap<>();
+  private final Map<String, SnapshotEntry> latestSnapshots = new ConcurrentHashMap<>();
+
+  // Global index of the last event of the last completed append; -1 while empty
+  private volatile long head = -1L;
+
+  private record SnapshotEntry(long sequenceNumber, long location) { }
+
+  private MappedSegmentEventStorageEngine(Builder builder) {
+    super(builder);
+    this.forceOnAppend = builder.forceOnAppend;
+    this.readBatchSize = builder.readBatchSize;
+    this.eventLog =
+        new MappedSegmentLog(builder.directory, EVENT_SEGMENT_SUFFIX, builder.segmentSize);
+    this.snapshotLog =
+        new MappedSegmentLog(builder.directory, SNAPSHOT_SEGMENT_SUFFIX, builder.segmentSize);
+
+    long startNanos = System.nanoTime();
+    try {
+      eventLog.open(this::indexEvent);
+      snapshotLog.open(this::indexSnapshot);
+    } catch (IOException e) {
+      EventStoreException failure =
+          new EventStoreException("Failed to open event store in " + builder.directory, e);
+      try {
+        close();
+      } catch (IOException closeFailure) {
+        failure.addSuppressed(closeFailure);
+      }
+      throw failure;
+    }
+    head = eventLocations.size() - 1;
+    log.info(
+        "Opened event store in {}: {} events of {} aggregates, {} snapshots, {} segments in {}ms",
+        builder.directory,
+        eventLocations.size(),
+        aggregateStreams.size(),
+        latestSnapshots.size(),
+        eventLog.segmentCount() + snapshotLog.segmentCount(),
+        (System.nanoTime() - startNanos) / 1_000_000);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  protected void appendEvents(List<? extends EventMessage<?>> events, Serializer serializer) {
+    if (events.isEmpty()) {
+      return;
+    }
+    // Serialize outside the lock; events serialized for another purpose reuse that result
+    List<byte[]> records = new ArrayList<>(events.size());
+    for (EventMessage<?> event : events) {
+      byte[] record = encode(event, serializer);
+      if (record.length > eventLog.maxBodySize()) {
+        throw new EventStoreException(
+            "Event " + event.getIdentifier() + " of " + record.length
+                + " bytes does not fit a segment");
+      }
+      records.add(record);
+    }
+
+    synchronized (eventLog) {
+      checkSequenceNumbers(events);
+      // Write the whole batch before indexing any of it, so a failed append leaves no trace
+      MappedSegmentLog.Position end = eventLog.end();
+      long[] locations = new long[records.size()];
+      try {
+        for (int i = 0; i < records.size(); i++) {
+          locations[i] = eventLog.append(records.get(i));
+        }
+        if (forceOnAppend) {
+          eventLog.force();
+        }
+      } catch (IOException | RuntimeException e) {
+        EventStoreException failure = new EventStoreException("Failed to append events", e);
+        try {
+          eventLog.truncate(end);
+        } catch (IOException | RuntimeException truncateFailure) {
+          failure.addSuppressed(truncateFailure);
+        }
+        throw failure;
+      }
+
+      long globalIndex = head;
+      for (int i = 0; i < events.size(); i++) {
+        eventLocations.add(locations[i]);
+        globalIndex++;
+        if (events.get(i) instanceof DomainEventMessage<?> event) {
+          aggregateStreams
+              .computeIfAbsent(event.getAggregateIdentifier(), id -> new AggregateStream())
+              .add(event.getSequenceNumber(), globalIndex);
+        }
+      }
+      head = globalIndex;
+    }
+  }
+
+  @Override
+  protected void storeSnapshot(DomainEventMessage<?> snapshot, Serializer serializer) {
+    byte[] record = encode(snapshot, serializer);
+    synchronized (snapshotLog) {
+      long location;
+      try {
+        location = snapshotLog.append(record);
+        if (forceOnAppend) {
+          snapshotLog.force();
+        }
+      } catch (IOException e) {
+        throw new EventStoreException("Failed to store snapshot", e);
+      }
+      latestSnapshots.merge(
+          snapshot.getAggregateIdentifier(),
+          new SnapshotEntry(snapshot.getSequenceNumber(), location),
+          MappedSegmentEventStorageEngine::later);
+    }
+  }
+
+  @Override
+  protected Stream<? extends DomainEventData<?>> readEventData(
+      String identifier, long firstSequenceNumber) {
+    AggregateStream stream = aggregateStreams.get(identifier);
+    if (stream == null) {
+      return Stream.empty();
+    }
+    return Arrays.stream(stream.globalIndexesFrom(firstSequenceNumber, head))
+        .mapToObj(this::readEvent);
+  }
+
+  @Override
+  protected Stream<? extends TrackedEventData<?>> readEventData(
+      TrackingToken trackingToken, boolean mayBlock) {
+    Assert.isTrue(
+        trackingToken == null || trackingToken instanceof GlobalSequenceTrackingToken,
+        () ->
+            String.format(
+                "Token [%s] is of the wrong type. Expected [%s]",
+                trackingToken, GlobalSequenceTrackingToken.class.getSimpleName()));
+    long first =
+        trackingToken == null
+            ? 0L
+            : ((GlobalSequenceTrackingToken) trackingToken).getGlobalIndex() + 1;
+    // The embedded event store waits for new events itself, so reads never block
+    long last = Math.min(head, first + readBatchSize - 1);
+    return LongStream.rangeClosed(first, last).mapToObj(this::readEvent);
+  }
+
+  @Override
+  protected Stream<? extends DomainEventData<?>> readSnapshotData(String aggregateIdentifier) {
+    SnapshotEntry snapshot = latestSnapshots.get(aggregateIdentifier);
+    if (snapshot == null) {
+      return Stream.empty();
+    }
+    return Stream.of(decode(snapshotLog.read(snapshot.location())));
+  }
+
+  @Override
+  public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+    AggregateStream stream = aggregateStreams.get(aggregateIdentifier);
+    return stream == null ? Optional.empty() : stream.lastSequenceNumber();
+  }
+
+  @Override
+  public TrackingToken createTailToken() {
+    return new GlobalSequenceTrackingToken(-1L);
+  }
+
+  @Override
+  public TrackingToken createHeadToken() {
+    return new GlobalSequenceTrackingToken(head);
+  }
+
+  /**
+   * Token before the first event stored at or after {@code dateTime}, found by binary search
+   * over the global index; events are assumed to be appended in timestamp order.
+   */
+  @Override
+  public TrackingToken createTokenAt(Instant dateTime) {
+    long low = 0L;
+    long high = head;
+    long first = high + 1;
+    while (low <= high) {
+      long middle = (low + high) >>> 1;
+      if (timestampOf(middle).isBefore(dateTime)) {
+        low = middle + 1;
+      } else {
+        first = middle;
+        high = middle - 1;
+      }
+    }
+    return new GlobalSequenceTrackingToken(first - 1);
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (eventLog) {
+      eventLog.close();
+    }
+    synchronized (snapshotLog) {
+      snapshotLog.close();
+    }
+  }
+
+  /**
+   * Reject events whose sequence number is not past the last one stored for their aggregate, as
+   * the unique key on aggregate identifier and sequence number does in the JPA storage engine.
+   */
+  private void checkSequenceNumbers(List<? extends EventMessage<?>> events) {
+    Map<String, Long> lastInBatch = new HashMap<>();
+    for (EventMessage<?> message : events) {
+      if (!(message instanceof DomainEventMessage<?> event)) {
+        continue;
+      }
+      Long last = lastInBatch.get(event.getAggregateIdentifier());
+      if (last == null) {
+        last = lastSequenceNumberFor(event.getAggregateIdentifier()).orElse(-1L);
+      }
+      if (event.getSequenceNumber() <= last) {
+        if (event.getSequenceNumber() == 0) {
+          throw new AggregateStreamCreationException(
+              String.format(
+                  "Cannot reuse aggregate identifier [%s] to create aggregate [%s] since"
+                      + " identifiers need to be unique.",
+                  event.getAggregateIdentifier(), event.getType()));
+        }
+        throw new ConcurrencyException(
+            String.format(
+                "An event for aggregate [%s] at sequence [%d] was already inserted",
+                event.getAggregateIdentifier(), event.getSequenceNumber()));
+      }
+      lastInBatch.put(event.getAggregateIdentifier(), event.getSequenceNumber());
+    }
+  }
+
+  private void indexEvent(long location, ByteBuffer record) {
+    eventLocations.add(location);
+    if (record.get(0) == DOMAIN_EVENT) {
+      long globalIndex = eventLocations.size() - 1;
+      aggregateStreams
+          .computeIfAbsent(aggregateIdentifierOf(record), id -> new AggregateStream())
+          .add(sequenceNumberOf(record), globalIndex);
+    }
+  }
+
+  private void indexSnapshot(long location, ByteBuffer record) {
+    latestSnapshots.merge(
+        aggregateIdentifierOf(record),
+        new SnapshotEntry(sequenceNumberOf(record), location),
+        MappedSegmentEventStorageEngine::later);
+  }
+
+  private static SnapshotEntry later(SnapshotEntry current, SnapshotEntry stored) {
+    return stored.sequenceNumber() >= current.sequenceNumber() ? stored : current;
+  }
+
+  private TrackedDomainEventData<byte[]> readEvent(long globalIndex) {
+    return new TrackedDomainEventData<>(
+        new GlobalSequenceTrackingToken(globalIndex),
+        decode(eventLog.read(eventLocations.get(globalIndex))));
+  }
+
+  private Instant timestampOf(long globalIndex) {
+    ByteBuffer record = eventLog.read(eventLocations.get(globalIndex));
+    return Instant.ofEpochSecond(record.getLong(SECONDS_OFFSET), record.getInt(NANOS_OFFSET));
+  }
+
+  private static byte[] encode(EventMessage<?> event, Serializer serializer) {
+    SerializedObject<byte[]> payload = event.serializePayload(serializer, byte[].class);
+    SerializedObject<byte[]> metaData = event.serializeMetaData(serializer, byte[].class);
+    boolean domainEvent = event instanceof DomainEventMessage<?>;
+    DomainEventMessage<?> domainMessage = domainEvent ? (DomainEventMessage<?>) event : null;
+    // Other events are stored like the JPA storage engine does: keyed by their own identifier
+    byte[][] fields = {
+      bytes(domainEvent ? domainMessage.getType() : null),
+      bytes(domainEvent ? domainMessage.getAggregateIdentifier() : event.getIdentifier()),
+      bytes(event.getIdentifier()),
+      bytes(payload.getType().getName()),
+      bytes(payload.getType().getRevision()),
+      payload.getData(),
+      metaData.getData()
+    };
+
+    int size = AGGREGATE_TYPE_OFFSET;
+    for (byte[] field : fields) {
+      size += Integer.BYTES + (field != null ? field.length : 0);
+    }
+    ByteBuffer record = ByteBuffer.allocate(size);
+    record.put(domainEvent ? DOMAIN_EVENT : 0);
+    record.putLong(domainEvent ? domainMessage.getSequenceNumber() : 0L);
+    record.putLong(event.getTimestamp().getEpochSecond());
+    record.putInt(event.getTimestamp().getNano());
+    for (byte[] field : fields) {
+      record.putInt(field != null ? field.length : -1);
+      if (field != null) {
+        record.put(field);
+      }
+    }
+    return record.array();
+  }
+
+  private static GenericDomainEventEntry<byte[]> decode(ByteBuffer record) {
+    ByteBuffer fields = record.duplicate().position(AGGREGATE_TYPE_OFFSET);
+    String type = string(fields);
+    String aggregateIdentifier = string(fields);
+    String eventIdentifier = string(fields);
+    String payloadType = string(fields);
+    String payloadRevision = string(fields);
+    byte[] payload = field(fields);
+    byte[] metaData = field(fields);
+    return new GenericDomainEventEntry<>(
+        type,
+        aggregateIdentifier,
+        record.getLong(SEQUENCE_NUMBER_OFFSET),
+        eventIdentifier,
+        Instant.ofEpochSecond(record.getLong(SECONDS_OFFSET), record.getInt(NANOS_OFFSET)),
+        payloadType,
+        payloadRevision,
+        payload,
+        metaData);
+  }
+
+  private static String aggregateIdentifierOf(ByteBuffer record) {
+    ByteBuffer fields = record.duplicate().position(AGGREGATE_TYPE_OFFSET);
+    field(fields); // Aggregate type
+    return string(fields);
+  }
+
+  private static long sequenceNumberOf(ByteBuffer record) {
+    return record.getLong(SEQUENCE_NUMBER_OFFSET);
+  }
+
+  private static byte[] bytes(String value) {
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+
+  private static String string(ByteBuffer fields) {
+    byte[] value = field(fields);
+    return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+  }
+
+  private static byte[] field(ByteBuffer fields) {
+    int length = fields.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] value = new byte[length];
+    fields.get(value);
+    return value;
+  }
+
+  /**
+   * Sequence numbers and global indexes of one aggregate's events, in append order.
+   */
+  private static final class AggregateStream {
+
+    private final LongSequence sequenceNumbers = new LongSequence(8);
+    private final LongSequence globalIndexes = new LongSequence(8);
+
+    synchronized void add(long sequenceNumber, long globalIndex) {
+      sequenceNumbers.add(sequenceNumber);
+      globalIndexes.add(globalIndex);
+    }
+
+    synchronized Optional<Long> lastSequenceNumber() {
+      int size = sequenceNumbers.size();
+      return size == 0 ? Optional.empty() : Optional.of(sequenceNumbers.get(size - 1));
+    }
+
+    /**
+     * Global indexes of the events from {@code firstSequenceNumber} on, up to {@code head}.
+     */
+    synchronized long[] globalIndexesFrom(long firstSequenceNumber, long head) {
+      int low = 0;
+      int high = sequenceNumbers.size();
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (sequenceNumbers.get(middle) < firstSequenceNumber) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      int end = sequenceNumbers.size();
+      while (end > low && globalIndexes.get(end - 1) > head) {
+        end--; // Appended, but the append has not completed yet
+      }
+      long[] indexes = new long[end - low];
+      for (int i = low; i < end; i++) {
+        indexes[i - low] = globalIndexes.get(i);
+      }
+      return indexes;
+    }
+  }
+
+  /**
+   * Growable array of longs with one writer and lock-free readers: a value is written before the
+   * size that covers it is published.
+   */
+  private static final class LongSequence {
+
+    private volatile long[] values;
+    private volatile int size;
+
+    LongSequence(int initialCapacity) {
+      values = new long[initialCapacity];
+    }
+
+    void add(long value) {
+      long[] current = values;
+      if (size == current.length) {
+        current = Arrays.copyOf(current, current.length * 2);
+        values = current;
+      }
+      current[size] = value;
+      size++;
+    }
+
+    long get(long index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+      }
+      return values[(int) index];
+    }
+
+    int size() {
+      return size;
+    }
+  }
+
+  /**
+   * Builder for the engine. The directory is required; events and snapshots share it, in
+   * segments with the suffix {@code .events} and {@code .snapshots}.
+   */
+  public static class Builder extends AbstractEventStorageEngine.Builder {
+
+    private Path directory;
+    private int segmentSize = 64 * 1024 * 1024;
+    private boolean forceOnAppend = false;
+    private int readBatchSize = 1000;
+
+    @Override
+    public Builder snapshotSerializer(Serializer snapshotSerializer) {
+      super.snapshotSerializer(snapshotSerializer);
+      return this;
+    }
+
+    @Override
+    public Builder upcasterChain(EventUpcaster upcasterChain) {
+      super.upcasterChain(upcasterChain);
+      return this;
+    }
+
+    @Override
+    public Builder eventSerializer(Serializer eventSerializer) {
+      super.eventSerializer(eventSerializer);
+      return this;
+    }
+
+    @Override
+    public Builder snapshotFilter(SnapshotFilter snapshotFilter) {
+      super.snapshotFilter(snapshotFilter);
+      return this;
+    }
+
+    public Builder directory(Path directory) {
+      assertNonNull(directory, "The directory may not be null");
+      this.directory = directory;
+      return this;
+    }
+
+    /**
+     * Size of each segment file in bytes; a single event or snapshot must fit in one.
+     */
+    public Builder segmentSize(int segmentSize) {
+      assertStrictPositive(segmentSize, "The segment size must be positive");
+      this.segmentSize = segmentSize;
+      return this;
+    }
+
+    /**
+     * Write every append to the storage device before it completes.
+     */
+    public Builder forceOnAppend(boolean forceOnAppend) {
+      this.forceOnAppend = forceOnAppend;
+      return this;
+    }
+
+    /**
+     * Most events returned by one read of a tracking processor.
+     */
+    public Builder readBatchSize(int readBatchSize) {
+      assertStrictPositive(readBatchSize, "The read batch size must be positive");
+      this.readBatchSize = readBatchSize;
+      return this;
+    }
+
+    public MappedSegmentEventStorageEngine build() {
+      return new MappedSegmentEventStorageEngine(this);
+    }
+
+    @Override
+    protected void validate() throws AxonConfigurationException {
+      super.validate();
+      assertNonNull(directory, "The directory is a hard requirement and should be provided");
+    }
+  }
+}
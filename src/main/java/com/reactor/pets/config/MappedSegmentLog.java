@@ -0,0 +1,256 @@
+package com.reactor.pets.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of records in memory-mapped segment files of a fixed size, used by
+ * {@link MappedSegmentEventStorageEngine}.
+ *
+ * <p>A record is its body length, the body and a CRC32 of the body. Records are written with
+ * absolute puts into the mapped file and read with absolute gets, so one appending thread and any
+ * number of readers share a segment without locking; the caller decides which records are
+ * visible to readers. A record is addressed by its location: the segment number in the high 32
+ * bits and the offset in the segment in the low 32 bits. When the log is reopened the segments
+ * are scanned in order and a record torn by a crash is cut off along with anything after it.
+ * An open log holds a lock file in its directory, so a second process cannot append to it.
+ */
+@Slf4j
+class MappedSegmentLog implements AutoCloseable {
+
+  private static final int LENGTH_BYTES = Integer.BYTES;
+  private static final int CRC_BYTES = Integer.BYTES;
+
+  /**
+   * Receives the intact records of the log in order when it is opened.
+   */
+  interface RecordConsumer {
+    void accept(long location, ByteBuffer body);
+  }
+
+  /**
+   * End of the log, which {@link #truncate} cuts appends made after it back to.
+   */
+  record Position(int segmentCount, int writePosition) { }
+
+  private record Segment(FileChannel channel, MappedByteBuffer buffer) { }
+
+  private final Path directory;
+  private final String suffix;
+  private final int segmentSize;
+  private final List<Segment> segments = new CopyOnWriteArrayList<>();
+  private FileChannel lockChannel;
+
+  // Append position in the last segment, and the first segment written since the last force
+  private int writePosition;
+  private int unforcedSegment;
+
+  MappedSegmentLog(Path directory, String suffix, int segmentSize) {
+    this.directory = directory;
+    this.suffix = suffix;
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * Map the existing segment files, passing every intact record to {@code consumer} in the order
+   * it was appended.
+   */
+  void open(RecordConsumer consumer) throws IOException {
+    Files.createDirectories(directory);
+    lock();
+    List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files = list.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().toList();
+    }
+    for (Path file : files) {
+      if (!file.equals(segmentFile(segments.size()))) {
+        throw new IOException("Unexpected segment file " + file + ", segments must be numbered");
+      }
+      Segment segment = map(file);
+      segments.add(segment);
+      writePosition = scan(segment.buffer(), segments.size() - 1, consumer);
+    }
+    if (!segments.isEmpty()) {
+      clearTail(segments.get(segments.size() - 1).buffer(), writePosition);
+      unforcedSegment = segments.size() - 1;
+    }
+  }
+
+  /**
+   * Append a record, rolling over to a new segment when it does not fit the current one.
+   *
+   * @return the location of the record
+   */
+  long append(byte[] body) throws IOException {
+    int recordSize = LENGTH_BYTES + body.length + CRC_BYTES;
+    if (body.length > maxBodySize()) {
+      throw new IllegalArgumentException(
+          "Record of " + body.length + " bytes does not fit a segment of " + segmentSize);
+    }
+    if (segments.isEmpty()
+        || writePosition + recordSize > segments.get(segments.size() - 1).buffer().capacity()) {
+      segments.add(map(segmentFile(segments.size())));
+      writePosition = 0;
+    }
+
+    int segmentNumber = segments.size() - 1;
+    MappedByteBuffer buffer = segments.get(segmentNumber).buffer();
+    int position = writePosition;
+    CRC32 crc = new CRC32();
+    crc.update(body);
+    buffer.put(position + LENGTH_BYTES, body);
+    buffer.putInt(position + LENGTH_BYTES + body.length, (int) crc.getValue());
+    // The length goes last, so a record torn before it reads as the end of the segment
+    buffer.putInt(position, body.length);
+    writePosition += recordSize;
+    return location(segmentNumber, position);
+  }
+
+  /**
+   * Largest record body that fits a segment.
+   */
+  int maxBodySize() {
+    return segmentSize - LENGTH_BYTES - CRC_BYTES;
+  }
+
+  Position end() {
+    return new Position(segments.size(), writePosition);
+  }
+
+  /**
+   * Discard the records appended after {@code end}: segments created since are deleted and the
+   * rest of the segment it points into is zeroed, so the records are not recovered on reopening.
+   * Nothing may have read them.
+   */
+  void truncate(Position end) throws IOException {
+    while (segments.size() > end.segmentCount()) {
+      int last = segments.size() - 1;
+      segments.remove(last).channel().close();
+      Files.deleteIfExists(segmentFile(last));
+    }
+    writePosition = end.writePosition();
+    if (!segments.isEmpty()) {
+      clearTail(segments.get(segments.size() - 1).buffer(), writePosition);
+    }
+    unforcedSegment = Math.min(unforcedSegment, Math.max(0, segments.size() - 1));
+  }
+
+  /**
+   * The body of the record at {@code location}, as a read-only view of the mapped segment.
+   */
+  ByteBuffer read(long location) {
+    MappedByteBuffer buffer = segments.get((int) (location >>> 32)).buffer();
+    int offset = (int) location;
+    int length = buffer.getInt(offset);
+    return buffer.slice(offset + LENGTH_BYTES, length).asReadOnlyBuffer();
+  }
+
+  /**
+   * Write the records appended since the last force to the storage device.
+   */
+  void force() {
+    for (int segment = unforcedSegment; segment < segments.size(); segment++) {
+      segments.get(segment).buffer().force();
+    }
+    unforcedSegment = Math.max(0, segments.size() - 1);
+  }
+
+  int segmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Close the files. The mappings stay valid until they are garbage collected, so readers still
+   * holding a record are not affected.
+   */
+  @Override
+  public void close() throws IOException {
+    for (Segment segment : segments) {
+      segment.channel().close();
+    }
+    if (lockChannel != null) {
+      lockChannel.close(); // Releases the lock
+    }
+  }
+
+  private void lock() throws IOException {
+    Path lockFile = directory.resolve(suffix + ".lock");
+    lockChannel =
+        FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null; // Held by this process
+    }
+    if (lock == null) {
+      lockChannel.close();
+      lockChannel = null;
+      throw new IOException(lockFile + " is locked, the log is already open");
+    }
+  }
+
+  private Path segmentFile(int segmentNumber) {
+    return directory.resolve(String.format("%010d%s", segmentNumber, suffix));
+  }
+
+  private Segment map(Path file) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    // Existing segments keep their size if segment-size-mb has changed since they were written
+    long size = channel.size() > 0 ? channel.size() : segmentSize;
+    return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+  }
+
+  private int scan(MappedByteBuffer buffer, int segmentNumber, RecordConsumer consumer) {
+    int position = 0;
+    while (position + LENGTH_BYTES <= buffer.capacity()) {
+      int length = buffer.getInt(position);
+      if (length <= 0 || length > buffer.capacity() - position - LENGTH_BYTES - CRC_BYTES) {
+        break;
+      }
+      ByteBuffer body = buffer.slice(position + LENGTH_BYTES, length);
+      CRC32 crc = new CRC32();
+      crc.update(body.duplicate());
+      if ((int) crc.getValue() != buffer.getInt(position + LENGTH_BYTES + length)) {
+        log.warn(
+            "Cutting off torn record at offset {} of {}", position, segmentFile(segmentNumber));
+        break;
+      }
+      consumer.accept(location(segmentNumber, position), body.asReadOnlyBuffer());
+      position += LENGTH_BYTES + length + CRC_BYTES;
+    }
+    return position;
+  }
+
+  /**
+   * Zero what a torn record left after the last intact one, so it cannot be mistaken for a
+   * record once appends continue.
+   */
+  private static void clearTail(MappedByteBuffer buffer, int position) {
+    if (position + LENGTH_BYTES > buffer.capacity() || buffer.getInt(position) == 0) {
+      return;
+    }
+    byte[] zeros = new byte[8192];
+    for (int offset = position; offset < buffer.capacity(); offset += zeros.length) {
+      buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+    }
+  }
+
+  private static long location(int segmentNumber, int offset) {
+    return ((long) segmentNumber << 32) | (offset & 0xFFFFFFFFL);
+  }
+}
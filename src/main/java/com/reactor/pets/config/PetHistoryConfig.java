@@ -0,0 +1,23 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the per-pet history read model.
+ */
+@Component
+@ConfigurationProperties(prefix = "pet-history")
+@Data
+public class PetHistoryConfig {
+
+  // Most recent events kept in memory per pet; older pages are read from the archive table
+  private int ringSize = 50;
+
+  // Largest page a history query may ask for
+  private int maxLimit = 50;
+
+  // Also record time passing (one entry per tick per pet); off keeps history to interactions
+  private boolean recordTicks = false;
+}
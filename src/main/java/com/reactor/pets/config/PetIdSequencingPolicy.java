@@ -0,0 +1,53 @@
+package com.reactor.pets.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.async.SequencingPolicy;
+import org.axonframework.eventhandling.async.SequentialPerAggregatePolicy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sequences events by the pet they concern, so segmented processors handle each pet's events in
+ * order while different pets are processed in parallel.
+ *
+ * <p>Events with a {@code getPetId()} accessor are sequenced by its value, which also keeps
+ * events about a pet raised by other aggregates in line with the pet's own events. Other events
+ * fall back to their aggregate identifier.
+ */
+@Component
+public class PetIdSequencingPolicy implements SequencingPolicy<EventMessage<?>> {
+
+  private static final ClassValue<Optional<MethodHandle>> PET_ID_ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> payloadType) {
+          try {
+            return Optional.of(
+                MethodHandles.publicLookup()
+                    .findVirtual(payloadType, "getPetId", MethodType.methodType(String.class)));
+          } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Optional.empty();
+          }
+        }
+      };
+
+  @Override
+  public Object getSequenceIdentifierFor(EventMessage<?> event) {
+    Object payload = event.getPayload();
+    Optional<MethodHandle> accessor = PET_ID_ACCESSORS.get(payload.getClass());
+    if (accessor.isPresent()) {
+      try {
+        Object petId = accessor.get().invoke(payload);
+        if (petId != null) {
+          return petId;
+        }
+      } catch (Throwable e) {
+        // Fall through to the aggregate identifier
+      }
+    }
+    return SequentialPerAggregatePolicy.instance().getSequenceIdentifierFor(event);
+  }
+}
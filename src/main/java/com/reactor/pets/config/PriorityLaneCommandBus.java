@@ -0,0 +1,85 @@
+package com.reactor.pets.config;
+
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.messaging.MessageHandler;
+
+/**
+ * Local command bus handling bulk and interactive commands on separate executors.
+ *
+ * <p>A global tick dispatches a command per alive pet. On a single pool those bursts queue ahead
+ * of feed and play commands, so interactive latency grew with the number of pets. Commands whose
+ * payload is listed as bulk run on the bulk lane; everything else runs on the interactive lane,
+ * which bulk commands never occupy. Both lanes hand the command to the regular
+ * {@link SimpleCommandBus} handling, so units of work, transactions, interceptors and aggregate
+ * locking behave as before; only the thread changes. A command its lane cannot accept, because
+ * the bulk queue is full or the bus is shutting down, fails with a
+ * {@link RejectedExecutionException}.
+ */
+@Slf4j
+public class PriorityLaneCommandBus extends SimpleCommandBus {
+
+  private final Set<String> bulkCommands;
+  private final ExecutorService bulkLane;
+  private final ExecutorService interactiveLane;
+
+  /**
+   * @param builder configuration of the underlying simple command bus
+   * @param bulkCommands simple class names of the command payloads handled on the bulk lane
+   */
+  public PriorityLaneCommandBus(
+      SimpleCommandBus.Builder builder,
+      Set<String> bulkCommands,
+      ExecutorService bulkLane,
+      ExecutorService interactiveLane) {
+    super(builder);
+    this.bulkCommands = Set.copyOf(bulkCommands);
+    this.bulkLane = bulkLane;
+    this.interactiveLane = interactiveLane;
+  }
+
+  /** Whether the command is handled on the bulk lane. */
+  public boolean isBulk(CommandMessage<?> command) {
+    return bulkCommands.contains(command.getPayloadType().getSimpleName());
+  }
+
+  @Override
+  protected <C, R> void handle(
+      CommandMessage<C> command,
+      MessageHandler<? super CommandMessage<?>> handler,
+      CommandCallback<? super C, ? super R> callback) {
+    ExecutorService lane = isBulk(command) ? bulkLane : interactiveLane;
+    try {
+      lane.execute(() -> super.handle(command, handler, callback));
+    } catch (RejectedExecutionException e) {
+      // The bulk lane is full or the bus is shutting down; fail the command instead of handling
+      // it on the delivering thread
+      log.debug("Rejected {}: {}", command.getCommandName(), e.getMessage());
+      callback.onResult(command, asCommandResultMessage(e));
+    }
+  }
+
+  /**
+   * Stop accepting commands and give queued ones a few seconds to complete.
+   */
+  public void shutdown() {
+    bulkLane.shutdown();
+    interactiveLane.shutdown();
+    try {
+      if (!bulkLane.awaitTermination(5, TimeUnit.SECONDS)
+          || !interactiveLane.awaitTermination(5, TimeUnit.SECONDS)) {
+        log.warn("Command lanes did not drain within 5 seconds");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
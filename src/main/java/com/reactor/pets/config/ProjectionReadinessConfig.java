@@ -0,0 +1,32 @@
+package com.reactor.pets.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the startup readiness gate, see {@code ProjectionReadinessService}.
+ */
+@Component
+@ConfigurationProperties(prefix = "projection-readiness")
+@Data
+public class ProjectionReadinessConfig {
+
+  // When disabled the application is ready as soon as it has started
+  private boolean enabled = true;
+
+  // Event processors that must catch up before the application is ready; empty means every
+  // streaming processor, including the saga processors
+  private List<String> processors = new ArrayList<>();
+
+  // Interval between catch-up checks and progress log lines until the application is ready
+  private long checkIntervalMs = 1000;
+
+  // Answer API requests with 503 Service Unavailable until the application is ready
+  private boolean gateRequests = true;
+
+  // Retry-After header sent with 503 responses
+  private long retryAfterSeconds = 5;
+}
@@ -0,0 +1,27 @@
+package com.reactor.pets.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for rebuilding projections from the event store, see
+ * {@code ProjectionRebuildService}.
+ */
+@Component
+@ConfigurationProperties(prefix = "projection-rebuild")
+@Data
+public class ProjectionRebuildConfig {
+
+  // Processing groups that may be rebuilt; each of their projections needs a @ResetHandler
+  private List<String> processors =
+      new ArrayList<>(List.of("pet-status", "pet-statistics", "pet-history"));
+
+  // Loggers raised to WARN while a rebuild runs, to keep per-event logging off the replay path
+  private List<String> quietLoggers = new ArrayList<>(List.of("com.reactor.pets.projection"));
+
+  // Interval between progress log lines and completion checks
+  private long progressIntervalMs = 5000;
+}
@@ -0,0 +1,23 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for waiting on projections before answering a query with read-your-writes semantics.
+ */
+@Component
+@ConfigurationProperties(prefix = "read-consistency")
+@Data
+public class ReadConsistencyConfig {
+
+  // Wait for projections to pass a consistency token; when disabled queries run immediately
+  private boolean enabled = true;
+
+  // Longest wait before the query runs anyway, possibly returning stale data
+  private long timeoutMs = 2000;
+
+  // Waiters are re-checked this often in case no handled event wakes them
+  private long recheckIntervalMs = 25;
+}
@@ -0,0 +1,137 @@
+package com.reactor.pets.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Splits and merges the segments of streaming projection processors based on how far each
+ * segment lags behind the head of the event store.
+ *
+ * <p>Axon only splits or merges segments on request. During a tick storm a fixed number of
+ * segments lets projection lag grow with the number of pets; this component splits the most
+ * lagging segment while any segment is more than {@code segment-balancer.split-lag-threshold}
+ * events behind, and merges segments back once every segment is nearly caught up. One split or
+ * merge is made per processor per check, so the segment count settles instead of oscillating.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SegmentBalancer {
+
+  private final EventProcessingConfiguration eventProcessingConfiguration;
+  private final EventStore eventStore;
+  private final SegmentBalancerConfig config;
+
+  private Disposable checkTimer;
+
+  @PostConstruct
+  public void start() {
+    if (!config.isEnabled() || config.getCheckIntervalMs() <= 0) {
+      return;
+    }
+    Duration interval = Duration.ofMillis(config.getCheckIntervalMs());
+    checkTimer =
+        Flux.interval(interval, interval)
+            .onBackpressureDrop()
+            .subscribe(
+                ignored -> rebalance(),
+                error -> log.error("Segment balancer failed: {}", error.getMessage(), error));
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (checkTimer != null) {
+      checkTimer.dispose();
+    }
+  }
+
+  /**
+   * Check every configured processor once and split or merge at most one segment of each.
+   */
+  public void rebalance() {
+    TrackingToken headToken = eventStore.createHeadToken();
+    // Stores without events may have no head token
+    OptionalLong head = headToken == null ? OptionalLong.empty() : headToken.position();
+    if (head.isEmpty()) {
+      return;
+    }
+    for (String processorName : config.getProcessors()) {
+      try {
+        eventProcessingConfiguration
+            .eventProcessor(processorName, StreamingEventProcessor.class)
+            .ifPresent(processor -> rebalance(processorName, processor, head.getAsLong()));
+      } catch (Exception e) {
+        log.warn("Failed to balance segments of {}: {}", processorName, e.getMessage());
+      }
+    }
+  }
+
+  private void rebalance(String processorName, StreamingEventProcessor processor, long head) {
+    Map<Integer, EventTrackerStatus> segments = processor.processingStatus();
+    boolean settled =
+        !segments.isEmpty()
+            && segments.values().stream()
+                .noneMatch(
+                    status -> status.isErrorState() || status.getCurrentPosition().isEmpty());
+    if (!settled) {
+      return; // Not all segments claimed, replaying or failing; decide on the next check
+    }
+
+    EventTrackerStatus mostLagging =
+        segments.values().stream().max(Comparator.comparingLong(s -> lag(s, head))).orElseThrow();
+    long maxLag = lag(mostLagging, head);
+
+    if (maxLag > config.getSplitLagThreshold() && segments.size() < config.getMaxSegments()) {
+      int segmentId = mostLagging.getSegment().getSegmentId();
+      log.info(
+          "Splitting segment {} of {} ({} events behind, {} segments)",
+          segmentId,
+          processorName,
+          maxLag,
+          segments.size());
+      processor.splitSegment(segmentId);
+    } else if (maxLag <= config.getMergeLagThreshold()
+        && segments.size() > config.getMinSegments()) {
+      mergeCandidate(segments)
+          .ifPresent(
+              segmentId -> {
+                log.info(
+                    "Merging segment {} of {} ({} segments, all caught up)",
+                    segmentId,
+                    processorName,
+                    segments.size());
+                processor.mergeSegment(segmentId);
+              });
+    }
+  }
+
+  /** The most recently split segment whose sibling is also claimed here, if any. */
+  private static Optional<Integer> mergeCandidate(Map<Integer, EventTrackerStatus> segments) {
+    return segments.values().stream()
+        .map(EventTrackerStatus::getSegment)
+        .filter(segment -> segment.mergeableSegmentId() != segment.getSegmentId())
+        .filter(segment -> segments.containsKey(segment.mergeableSegmentId()))
+        .map(Segment::getSegmentId)
+        .max(Integer::compare);
+  }
+
+  private static long lag(EventTrackerStatus status, long head) {
+    return Math.max(0, head - status.getCurrentPosition().orElse(head));
+  }
+}
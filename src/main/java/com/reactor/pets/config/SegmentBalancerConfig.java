@@ -0,0 +1,37 @@
+package com.reactor.pets.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for splitting and merging the segments of streaming projection processors based on
+ * their lag, see {@link SegmentBalancer}.
+ */
+@Component
+@ConfigurationProperties(prefix = "segment-balancer")
+@Data
+public class SegmentBalancerConfig {
+
+  // Split and merge segments of the processors below
+  private boolean enabled = true;
+
+  // Processing groups whose segments are balanced; their sequencing must be per pet
+  private List<String> processors = new ArrayList<>(List.of("pet-status"));
+
+  // Interval between lag checks; at most one split or merge per processor per check
+  private long checkIntervalMs = 5000;
+
+  // Split the most lagging segment when it is this many events behind the head of the store
+  private long splitLagThreshold = 5000;
+
+  // Merge segments when every segment is at most this many events behind
+  private long mergeLagThreshold = 100;
+
+  // Bounds on the number of segments per processor; keep the minimum at the processor's
+  // initial-segment-count, or every tick storm splits again what quiet periods merged away
+  private int minSegments = 8;
+  private int maxSegments = 64;
+}
@@ -0,0 +1,27 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for snapshotting the long-lived PlayerProgression, PlayerInventory and GlobalTime
+ * aggregates and for the executor that creates snapshots.
+ */
+@Component
+@ConfigurationProperties(prefix = "snapshot")
+@Data
+public class SnapshotConfig {
+
+  // Snapshot after this many events have been handled since the last snapshot
+  private int eventThreshold = 500;
+
+  // Snapshot when loading an aggregate takes longer than this (0 disables the load time check)
+  private long loadTimeThresholdMs = 50;
+
+  // Threads creating snapshots, off the command handling threads
+  private int executorThreads = 2;
+
+  // Pending snapshot requests; further requests are dropped until the queue drains
+  private int executorQueueCapacity = 1000;
+}
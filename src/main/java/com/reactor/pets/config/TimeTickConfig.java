@@ -0,0 +1,48 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the global time tick and its bulk dispatch to alive pets.
+ */
+@Component
+@ConfigurationProperties(prefix = "time-tick")
+@Data
+public class TimeTickConfig {
+
+  // Interval between global time ticks
+  private long intervalSeconds = 10;
+
+  // Game ticks per interval (100 runs the clock at 100x); fractions carry over to later intervals
+  private double clockRate = 1.0;
+
+  // On startup, advance the clock by the ticks missed while the application was down
+  private boolean catchUpOnStartup = false;
+
+  // Upper bound on the ticks added by a startup catch-up
+  private long maxCatchUpTicks = 8640;
+
+  // Pet ids dispatched per page (and fetched per due-pet query page with lazy decay)
+  private int pageSize = 500;
+
+  // Tick commands are split into this many lanes by pet id (the aggregate routing key); also
+  // the number of segments of the alive pet registry
+  private int partitions = 8;
+
+  // Bounds and starting point of the adaptive in-flight command limit
+  private int minConcurrency = 4;
+  private int maxConcurrency = 64;
+  private int initialConcurrency = 8;
+
+  // Command latency the concurrency limit adapts towards
+  private long targetLatencyMs = 50;
+
+  // Commands slower than this are reported as stragglers
+  private long stragglerLatencyMs = 1000;
+
+  // Derive pet decay on access instead of ticking every pet; only pets due for death or
+  // evolution receive tick commands
+  private boolean lazyDecay = false;
+}
@@ -0,0 +1,23 @@
+package com.reactor.pets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for coalescing XP earnings before they reach the PlayerProgression aggregate.
+ */
+@Component
+@ConfigurationProperties(prefix = "xp-accumulator")
+@Data
+public class XPAccumulatorConfig {
+
+  // Buffer earnings per player; when disabled every earning is sent as its own EarnXPCommand
+  private boolean enabled = true;
+
+  // Send the buffered earnings this often (0 disables the timer)
+  private long flushIntervalMs = 1000;
+
+  // Also send the buffered earnings after every global time tick
+  private boolean flushOnTick = false;
+}
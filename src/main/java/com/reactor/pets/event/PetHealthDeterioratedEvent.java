@@ -3,6 +3,10 @@ package com.reactor.pets.event;
 import java.time.Instant;
 import lombok.Value;
 
+/**
+ * No longer emitted: health deterioration is part of {@link PetTickedEvent}. Kept so event
+ * streams written before the consolidated tick event still replay.
+ */
 @Value
 public class PetHealthDeterioratedEvent {
   String petId;
@@ -0,0 +1,26 @@
+package com.reactor.pets.event;
+
+import java.time.Instant;
+import lombok.Value;
+
+/**
+ * Everything one global tick did to a pet: decay, aging, health regeneration and deterioration.
+ * Replaces the separate {@code TimePassedEvent}, regeneration {@link PetCleanedEvent} and
+ * {@link PetHealthDeterioratedEvent} a tick used to emit; stored {@code TimePassedEvent}s are
+ * upcast to this event by {@code TimePassedEventUpcaster}.
+ */
+@Value
+public class PetTickedEvent {
+  String petId;
+  int hungerIncrease;
+  int happinessDecrease;
+  int ageIncrease;
+  long globalTick;
+  double xpMultiplierChange; // Change in XP multiplier (0.0 if no change, +0.1 for milestone, etc.)
+  double newXpMultiplier; // The new XP multiplier after this change
+  int newLowStatsTicks; // Number of consecutive ticks with low stats (for multiplier decay)
+  int healthRegenerated; // From equipment and permanent upgrades, applied before deterioration
+  int healthDecrease;
+  String deteriorationReason; // Null when health did not deteriorate
+  Instant timestamp;
+}
@@ -0,0 +1,25 @@
+package com.reactor.pets.event;
+
+import java.time.Instant;
+import lombok.Value;
+
+/**
+ * Summary of several ticks applied to a pet at once, from {@code fromGlobalTick} (exclusive) to
+ * {@code toGlobalTick} (inclusive). Stat changes are totals over the span. A pet that died
+ * during the span stops at the tick of death and also gets a {@link PetDiedEvent}.
+ */
+@Value
+public class PetTimeAdvancedEvent {
+  String petId;
+  long fromGlobalTick;
+  long toGlobalTick;
+  int hungerIncrease;
+  int happinessDecrease;
+  int ageIncrease;
+  int healthChange; // Net of regeneration and deterioration, negative when health was lost
+  String deteriorationReason; // Cause of the last health loss, null if none
+  double xpMultiplierChange;
+  double newXpMultiplier;
+  int newLowStatsTicks; // Consecutive ticks with low stats at the end of the span
+  Instant timestamp;
+}
@@ -1,6 +1,7 @@
 package com.reactor.pets.event;
 
 import java.time.Instant;
+import java.util.Map;
 import lombok.Value;
 
 @Value
@@ -10,5 +11,6 @@ public class XPEarnedEvent {
   long newTotalXP;
   long newLifetimeXP;
   String source;
+  Map<String, Long> xpBySource; // Itemized sources of a batched earning, null for a single source
   Instant timestamp;
 }
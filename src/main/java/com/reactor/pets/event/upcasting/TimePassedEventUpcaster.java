@@ -0,0 +1,50 @@
+package com.reactor.pets.event.upcasting;
+
+import com.reactor.pets.event.PetTickedEvent;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.serialization.upcasting.event.SingleEventUpcaster;
+import org.dom4j.Document;
+import org.dom4j.Element;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upcasts stored {@code TimePassedEvent}s to {@link PetTickedEvent}, so pets ticked before the
+ * consolidated tick event still replay.
+ *
+ * <p>A {@code TimePassedEvent} only carried decay and aging; the regeneration
+ * {@code PetCleanedEvent} and {@code PetHealthDeterioratedEvent} that followed it stay separate
+ * events in old streams, so the upcast event reports no health change.
+ */
+@Component
+@Order(0)
+public class TimePassedEventUpcaster extends SingleEventUpcaster {
+
+  static final String TIME_PASSED_EVENT_TYPE = "com.reactor.pets.event.TimePassedEvent";
+
+  private static final SerializedType TARGET_TYPE =
+      new SimpleSerializedType(PetTickedEvent.class.getName(), null);
+
+  @Override
+  protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+    SerializedType type = intermediateRepresentation.getType();
+    return TIME_PASSED_EVENT_TYPE.equals(type.getName()) && type.getRevision() == null;
+  }
+
+  @Override
+  protected IntermediateEventRepresentation doUpcast(
+      IntermediateEventRepresentation intermediateRepresentation) {
+    return intermediateRepresentation.upcastPayload(
+        TARGET_TYPE,
+        Document.class,
+        document -> {
+          Element root = document.getRootElement();
+          root.setName(PetTickedEvent.class.getName());
+          root.addElement("healthRegenerated").setText("0");
+          root.addElement("healthDecrease").setText("0");
+          return document;
+        });
+  }
+}
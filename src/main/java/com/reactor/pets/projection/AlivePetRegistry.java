@@ -0,0 +1,88 @@
+package com.reactor.pets.projection;
+
+import com.reactor.pets.config.TimeTickConfig;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ids of the alive pets, kept up to date by {@link PetStatusProjection} so the tick scheduler and
+ * sagas that fan out to every alive pet read memory instead of querying the pet status table.
+ *
+ * <p>Ids are grouped into segments by {@code floorMod(petId.hashCode(), segmentCount)}, the same
+ * split the tick scheduler uses for its command lanes, so each segment can be dispatched as one
+ * lane without regrouping. Adding and removing a pet is O(1); reading a segment copies it.
+ */
+@Component
+public class AlivePetRegistry {
+
+  private final List<Set<String>> segments;
+
+  @Autowired
+  public AlivePetRegistry(TimeTickConfig config) {
+    this(config.getPartitions());
+  }
+
+  public AlivePetRegistry(int segmentCount) {
+    segments = new ArrayList<>(Math.max(1, segmentCount));
+    for (int segment = 0; segment < Math.max(1, segmentCount); segment++) {
+      segments.add(ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  /**
+   * Replace the registry contents, e.g. with the stored alive pets on startup.
+   */
+  public void reload(Collection<String> alivePetIds) {
+    clear();
+    alivePetIds.forEach(this::add);
+  }
+
+  public void add(String petId) {
+    segments.get(segmentOf(petId)).add(petId);
+  }
+
+  public void remove(String petId) {
+    segments.get(segmentOf(petId)).remove(petId);
+  }
+
+  public boolean contains(String petId) {
+    return segments.get(segmentOf(petId)).contains(petId);
+  }
+
+  public void clear() {
+    segments.forEach(Set::clear);
+  }
+
+  public int size() {
+    return segments.stream().mapToInt(Set::size).sum();
+  }
+
+  public int segmentCount() {
+    return segments.size();
+  }
+
+  public int segmentOf(String petId) {
+    return Math.floorMod(petId.hashCode(), segments.size());
+  }
+
+  /**
+   * Snapshot of the alive pet ids in one segment.
+   */
+  public List<String> segment(int segment) {
+    return List.copyOf(segments.get(segment));
+  }
+
+  /**
+   * Snapshot of every alive pet id, segment by segment.
+   */
+  public List<String> petIds() {
+    List<String> petIds = new ArrayList<>(size());
+    segments.forEach(petIds::addAll);
+    return petIds;
+  }
+}
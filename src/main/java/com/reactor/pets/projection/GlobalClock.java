@@ -0,0 +1,66 @@
+package com.reactor.pets.projection;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * The latest global tick, held in memory so the tick scheduler, pet creation and lazy time
+ * evaluation read it without a query round-trip or a database read.
+ *
+ * <p>The clock is advanced by the tick scheduler with the tick returned by the global time
+ * command, and by {@link GlobalTimeProjection} from {@code GlobalTimeAdvancedEvent}s. It only
+ * ever moves forward, so the two sources can arrive in any order. Reads and updates are
+ * lock-free.
+ */
+@Component
+public class GlobalClock {
+
+  /**
+   * A global tick and when it was reached.
+   */
+  public record Reading(long tick, Instant lastUpdated) { }
+
+  // Null until global time has been created
+  private final AtomicReference<Reading> latest = new AtomicReference<>();
+
+  /**
+   * The latest reading, or null before global time has been created.
+   */
+  public Reading read() {
+    return latest.get();
+  }
+
+  public boolean isStarted() {
+    return latest.get() != null;
+  }
+
+  /**
+   * The current global tick (0 before time has started).
+   */
+  public long currentTick() {
+    Reading reading = latest.get();
+    return reading != null ? reading.tick() : 0L;
+  }
+
+  /**
+   * Record that global time exists, at tick 0 unless a later tick is already known.
+   */
+  public void start(Instant createdAt) {
+    advanceTo(0L, createdAt);
+  }
+
+  /**
+   * Move the clock to {@code tick}; ignored if the clock is already at or past it.
+   */
+  public void advanceTo(long tick, Instant at) {
+    Reading next = new Reading(tick, at);
+    latest.accumulateAndGet(
+        next, (current, candidate) ->
+            current == null || candidate.tick() > current.tick() ? candidate : current);
+  }
+
+  public void clear() {
+    latest.set(null);
+  }
+}
@@ -1,10 +1,12 @@
 package com.reactor.pets.projection;
 
+import com.reactor.pets.aggregate.GlobalTimeAggregate;
 import com.reactor.pets.event.GlobalTimeAdvancedEvent;
 import com.reactor.pets.event.GlobalTimeCreatedEvent;
 import com.reactor.pets.query.GetGlobalTimeQuery;
 import com.reactor.pets.query.GlobalTimeRepository;
 import com.reactor.pets.query.GlobalTimeView;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.config.ProcessingGroup;
@@ -20,6 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class GlobalTimeProjection {
 
   private final GlobalTimeRepository globalTimeRepository;
+  private final GlobalClock globalClock;
+
+  @PostConstruct
+  public void loadClock() {
+    globalTimeRepository
+        .findById(GlobalTimeAggregate.GLOBAL_TIME_ID)
+        .ifPresent(
+            view -> globalClock.advanceTo(view.getCurrentGlobalTick(), view.getLastUpdated()));
+  }
 
   @EventHandler
   @Transactional
@@ -32,6 +43,7 @@ public class GlobalTimeProjection {
     view.setLastUpdated(event.getTimestamp());
 
     globalTimeRepository.save(view);
+    globalClock.start(event.getTimestamp());
     log.info("GlobalTime created with ID: {}", event.getTimeId());
   }
 
@@ -40,6 +52,7 @@ public class GlobalTimeProjection {
   public void on(GlobalTimeAdvancedEvent event) {
     log.debug("Processing GlobalTimeAdvancedEvent: tick {}", event.getNewGlobalTick());
 
+    globalClock.advanceTo(event.getNewGlobalTick(), event.getTimestamp());
     globalTimeRepository
         .findById(event.getTimeId())
         .ifPresent(
@@ -53,8 +66,15 @@ public class GlobalTimeProjection {
 
   @QueryHandler
   public GlobalTimeView handle(GetGlobalTimeQuery query) {
-    // Return the singleton global time view
-    // If it doesn't exist yet, it will be null
-    return globalTimeRepository.findAll().stream().findFirst().orElse(null);
+    // Answered from the in-memory clock; null if global time doesn't exist yet
+    GlobalClock.Reading reading = globalClock.read();
+    if (reading == null) {
+      return null;
+    }
+    GlobalTimeView view = new GlobalTimeView();
+    view.setTimeId(GlobalTimeAggregate.GLOBAL_TIME_ID);
+    view.setCurrentGlobalTick(reading.tick());
+    view.setLastUpdated(reading.lastUpdated());
+    return view;
   }
 }
@@ -0,0 +1,147 @@
+package com.reactor.pets.projection;
+
+import com.reactor.pets.query.GetLeaderboardQuery.LeaderboardType;
+import com.reactor.pets.query.PetStatusView;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pets ranked by age, happiness and health, kept up to date by {@link PetStatusProjection} so
+ * leaderboard queries read the top entries instead of loading and sorting every pet.
+ *
+ * <p>Each metric has one ordered set over all pets and one over alive pets. Every saved view
+ * replaces the pet's previous entries, so an update costs O(log N) and a pet that dies simply
+ * leaves the alive rankings. Keeping every pet rather than only the current top K means a pet
+ * dropping out of the top K is replaced by the true next one. Reading K entries is O(K).
+ *
+ * <p>Pets are ranked by the state last saved by the projection. With
+ * {@code time-tick.lazy-decay} a pet is only saved when it is used or due for a transition, so
+ * readers bring the returned views to the current tick and re-order them by {@link #ranking}.
+ */
+@Component
+public class LeaderboardIndex {
+
+  private record Ranked(int score, String petId) { }
+
+  private static final Comparator<Ranked> HIGHEST_FIRST =
+      Comparator.comparingInt(Ranked::score).reversed().thenComparing(Ranked::petId);
+
+  private final Map<LeaderboardType, NavigableSet<Ranked>> allPets =
+      new EnumMap<>(LeaderboardType.class);
+  private final Map<LeaderboardType, NavigableSet<Ranked>> alivePets =
+      new EnumMap<>(LeaderboardType.class);
+
+  // Copy of the latest saved view of every pet, which also locates its current entries
+  private final Map<String, PetStatusView> views = new HashMap<>();
+
+  public LeaderboardIndex() {
+    for (LeaderboardType type : LeaderboardType.values()) {
+      allPets.put(type, new TreeSet<>(HIGHEST_FIRST));
+      alivePets.put(type, new TreeSet<>(HIGHEST_FIRST));
+    }
+  }
+
+  /**
+   * Replace the index contents, e.g. with the stored views on startup.
+   */
+  public synchronized void reload(Collection<PetStatusView> stored) {
+    clear();
+    stored.forEach(this::update);
+  }
+
+  /**
+   * Record the latest state of a pet.
+   */
+  public synchronized void update(PetStatusView view) {
+    remove(view.getPetId());
+    PetStatusView copy = copyOf(view);
+    views.put(copy.getPetId(), copy);
+    for (LeaderboardType type : LeaderboardType.values()) {
+      Ranked ranked = new Ranked(score(type).applyAsInt(copy), copy.getPetId());
+      allPets.get(type).add(ranked);
+      if (copy.isAlive()) {
+        alivePets.get(type).add(ranked);
+      }
+    }
+  }
+
+  public synchronized void clear() {
+    views.clear();
+    allPets.values().forEach(NavigableSet::clear);
+    alivePets.values().forEach(NavigableSet::clear);
+  }
+
+  /**
+   * The {@code limit} highest ranked pets for a metric, highest first. Returned views are copies.
+   */
+  public synchronized List<PetStatusView> top(LeaderboardType type, boolean aliveOnly, int limit) {
+    NavigableSet<Ranked> ranking = (aliveOnly ? alivePets : allPets).get(type);
+    List<PetStatusView> top = new ArrayList<>(Math.min(limit, ranking.size()));
+    for (Ranked ranked : ranking) {
+      if (top.size() >= limit) {
+        break;
+      }
+      top.add(copyOf(views.get(ranked.petId())));
+    }
+    return top;
+  }
+
+  /**
+   * Order of a leaderboard: highest score first, ties broken by pet id.
+   */
+  public static Comparator<PetStatusView> ranking(LeaderboardType type) {
+    return Comparator.comparingInt(score(type)).reversed().thenComparing(PetStatusView::getPetId);
+  }
+
+  private void remove(String petId) {
+    PetStatusView previous = views.remove(petId);
+    if (previous == null) {
+      return;
+    }
+    for (LeaderboardType type : LeaderboardType.values()) {
+      Ranked ranked = new Ranked(score(type).applyAsInt(previous), petId);
+      allPets.get(type).remove(ranked);
+      alivePets.get(type).remove(ranked);
+    }
+  }
+
+  private static ToIntFunction<PetStatusView> score(LeaderboardType type) {
+    return switch (type) {
+      case AGE -> PetStatusView::getAge;
+      case HAPPINESS -> PetStatusView::getHappiness;
+      case HEALTH -> PetStatusView::getHealth;
+    };
+  }
+
+  private static PetStatusView copyOf(PetStatusView view) {
+    return new PetStatusView(
+        view.getPetId(),
+        view.getName(),
+        view.getType(),
+        view.getHunger(),
+        view.getHappiness(),
+        view.getHealth(),
+        view.getStage(),
+        view.getEvolutionPath(),
+        view.isAlive(),
+        view.getAge(),
+        view.getBirthGlobalTick(),
+        view.getCurrentGlobalTick(),
+        view.getXpMultiplier(),
+        view.getLastUpdated(),
+        view.getEquippedItems() != null ? new HashMap<>(view.getEquippedItems()) : null,
+        view.getMaxEquipmentSlots(),
+        view.getPermanentModifiers() != null ? new HashMap<>(view.getPermanentModifiers()) : null,
+        view.getLowStatsTicks(),
+        view.getNextTransitionTick());
+  }
+}
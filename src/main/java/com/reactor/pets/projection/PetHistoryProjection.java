@@ -1,55 +1,150 @@
 package com.reactor.pets.projection;
 
+import com.reactor.pets.config.PetHistoryConfig;
 import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
+import com.reactor.pets.event.PetDiedEvent;
+import com.reactor.pets.event.PetEvolvedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
 import com.reactor.pets.query.GetPetHistoryQuery;
 import com.reactor.pets.query.PetEventDto;
+import com.reactor.pets.query.PetHistoryEntry;
+import com.reactor.pets.query.PetHistoryRepository;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.axonframework.config.ProcessingGroup;
 import org.axonframework.eventhandling.DomainEventMessage;
-import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.ResetHandler;
 import org.axonframework.queryhandling.QueryHandler;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Per-pet event history, recorded as events are processed instead of read back from the event
+ * store on every request.
+ *
+ * <p>Every recorded event is archived in {@link PetHistoryEntry} rows, paged by sequence number,
+ * and the most recent {@code pet-history.ring-size} events of each pet are also kept in memory.
+ * A request for the latest events is served from that ring when it holds enough of them;
+ * otherwise, and for older pages, one keyset query reads exactly the requested page.
+ */
 @Component
+@ProcessingGroup("pet-history")
 @Slf4j
 @RequiredArgsConstructor
 public class PetHistoryProjection {
 
-  private final EventStore eventStore;
+  private static final String PET_AGGREGATE_TYPE = "Pet";
+
+  private final PetHistoryRepository historyRepository;
+  private final PetHistoryConfig config;
+
+  // Map of petId -> recent events; only appended to once the archive row has committed
+  private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+  @ResetHandler
+  @Transactional
+  public void reset() {
+    log.info("Resetting pet history projection");
+    rings.clear();
+    historyRepository.deleteAllInBatch();
+  }
+
+  @EventHandler
+  @Transactional
+  public void on(Object event, DomainEventMessage<?> message) {
+    if (!PET_AGGREGATE_TYPE.equals(message.getType()) || !isRecorded(event)) {
+      return;
+    }
+
+    PetEventDto dto =
+        new PetEventDto(
+            event.getClass().getSimpleName(),
+            message.getTimestamp(),
+            formatEventDetails(event),
+            message.getSequenceNumber());
+    historyRepository.save(
+        new PetHistoryEntry(
+            null,
+            message.getAggregateIdentifier(),
+            dto.getSequenceNumber(),
+            dto.getEventType(),
+            dto.getTimestamp(),
+            dto.getDetails()));
+    afterCommit(() -> append(message.getAggregateIdentifier(), dto));
+  }
 
   @QueryHandler
   public List<PetEventDto> handle(GetPetHistoryQuery query) {
     log.debug("Handling GetPetHistoryQuery for petId: {}", query.getPetId());
 
-    List<PetEventDto> events = new ArrayList<>();
-    int limit = Math.min(query.getLimit(), 50); // Cap at 50 events
-
-    eventStore
-        .readEvents(query.getPetId())
-        .asStream()
-        .map(this::convertToDto)
-        .forEach(events::add);
-
-    // Return the last N events (most recent)
-    if (events.size() > limit) {
-      return events.stream().skip(events.size() - limit).collect(Collectors.toList());
+    int limit = Math.max(0, Math.min(query.getLimit(), config.getMaxLimit()));
+    if (query.getBeforeSequence() == null) {
+      Ring ring = rings.get(query.getPetId());
+      if (ring != null) {
+        List<PetEventDto> recent = ring.latest(limit);
+        if (recent != null) {
+          return recent;
+        }
+      }
     }
 
-    return events;
+    long before = query.getBeforeSequence() != null ? query.getBeforeSequence() : Long.MAX_VALUE;
+    List<PetEventDto> page = new ArrayList<>(limit);
+    historyRepository
+        .findPageBefore(query.getPetId(), before, PageRequest.of(0, Math.max(1, limit)))
+        .stream()
+        .limit(limit)
+        .map(
+            entry ->
+                new PetEventDto(
+                    entry.getEventType(),
+                    entry.getTimestamp(),
+                    entry.getDetails(),
+                    entry.getSequenceNumber()))
+        .forEach(page::add);
+    Collections.reverse(page); // Oldest first, as the history has always been returned
+    return page;
+  }
+
+  private boolean isRecorded(Object event) {
+    return config.isRecordTicks()
+        || !(event instanceof PetTickedEvent || event instanceof PetTimeAdvancedEvent);
   }
 
-  private PetEventDto convertToDto(DomainEventMessage<?> message) {
-    Object payload = message.getPayload();
-    String eventType = payload.getClass().getSimpleName();
-    String details = formatEventDetails(payload);
+  private void append(String petId, PetEventDto event) {
+    if (config.getRingSize() <= 0) {
+      return;
+    }
+    rings.computeIfAbsent(petId, id -> new Ring(config.getRingSize())).add(event);
+  }
 
-    return new PetEventDto(eventType, message.getTimestamp(), details);
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
   }
 
   private String formatEventDetails(Object event) {
@@ -60,7 +155,61 @@ public class PetHistoryProjection {
           "Played with pet, happiness increased by %d, hunger increased by %d",
           e.getHappinessIncrease(), e.getHungerIncrease());
       case PetCleanedEvent e -> String.format("Pet was cleaned, health increased by %d", e.getHealthIncrease());
+      case PetTickedEvent e -> String.format(
+          "Time passed, hunger +%d, happiness -%d, health %+d",
+          e.getHungerIncrease(), e.getHappinessDecrease(),
+          e.getHealthRegenerated() - e.getHealthDecrease());
+      case PetTimeAdvancedEvent e -> String.format(
+          "%d ticks passed, hunger +%d, happiness -%d, health %+d",
+          e.getToGlobalTick() - e.getFromGlobalTick(),
+          e.getHungerIncrease(), e.getHappinessDecrease(), e.getHealthChange());
+      case PetEvolvedEvent e -> String.format(
+          "Pet evolved from %s to %s (%s)", e.getOldStage(), e.getNewStage(), e.getEvolutionPath());
+      case PetDiedEvent e -> String.format(
+          "Pet died at age %d: %s", e.getFinalAge(), e.getCauseOfDeath());
       default -> "Unknown event: " + event.getClass().getSimpleName();
     };
   }
+
+  /**
+   * The most recent events of one pet. A ring that has seen the pet's first event holds its whole
+   * history up to its capacity; one created after a restart only knows events since then.
+   */
+  static final class Ring {
+
+    private final int capacity;
+    private final ArrayDeque<PetEventDto> events;
+    private boolean complete;
+
+    Ring(int capacity) {
+      this.capacity = capacity;
+      this.events = new ArrayDeque<>(capacity);
+    }
+
+    synchronized void add(PetEventDto event) {
+      if (events.isEmpty() && event.getSequenceNumber() == 0) {
+        complete = true;
+      }
+      if (events.size() == capacity) {
+        events.removeFirst();
+        complete = false;
+      }
+      events.addLast(event);
+    }
+
+    /** The latest {@code limit} events oldest first, or null if the ring cannot tell. */
+    synchronized List<PetEventDto> latest(int limit) {
+      if (events.size() < limit && !complete) {
+        return null;
+      }
+      int count = Math.min(limit, events.size());
+      List<PetEventDto> latest = new ArrayList<>(count);
+      Iterator<PetEventDto> newestFirst = events.descendingIterator();
+      for (int i = 0; i < count; i++) {
+        latest.add(newestFirst.next());
+      }
+      Collections.reverse(latest);
+      return latest;
+    }
+  }
 }
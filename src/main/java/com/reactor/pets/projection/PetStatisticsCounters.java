@@ -0,0 +1,91 @@
+package com.reactor.pets.projection;
+
+import com.reactor.pets.aggregate.PetStage;
+import com.reactor.pets.query.PetStatistics;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Changes to the {@code GLOBAL} {@link PetStatistics} row collected over one event processor
+ * batch.
+ *
+ * <p>Counts are kept as deltas and the longest-lived pet and last update time as running maxima,
+ * so recording an event never touches the database. The batch applies them to the row once when
+ * its unit of work prepares to commit; a batch that rolls back simply drops its counters. Only
+ * used by the processor thread handling the batch, so nothing here is synchronized.
+ */
+final class PetStatisticsCounters {
+
+  /** The longest-lived pet seen so far. */
+  record LongestLived(String petId, String name, int age) { }
+
+  private long created;
+  private long died;
+  private long totalLifespan;
+  private final Map<PetStage, Long> stageDeltas = new EnumMap<>(PetStage.class);
+  private LongestLived longestLived;
+  private Instant lastUpdated;
+
+  void petCreated(Instant timestamp) {
+    created++;
+    stageDeltas.merge(PetStage.EGG, 1L, Long::sum);
+    touch(timestamp);
+  }
+
+  void petDied(int finalAge, Instant timestamp) {
+    died++;
+    totalLifespan += finalAge;
+    touch(timestamp);
+  }
+
+  void petEvolved(PetStage oldStage, PetStage newStage, Instant timestamp) {
+    stageDeltas.merge(oldStage, -1L, Long::sum);
+    stageDeltas.merge(newStage, 1L, Long::sum);
+    touch(timestamp);
+  }
+
+  /** The longest-lived pet recorded in these counters, null if none. */
+  LongestLived longestLived() {
+    return longestLived;
+  }
+
+  /** Record {@code candidate} if it lived longer than the current record. */
+  void offerLongestLived(LongestLived candidate) {
+    if (longestLived == null || candidate.age() > longestLived.age()) {
+      longestLived = candidate;
+    }
+  }
+
+  /** Merge into {@code stats}, the managed row being written by the batch. */
+  void applyTo(PetStatistics stats) {
+    stats.setTotalPetsCreated(stats.getTotalPetsCreated() + (int) created);
+    stats.setTotalPetsDied(stats.getTotalPetsDied() + (int) died);
+    stats.setTotalLifespan(stats.getTotalLifespan() + totalLifespan);
+
+    Map<PetStage, Integer> distribution = stats.getStageDistribution();
+    stageDeltas.forEach(
+        (stage, delta) -> {
+          if (delta != 0) {
+            distribution.merge(stage, delta.intValue(), Integer::sum);
+          }
+        });
+    distribution.entrySet().removeIf(entry -> entry.getValue() == null || entry.getValue() <= 0);
+
+    if (longestLived != null && longestLived.age() > stats.getLongestLivedPetAge()) {
+      stats.setLongestLivedPetId(longestLived.petId());
+      stats.setLongestLivedPetName(longestLived.name());
+      stats.setLongestLivedPetAge(longestLived.age());
+    }
+    if (lastUpdated != null
+        && (stats.getLastUpdated() == null || lastUpdated.isAfter(stats.getLastUpdated()))) {
+      stats.setLastUpdated(lastUpdated);
+    }
+  }
+
+  private void touch(Instant timestamp) {
+    if (timestamp != null && (lastUpdated == null || timestamp.isAfter(lastUpdated))) {
+      lastUpdated = timestamp;
+    }
+  }
+}
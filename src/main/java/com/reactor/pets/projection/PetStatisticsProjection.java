@@ -1,6 +1,5 @@
 package com.reactor.pets.projection;
 
-import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetDiedEvent;
 import com.reactor.pets.event.PetEvolvedEvent;
@@ -10,17 +9,32 @@ import com.reactor.pets.query.PetStatistics;
 import com.reactor.pets.query.PetStatisticsRepository;
 import com.reactor.pets.query.PetStatusRepository;
 import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.service.PetTimeService;
+import jakarta.annotation.PostConstruct;
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.config.ProcessingGroup;
 import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.ResetHandler;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.queryhandling.QueryHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Maintains the single {@code GLOBAL} statistics row.
+ *
+ * <p>Events only update the {@link PetStatisticsCounters} of their event processor batch. The
+ * row is read and written once per batch when its unit of work prepares to commit, in the same
+ * transaction as the processor's token, so a batch that rolls back and is retried never counts
+ * its events twice and committed events are never missing from the row. Outside a unit of work
+ * each event writes the row directly.
+ */
 @Component
 @ProcessingGroup("pet-statistics")
 @Slf4j
@@ -28,89 +42,83 @@ import org.springframework.transaction.annotation.Transactional;
 public class PetStatisticsProjection {
 
   private static final String GLOBAL_STATS_ID = "GLOBAL";
+  private static final int LEADERBOARD_SIZE = 10;
+  private static final String RESOURCE_KEY = PetStatisticsProjection.class.getName();
 
   private final PetStatisticsRepository statisticsRepository;
   private final PetStatusRepository petStatusRepository;
+  private final LeaderboardIndex leaderboardIndex;
+  private final PetTimeService petTimeService;
+  private final ProjectionUpdateEmitter updateEmitter;
+
+  // Longest-lived pet of the committed row, so deaths only look up names for new records
+  private final AtomicReference<PetStatisticsCounters.LongestLived> longestLived =
+      new AtomicReference<>();
+
+  @PostConstruct
+  public void loadLongestLived() {
+    statisticsRepository
+        .findById(GLOBAL_STATS_ID)
+        .filter(stats -> stats.getLongestLivedPetId() != null)
+        .ifPresent(
+            stats ->
+                longestLived.set(
+                    new PetStatisticsCounters.LongestLived(
+                        stats.getLongestLivedPetId(),
+                        stats.getLongestLivedPetName(),
+                        stats.getLongestLivedPetAge())));
+  }
+
+  @ResetHandler
+  @Transactional
+  public void reset() {
+    log.info("Resetting pet statistics projection");
+    longestLived.set(null);
+    statisticsRepository.deleteAll(); // Also removes the stage distribution rows
+  }
 
   @EventHandler
   @Transactional
   public void on(PetCreatedEvent event) {
     log.debug("Updating statistics for PetCreatedEvent: {}", event.getPetId());
-
-    PetStatistics stats = getOrCreateStatistics();
-    stats.setTotalPetsCreated(stats.getTotalPetsCreated() + 1);
-
-    // Update stage distribution
-    PetStage initialStage = PetStage.EGG;
-    stats
-        .getStageDistribution()
-        .merge(initialStage, 1, Integer::sum); // Add 1, or sum if already exists
-
-    stats.setLastUpdated(event.getTimestamp());
-    statisticsRepository.save(stats);
-
-    log.info(
-        "Statistics updated: Total pets created = {}, Stage distribution updated",
-        stats.getTotalPetsCreated());
+    collect(counters -> counters.petCreated(event.getTimestamp()));
   }
 
   @EventHandler
   @Transactional
   public void on(PetDiedEvent event) {
     log.debug("Updating statistics for PetDiedEvent: {}", event.getPetId());
-
-    PetStatistics stats = getOrCreateStatistics();
-    stats.setTotalPetsDied(stats.getTotalPetsDied() + 1);
-
-    // Update longest-lived pet if applicable
-    if (event.getFinalAge() > stats.getLongestLivedPetAge()) {
-      // Look up the pet name from the status repository
-      petStatusRepository
-          .findById(event.getPetId())
-          .ifPresent(
-              pet -> {
-                stats.setLongestLivedPetId(event.getPetId());
-                stats.setLongestLivedPetName(pet.getName());
-                stats.setLongestLivedPetAge(event.getFinalAge());
-                log.info(
-                    "New longest-lived pet record: {} at age {}",
-                    pet.getName(),
-                    event.getFinalAge());
-              });
-    }
-
-    stats.setLastUpdated(event.getTimestamp());
-    statisticsRepository.save(stats);
-
-    log.info("Statistics updated: Total pets died = {}", stats.getTotalPetsDied());
+    collect(
+        counters -> {
+          counters.petDied(event.getFinalAge(), event.getTimestamp());
+
+          // Update longest-lived pet if applicable
+          int recordAge = Math.max(ageOf(longestLived.get()), ageOf(counters.longestLived()));
+          if (event.getFinalAge() > recordAge) {
+            // Look up the pet name from the status repository
+            petStatusRepository
+                .findById(event.getPetId())
+                .ifPresent(
+                    pet -> {
+                      counters.offerLongestLived(
+                          new PetStatisticsCounters.LongestLived(
+                              event.getPetId(), pet.getName(), event.getFinalAge()));
+                      log.info(
+                          "New longest-lived pet record: {} at age {}",
+                          pet.getName(),
+                          event.getFinalAge());
+                    });
+          }
+        });
   }
 
   @EventHandler
   @Transactional
   public void on(PetEvolvedEvent event) {
     log.debug("Updating stage distribution for PetEvolvedEvent: {}", event.getPetId());
-
-    PetStatistics stats = getOrCreateStatistics();
-
-    // Decrement old stage count
-    stats.getStageDistribution().computeIfPresent(event.getOldStage(), (stage, count) -> count - 1);
-
-    // Increment new stage count
-    stats.getStageDistribution().merge(event.getNewStage(), 1, Integer::sum);
-
-    // Clean up zero counts
-    stats
-        .getStageDistribution()
-        .entrySet()
-        .removeIf(entry -> entry.getValue() != null && entry.getValue() <= 0);
-
-    stats.setLastUpdated(event.getTimestamp());
-    statisticsRepository.save(stats);
-
-    log.debug(
-        "Stage distribution updated: {} -> {}",
-        event.getOldStage(),
-        event.getNewStage());
+    collect(
+        counters ->
+            counters.petEvolved(event.getOldStage(), event.getNewStage(), event.getTimestamp()));
   }
 
   @QueryHandler
@@ -123,24 +131,66 @@ public class PetStatisticsProjection {
   public List<PetStatusView> handle(GetLeaderboardQuery query) {
     log.debug("Handling GetLeaderboardQuery for type: {}, aliveOnly: {}", query.getType(), query.isAliveOnly());
 
-    List<PetStatusView> allPets = query.isAliveOnly()
-        ? petStatusRepository.findByIsAlive(true)
-        : petStatusRepository.findAll();
-
-    return switch (query.getType()) {
-      case AGE -> allPets.stream()
-          .sorted(Comparator.comparingInt(PetStatusView::getAge).reversed())
-          .limit(10)
-          .toList();
-      case HAPPINESS -> allPets.stream()
-          .sorted(Comparator.comparingInt(PetStatusView::getHappiness).reversed())
-          .limit(10)
-          .toList();
-      case HEALTH -> allPets.stream()
-          .sorted(Comparator.comparingInt(PetStatusView::getHealth).reversed())
-          .limit(10)
-          .toList();
-    };
+    List<PetStatusView> top =
+        leaderboardIndex.top(query.getType(), query.isAliveOnly(), LEADERBOARD_SIZE);
+    if (!petTimeService.isLazyDecay()) {
+      return top;
+    }
+    // Bring the entries to the current tick, dropping pets that have died since they were saved
+    return top.stream()
+        .map(petTimeService::atCurrentTick)
+        .filter(view -> !query.isAliveOnly() || view.isAlive())
+        .sorted(LeaderboardIndex.ranking(query.getType()))
+        .toList();
+  }
+
+  /**
+   * Apply a change to the counters of the current batch, or straight to the row outside a unit
+   * of work.
+   */
+  private void collect(Consumer<PetStatisticsCounters> change) {
+    if (!CurrentUnitOfWork.isStarted()) {
+      PetStatisticsCounters counters = new PetStatisticsCounters();
+      change.accept(counters);
+      write(counters);
+      committed(counters);
+      return;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+    change.accept(
+        unitOfWork.getOrComputeResource(
+            RESOURCE_KEY,
+            key -> {
+              PetStatisticsCounters counters = new PetStatisticsCounters();
+              unitOfWork.onPrepareCommit(u -> write(counters));
+              unitOfWork.afterCommit(u -> committed(counters));
+              return counters;
+            }));
+  }
+
+  private void write(PetStatisticsCounters counters) {
+    PetStatistics stats = getOrCreateStatistics();
+    counters.applyTo(stats);
+    statisticsRepository.save(stats);
+    updateEmitter.emit(GetStatisticsQuery.class, query -> true, GLOBAL_STATS_ID, () -> stats);
+    log.debug(
+        "Statistics written: Total pets created = {}, died = {}",
+        stats.getTotalPetsCreated(),
+        stats.getTotalPetsDied());
+  }
+
+  private void committed(PetStatisticsCounters counters) {
+    PetStatisticsCounters.LongestLived candidate = counters.longestLived();
+    if (candidate != null) {
+      longestLived.accumulateAndGet(
+          candidate,
+          (current, offered) ->
+              current == null || offered.age() > current.age() ? offered : current);
+    }
+  }
+
+  private static int ageOf(PetStatisticsCounters.LongestLived pet) {
+    return pet != null ? pet.age() : 0;
   }
 
   private PetStatistics getOrCreateStatistics() {
@@ -3,6 +3,7 @@ package com.reactor.pets.projection;
 import com.reactor.pets.aggregate.EvolutionPath;
 import com.reactor.pets.event.ItemEquippedEvent;
 import com.reactor.pets.event.ItemUnequippedEvent;
+import com.reactor.pets.event.PermanentModifierAppliedEvent;
 import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetDiedEvent;
@@ -11,19 +12,26 @@ import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetHealthDeterioratedEvent;
 import com.reactor.pets.event.PetMournedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
+import com.reactor.pets.query.GetAlivePetIdsQuery;
 import com.reactor.pets.query.GetAlivePetsQuery;
 import com.reactor.pets.query.GetAllPetsQuery;
+import com.reactor.pets.query.GetPetIdsDueForTickQuery;
 import com.reactor.pets.query.GetPetStatusQuery;
 import com.reactor.pets.query.PetStatusRepository;
 import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.service.PetTimeService;
+import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.config.ProcessingGroup;
 import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.ResetHandler;
 import org.axonframework.queryhandling.QueryHandler;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +42,28 @@ import org.springframework.transaction.annotation.Transactional;
 public class PetStatusProjection {
 
   private final PetStatusRepository petStatusRepository;
+  private final PetTimeService petTimeService;
+  private final PetStatusWriteBehind writeBehind;
+  private final LeaderboardIndex leaderboardIndex;
+  private final ProjectionUpdateEmitter updateEmitter;
+  private final AlivePetRegistry alivePetRegistry;
+
+  @PostConstruct
+  public void loadIndexes() {
+    List<PetStatusView> stored = petStatusRepository.findAll();
+    leaderboardIndex.reload(stored);
+    alivePetRegistry.reload(
+        stored.stream().filter(PetStatusView::isAlive).map(PetStatusView::getPetId).toList());
+  }
+
+  @ResetHandler
+  @Transactional
+  public void reset() {
+    log.info("Resetting pet status projection");
+    petStatusRepository.deleteAllInBatch();
+    leaderboardIndex.clear();
+    alivePetRegistry.clear();
+  }
 
   @EventHandler
   @Transactional
@@ -58,7 +88,8 @@ public class PetStatusProjection {
     view.setMaxEquipmentSlots(0); // Eggs have no equipment slots
     view.setLastUpdated(event.getTimestamp());
 
-    petStatusRepository.save(view);
+    save(view);
+    alivePetRegistry.add(event.getPetId());
     log.info("Pet created: {} ({}) at global tick {}", event.getName(), event.getType(), event.getBirthGlobalTick());
   }
 
@@ -67,14 +98,14 @@ public class PetStatusProjection {
   public void on(PetFedEvent event) {
     log.debug("Processing PetFedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHunger = Math.max(0, view.getHunger() - event.getHungerReduction());
               view.setHunger(newHunger);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} fed. Hunger reduced by {} to {}",
                   view.getName(),
@@ -88,8 +119,8 @@ public class PetStatusProjection {
   public void on(PetPlayedWithEvent event) {
     log.debug("Processing PetPlayedWithEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHappiness = Math.min(100, view.getHappiness() + event.getHappinessIncrease());
@@ -97,7 +128,7 @@ public class PetStatusProjection {
               view.setHappiness(newHappiness);
               view.setHunger(newHunger);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} played with. Happiness increased by {} to {}, Hunger increased by {} to {}",
                   view.getName(),
@@ -113,14 +144,14 @@ public class PetStatusProjection {
   public void on(PetCleanedEvent event) {
     log.debug("Processing PetCleanedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHealth = Math.min(100, view.getHealth() + event.getHealthIncrease());
               view.setHealth(newHealth);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} cleaned. Health increased by {} to {}",
                   view.getName(),
@@ -134,8 +165,8 @@ public class PetStatusProjection {
   public void on(PetEvolvedEvent event) {
     log.debug("Processing PetEvolvedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               view.setStage(event.getNewStage());
@@ -151,7 +182,7 @@ public class PetStatusProjection {
               view.setMaxEquipmentSlots(newSlots);
 
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} evolved from {} to {} with {} path. Reason: {}. Equipment slots: {}",
                   view.getName(),
@@ -169,51 +200,95 @@ public class PetStatusProjection {
 
     return petStatusRepository
         .findById(query.getPetId())
+        .map(petTimeService::atCurrentTick)
         .orElseThrow(() -> new IllegalArgumentException("Pet not found: " + query.getPetId()));
   }
 
   @EventHandler
   @Transactional
-  public void on(TimePassedEvent event) {
-    log.info("*** PROCESSING TimePassedEvent for petId: {}, hunger increase: {}", event.getPetId(), event.getHungerIncrease());
-
-    petStatusRepository
-        .findById(event.getPetId())
+  public void on(PetTickedEvent event) {
+    log.debug(
+        "Processing PetTickedEvent for petId: {} (tick {})",
+        event.getPetId(),
+        event.getGlobalTick());
+
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHunger = Math.min(100, view.getHunger() + event.getHungerIncrease());
               int newHappiness = Math.max(0, view.getHappiness() - event.getHappinessDecrease());
+              int regenerated = Math.min(100, view.getHealth() + event.getHealthRegenerated());
+              int newHealth = Math.max(0, regenerated - event.getHealthDecrease());
               view.setHunger(newHunger);
               view.setHappiness(newHappiness);
+              view.setHealth(newHealth);
               view.setAge(view.getAge() + event.getAgeIncrease());
               view.setCurrentGlobalTick(event.getGlobalTick());
               view.setXpMultiplier(event.getNewXpMultiplier());
+              view.setLowStatsTicks(event.getNewLowStatsTicks());
+              view.setLastUpdated(event.getTimestamp());
+              save(view);
+              if (event.getHealthDecrease() > 0) {
+                log.warn(
+                    "Pet {} health deteriorated by {} to {}. Reason: {}",
+                    view.getName(),
+                    event.getHealthDecrease(),
+                    newHealth,
+                    event.getDeteriorationReason());
+              }
+            });
+  }
+
+  @EventHandler
+  @Transactional
+  public void on(PetTimeAdvancedEvent event) {
+    log.debug(
+        "Processing PetTimeAdvancedEvent for petId: {} (ticks {} to {})",
+        event.getPetId(),
+        event.getFromGlobalTick(),
+        event.getToGlobalTick());
+
+    writeBehind
+        .find(event.getPetId())
+        .ifPresent(
+            view -> {
+              view.setHunger(Math.min(100, view.getHunger() + event.getHungerIncrease()));
+              view.setHappiness(Math.max(0, view.getHappiness() - event.getHappinessDecrease()));
+              int newHealth = view.getHealth() + event.getHealthChange();
+              view.setHealth(Math.max(0, Math.min(100, newHealth)));
+              view.setAge(view.getAge() + event.getAgeIncrease());
+              view.setCurrentGlobalTick(event.getToGlobalTick());
+              view.setXpMultiplier(event.getNewXpMultiplier());
+              view.setLowStatsTicks(event.getNewLowStatsTicks());
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
-                  "*** Time passed for pet {}. Age: {}, LocalAge: {}, GlobalTick: {}, Hunger: {}, Happiness: {}",
+                  "Time advanced {} ticks for pet {}. Age: {}, Hunger: {}, Happiness: {},"
+                      + " Health: {}",
+                  event.getToGlobalTick() - event.getFromGlobalTick(),
                   view.getName(),
                   view.getAge(),
-                  view.getLocalAge(),
-                  view.getCurrentGlobalTick(),
-                  newHunger,
-                  newHappiness);
+                  view.getHunger(),
+                  view.getHappiness(),
+                  view.getHealth());
             });
   }
 
+  // Legacy: ticks before PetTickedEvent reported deterioration separately
   @EventHandler
   @Transactional
   public void on(PetHealthDeterioratedEvent event) {
     log.debug("Processing PetHealthDeterioratedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHealth = Math.max(0, view.getHealth() - event.getHealthDecrease());
               view.setHealth(newHealth);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.warn(
                   "Pet {} health deteriorated by {} to {}. Reason: {}",
                   view.getName(),
@@ -227,14 +302,15 @@ public class PetStatusProjection {
   @Transactional
   public void on(PetDiedEvent event) {
     log.debug("Processing PetDiedEvent for petId: {}", event.getPetId());
+    alivePetRegistry.remove(event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               view.setAlive(false);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.error(
                   "Pet {} has died at age {}. Local age: {}. Cause: {}",
                   view.getName(),
@@ -248,14 +324,37 @@ public class PetStatusProjection {
   public List<PetStatusView> handle(GetAllPetsQuery query) {
     log.debug("Handling GetAllPetsQuery");
 
-    return petStatusRepository.findAll();
+    return petStatusRepository.findAll().stream().map(petTimeService::atCurrentTick).toList();
   }
 
   @QueryHandler
   public List<PetStatusView> handle(GetAlivePetsQuery query) {
     log.debug("Handling GetAlivePetsQuery");
 
-    return petStatusRepository.findByIsAlive(true);
+    return petStatusRepository.findByIsAlive(true).stream()
+        .map(petTimeService::atCurrentTick)
+        .toList();
+  }
+
+  @QueryHandler
+  public List<String> handle(GetAlivePetIdsQuery query) {
+    log.debug("Handling GetAlivePetIdsQuery after {}", query.getAfterPetId());
+
+    String afterPetId = query.getAfterPetId() != null ? query.getAfterPetId() : "";
+    return petStatusRepository.findAlivePetIdsAfter(
+        afterPetId, PageRequest.of(0, query.getLimit()));
+  }
+
+  @QueryHandler
+  public List<String> handle(GetPetIdsDueForTickQuery query) {
+    log.debug(
+        "Handling GetPetIdsDueForTickQuery at tick {} after {}",
+        query.getGlobalTick(),
+        query.getAfterPetId());
+
+    String afterPetId = query.getAfterPetId() != null ? query.getAfterPetId() : "";
+    return petStatusRepository.findDuePetIdsAfter(
+        afterPetId, query.getGlobalTick(), PageRequest.of(0, query.getLimit()));
   }
 
   @EventHandler
@@ -263,13 +362,13 @@ public class PetStatusProjection {
   public void on(ItemEquippedEvent event) {
     log.debug("Processing ItemEquippedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               view.getEquippedItems().put(event.getSlot().name(), event.getItem());
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} equipped {} in slot {}",
                   view.getName(),
@@ -283,13 +382,13 @@ public class PetStatusProjection {
   public void on(ItemUnequippedEvent event) {
     log.debug("Processing ItemUnequippedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               view.getEquippedItems().remove(event.getSlot().name());
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} unequipped {} from slot {}",
                   view.getName(),
@@ -298,19 +397,38 @@ public class PetStatusProjection {
             });
   }
 
+  @EventHandler
+  @Transactional
+  public void on(PermanentModifierAppliedEvent event) {
+    log.debug("Processing PermanentModifierAppliedEvent for petId: {}", event.getPetId());
+
+    writeBehind
+        .find(event.getPetId())
+        .ifPresent(
+            view -> {
+              if (view.getPermanentModifiers() == null) {
+                view.setPermanentModifiers(new HashMap<>());
+              }
+              view.getPermanentModifiers()
+                  .put(event.getUpgrade().getUpgradeType().name(), event.getUpgrade());
+              view.setLastUpdated(event.getTimestamp());
+              save(view);
+            });
+  }
+
   @EventHandler
   @Transactional
   public void on(PetMournedEvent event) {
     log.debug("Processing PetMournedEvent for petId: {}", event.getPetId());
 
-    petStatusRepository
-        .findById(event.getPetId())
+    writeBehind
+        .find(event.getPetId())
         .ifPresent(
             view -> {
               int newHappiness = Math.max(0, view.getHappiness() - event.getHappinessLoss());
               view.setHappiness(newHappiness);
               view.setLastUpdated(event.getTimestamp());
-              petStatusRepository.save(view);
+              save(view);
               log.info(
                   "Pet {} mourned the death of pet {}. Happiness decreased by {} to {}",
                   view.getName(),
@@ -319,4 +437,25 @@ public class PetStatusProjection {
                   newHappiness);
             });
   }
+
+  /**
+   * Save a view along with the tick of its next time transition, which the scheduler uses to
+   * find pets due for a tick under lazy time evaluation. Within an event processor batch the
+   * view is written when the batch commits. The leaderboard index is updated right away.
+   */
+  private void save(PetStatusView view) {
+    view.setNextTransitionTick(petTimeService.nextTransitionTick(view));
+    writeBehind.save(view);
+    leaderboardIndex.update(view);
+
+    // Push the pet's latest view, brought to the current tick, once per batch
+    String petId = view.getPetId();
+    updateEmitter.emit(
+        GetAllPetsQuery.class, query -> true, petId, () -> petTimeService.atCurrentTick(view));
+    updateEmitter.emit(
+        GetPetStatusQuery.class,
+        query -> query.getPetId().equals(petId),
+        petId,
+        () -> petTimeService.atCurrentTick(view));
+  }
 }
@@ -0,0 +1,123 @@
+package com.reactor.pets.projection;
+
+import com.reactor.pets.config.PetIdSequencingPolicy;
+import com.reactor.pets.query.PetStatusRepository;
+import com.reactor.pets.query.PetStatusView;
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pet status views shared by all events of one event processor batch.
+ *
+ * <p>The first lookup in a batch loads the views of every pet in the batch with one query.
+ * Handlers then read and modify those instances in memory. Modified views are saved once when
+ * the batch's unit of work prepares to commit, where Hibernate writes them as JDBC batch updates.
+ * A pet with several events in the batch is therefore selected and updated once instead of once
+ * per event. Views of pets known to be absent from the table, such as every pet created while a
+ * projection is rebuilt, are persisted as plain inserts instead of merged. Outside a unit of work,
+ * lookups and saves go straight to the repository.
+ */
+@Component
+@RequiredArgsConstructor
+class PetStatusWriteBehind {
+
+  private static final String RESOURCE_KEY = PetStatusWriteBehind.class.getName();
+
+  private final PetStatusRepository petStatusRepository;
+  private final PetIdSequencingPolicy petIdPolicy;
+  private final EntityManager entityManager;
+
+  /** Views of one batch: loaded or saved views by pet id, and the ids to write at commit. */
+  private static final class Batch {
+    private final Map<String, PetStatusView> views = new HashMap<>();
+    private final Set<String> missing = new HashSet<>();
+    private final Map<String, PetStatusView> dirty = new LinkedHashMap<>();
+    private final Map<String, PetStatusView> inserts = new LinkedHashMap<>();
+  }
+
+  Optional<PetStatusView> find(String petId) {
+    Batch batch = currentBatch();
+    if (batch == null) {
+      return petStatusRepository.findById(petId);
+    }
+    PetStatusView view = batch.views.get(petId);
+    if (view != null || batch.missing.contains(petId)) {
+      return Optional.ofNullable(view);
+    }
+    Optional<PetStatusView> loaded = petStatusRepository.findById(petId);
+    loaded.ifPresentOrElse(found -> batch.views.put(petId, found), () -> batch.missing.add(petId));
+    return loaded;
+  }
+
+  void save(PetStatusView view) {
+    Batch batch = currentBatch();
+    if (batch == null) {
+      petStatusRepository.save(view);
+      return;
+    }
+    String petId = view.getPetId();
+    if (batch.missing.remove(petId) || batch.inserts.containsKey(petId)) {
+      batch.inserts.put(petId, view);
+    } else {
+      batch.dirty.put(petId, view);
+    }
+    batch.views.put(petId, view);
+  }
+
+  private Batch currentBatch() {
+    if (!CurrentUnitOfWork.isStarted()) {
+      return null;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+    return unitOfWork.getOrComputeResource(
+        RESOURCE_KEY,
+        key -> {
+          Batch batch = new Batch();
+          prefetch(unitOfWork, batch);
+          unitOfWork.onPrepareCommit(u -> flush(batch));
+          return batch;
+        });
+  }
+
+  private void prefetch(UnitOfWork<?> unitOfWork, Batch batch) {
+    if (!(unitOfWork instanceof BatchingUnitOfWork<?> batchingUnitOfWork)) {
+      return;
+    }
+    Set<String> petIds = new HashSet<>();
+    for (Object message : batchingUnitOfWork.getMessages()) {
+      if (message instanceof EventMessage<?> event
+          && petIdPolicy.getSequenceIdentifierFor(event) instanceof String petId) {
+        petIds.add(petId);
+      }
+    }
+    if (petIds.isEmpty()) {
+      return;
+    }
+    // Also for a single pet, so one created in the batch is known to be missing and inserted
+    petStatusRepository
+        .findAllById(petIds)
+        .forEach(view -> batch.views.put(view.getPetId(), view));
+    petIds.stream().filter(id -> !batch.views.containsKey(id)).forEach(batch.missing::add);
+  }
+
+  private void flush(Batch batch) {
+    batch.inserts.values().forEach(entityManager::persist);
+    batch.inserts.clear();
+    if (!batch.dirty.isEmpty()) {
+      petStatusRepository.saveAll(List.copyOf(batch.dirty.values()));
+      batch.dirty.clear();
+    }
+  }
+}
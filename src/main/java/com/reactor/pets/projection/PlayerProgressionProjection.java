@@ -1,19 +1,26 @@
 package com.reactor.pets.projection;
 
 import com.reactor.pets.event.PetCreatedForPlayerEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
 import com.reactor.pets.event.PlayerInitializedEvent;
-import com.reactor.pets.event.TimePassedEvent;
 import com.reactor.pets.event.UpgradePurchasedEvent;
 import com.reactor.pets.event.XPEarnedEvent;
 import com.reactor.pets.event.XPSpentEvent;
 import com.reactor.pets.query.GetPlayerProgressionQuery;
 import com.reactor.pets.query.PlayerProgressionRepository;
 import com.reactor.pets.query.PlayerProgressionView;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.config.ProcessingGroup;
 import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.queryhandling.QueryHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +31,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PlayerProgressionProjection {
 
+  private static final String RESOURCE_KEY = PlayerProgressionProjection.class.getName();
+
   private final PlayerProgressionRepository playerProgressionRepository;
+  private final ProjectionUpdateEmitter updateEmitter;
+
+  // Highest XP multiplier per player known to be in the committed player row, so a tick only
+  // reads the row when it brings a new maximum
+  private final Map<String, Double> highestXPMultipliers = new ConcurrentHashMap<>();
+
+  /** Highest XP multiplier of a player within one batch, and when it was reached. */
+  private record Multiplier(double value, Instant timestamp) { }
 
   @EventHandler
   @Transactional
@@ -45,7 +62,7 @@ public class PlayerProgressionProjection {
     view.setXpEarnedLast10Ticks(0);
     view.setTickCountLast10(0);
 
-    playerProgressionRepository.save(view);
+    save(view);
     log.info("Player initialized with {} starting XP", event.getStartingXP());
   }
 
@@ -61,7 +78,7 @@ public class PlayerProgressionProjection {
               view.setTotalXP(event.getNewTotalXP());
               view.setLifetimeXPEarned(event.getNewLifetimeXP());
               view.setLastUpdated(event.getTimestamp());
-              playerProgressionRepository.save(view);
+              save(view);
               log.info(
                   "Player earned {} XP from '{}'. New total: {}, Lifetime: {}",
                   event.getXpAmount(),
@@ -84,7 +101,7 @@ public class PlayerProgressionProjection {
               // Phase 7E: Track total XP spent
               view.setTotalXPSpent(view.getTotalXPSpent() + event.getXpAmount());
               view.setLastUpdated(event.getTimestamp());
-              playerProgressionRepository.save(view);
+              save(view);
               log.info(
                   "Player spent {} XP on '{}'. New total: {}, Total spent: {}",
                   event.getXpAmount(),
@@ -105,7 +122,7 @@ public class PlayerProgressionProjection {
             view -> {
               view.setTotalPetsCreated(event.getTotalPetsCreated());
               view.setLastUpdated(event.getTimestamp());
-              playerProgressionRepository.save(view);
+              save(view);
               log.info(
                   "Player pet count updated to {}. Pet: {} ({})",
                   event.getTotalPetsCreated(),
@@ -128,7 +145,7 @@ public class PlayerProgressionProjection {
               }
               view.getPermanentUpgrades().add(event.getUpgradeType());
               view.setLastUpdated(event.getTimestamp());
-              playerProgressionRepository.save(view);
+              save(view);
               log.info(
                   "Player purchased upgrade: {}. Total upgrades: {}",
                   event.getUpgradeType(),
@@ -138,25 +155,18 @@ public class PlayerProgressionProjection {
 
   @EventHandler
   @Transactional
-  public void on(TimePassedEvent event) {
+  public void on(PetTickedEvent event) {
     // Phase 7E: Track highest XP multiplier across all pets
     // Note: We need to know which player owns this pet. For now, we'll use PLAYER_1 (single-player)
     String playerId = "PLAYER_1"; // TODO: Multi-player support would need pet-to-player mapping
+    recordXPMultiplier(playerId, event.getNewXpMultiplier(), event.getTimestamp());
+  }
 
-    playerProgressionRepository
-        .findById(playerId)
-        .ifPresent(
-            view -> {
-              if (event.getNewXpMultiplier() > view.getHighestXPMultiplier()) {
-                view.setHighestXPMultiplier(event.getNewXpMultiplier());
-                view.setLastUpdated(event.getTimestamp());
-                playerProgressionRepository.save(view);
-                log.debug(
-                    "New highest XP multiplier: {} (previous: {})",
-                    event.getNewXpMultiplier(),
-                    view.getHighestXPMultiplier());
-              }
-            });
+  @EventHandler
+  @Transactional
+  public void on(PetTimeAdvancedEvent event) {
+    // Same tracking as PetTickedEvent for multi-tick spans (single-player, see above)
+    recordXPMultiplier("PLAYER_1", event.getNewXpMultiplier(), event.getTimestamp());
   }
 
   @QueryHandler
@@ -166,4 +176,81 @@ public class PlayerProgressionProjection {
         .findById(query.getPlayerId())
         .orElse(null); // Return null if player not initialized yet
   }
+
+  /**
+   * Collect a new XP multiplier maximum in the current batch. The batch writes its maxima to the
+   * player rows when its unit of work prepares to commit, in the same transaction as the
+   * processor's token; outside a unit of work the row is written directly.
+   */
+  private void recordXPMultiplier(String playerId, double multiplier, Instant timestamp) {
+    Double committed = highestXPMultipliers.get(playerId);
+    if (committed != null && multiplier <= committed) {
+      return;
+    }
+    if (!CurrentUnitOfWork.isStarted()) {
+      writeXPMultipliers(Map.of(playerId, new Multiplier(multiplier, timestamp)));
+      return;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+    Map<String, Multiplier> batch =
+        unitOfWork.getOrComputeResource(
+            RESOURCE_KEY,
+            key -> {
+              Map<String, Multiplier> multipliers = new HashMap<>();
+              unitOfWork.onPrepareCommit(u -> writeXPMultipliers(multipliers));
+              return multipliers;
+            });
+    batch.merge(
+        playerId,
+        new Multiplier(multiplier, timestamp),
+        (current, offered) -> offered.value() > current.value() ? offered : current);
+  }
+
+  /**
+   * Raise the stored highest XP multiplier of each player to the given maximum. The known maxima
+   * only change once the transaction commits, so a rolled back batch writes them again on retry.
+   */
+  private void writeXPMultipliers(Map<String, Multiplier> multipliers) {
+    Map<String, Double> stored = new HashMap<>();
+    multipliers.forEach(
+        (playerId, multiplier) ->
+            playerProgressionRepository
+                .findById(playerId)
+                .ifPresent(
+                    view -> {
+                      if (multiplier.value() > view.getHighestXPMultiplier()) {
+                        view.setHighestXPMultiplier(multiplier.value());
+                        if (view.getLastUpdated() == null
+                            || multiplier.timestamp().isAfter(view.getLastUpdated())) {
+                          view.setLastUpdated(multiplier.timestamp());
+                        }
+                        save(view);
+                        log.debug(
+                            "New highest XP multiplier for {}: {}", playerId, multiplier.value());
+                      }
+                      stored.put(playerId, view.getHighestXPMultiplier());
+                    }));
+
+    if (CurrentUnitOfWork.isStarted()) {
+      CurrentUnitOfWork.get().afterCommit(u -> rememberXPMultipliers(stored));
+    } else {
+      rememberXPMultipliers(stored);
+    }
+  }
+
+  private void rememberXPMultipliers(Map<String, Double> stored) {
+    stored.forEach(
+        (playerId, multiplier) -> highestXPMultipliers.merge(playerId, multiplier, Math::max));
+  }
+
+  private void save(PlayerProgressionView view) {
+    playerProgressionRepository.save(view);
+    // Push the player's latest view to subscription queries once per batch
+    String playerId = view.getPlayerId();
+    updateEmitter.emit(
+        GetPlayerProgressionQuery.class,
+        query -> query.getPlayerId().equals(playerId),
+        playerId,
+        () -> view);
+  }
 }
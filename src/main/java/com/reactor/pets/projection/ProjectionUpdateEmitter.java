@@ -0,0 +1,64 @@
+package com.reactor.pets.projection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.axonframework.eventhandling.ReplayToken;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.queryhandling.QueryUpdateEmitter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Subscription query updates for the views changed by one event processor batch.
+ *
+ * <p>A view saved by several events of a batch is emitted once, in its final state, when the
+ * batch's unit of work prepares to commit; the {@link QueryUpdateEmitter} then delivers it after
+ * the commit. Events handled while a processor replays emit nothing, so rebuilding a projection
+ * does not flood live subscribers with historic states. Outside a unit of work updates are
+ * emitted right away.
+ */
+@Component
+@RequiredArgsConstructor
+class ProjectionUpdateEmitter {
+
+  private static final String RESOURCE_KEY = ProjectionUpdateEmitter.class.getName();
+
+  private final QueryUpdateEmitter queryUpdateEmitter;
+
+  /**
+   * Emit an update to the subscriptions of {@code queryType} matching {@code filter}, replacing
+   * an update for the same query type and {@code key} emitted earlier in the batch. The update
+   * is only built when it is emitted.
+   */
+  <Q, U> void emit(
+      Class<Q> queryType, Predicate<? super Q> filter, String key, Supplier<U> update) {
+    if (!CurrentUnitOfWork.isStarted()) {
+      queryUpdateEmitter.emit(queryType, filter, update.get());
+      return;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+    if (ReplayToken.isReplay(unitOfWork.getMessage())) {
+      return;
+    }
+    UnitOfWork<?> root = unitOfWork.root();
+    if (root.phase().isAfter(UnitOfWork.Phase.STARTED)) {
+      // Written while the batch commits, so the view is already final
+      queryUpdateEmitter.emit(queryType, filter, update.get());
+      return;
+    }
+    Map<String, Runnable> pending =
+        root.getOrComputeResource(
+            RESOURCE_KEY,
+            resourceKey -> {
+              Map<String, Runnable> updates = new LinkedHashMap<>();
+              root.onPrepareCommit(u -> updates.values().forEach(Runnable::run));
+              return updates;
+            });
+    pending.put(
+        queryType.getName() + "/" + key,
+        () -> queryUpdateEmitter.emit(queryType, filter, update.get()));
+  }
+}
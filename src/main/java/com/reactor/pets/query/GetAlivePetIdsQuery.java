@@ -0,0 +1,13 @@
+package com.reactor.pets.query;
+
+import lombok.Value;
+
+/**
+ * Returns up to {@code limit} ids of alive pets, ordered by id, that sort after
+ * {@code afterPetId} (keyset pagination; null starts at the beginning).
+ */
+@Value
+public class GetAlivePetIdsQuery {
+  String afterPetId;
+  int limit;
+}
@@ -1,9 +1,16 @@
 package com.reactor.pets.query;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class GetPetHistoryQuery {
   String petId;
   int limit; // Maximum number of events to return (default 10, max 50)
+  Long beforeSequence; // Keyset cursor: only events older than this sequence number, or null
+
+  public GetPetHistoryQuery(String petId, int limit) {
+    this(petId, limit, null);
+  }
 }
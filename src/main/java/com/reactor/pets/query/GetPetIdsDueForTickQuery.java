@@ -0,0 +1,14 @@
+package com.reactor.pets.query;
+
+import lombok.Value;
+
+/**
+ * Like {@link GetAlivePetIdsQuery}, but only returns pets whose next time transition (death or
+ * evolution eligibility) is due at or before {@code globalTick}. Used by lazy time evaluation.
+ */
+@Value
+public class GetPetIdsDueForTickQuery {
+  String afterPetId;
+  int limit;
+  long globalTick;
+}
@@ -12,4 +12,5 @@ public class PetEventDto {
   private String eventType;
   private Instant timestamp;
   private String details;
+  private long sequenceNumber; // Position in the pet's event stream, used as the paging cursor
 }
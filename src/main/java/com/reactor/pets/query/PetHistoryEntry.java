@@ -0,0 +1,42 @@
+package com.reactor.pets.query;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One archived event of a pet's history, keyed for keyset pagination by the event's sequence
+ * number in the pet's event stream.
+ */
+@Entity
+@Table(
+    name = "pet_history",
+    indexes = @Index(name = "idx_pet_history_pet_seq", columnList = "pet_id, sequence_number"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetHistoryEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE) // Sequence ids keep JDBC insert batching
+  private Long id;
+
+  @Column(name = "pet_id", nullable = false)
+  private String petId;
+
+  @Column(name = "sequence_number", nullable = false)
+  private long sequenceNumber;
+
+  private String eventType;
+  private Instant timestamp;
+
+  @Column(length = 512)
+  private String details;
+}
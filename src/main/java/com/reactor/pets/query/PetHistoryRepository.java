@@ -0,0 +1,21 @@
+package com.reactor.pets.query;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PetHistoryRepository extends JpaRepository<PetHistoryEntry, Long> {
+
+  /** Most recent entries first, starting just before {@code beforeSequence}. */
+  @Query(
+      "SELECT h FROM PetHistoryEntry h WHERE h.petId = :petId"
+          + " AND h.sequenceNumber < :beforeSequence ORDER BY h.sequenceNumber DESC")
+  List<PetHistoryEntry> findPageBefore(
+      @Param("petId") String petId,
+      @Param("beforeSequence") long beforeSequence,
+      Pageable pageable);
+}
@@ -29,6 +29,7 @@ public class PetStatistics {
 
   private int totalPetsCreated;
   private int totalPetsDied;
+  private long totalLifespan; // Sum of the final ages of all dead pets
   private String longestLivedPetId;
   private String longestLivedPetName;
   private int longestLivedPetAge;
@@ -46,9 +47,7 @@ public class PetStatistics {
     if (totalPetsDied == 0) {
       return 0.0;
     }
-    // This is a simplified average - in a real system we'd track total ages
-    // For now, we'll estimate based on longest lived pet
-    return longestLivedPetAge / 2.0; // Simplified approximation
+    return (double) totalLifespan / totalPetsDied;
   }
 
   @Override
@@ -67,7 +66,7 @@ public class PetStatistics {
     sb.append(String.format("  Currently Alive: %d\n", totalPetsCreated - totalPetsDied));
     sb.append(
         String.format(
-            "  Average Lifespan: %.1f ticks\n", getAverageLifespan())); // Simplified calculation
+            "  Average Lifespan: %.1f ticks\n", getAverageLifespan()));
     sb.append("\n");
 
     if (longestLivedPetId != null) {
@@ -1,10 +1,26 @@
 package com.reactor.pets.query;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PetStatusRepository extends JpaRepository<PetStatusView, String> {
   List<PetStatusView> findByIsAlive(boolean isAlive);
+
+  @Query(
+      "SELECT p.petId FROM PetStatusView p WHERE p.isAlive = true AND p.petId > :afterPetId"
+          + " ORDER BY p.petId")
+  List<String> findAlivePetIdsAfter(@Param("afterPetId") String afterPetId, Pageable pageable);
+
+  @Query(
+      "SELECT p.petId FROM PetStatusView p WHERE p.isAlive = true AND p.petId > :afterPetId"
+          + " AND p.nextTransitionTick <= :globalTick ORDER BY p.petId")
+  List<String> findDuePetIdsAfter(
+      @Param("afterPetId") String afterPetId,
+      @Param("globalTick") long globalTick,
+      Pageable pageable);
 }
@@ -4,12 +4,14 @@ import com.reactor.pets.aggregate.EvolutionPath;
 import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.aggregate.PetType;
 import com.reactor.pets.domain.EquipmentItem;
+import com.reactor.pets.domain.PermanentUpgrade;
 import com.reactor.pets.util.PetAsciiArt;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.HashMap;
@@ -21,7 +23,16 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "pet_status")
+@Table(
+    name = "pet_status",
+    indexes = {
+      // Alive pet scans and keyset pages of alive pet ids
+      @Index(name = "idx_pet_status_alive_pet", columnList = "is_alive, pet_id"),
+      // Pets due for a tick under lazy time evaluation
+      @Index(
+          name = "idx_pet_status_alive_transition",
+          columnList = "is_alive, next_transition_tick")
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -56,6 +67,16 @@ public class PetStatusView {
 
   private int maxEquipmentSlots;
 
+  // Permanent upgrades applied to this pet, keyed by upgrade type
+  @Column(name = "permanent_modifiers", columnDefinition = "TEXT")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private Map<String, PermanentUpgrade> permanentModifiers = new HashMap<>();
+
+  private int lowStatsTicks; // Consecutive ticks with any stat < 50 (for XP multiplier decay)
+
+  // Global tick of the pet's next death or evolution eligibility under lazy time evaluation
+  private long nextTransitionTick;
+
   @Override
   public String toString() {
     String hungerIndicator = hunger > 70 ? " 🔴" : hunger > 50 ? " 🟡" : "";
@@ -6,8 +6,8 @@ import com.reactor.pets.domain.PermanentUpgrade;
 import com.reactor.pets.domain.UpgradeType;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.UpgradePurchasedEvent;
+import com.reactor.pets.projection.AlivePetRegistry;
 import com.reactor.pets.query.GetPlayerProgressionQuery;
-import com.reactor.pets.query.PetStatusView;
 import java.util.List;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +48,9 @@ public class PermanentUpgradeSaga {
   @Autowired
   private transient QueryGateway queryGateway;
 
+  @Autowired
+  private transient AlivePetRegistry alivePetRegistry;
+
   /**
    * Handle permanent upgrade purchased event.
    * Apply the new upgrade to all existing alive pets.
@@ -63,23 +66,20 @@ public class PermanentUpgradeSaga {
       // Create the permanent upgrade from catalog
       PermanentUpgrade upgrade = EquipmentCatalog.createUpgrade(event.getUpgradeType());
 
-      // Query all alive pets
-      List<PetStatusView> alivePets = queryGateway.query(
-          new com.reactor.pets.query.GetAlivePetsQuery(),
-          ResponseTypes.multipleInstancesOf(PetStatusView.class)
-      ).join();
+      // Read all alive pet ids from the registry
+      List<String> alivePetIds = alivePetRegistry.petIds();
 
       log.info("PermanentUpgradeSaga: Applying {} to {} alive pets",
-          event.getUpgradeType(), alivePets.size());
+          event.getUpgradeType(), alivePetIds.size());
 
       // Apply upgrade to each alive pet
-      for (PetStatusView pet : alivePets) {
-        commandGateway.send(new ApplyPermanentModifierCommand(pet.getPetId(), upgrade));
-        log.debug("PermanentUpgradeSaga: Applied {} to pet {}", event.getUpgradeType(), pet.getPetId());
+      for (String petId : alivePetIds) {
+        commandGateway.send(new ApplyPermanentModifierCommand(petId, upgrade));
+        log.debug("PermanentUpgradeSaga: Applied {} to pet {}", event.getUpgradeType(), petId);
       }
 
       log.info("PermanentUpgradeSaga: Successfully applied {} to all {} pets",
-          event.getUpgradeType(), alivePets.size());
+          event.getUpgradeType(), alivePetIds.size());
 
     } catch (Exception e) {
       log.error("PermanentUpgradeSaga: Failed to apply upgrade to pets", e);
@@ -10,7 +10,8 @@ import com.reactor.pets.event.PetEvolvedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetHealthDeterioratedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
 import java.util.ArrayList;
 import java.util.List;
 import org.axonframework.commandhandling.gateway.CommandGateway;
@@ -65,13 +66,18 @@ public class PetEvolutionSaga {
   }
 
   @SagaEventHandler(associationProperty = "petId")
-  public void on(TimePassedEvent event) {
+  public void on(PetTickedEvent event) {
     // Update age
     this.age += event.getAgeIncrease();
 
-    // Update stats based on time passed event
+    // Update stats based on the tick
     this.currentHunger = Math.min(100, this.currentHunger + event.getHungerIncrease());
     this.currentHappiness = Math.max(0, this.currentHappiness - event.getHappinessDecrease());
+    this.currentHealth =
+        Math.max(
+            0,
+            Math.min(100, this.currentHealth + event.getHealthRegenerated())
+                - event.getHealthDecrease());
 
     // Track current stats in history
     trackStat(healthHistory, currentHealth);
@@ -81,6 +87,21 @@ public class PetEvolutionSaga {
     checkEvolutionCriteria();
   }
 
+  @SagaEventHandler(associationProperty = "petId")
+  public void on(PetTimeAdvancedEvent event) {
+    // Several ticks at once: apply the totals and record one care sample for the span
+    this.age += event.getAgeIncrease();
+    this.currentHunger = Math.min(100, this.currentHunger + event.getHungerIncrease());
+    this.currentHappiness = Math.max(0, this.currentHappiness - event.getHappinessDecrease());
+    this.currentHealth =
+        Math.max(0, Math.min(100, this.currentHealth + event.getHealthChange()));
+
+    trackStat(healthHistory, currentHealth);
+    trackStat(happinessHistory, currentHappiness);
+
+    checkEvolutionCriteria();
+  }
+
   @SagaEventHandler(associationProperty = "petId")
   public void on(PetFedEvent event) {
     this.currentHunger = Math.max(0, this.currentHunger - event.getHungerReduction());
@@ -97,6 +118,7 @@ public class PetEvolutionSaga {
     this.currentHealth = Math.min(100, this.currentHealth + event.getHealthIncrease());
   }
 
+  // Legacy: ticks before PetTickedEvent reported deterioration separately
   @SagaEventHandler(associationProperty = "petId")
   public void on(PetHealthDeterioratedEvent event) {
     this.currentHealth = Math.max(0, this.currentHealth - event.getHealthDecrease());
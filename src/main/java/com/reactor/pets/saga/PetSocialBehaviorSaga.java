@@ -2,15 +2,13 @@ package com.reactor.pets.saga;
 
 import com.reactor.pets.command.MournPetCommand;
 import com.reactor.pets.event.PetDiedEvent;
-import com.reactor.pets.query.GetAlivePetsQuery;
-import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.projection.AlivePetRegistry;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.modelling.saga.EndSaga;
 import org.axonframework.modelling.saga.SagaEventHandler;
 import org.axonframework.modelling.saga.StartSaga;
-import org.axonframework.queryhandling.QueryGateway;
 import org.axonframework.spring.stereotype.Saga;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -43,13 +41,14 @@ public class PetSocialBehaviorSaga {
   private transient CommandGateway commandGateway;
 
   @Autowired
-  private transient QueryGateway queryGateway;
+  private transient AlivePetRegistry alivePetRegistry;
 
   /**
    * Handle pet death - other alive pets mourn.
    *
    * <p>Mourning effect: Alive pets lose 10% of their current happiness (minimum 1).
-   * This represents the emotional impact of losing a companion.
+   * This represents the emotional impact of losing a companion. Each pet works out its own loss
+   * from its current happiness when it handles the {@link MournPetCommand}.
    *
    * <p>Future enhancements:
    * <ul>
@@ -67,35 +66,24 @@ public class PetSocialBehaviorSaga {
         event.getPetId());
 
     try {
-      // Query all alive pets (excluding the deceased)
-      List<PetStatusView> alivePets = queryGateway
-          .query(new GetAlivePetsQuery(),
-              org.axonframework.messaging.responsetypes.ResponseTypes
-                  .multipleInstancesOf(PetStatusView.class))
-          .join();
-
-      if (alivePets == null || alivePets.isEmpty()) {
+      // Read all alive pet ids from the registry
+      List<String> alivePetIds = alivePetRegistry.petIds();
+
+      if (alivePetIds.isEmpty()) {
         log.debug("PetSocialBehaviorSaga: No alive pets to mourn");
         return;
       }
 
       int mourningPetCount = 0;
-      for (PetStatusView alivePet : alivePets) {
-        // Skip the deceased pet itself (in case query returns it due to eventual consistency)
-        if (alivePet.getPetId().equals(event.getPetId())) {
+      for (String alivePetId : alivePetIds) {
+        // Skip the deceased pet itself (in case the registry has not seen its death yet)
+        if (alivePetId.equals(event.getPetId())) {
           continue;
         }
 
-        // Calculate mourning effect: 10% happiness loss (minimum 1)
-        int happinessLoss = calculateMourningEffect(alivePet);
-
-        log.debug("PetSocialBehaviorSaga: Pet {} mourning for {} (happiness loss: {})",
-            alivePet.getPetId(), event.getPetId(), happinessLoss);
+        log.debug("PetSocialBehaviorSaga: Pet {} mourning for {}", alivePetId, event.getPetId());
 
-        commandGateway.send(new MournPetCommand(
-            alivePet.getPetId(),
-            event.getPetId(),
-            happinessLoss));
+        commandGateway.send(new MournPetCommand(alivePetId, event.getPetId()));
 
         mourningPetCount++;
       }
@@ -110,25 +98,6 @@ public class PetSocialBehaviorSaga {
     }
   }
 
-  /**
-   * Calculate the mourning effect for a pet.
-   * Current implementation: 10% of current happiness (minimum 1).
-   *
-   * <p>Future: Could be enhanced with:
-   * <ul>
-   *   <li>Friendship levels (friends mourn more)</li>
-   *   <li>Personality traits (some pets more empathetic)</li>
-   *   <li>Recent interactions (recently played together = stronger bond)</li>
-   * </ul>
-   *
-   * @param pet the pet experiencing mourning
-   * @return happiness loss amount
-   */
-  private int calculateMourningEffect(PetStatusView pet) {
-    // 10% of current happiness, minimum 1
-    return Math.max(1, (int) Math.ceil(pet.getHappiness() * 0.1));
-  }
-
   // Future social behavior handlers:
 
   // /**
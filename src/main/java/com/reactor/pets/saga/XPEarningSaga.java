@@ -1,14 +1,15 @@
 package com.reactor.pets.saga;
 
-import com.reactor.pets.command.EarnXPCommand;
+import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetEvolvedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
+import com.reactor.pets.service.XPAccumulator;
 import lombok.extern.slf4j.Slf4j;
-import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.modelling.saga.SagaEventHandler;
 import org.axonframework.modelling.saga.StartSaga;
 import org.axonframework.spring.stereotype.Saga;
@@ -23,7 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
  *   <li>Award XP for pet interactions (feed, play, clean)</li>
  *   <li>Award XP for pet survival (per time tick)</li>
  *   <li>Award XP for pet evolution milestones</li>
- *   <li>Dispatch EarnXPCommand to PlayerProgression aggregate</li>
+ *   <li>Hand earnings to the {@link XPAccumulator}, which batches them for the PlayerProgression
+ *       aggregate</li>
  * </ul>
  *
  * <p>Note: Player progression tracking (pet count, achievements, etc.) is handled
@@ -35,12 +37,23 @@ public class XPEarningSaga {
 
   private static final String PLAYER_ID = "PLAYER_1"; // Single-player for now
 
+  // Survival XP is itemized per pet stage rather than per pet, so a tick adds at most one item
+  // per stage to the batch
+  private static final String SURVIVAL_SOURCE = "Pets survived tick";
+
   @Autowired
-  private transient CommandGateway commandGateway;
+  private transient XPAccumulator xpAccumulator;
 
   // Track pet state for XP multiplier calculations
   private double petXpMultiplier = 1.0;
 
+  // Stage the pet's survival XP is itemized under; null in sagas stored before it was tracked
+  private PetStage petStage;
+
+  // Last global tick the pet processed; ticks a pet missed still earn XP. Null in sagas stored
+  // before it was tracked, whose next tick earns XP for that tick only.
+  private Long lastGlobalTick;
+
   @StartSaga
   @SagaEventHandler(associationProperty = "petId")
   public void on(PetCreatedEvent event) {
@@ -48,6 +61,8 @@ public class XPEarningSaga {
 
     // Initialize pet XP multiplier for this pet
     this.petXpMultiplier = 1.0;
+    this.petStage = PetStage.EGG;
+    this.lastGlobalTick = event.getBirthGlobalTick();
 
     // Note: Pet creation tracking is handled by PlayerProgressionSaga
     // Note: First pet bonus (100 XP) will be handled by initialization
@@ -61,10 +76,10 @@ public class XPEarningSaga {
     // Feed action grants +10 XP (base) * pet's XP multiplier
     long xpEarned = (long) (10 * petXpMultiplier);
 
-    commandGateway.send(new EarnXPCommand(
+    xpAccumulator.earn(
         PLAYER_ID,
         xpEarned,
-        String.format("Fed pet %s", event.getPetId())));
+        String.format("Fed pet %s", event.getPetId()));
   }
 
   @SagaEventHandler(associationProperty = "petId")
@@ -74,10 +89,10 @@ public class XPEarningSaga {
     // Play action grants +15 XP (base) * pet's XP multiplier
     long xpEarned = (long) (15 * petXpMultiplier);
 
-    commandGateway.send(new EarnXPCommand(
+    xpAccumulator.earn(
         PLAYER_ID,
         xpEarned,
-        String.format("Played with pet %s", event.getPetId())));
+        String.format("Played with pet %s", event.getPetId()));
   }
 
   @SagaEventHandler(associationProperty = "petId")
@@ -87,33 +102,61 @@ public class XPEarningSaga {
     // Clean action grants +10 XP (base) * pet's XP multiplier
     long xpEarned = (long) (10 * petXpMultiplier);
 
-    commandGateway.send(new EarnXPCommand(
+    xpAccumulator.earn(
         PLAYER_ID,
         xpEarned,
-        String.format("Cleaned pet %s", event.getPetId())));
+        String.format("Cleaned pet %s", event.getPetId()));
   }
 
   @SagaEventHandler(associationProperty = "petId")
-  public void on(TimePassedEvent event) {
+  public void on(PetTickedEvent event) {
     // Update the saga's tracking of the pet's XP multiplier
     this.petXpMultiplier = event.getNewXpMultiplier();
 
     // Survival XP: 1 XP per tick * pet's XP multiplier
-    long xpEarned = (long) (1 * petXpMultiplier);
+    long ticks = lastGlobalTick == null ? 1 : Math.max(1, event.getGlobalTick() - lastGlobalTick);
+    advanceTo(event.getGlobalTick());
+    long xpEarned = (long) (ticks * petXpMultiplier);
 
-    log.debug("XPEarningSaga: Time passed for pet {} (multiplier: {}x, XP earned: {})",
+    log.debug("XPEarningSaga: Pet {} ticked (multiplier: {}x, XP earned: {})",
         event.getPetId(), petXpMultiplier, xpEarned);
 
-    commandGateway.send(new EarnXPCommand(
-        PLAYER_ID,
-        xpEarned,
-        String.format("Pet %s survived tick", event.getPetId())));
+    xpAccumulator.earn(PLAYER_ID, xpEarned, survivalSource());
+  }
+
+  @SagaEventHandler(associationProperty = "petId")
+  public void on(PetTimeAdvancedEvent event) {
+    this.petXpMultiplier = event.getNewXpMultiplier();
+    advanceTo(event.getToGlobalTick());
+
+    // Survival XP for every tick in the span, at the multiplier reached by its end
+    long ticks = event.getToGlobalTick() - event.getFromGlobalTick();
+    long xpEarned = (long) (ticks * petXpMultiplier);
+    if (xpEarned <= 0) {
+      return;
+    }
+
+    log.debug("XPEarningSaga: {} ticks passed for pet {} (multiplier: {}x, XP earned: {})",
+        ticks, event.getPetId(), petXpMultiplier, xpEarned);
+
+    xpAccumulator.earn(PLAYER_ID, xpEarned, survivalSource());
+  }
+
+  private String survivalSource() {
+    return petStage != null
+        ? String.format("%s (%s)", SURVIVAL_SOURCE, petStage)
+        : SURVIVAL_SOURCE;
+  }
+
+  private void advanceTo(long globalTick) {
+    lastGlobalTick = lastGlobalTick == null ? globalTick : Math.max(lastGlobalTick, globalTick);
   }
 
   @SagaEventHandler(associationProperty = "petId")
   public void on(PetEvolvedEvent event) {
     log.debug("XPEarningSaga: Pet evolved - {} to {} (multiplier: {}x)",
         event.getPetId(), event.getNewStage(), petXpMultiplier);
+    this.petStage = event.getNewStage();
 
     // Evolution XP bonuses:
     // EGG → BABY: 50 XP
@@ -128,9 +171,9 @@ public class XPEarningSaga {
 
     long xpEarned = (long) (baseXP * petXpMultiplier);
 
-    commandGateway.send(new EarnXPCommand(
+    xpAccumulator.earn(
         PLAYER_ID,
         xpEarned,
-        String.format("Pet %s evolved to %s", event.getPetId(), event.getNewStage())));
+        String.format("Pet %s evolved to %s", event.getPetId(), event.getNewStage()));
   }
 }
@@ -0,0 +1,58 @@
+package com.reactor.pets.scheduler;
+
+/**
+ * In-flight command limit that adapts to observed command latency (additive increase,
+ * multiplicative decrease).
+ *
+ * <p>While commands complete within the target latency the limit grows by about one per window
+ * of {@code limit} completions. A slow or failed command shrinks it by {@link #BACKOFF}, at most
+ * once per window, so a burst of slow completions from the same overload counts only once.
+ */
+final class AdaptiveConcurrencyLimit {
+
+  private static final double BACKOFF = 0.75;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+
+  private double limit;
+  private int completionsSinceBackoff;
+
+  AdaptiveConcurrencyLimit(int minLimit, int maxLimit, int initialLimit, long targetLatencyNanos) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.targetLatencyNanos = targetLatencyNanos;
+    this.limit = clamp(initialLimit);
+    this.completionsSinceBackoff = (int) limit; // First slow command may back off right away
+  }
+
+  synchronized int current() {
+    return (int) limit;
+  }
+
+  synchronized void onSuccess(long latencyNanos) {
+    completionsSinceBackoff++;
+    if (latencyNanos <= targetLatencyNanos) {
+      limit = clamp(limit + 1.0 / limit);
+    } else {
+      backoff();
+    }
+  }
+
+  synchronized void onFailure() {
+    completionsSinceBackoff++;
+    backoff();
+  }
+
+  private void backoff() {
+    if (completionsSinceBackoff >= (int) limit) {
+      limit = clamp(limit * BACKOFF);
+      completionsSinceBackoff = 0;
+    }
+  }
+
+  private double clamp(double value) {
+    return Math.max(minLimit, Math.min(maxLimit, value));
+  }
+}
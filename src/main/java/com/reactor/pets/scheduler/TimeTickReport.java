@@ -0,0 +1,19 @@
+package com.reactor.pets.scheduler;
+
+import lombok.Value;
+
+/**
+ * Outcome of advancing the global clock once and dispatching the new time to the pets.
+ */
+@Value
+public class TimeTickReport {
+  long globalTick;
+  long ticks; // Global ticks advanced, more than one when accelerated or catching up
+  int pets; // Tick commands dispatched
+  int succeeded;
+  int skipped; // Pets whose aggregate no longer exists
+  int failed;
+  int stragglers; // Commands slower than time-tick.straggler-latency-ms
+  long durationMs; // From advancing global time until the last command completed
+  int concurrency; // Adaptive in-flight limit at the end of the tick
+}
@@ -1,16 +1,23 @@
 package com.reactor.pets.scheduler;
 
 import com.reactor.pets.aggregate.GlobalTimeAggregate;
+import com.reactor.pets.command.AdvanceGlobalTimeByCommand;
 import com.reactor.pets.command.AdvanceGlobalTimeCommand;
+import com.reactor.pets.command.AdvancePetTimeCommand;
 import com.reactor.pets.command.CreateGlobalTimeCommand;
 import com.reactor.pets.command.TimeTickCommand;
-import com.reactor.pets.query.GetAlivePetsQuery;
-import com.reactor.pets.query.GetGlobalTimeQuery;
-import com.reactor.pets.query.GlobalTimeView;
-import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.config.TimeTickConfig;
+import com.reactor.pets.projection.AlivePetRegistry;
+import com.reactor.pets.projection.GlobalClock;
+import com.reactor.pets.query.GetPetIdsDueForTickQuery;
+import com.reactor.pets.service.XPAccumulator;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.gateway.CommandGateway;
@@ -24,6 +31,27 @@ import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Drives the global clock and delivers a {@link TimeTickCommand} to every alive pet per tick.
+ *
+ * <p>Each tick reads the alive pet ids from the {@link AlivePetRegistry}, which already groups
+ * them into lanes by pet id (the aggregate routing key), and keeps as many commands in flight as
+ * the {@link AdaptiveConcurrencyLimit} allows. A tick completes only when every command has
+ * completed; its duration and straggler count are logged as one {@link TimeTickReport}. If a
+ * tick is still running when the next one is due, the next one is skipped rather than queued.
+ *
+ * <p>The global time command returns the new tick, which is recorded in the {@link GlobalClock}
+ * right away, so a tick starts without waiting for the global time projection.
+ *
+ * <p>The clock advances {@code time-tick.clock-rate} ticks per interval. When it advances by more
+ * than one tick (an accelerated clock, or the startup catch-up of ticks missed while the
+ * application was down) each pet receives a single {@link AdvancePetTimeCommand} for the whole
+ * span instead of one command per tick.
+ *
+ * <p>With {@code time-tick.lazy-decay} enabled only pets due to die or evolve are ticked, paged
+ * from the pet status table; every other pet applies its elapsed time when it next handles a
+ * command.
+ */
 @Component
 @Profile("!test")
 @Slf4j
@@ -32,35 +60,53 @@ public class TimeTickScheduler {
 
   private final CommandGateway commandGateway;
   private final QueryGateway queryGateway;
+  private final XPAccumulator xpAccumulator;
+  private final TimeTickConfig config;
+  private final AlivePetRegistry alivePetRegistry;
+  private final GlobalClock globalClock;
   private Disposable subscription;
+  private AdaptiveConcurrencyLimit concurrencyLimit;
+
+  // Ticks owed to the clock: fractional clock rates and startup catch-up accumulate here
+  private double pendingTicks;
+
+  @Getter
+  private volatile TimeTickReport lastTickReport;
 
   @EventListener(ApplicationReadyEvent.class)
   public void startTimeFlow() {
-    log.info("Starting reactive time flow scheduler (tick every 10 seconds)");
+    Duration interval = Duration.ofSeconds(config.getIntervalSeconds());
+    log.info(
+        "Starting reactive time flow scheduler (tick every {} seconds, clock rate {}x)",
+        interval.getSeconds(),
+        config.getClockRate());
 
     // Initialize or get GlobalTimeAggregate
     initializeGlobalTime();
 
+    concurrencyLimit =
+        new AdaptiveConcurrencyLimit(
+            config.getMinConcurrency(),
+            config.getMaxConcurrency(),
+            config.getInitialConcurrency(),
+            TimeUnit.MILLISECONDS.toNanos(config.getTargetLatencyMs()));
+
     subscription =
-        Flux.interval(Duration.ofSeconds(10), Duration.ofSeconds(10))
-            .flatMap(tick -> advanceGlobalTime())
-            .flatMap(currentTick ->
-                queryForAlivePets()
-                    .flatMap(
-                        pet -> sendTimeTick(pet, currentTick),
-                        8)) // Concurrency: process up to 8 pets in parallel for better throughput
-            .doOnError(
-                error ->
-                    log.error("Error in time tick processing: {}", error.getMessage(), error))
-            .onErrorContinue(
-                (error, value) ->
-                    log.warn("Continuing after error for pet: {}, error: {}", value, error))
+        Flux.interval(interval, interval)
+            // One tick at a time: intervals that fire while a tick is running are dropped
+            .onBackpressureDrop(
+                skipped ->
+                    log.warn("Previous time tick still running, skipping interval #{}", skipped))
+            .flatMap(intervalIndex -> runTick(), 1)
             .subscribe(
-                petId -> log.debug("Time tick sent successfully to pet: {}", petId),
+                report -> {
+                  lastTickReport = report;
+                  xpAccumulator.tickCompleted();
+                },
                 error -> log.error("Fatal error in time flow: {}", error.getMessage(), error),
                 () -> log.info("Time flow completed (should not happen)"));
 
-    log.info("Time flow scheduler started successfully with concurrency control");
+    log.info("Time flow scheduler started successfully with adaptive concurrency control");
   }
 
   @PreDestroy
@@ -71,105 +117,247 @@ public class TimeTickScheduler {
     }
   }
 
-  private Flux<PetStatusView> queryForAlivePets() {
-    return Mono.fromCallable(
-            () -> {
-              List<PetStatusView> alivePets =
-                  queryGateway
-                      .query(
-                          new GetAlivePetsQuery(),
-                          ResponseTypes.multipleInstancesOf(PetStatusView.class))
-                      .join();
-              log.debug("Found {} alive pets", alivePets.size());
-              return alivePets;
-            })
-        .flatMapIterable(pets -> pets);
+  /**
+   * Advance global time and deliver the new time to every alive pet. Completes once every
+   * command has completed (the per-tick barrier) with a report of the tick.
+   */
+  private Mono<TimeTickReport> runTick() {
+    return Mono.defer(
+        () -> {
+          pendingTicks += config.getClockRate();
+          long ticks = (long) pendingTicks;
+          if (ticks <= 0) {
+            return Mono.empty(); // Slowed-down clock: not a whole tick yet
+          }
+          pendingTicks -= ticks;
+          return runTick(ticks);
+        });
   }
 
-  private Mono<String> sendTimeTick(PetStatusView pet, long currentTick) {
-    TimeTickCommand command = new TimeTickCommand(pet.getPetId(), currentTick);
+  private Mono<TimeTickReport> runTick(long ticks) {
+    long startNanos = System.nanoTime();
+    TickCounters counters = new TickCounters();
 
-    log.info(
-        "*** Sending tick #{} to pet: {} (name: {}, currentGlobalTick: {})",
-        currentTick,
-        pet.getPetId(),
-        pet.getName(),
-        pet.getCurrentGlobalTick());
-
-    return Mono.fromFuture(commandGateway.send(command))
-        .thenReturn(pet.getPetId())
-        .doOnSuccess(
-            petId ->
+    return advanceGlobalTime(ticks)
+        .flatMap(
+            currentTick ->
+                dispatchTick(currentTick, ticks, counters)
+                    .then(
+                        Mono.fromSupplier(
+                            () -> counters.toReport(currentTick, ticks, startNanos))))
+        .doOnNext(
+            report ->
                 log.info(
-                    "*** Time tick #{} successfully sent to pet: {} ({})",
-                    currentTick, petId, pet.getName()))
+                    "Time tick #{} (+{}) completed in {}ms: {} pets, {} ok, {} skipped,"
+                        + " {} failed, {} stragglers, concurrency {}",
+                    report.getGlobalTick(),
+                    report.getTicks(),
+                    report.getDurationMs(),
+                    report.getPets(),
+                    report.getSucceeded(),
+                    report.getSkipped(),
+                    report.getFailed(),
+                    report.getStragglers(),
+                    report.getConcurrency()))
         .onErrorResume(
             error -> {
-              if (error.getMessage() != null
-                  && error.getMessage().contains("aggregate was not found")) {
-                // Pet aggregate doesn't exist in event store - log and skip
-                log.warn(
-                    "Skipping time tick for pet {} - aggregate not found in event store. "
-                        + "This may indicate a stale projection.",
-                    pet.getPetId());
-                return Mono.empty(); // Continue without this pet
-              }
-              // For other errors, log and propagate
-              log.error(
-                  "Failed to send time tick #{} to pet {}: {}",
-                  currentTick,
-                  pet.getPetId(),
-                  error.getMessage());
-              return Mono.error(error);
+              log.error("Error in time tick processing: {}", error.getMessage(), error);
+              return Mono.empty();
             });
   }
 
+  private Mono<Void> dispatchTick(long currentTick, long ticks, TickCounters counters) {
+    if (config.isLazyDecay()) {
+      return streamDuePetIdPages(currentTick)
+          .concatMap(page -> dispatchPage(page, currentTick, ticks, counters))
+          .then();
+    }
+    return dispatchAlivePets(currentTick, ticks, counters);
+  }
+
+  /**
+   * Send the tick to every registered alive pet. Each registry segment is one lane, walked in
+   * pages of {@code time-tick.page-size} so every page picks up the current concurrency limit.
+   */
+  private Mono<Void> dispatchAlivePets(long currentTick, long ticks, TickCounters counters) {
+    int lanes = alivePetRegistry.segmentCount();
+    return Flux.range(0, lanes)
+        .flatMap(
+            lane ->
+                Flux.fromIterable(alivePetRegistry.segment(lane))
+                    .buffer(Math.max(1, config.getPageSize()))
+                    .concatMap(
+                        page ->
+                            Flux.fromIterable(page)
+                                .flatMap(
+                                    petId -> sendTimeTick(petId, currentTick, ticks, counters),
+                                    Math.max(1, concurrencyLimit.current() / lanes))
+                                .then()),
+            lanes)
+        .then();
+  }
+
+  /**
+   * Ids of pets due for a transition at {@code currentTick} in pages of
+   * {@code time-tick.page-size}, using keyset pagination so no page query has to skip over
+   * earlier rows. The rest catch up when they are next used.
+   */
+  private Flux<List<String>> streamDuePetIdPages(long currentTick) {
+    int pageSize = config.getPageSize();
+    return fetchPetIds(null, currentTick)
+        .expand(
+            page ->
+                page.size() < pageSize
+                    ? Mono.empty()
+                    : fetchPetIds(page.get(page.size() - 1), currentTick))
+        .filter(page -> !page.isEmpty());
+  }
+
+  private Mono<List<String>> fetchPetIds(String afterPetId, long currentTick) {
+    Object query = new GetPetIdsDueForTickQuery(afterPetId, config.getPageSize(), currentTick);
+    return Mono.fromFuture(
+        () -> queryGateway.query(query, ResponseTypes.multipleInstancesOf(String.class)));
+  }
+
+  /**
+   * Send the tick to one page of pets. Commands are grouped into lanes by pet id so a pet always
+   * lands in the same lane; the current concurrency limit is shared between the lanes.
+   */
+  private Mono<Void> dispatchPage(
+      List<String> petIds, long currentTick, long ticks, TickCounters counters) {
+    int partitions = Math.max(1, config.getPartitions());
+    int perPartition = Math.max(1, concurrencyLimit.current() / partitions);
+
+    return Flux.fromIterable(petIds)
+        .groupBy(petId -> Math.floorMod(petId.hashCode(), partitions))
+        .flatMap(
+            lane ->
+                lane.flatMap(
+                    petId -> sendTimeTick(petId, currentTick, ticks, counters), perPartition),
+            partitions)
+        .then();
+  }
+
+  private Mono<Void> sendTimeTick(
+      String petId, long currentTick, long ticks, TickCounters counters) {
+    // A pet catches up on several ticks in one aggregate load
+    Object command =
+        ticks == 1
+            ? new TimeTickCommand(petId, currentTick)
+            : new AdvancePetTimeCommand(petId, currentTick);
+    long stragglerNanos = TimeUnit.MILLISECONDS.toNanos(config.getStragglerLatencyMs());
+
+    return Mono.defer(
+        () -> {
+          long sentAt = System.nanoTime();
+          counters.dispatched.incrementAndGet();
+          return Mono.fromFuture(commandGateway.<Object>send(command))
+              .then()
+              .doOnSuccess(
+                  ignored -> {
+                    long latency = System.nanoTime() - sentAt;
+                    concurrencyLimit.onSuccess(latency);
+                    counters.succeeded.incrementAndGet();
+                    if (latency > stragglerNanos) {
+                      counters.stragglers.incrementAndGet();
+                    }
+                    log.debug("Time tick #{} delivered to pet {}", currentTick, petId);
+                  })
+              .onErrorResume(
+                  error -> {
+                    if (error.getMessage() != null
+                        && error.getMessage().contains("aggregate was not found")) {
+                      // Pet aggregate doesn't exist in event store - log and skip
+                      log.warn(
+                          "Skipping time tick for pet {} - aggregate not found in event store. "
+                              + "This may indicate a stale projection.",
+                          petId);
+                      counters.skipped.incrementAndGet();
+                      return Mono.empty();
+                    }
+                    concurrencyLimit.onFailure();
+                    counters.failed.incrementAndGet();
+                    log.warn(
+                        "Failed to send time tick #{} to pet {}: {}",
+                        currentTick,
+                        petId,
+                        error.getMessage());
+                    return Mono.empty();
+                  });
+        });
+  }
+
   private void initializeGlobalTime() {
     try {
       log.info("*** Checking for GlobalTime aggregate...");
-      GlobalTimeView globalTime =
-          queryGateway
-              .query(new GetGlobalTimeQuery(), ResponseTypes.instanceOf(GlobalTimeView.class))
-              .join();
+      GlobalClock.Reading globalTime = globalClock.read();
 
       if (globalTime == null) {
         log.info("*** GlobalTime aggregate not found, creating it...");
         commandGateway
             .sendAndWait(new CreateGlobalTimeCommand(GlobalTimeAggregate.GLOBAL_TIME_ID));
+        globalClock.start(Instant.now());
         log.info("*** GlobalTime aggregate created successfully");
       } else {
-        log.info(
-            "*** GlobalTime aggregate found at tick {}", globalTime.getCurrentGlobalTick());
+        log.info("*** GlobalTime aggregate found at tick {}", globalTime.tick());
+        scheduleCatchUp(globalTime);
       }
     } catch (Exception e) {
       log.warn("*** Failed to initialize GlobalTime, will retry on first tick", e);
     }
   }
 
-  private Mono<Long> advanceGlobalTime() {
-    return Mono.fromCallable(
-            () -> {
-              // Send command to advance global time
-              commandGateway
-                  .sendAndWait(new AdvanceGlobalTimeCommand(GlobalTimeAggregate.GLOBAL_TIME_ID));
-
-              // Query for the new global tick value
-              GlobalTimeView globalTime =
-                  queryGateway
-                      .query(
-                          new GetGlobalTimeQuery(), ResponseTypes.instanceOf(GlobalTimeView.class))
-                      .join();
-
-              long currentTick = globalTime.getCurrentGlobalTick();
-              log.info(
-                  "*** Time tick #{} triggered (previous tick was #{})",
-                  currentTick, currentTick - 1);
-              return currentTick;
-            })
-        .onErrorResume(
-            error -> {
-              log.error("Failed to advance global time: {}", error.getMessage(), error);
-              return Mono.error(error);
-            });
+  /**
+   * Owe the clock the ticks that would have run while the application was down, so the first
+   * tick advances every pet through the missed time in one command.
+   */
+  private void scheduleCatchUp(GlobalClock.Reading globalTime) {
+    if (!config.isCatchUpOnStartup() || globalTime.lastUpdated() == null) {
+      return;
+    }
+    Duration downtime = Duration.between(globalTime.lastUpdated(), Instant.now());
+    long missedIntervals = downtime.toSeconds() / Math.max(1, config.getIntervalSeconds());
+    long missedTicks =
+        Math.min(config.getMaxCatchUpTicks(), (long) (missedIntervals * config.getClockRate()));
+    if (missedTicks > 0) {
+      pendingTicks += missedTicks;
+      log.info(
+          "*** Catching up {} ticks missed during {}s of downtime", missedTicks,
+          downtime.toSeconds());
+    }
+  }
+
+  private Mono<Long> advanceGlobalTime(long ticks) {
+    Object command =
+        ticks == 1
+            ? new AdvanceGlobalTimeCommand(GlobalTimeAggregate.GLOBAL_TIME_ID)
+            : new AdvanceGlobalTimeByCommand(GlobalTimeAggregate.GLOBAL_TIME_ID, ticks);
+    // The command result is the new tick
+    return Mono.fromFuture(() -> commandGateway.<Long>send(command))
+        .doOnNext(currentTick -> globalClock.advanceTo(currentTick, Instant.now()))
+        .doOnNext(currentTick -> log.debug("Time tick #{} triggered", currentTick))
+        .doOnError(error -> log.error("Failed to advance global time: {}", error.getMessage()));
+  }
+
+  /** Per-tick outcome counters, updated concurrently by in-flight commands. */
+  private final class TickCounters {
+    private final AtomicInteger dispatched = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger stragglers = new AtomicInteger();
+
+    private TimeTickReport toReport(long globalTick, long ticks, long startNanos) {
+      return new TimeTickReport(
+          globalTick,
+          ticks,
+          dispatched.get(),
+          succeeded.get(),
+          skipped.get(),
+          failed.get(),
+          stragglers.get(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+          concurrencyLimit.current());
+    }
   }
 }
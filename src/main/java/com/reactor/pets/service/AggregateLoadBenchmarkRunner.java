@@ -0,0 +1,86 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.command.EarnXPCommand;
+import com.reactor.pets.command.InitializePlayerCommand;
+import com.reactor.pets.config.AggregateLoadBenchmarkConfig;
+import com.reactor.pets.config.SnapshotConfig;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grows a single PlayerProgression stream to {@code benchmark.aggregate-load.total-events} events
+ * and reports the command latency per window. Every command loads the aggregate from the event
+ * store, so with snapshots the latency stays flat as the stream grows; without them it grows
+ * linearly.
+ *
+ * <p>Activate with {@code --spring.profiles.active=aggregate-benchmark}; see
+ * {@code application-aggregate-benchmark.yml} for the knobs.
+ */
+@Slf4j
+@Component
+@Profile("aggregate-benchmark")
+@RequiredArgsConstructor
+public class AggregateLoadBenchmarkRunner implements ApplicationRunner {
+
+  private static final String SOURCE = "Aggregate load benchmark";
+
+  private final CommandGateway commandGateway;
+  private final AggregateLoadBenchmarkConfig benchmarkConfig;
+  private final SnapshotConfig snapshotConfig;
+  private final ConfigurableApplicationContext applicationContext;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    String playerId = "benchmark-player-" + UUID.randomUUID();
+    long totalEvents = benchmarkConfig.getTotalEvents();
+    long reportEvery = Math.max(1, benchmarkConfig.getReportEvery());
+    log.info(
+        "Aggregate load benchmark: {} events for player {}, snapshot every {} events or {}ms",
+        totalEvents,
+        playerId,
+        snapshotConfig.getEventThreshold(),
+        snapshotConfig.getLoadTimeThresholdMs());
+
+    commandGateway.sendAndWait(new InitializePlayerCommand(playerId, 0));
+
+    long runStart = System.nanoTime();
+    long windowNanos = 0;
+    long windowMaxNanos = 0;
+    for (long event = 1; event <= totalEvents; event++) {
+      long start = System.nanoTime();
+      commandGateway.sendAndWait(new EarnXPCommand(playerId, 1, SOURCE));
+      long elapsed = System.nanoTime() - start;
+      windowNanos += elapsed;
+      windowMaxNanos = Math.max(windowMaxNanos, elapsed);
+
+      if (event % reportEvery == 0 || event == totalEvents) {
+        long windowSize = event % reportEvery == 0 ? reportEvery : event % reportEvery;
+        log.info(
+            "[aggregate-benchmark] events={} load+handle mean={}ms max={}ms",
+            event,
+            String.format("%.3f", windowNanos / 1_000_000.0 / windowSize),
+            String.format("%.2f", windowMaxNanos / 1_000_000.0));
+        windowNanos = 0;
+        windowMaxNanos = 0;
+      }
+    }
+
+    log.info(
+        "[aggregate-benchmark FINAL] {} events in {}s",
+        totalEvents,
+        String.format("%.1f", (System.nanoTime() - runStart) / 1_000_000_000.0));
+
+    if (benchmarkConfig.isExitWhenDone()) {
+      log.info("Aggregate load benchmark finished, shutting down");
+      SpringApplication.exit(applicationContext, () -> 0);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.aggregate.PetTimeModel;
+import com.reactor.pets.config.TimeTickConfig;
+import com.reactor.pets.domain.EquipmentItem;
+import com.reactor.pets.domain.PermanentUpgrade;
+import com.reactor.pets.domain.StatModifier;
+import com.reactor.pets.projection.GlobalClock;
+import com.reactor.pets.query.PetStatusView;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies {@link PetTimeModel} to the pet status read model for lazy time evaluation.
+ *
+ * <p>With {@code time-tick.lazy-decay} enabled, pets only receive events when they are used or
+ * reach a transition, so stored views lag behind the global clock. Views are brought up to the
+ * current tick when read, and each view records the tick of its next transition so the scheduler
+ * knows which pets still need a tick command.
+ */
+@Service
+@RequiredArgsConstructor
+public class PetTimeService {
+
+  private final TimeTickConfig config;
+  private final GlobalClock globalClock;
+
+  public boolean isLazyDecay() {
+    return config.isLazyDecay();
+  }
+
+  /**
+   * Get the current global tick from the in-memory clock (0 before time has started).
+   */
+  public long currentGlobalTick() {
+    return globalClock.currentTick();
+  }
+
+  /**
+   * Get the view as it stands at the current global tick. The stored view is returned unchanged
+   * when lazy decay is disabled or the view is already current; otherwise a decayed copy is
+   * returned and the stored view is left alone.
+   */
+  public PetStatusView atCurrentTick(PetStatusView view) {
+    if (!config.isLazyDecay() || view == null || !view.isAlive()) {
+      return view;
+    }
+    long elapsed = currentGlobalTick() - view.getCurrentGlobalTick();
+    if (elapsed <= 0) {
+      return view;
+    }
+
+    PetTimeModel.Outcome outcome = PetTimeModel.advance(stateOf(view), ratesOf(view), elapsed);
+    PetTimeModel.State state = outcome.state();
+    return new PetStatusView(
+        view.getPetId(),
+        view.getName(),
+        view.getType(),
+        state.hunger(),
+        state.happiness(),
+        state.health(),
+        view.getStage(),
+        view.getEvolutionPath(),
+        !outcome.died(),
+        state.age(),
+        view.getBirthGlobalTick(),
+        view.getCurrentGlobalTick() + outcome.ticks(),
+        state.xpMultiplier(),
+        view.getLastUpdated(),
+        copyOf(view.getEquippedItems()),
+        view.getMaxEquipmentSlots(),
+        copyOf(view.getPermanentModifiers()),
+        state.lowStatsTicks(),
+        view.getNextTransitionTick());
+  }
+
+  /**
+   * Global tick at which the pet next dies or becomes eligible to evolve if nobody interacts with
+   * it, or {@link PetTimeModel#NEVER}.
+   */
+  public long nextTransitionTick(PetStatusView view) {
+    if (!view.isAlive()) {
+      return PetTimeModel.NEVER;
+    }
+    long ticks = PetTimeModel.ticksUntilTransition(stateOf(view), ratesOf(view), view.getStage());
+    if (ticks == PetTimeModel.NEVER || ticks > PetTimeModel.NEVER - view.getCurrentGlobalTick()) {
+      return PetTimeModel.NEVER;
+    }
+    return view.getCurrentGlobalTick() + ticks;
+  }
+
+  private static <T> Map<String, T> copyOf(Map<String, T> map) {
+    return map != null ? new HashMap<>(map) : new HashMap<>();
+  }
+
+  private static PetTimeModel.State stateOf(PetStatusView view) {
+    return new PetTimeModel.State(
+        view.getHunger(),
+        view.getHappiness(),
+        view.getHealth(),
+        view.getAge(),
+        view.getLocalAge(),
+        view.getXpMultiplier(),
+        view.getLowStatsTicks());
+  }
+
+  private static PetTimeModel.Rates ratesOf(PetStatusView view) {
+    return PetTimeModel.rates(
+        view.getStage(),
+        view.getEvolutionPath(),
+        totalModifier(view, StatModifier.HUNGER_DECAY_RATE),
+        totalModifier(view, StatModifier.HAPPINESS_DECAY_RATE),
+        totalModifier(view, StatModifier.HEALTH_REGEN));
+  }
+
+  private static double totalModifier(PetStatusView view, StatModifier modifier) {
+    double total = 0.0;
+    Map<String, EquipmentItem> equipped = view.getEquippedItems();
+    if (equipped != null) {
+      total += equipped.values().stream().mapToDouble(item -> item.getModifier(modifier)).sum();
+    }
+    Map<String, PermanentUpgrade> upgrades = view.getPermanentModifiers();
+    if (upgrades != null) {
+      total +=
+          upgrades.values().stream().mapToDouble(upgrade -> upgrade.getModifier(modifier)).sum();
+    }
+    return total;
+  }
+}
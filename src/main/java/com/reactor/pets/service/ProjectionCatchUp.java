@@ -0,0 +1,16 @@
+package com.reactor.pets.service;
+
+import lombok.Value;
+
+/**
+ * How far one event processor is from the head of the event store as it was on startup.
+ */
+@Value
+public class ProjectionCatchUp {
+  String processorName;
+  boolean caughtUp;
+  int segments; // Segments claimed by this node
+  long position; // Event store position reached by the slowest segment, -1 if unknown
+  long targetPosition; // Head of the event store on startup
+  long lag; // Events still to process up to the target position
+}
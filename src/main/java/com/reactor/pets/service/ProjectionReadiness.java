@@ -0,0 +1,17 @@
+package com.reactor.pets.service;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Whether the projections have caught up with the events stored before startup.
+ */
+@Value
+public class ProjectionReadiness {
+  boolean ready;
+  Instant startedAt; // null until the application has started
+  Instant readyAt; // null while catching up
+  long targetPosition; // Head of the event store on startup, -1 if empty or not started
+  List<ProjectionCatchUp> processors;
+}
@@ -0,0 +1,186 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.config.ProjectionReadinessConfig;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Startup readiness gate: the application is ready once every streaming event processor has
+ * processed the events that were in the event store when it started.
+ *
+ * <p>With the in-memory read side every projection replays the whole store on startup; with the
+ * persistent profile the processors resume from their stored tokens and only catch up on what
+ * was appended while the application was down. Until then, reads would serve views that are
+ * missing those events, so the API answers 503 (see {@code ReadinessGateConfig}) and
+ * {@code GET /api/projections/readiness} reports the lag of each processor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectionReadinessService {
+
+  private final EventProcessingConfiguration eventProcessingConfiguration;
+  private final EventStore eventStore;
+  private final ProjectionReadinessConfig config;
+
+  private volatile Instant startedAt;
+  private volatile Instant readyAt;
+  private volatile long targetPosition = -1L;
+
+  private Disposable checkTimer;
+
+  /**
+   * Record the head of the event store and start checking the processors against it.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    if (startedAt != null) {
+      return;
+    }
+    startedAt = Instant.now();
+    if (!config.isEnabled()) {
+      markReady();
+      return;
+    }
+
+    TrackingToken head = eventStore.createHeadToken();
+    targetPosition = head == null ? -1L : head.position().orElse(-1L);
+    log.info("Waiting for projections to catch up to event store position {}", targetPosition);
+    if (checkCaughtUp()) {
+      return;
+    }
+    if (config.getCheckIntervalMs() > 0) {
+      Duration interval = Duration.ofMillis(config.getCheckIntervalMs());
+      checkTimer =
+          Flux.interval(interval, interval)
+              .onBackpressureDrop()
+              .subscribe(
+                  ignored -> checkCaughtUp(),
+                  error ->
+                      log.error("Readiness check timer failed: {}", error.getMessage(), error));
+    }
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (checkTimer != null) {
+      checkTimer.dispose();
+    }
+  }
+
+  public boolean isReady() {
+    return readyAt != null;
+  }
+
+  /**
+   * Current readiness and the catch-up of each processor, checking whether they have all caught
+   * up if the application is not ready yet.
+   */
+  public ProjectionReadiness readiness() {
+    if (startedAt != null && !isReady()) {
+      checkCaughtUp();
+    }
+    return new ProjectionReadiness(
+        isReady(), startedAt, readyAt, targetPosition, startedAt != null ? catchUps() : List.of());
+  }
+
+  private boolean checkCaughtUp() {
+    if (isReady()) {
+      return true;
+    }
+    List<ProjectionCatchUp> catchUps = catchUps();
+    List<ProjectionCatchUp> lagging =
+        catchUps.stream().filter(catchUp -> !catchUp.isCaughtUp()).toList();
+    if (lagging.isEmpty()) {
+      markReady();
+      return true;
+    }
+    log.info(
+        "Projections catching up to position {}: {}",
+        targetPosition,
+        String.join(
+            ", ",
+            lagging.stream()
+                .map(catchUp -> catchUp.getProcessorName() + " " + catchUp.getLag() + " behind")
+                .toList()));
+    return false;
+  }
+
+  private synchronized void markReady() {
+    if (readyAt != null) {
+      return;
+    }
+    readyAt = Instant.now();
+    if (checkTimer != null) {
+      checkTimer.dispose();
+    }
+    log.info(
+        "Projections caught up in {}s, accepting requests",
+        String.format("%.1f", Duration.between(startedAt, readyAt).toMillis() / 1000.0));
+  }
+
+  private List<ProjectionCatchUp> catchUps() {
+    List<ProjectionCatchUp> catchUps = new ArrayList<>();
+    if (config.getProcessors().isEmpty()) {
+      eventProcessingConfiguration
+          .eventProcessors()
+          .forEach(
+              (name, processor) -> {
+                if (processor instanceof StreamingEventProcessor streaming) {
+                  catchUps.add(catchUp(name, streaming));
+                }
+              });
+    } else {
+      // Processors that are not streaming handle events as they are published
+      config
+          .getProcessors()
+          .forEach(
+              name ->
+                  eventProcessingConfiguration
+                      .eventProcessor(name, StreamingEventProcessor.class)
+                      .ifPresent(processor -> catchUps.add(catchUp(name, processor))));
+    }
+    catchUps.sort(Comparator.comparing(ProjectionCatchUp::getProcessorName));
+    return catchUps;
+  }
+
+  private ProjectionCatchUp catchUp(String processorName, StreamingEventProcessor processor) {
+    Map<Integer, EventTrackerStatus> segments = processor.processingStatus();
+    long position = segments.isEmpty() ? -1L : Long.MAX_VALUE;
+    for (EventTrackerStatus segment : segments.values()) {
+      OptionalLong current = segment.getCurrentPosition();
+      position = Math.min(position, current.orElse(-1L));
+    }
+    boolean replaying = segments.values().stream().anyMatch(EventTrackerStatus::isReplaying);
+    // An empty store needs no catch-up, and segments claimed by other instances are theirs to
+    // process; otherwise wait until the local segments have processed the target position
+    boolean caughtUp =
+        targetPosition < 0 || segments.isEmpty() || (!replaying && position >= targetPosition);
+
+    return new ProjectionCatchUp(
+        processorName,
+        caughtUp,
+        segments.size(),
+        position,
+        targetPosition,
+        caughtUp ? 0L : Math.max(0L, targetPosition - position));
+  }
+}
@@ -0,0 +1,21 @@
+package com.reactor.pets.service;
+
+import java.time.Instant;
+import lombok.Value;
+
+/**
+ * Progress of rebuilding one projection from the event store.
+ */
+@Value
+public class ProjectionRebuildProgress {
+  String processorName;
+  boolean completed;
+  Instant startedAt;
+  Instant completedAt; // null while running
+  int segments; // Segments replaying in parallel
+  long position; // Event store position reached by the slowest segment
+  long targetPosition; // Head of the event store when the rebuild started
+  double percentComplete;
+  double eventsPerSecond;
+  long etaSeconds; // -1 until a rate is known
+}
@@ -0,0 +1,232 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.config.ProjectionRebuildConfig;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Rebuilds projections by resetting their event processor and replaying the event store.
+ *
+ * <p>A rebuild shuts the processor down, resets its tokens (which calls the projections'
+ * {@code @ResetHandler}s to clear their tables) and starts it again. Each segment of the processor
+ * then replays in parallel, and views are written once per batch through the same write-behind
+ * path as live processing. Projection loggers are raised to WARN until every running rebuild has
+ * caught up with the head of the store as it was when the rebuild started.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectionRebuildService {
+
+  private final EventProcessingConfiguration eventProcessingConfiguration;
+  private final EventStore eventStore;
+  private final LoggingSystem loggingSystem;
+  private final ProjectionRebuildConfig config;
+
+  private final Map<String, Rebuild> rebuilds = new ConcurrentHashMap<>();
+
+  // Configured level of each quieted logger (null when inherited); guarded by this
+  private final Map<String, LogLevel> quietedLoggers = new HashMap<>();
+
+  private Disposable progressTimer;
+
+  private static final class Rebuild {
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final long targetPosition;
+    private volatile Instant completedAt;
+    private volatile long completedNanos;
+
+    private Rebuild(long targetPosition) {
+      this.targetPosition = targetPosition;
+    }
+  }
+
+  /**
+   * Reset the processor and start replaying it. Returns the progress of the running rebuild
+   * instead when one is already in progress.
+   */
+  public synchronized ProjectionRebuildProgress start(String processorName) {
+    if (!config.getProcessors().contains(processorName)) {
+      throw new IllegalArgumentException("Projection cannot be rebuilt: " + processorName);
+    }
+    StreamingEventProcessor processor = processor(processorName);
+    Rebuild running = rebuilds.get(processorName);
+    if (running != null && running.completedAt == null) {
+      return progress(processorName, running, processor);
+    }
+    if (!processor.supportsReset()) {
+      throw new IllegalArgumentException(
+          "Event processor does not support reset: " + processorName);
+    }
+
+    TrackingToken head = eventStore.createHeadToken();
+    Rebuild rebuild = new Rebuild(head == null ? 0L : head.position().orElse(0L));
+    quietLoggers();
+    processor.shutDown();
+    processor.resetTokens();
+    processor.start();
+    rebuilds.put(processorName, rebuild);
+    startProgressTimer();
+
+    log.info(
+        "Rebuilding projection {} up to event store position {}",
+        processorName,
+        rebuild.targetPosition);
+    return progress(processorName, rebuild, processor);
+  }
+
+  /**
+   * Progress of the latest rebuild of the processor, if it has been rebuilt since startup.
+   */
+  public Optional<ProjectionRebuildProgress> progress(String processorName) {
+    Rebuild rebuild = rebuilds.get(processorName);
+    if (rebuild == null) {
+      return Optional.empty();
+    }
+    return Optional.of(progress(processorName, rebuild, processor(processorName)));
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (progressTimer != null) {
+      progressTimer.dispose();
+    }
+    restoreLoggers();
+  }
+
+  private ProjectionRebuildProgress progress(
+      String processorName, Rebuild rebuild, StreamingEventProcessor processor) {
+    Map<Integer, EventTrackerStatus> segments = processor.processingStatus();
+    long position =
+        segments.values().stream()
+            .mapToLong(status -> status.getCurrentPosition().orElse(0L))
+            .min()
+            .orElse(0L);
+    boolean replaying = segments.values().stream().anyMatch(EventTrackerStatus::isReplaying);
+    if (rebuild.completedAt == null
+        && !segments.isEmpty()
+        && !replaying
+        && position >= rebuild.targetPosition) {
+      complete(processorName, rebuild);
+    }
+
+    boolean completed = rebuild.completedAt != null;
+    long endNanos = completed ? rebuild.completedNanos : System.nanoTime();
+    double seconds = (endNanos - rebuild.startNanos) / 1_000_000_000.0;
+    long replayed = Math.min(position, rebuild.targetPosition);
+    double eventsPerSecond = seconds > 0 ? replayed / seconds : 0.0;
+    long etaSeconds;
+    if (completed) {
+      etaSeconds = 0;
+    } else if (eventsPerSecond > 0) {
+      etaSeconds = (long) Math.ceil((rebuild.targetPosition - replayed) / eventsPerSecond);
+    } else {
+      etaSeconds = -1;
+    }
+    double percentComplete =
+        rebuild.targetPosition <= 0 ? 100.0 : replayed * 100.0 / rebuild.targetPosition;
+
+    return new ProjectionRebuildProgress(
+        processorName,
+        completed,
+        rebuild.startedAt,
+        rebuild.completedAt,
+        segments.size(),
+        position,
+        rebuild.targetPosition,
+        completed ? 100.0 : percentComplete,
+        eventsPerSecond,
+        etaSeconds);
+  }
+
+  private synchronized void complete(String processorName, Rebuild rebuild) {
+    if (rebuild.completedAt != null) {
+      return;
+    }
+    rebuild.completedNanos = System.nanoTime();
+    rebuild.completedAt = Instant.now();
+    log.info(
+        "Rebuilt projection {} in {}s",
+        processorName,
+        String.format("%.1f", (rebuild.completedNanos - rebuild.startNanos) / 1_000_000_000.0));
+    if (rebuilds.values().stream().allMatch(other -> other.completedAt != null)) {
+      restoreLoggers();
+    }
+  }
+
+  private void reportProgress() {
+    rebuilds.forEach(
+        (processorName, rebuild) -> {
+          if (rebuild.completedAt != null) {
+            return;
+          }
+          ProjectionRebuildProgress progress =
+              progress(processorName, rebuild, processor(processorName));
+          if (!progress.isCompleted()) {
+            log.info(
+                "Rebuilding {}: {}% ({} of {} events, {}/s, ETA {}s, {} segments)",
+                processorName,
+                String.format("%.1f", progress.getPercentComplete()),
+                progress.getPosition(),
+                progress.getTargetPosition(),
+                String.format("%.0f", progress.getEventsPerSecond()),
+                progress.getEtaSeconds(),
+                progress.getSegments());
+          }
+        });
+  }
+
+  private void startProgressTimer() {
+    if (progressTimer != null || config.getProgressIntervalMs() <= 0) {
+      return;
+    }
+    Duration interval = Duration.ofMillis(config.getProgressIntervalMs());
+    progressTimer =
+        Flux.interval(interval, interval)
+            .onBackpressureDrop()
+            .subscribe(
+                ignored -> reportProgress(),
+                error -> log.error("Rebuild progress timer failed: {}", error.getMessage(), error));
+  }
+
+  private void quietLoggers() {
+    for (String logger : config.getQuietLoggers()) {
+      if (!quietedLoggers.containsKey(logger)) {
+        LoggerConfiguration current = loggingSystem.getLoggerConfiguration(logger);
+        quietedLoggers.put(logger, current != null ? current.getConfiguredLevel() : null);
+        loggingSystem.setLogLevel(logger, LogLevel.WARN);
+      }
+    }
+  }
+
+  private void restoreLoggers() {
+    quietedLoggers.forEach(loggingSystem::setLogLevel);
+    quietedLoggers.clear();
+  }
+
+  private StreamingEventProcessor processor(String processorName) {
+    return eventProcessingConfiguration
+        .eventProcessor(processorName, StreamingEventProcessor.class)
+        .orElseThrow(
+            () -> new IllegalArgumentException("Unknown event processor: " + processorName));
+  }
+}
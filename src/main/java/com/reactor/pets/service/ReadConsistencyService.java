@@ -0,0 +1,239 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.config.ReadConsistencyConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Read-your-writes support for endpoints that query a projection right after sending a command.
+ *
+ * <p>A consistency token is the position of the head of the event store read by the command's
+ * own unit of work right after its events were stored, so it covers every event that command
+ * applied but not the events stored while the response travels back to the client. Commands ask
+ * for a token through {@link #withConsistencyToken}; {@link #tokenFor} falls back to the current
+ * head when the command was handled on another node.
+ *
+ * <p>{@link #awaitProcessed} returns a future that completes once the segment of a processor that
+ * handles the pet has passed the token, without parking a thread and without waiting for the
+ * segments of other pets: waiters are checked whenever that processor commits a unit of work and
+ * every {@code read-consistency.recheck-interval-ms}, and complete with {@code false} after
+ * {@code read-consistency.timeout-ms} so a slow projection degrades to a stale read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadConsistencyService {
+
+  private final EventStore eventStore;
+  private final EventProcessingConfiguration eventProcessingConfiguration;
+  private final ReadConsistencyConfig config;
+
+  private static final String TOKEN_REQUESTED = "consistencyTokenRequested";
+
+  // Map of processor name -> queries waiting for it
+  private final Map<String, Queue<Waiter>> waiters = new ConcurrentHashMap<>();
+
+  // Map of command message id -> token read once that command's events were stored
+  private final Map<String, Long> commandTokens = new ConcurrentHashMap<>();
+
+  private Disposable recheckTimer;
+
+  private record Waiter(String petId, long token, CompletableFuture<Boolean> caughtUp) { }
+
+  @PostConstruct
+  public void start() {
+    if (!config.isEnabled() || config.getRecheckIntervalMs() <= 0) {
+      return;
+    }
+    Duration interval = Duration.ofMillis(config.getRecheckIntervalMs());
+    recheckTimer =
+        Flux.interval(interval, interval)
+            .onBackpressureDrop()
+            .subscribe(
+                ignored -> waiters.keySet().forEach(this::checkWaiters),
+                error -> log.error("Read consistency timer failed: {}", error.getMessage(), error));
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (recheckTimer != null) {
+      recheckTimer.dispose();
+    }
+    waiters.values().forEach(queue -> queue.forEach(waiter -> waiter.caughtUp().complete(false)));
+  }
+
+  /**
+   * Token covering every event stored so far.
+   */
+  public long currentToken() {
+    TrackingToken head = eventStore.createHeadToken();
+    return head == null ? -1L : head.position().orElse(-1L);
+  }
+
+  /**
+   * Wrap a command so that handling it records a consistency token, see {@link #tokenFor}.
+   */
+  public CommandMessage<?> withConsistencyToken(Object command) {
+    return GenericCommandMessage.asCommandMessage(command)
+        .andMetaData(Map.of(TOKEN_REQUESTED, true));
+  }
+
+  /**
+   * Token covering the events of a command sent through {@link #withConsistencyToken}; call it
+   * once the command has completed.
+   */
+  public long tokenFor(CommandMessage<?> command) {
+    Long token = commandTokens.remove(command.getIdentifier());
+    return token != null ? token : currentToken(); // Handled on another node
+  }
+
+  /**
+   * Command handler interceptor that records the token of commands asking for one once their
+   * events are stored.
+   */
+  public MessageHandlerInterceptor<CommandMessage<?>> commandInterceptor() {
+    return (unitOfWork, interceptorChain) -> {
+      CommandMessage<?> command = unitOfWork.getMessage();
+      if (command.getMetaData().containsKey(TOKEN_REQUESTED)) {
+        unitOfWork.afterCommit(
+            uow -> commandTokens.put(command.getIdentifier(), currentToken()));
+      }
+      return interceptorChain.proceed();
+    };
+  }
+
+  /**
+   * Complete once the segment of {@code processorName} handling {@code petId} has processed every
+   * event up to {@code token}. The future holds {@code false} if the timeout passed first, or if
+   * waiting is disabled.
+   */
+  public CompletableFuture<Boolean> awaitProcessed(String processorName, String petId, long token) {
+    if (!config.isEnabled()) {
+      return CompletableFuture.completedFuture(false);
+    }
+    if (hasProcessed(processorName, petId, token)) {
+      return CompletableFuture.completedFuture(true);
+    }
+
+    Queue<Waiter> queue =
+        waiters.computeIfAbsent(processorName, name -> new ConcurrentLinkedQueue<>());
+    Waiter waiter = new Waiter(petId, token, new CompletableFuture<>());
+    queue.add(waiter);
+    // The processor may have passed the token before the waiter was queued
+    checkWaiters(processorName);
+
+    return waiter
+        .caughtUp()
+        .completeOnTimeout(false, config.getTimeoutMs(), TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (caughtUp, error) -> {
+              queue.remove(waiter);
+              if (Boolean.FALSE.equals(caughtUp)) {
+                log.debug(
+                    "{} did not reach consistency token {} within {}ms",
+                    processorName,
+                    token,
+                    config.getTimeoutMs());
+              }
+            });
+  }
+
+  /**
+   * Take a token covering every event stored so far, for commands sent without
+   * {@link #withConsistencyToken}, and wait for {@code processorName} to pass it for
+   * {@code petId}.
+   *
+   * @return the token, once the processor has passed it or the wait timed out
+   */
+  public CompletableFuture<Long> awaitCurrentToken(String processorName, String petId) {
+    long token = currentToken();
+    return awaitProcessed(processorName, petId, token).thenApply(caughtUp -> token);
+  }
+
+  /**
+   * Take the token of a completed command sent through {@link #withConsistencyToken} and wait for
+   * {@code processorName} to pass it for {@code petId}.
+   *
+   * @return the token, once the processor has passed it or the wait timed out
+   */
+  public CompletableFuture<Long> awaitCommandToken(
+      String processorName, String petId, CommandMessage<?> command) {
+    long token = tokenFor(command);
+    return awaitProcessed(processorName, petId, token).thenApply(caughtUp -> token);
+  }
+
+  /**
+   * Handler interceptor for a processor that wakes its waiters after each committed unit of work.
+   */
+  public MessageHandlerInterceptor<EventMessage<?>> interceptor(String processorName) {
+    return (unitOfWork, interceptorChain) -> {
+      unitOfWork.afterCommit(
+          uow -> {
+            if (waiters.containsKey(processorName)) {
+              checkWaiters(processorName);
+            }
+          });
+      return interceptorChain.proceed();
+    };
+  }
+
+  private void checkWaiters(String processorName) {
+    Queue<Waiter> queue = waiters.get(processorName);
+    if (queue == null || queue.isEmpty()) {
+      return;
+    }
+    for (Waiter waiter : queue) {
+      if (hasProcessed(processorName, waiter.petId(), waiter.token())) {
+        waiter.caughtUp().complete(true);
+      }
+    }
+  }
+
+  private boolean hasProcessed(String processorName, String petId, long token) {
+    OptionalLong position = processedPosition(processorName, petId);
+    return position.isPresent() && token <= position.getAsLong();
+  }
+
+  /**
+   * Position the segment of the processor handling the pet has reached; {@link Long#MAX_VALUE}
+   * for processors that are not streaming, since those handle events before the command
+   * completes. The segment is matched on the pet id, the sequence identifier of the processors
+   * using {@code petIdSequencingPolicy}.
+   */
+  private OptionalLong processedPosition(String processorName, String petId) {
+    Optional<StreamingEventProcessor> processor =
+        eventProcessingConfiguration.eventProcessor(processorName, StreamingEventProcessor.class);
+    if (processor.isEmpty()) {
+      return OptionalLong.of(Long.MAX_VALUE);
+    }
+    for (EventTrackerStatus segment : processor.get().processingStatus().values()) {
+      if (segment.getSegment().matches(petId)) {
+        return segment.getCurrentPosition();
+      }
+    }
+    return OptionalLong.empty(); // The pet's segment is not claimed by this node
+  }
+}
@@ -0,0 +1,124 @@
+package com.reactor.pets.service;
+
+import com.reactor.pets.command.EarnXPBatchCommand;
+import com.reactor.pets.command.EarnXPCommand;
+import com.reactor.pets.config.XPAccumulatorConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Coalesces XP earnings per player in front of the PlayerProgression aggregate.
+ *
+ * <p>Every pet interaction and every tick of every pet earns XP for the same player, which made
+ * that one aggregate receive N commands per tick. Earnings are buffered here, summed per source,
+ * and sent as one {@link EarnXPBatchCommand} per player when the buffer is flushed: every
+ * {@code xp-accumulator.flush-interval-ms}, after each global tick if
+ * {@code xp-accumulator.flush-on-tick} is set, and on shutdown.
+ *
+ * <p>Buffered XP is only held in memory, so earnings since the last flush are lost if the
+ * application stops abruptly. With {@code xp-accumulator.enabled=false} each earning is sent
+ * immediately as its own {@link EarnXPCommand}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class XPAccumulator {
+
+  private final CommandGateway commandGateway;
+  private final XPAccumulatorConfig config;
+
+  // Map of playerId -> (source -> buffered XP); only modified inside compute() and remove()
+  private final Map<String, Map<String, Long>> buffers = new ConcurrentHashMap<>();
+
+  private Disposable flushTimer;
+
+  @PostConstruct
+  public void start() {
+    if (!config.isEnabled() || config.getFlushIntervalMs() <= 0) {
+      return;
+    }
+    Duration interval = Duration.ofMillis(config.getFlushIntervalMs());
+    flushTimer =
+        Flux.interval(interval, interval)
+            .onBackpressureDrop()
+            .subscribe(
+                ignored -> flush(),
+                error -> log.error("XP flush timer failed: {}", error.getMessage(), error));
+    log.info("XP accumulator flushing every {}ms", config.getFlushIntervalMs());
+  }
+
+  /**
+   * Earn XP for a player from one source.
+   */
+  public void earn(String playerId, long xpAmount, String source) {
+    if (!config.isEnabled()) {
+      commandGateway.send(new EarnXPCommand(playerId, xpAmount, source));
+      return;
+    }
+    if (xpAmount <= 0) {
+      return; // Nothing to earn; a batch only holds positive amounts
+    }
+    buffers.compute(
+        playerId,
+        (id, earnings) -> {
+          Map<String, Long> buffer = earnings != null ? earnings : new LinkedHashMap<>();
+          buffer.merge(source, xpAmount, Long::sum);
+          return buffer;
+        });
+  }
+
+  /**
+   * Called after each global time tick; flushes when {@code flush-on-tick} is enabled.
+   */
+  public void tickCompleted() {
+    if (config.isFlushOnTick()) {
+      flush();
+    }
+  }
+
+  /**
+   * Send one {@link EarnXPBatchCommand} per player with buffered earnings. Earnings whose command
+   * fails are put back into the buffer for the next flush.
+   */
+  public void flush() {
+    for (String playerId : List.copyOf(buffers.keySet())) {
+      Map<String, Long> earnings = buffers.remove(playerId);
+      if (earnings == null || earnings.isEmpty()) {
+        continue;
+      }
+      commandGateway
+          .send(new EarnXPBatchCommand(playerId, earnings))
+          .whenComplete(
+              (result, error) -> {
+                if (error != null) {
+                  log.warn(
+                      "Failed to apply {} buffered XP sources for player {}, retrying on next"
+                          + " flush: {}",
+                      earnings.size(),
+                      playerId,
+                      error.getMessage());
+                  earnings.forEach((source, xp) -> earn(playerId, xp, source));
+                }
+              });
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flushTimer != null) {
+      flushTimer.dispose();
+    }
+    flush();
+  }
+}
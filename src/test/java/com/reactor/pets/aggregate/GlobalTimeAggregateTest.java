@@ -2,6 +2,7 @@ package com.reactor.pets.aggregate;
 
 import static org.axonframework.test.matchers.Matchers.matches;
 
+import com.reactor.pets.command.AdvanceGlobalTimeByCommand;
 import com.reactor.pets.command.AdvanceGlobalTimeCommand;
 import com.reactor.pets.command.CreateGlobalTimeCommand;
 import com.reactor.pets.event.GlobalTimeAdvancedEvent;
@@ -127,7 +128,41 @@ class GlobalTimeAggregateTest {
                       return false;
                     }
                     return event.getNewGlobalTick() == 4L;
-                  }));
+                  }))
+          .expectResultMessagePayload(4L);
+    }
+
+    @Test
+    @DisplayName("should advance several ticks with one event")
+    void shouldAdvanceSeveralTicksWithOneEvent() {
+      String timeId = GlobalTimeAggregate.GLOBAL_TIME_ID;
+
+      fixture
+          .given(
+              new GlobalTimeCreatedEvent(timeId, java.time.Instant.now()),
+              new GlobalTimeAdvancedEvent(timeId, 3L, java.time.Instant.now()))
+          .when(new AdvanceGlobalTimeByCommand(timeId, 10))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events ->
+                      events.size() == 1
+                          && ((EventMessage<?>) events.get(0)).getPayload()
+                              instanceof GlobalTimeAdvancedEvent event
+                          && event.getNewGlobalTick() == 13L))
+          .expectResultMessagePayload(13L);
+    }
+
+    @Test
+    @DisplayName("should reject advancing by a non-positive number of ticks")
+    void shouldRejectNonPositiveTicks() {
+      String timeId = GlobalTimeAggregate.GLOBAL_TIME_ID;
+
+      fixture
+          .given(new GlobalTimeCreatedEvent(timeId, java.time.Instant.now()))
+          .when(new AdvanceGlobalTimeByCommand(timeId, 0))
+          .expectException(IllegalArgumentException.class)
+          .expectExceptionMessage("Ticks to advance must be positive");
     }
   }
 
@@ -5,10 +5,12 @@ import static org.axonframework.test.matchers.Matchers.matches;
 import com.reactor.pets.command.CleanPetCommand;
 import com.reactor.pets.command.CreatePetCommand;
 import com.reactor.pets.command.FeedPetCommand;
+import com.reactor.pets.command.MournPetCommand;
 import com.reactor.pets.command.PlayWithPetCommand;
 import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetFedEvent;
+import com.reactor.pets.event.PetMournedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
 import java.time.Instant;
 import org.axonframework.eventhandling.EventMessage;
@@ -428,4 +430,32 @@ class PetAggregateTest {
     //       .expectExceptionMessage("Cannot clean a dead pet");
     // }
   }
+
+  @Nested
+  @DisplayName("Pet Mourning")
+  class PetMourning {
+
+    @Test
+    @DisplayName("should lose 10% of current happiness when mourning")
+    void shouldLoseTenPercentOfHappinessWhenMourning() {
+      String petId = "pet-123";
+
+      // Happiness starts at 70
+      fixture
+          .given(new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()))
+          .when(new MournPetCommand(petId, "pet-456"))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events -> {
+                    if (events.size() != 1) {
+                      return false;
+                    }
+                    EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
+                    return eventMsg.getPayload() instanceof PetMournedEvent event
+                        && event.getDeceasedPetId().equals("pet-456")
+                        && event.getHappinessLoss() == 7;
+                  }));
+    }
+  }
 }
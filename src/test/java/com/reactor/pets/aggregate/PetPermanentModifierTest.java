@@ -9,7 +9,7 @@ import com.reactor.pets.domain.PermanentUpgrade;
 import com.reactor.pets.domain.UpgradeType;
 import com.reactor.pets.event.PermanentModifierAppliedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.test.aggregate.AggregateTestFixture;
 import org.axonframework.test.aggregate.FixtureConfiguration;
@@ -151,11 +151,11 @@ class PetPermanentModifierTest {
           .expectEventsMatching(
               matches(
                   events -> {
-                    // Should emit TimePassedEvent with reduced hunger increase
+                    // Should emit PetTickedEvent with reduced hunger increase
                     for (Object event : events) {
                       if (event instanceof EventMessage<?> eventMsg) {
                         Object payload = eventMsg.getPayload();
-                        if (payload instanceof TimePassedEvent timeEvent) {
+                        if (payload instanceof PetTickedEvent timeEvent) {
                           // Base is 3 for non-adult, with -10% modifier = 3 * 0.9 = 2.7 -> 3 (ceiling)
                           // Actually need to check the implementation more carefully
                           return timeEvent.getHungerIncrease() <= 3;
@@ -186,7 +186,7 @@ class PetPermanentModifierTest {
                     for (Object event : events) {
                       if (event instanceof EventMessage<?> eventMsg) {
                         Object payload = eventMsg.getPayload();
-                        if (payload instanceof TimePassedEvent timeEvent) {
+                        if (payload instanceof PetTickedEvent timeEvent) {
                           return timeEvent.getHappinessDecrease() <= 2;
                         }
                       }
@@ -216,7 +216,7 @@ class PetPermanentModifierTest {
                     for (Object event : events) {
                       if (event instanceof EventMessage<?> eventMsg) {
                         Object payload = eventMsg.getPayload();
-                        if (payload instanceof TimePassedEvent timeEvent) {
+                        if (payload instanceof PetTickedEvent timeEvent) {
                           // Both hunger and happiness should be affected
                           return timeEvent.getHungerIncrease() >= 0
                               && timeEvent.getHappinessDecrease() >= 0;
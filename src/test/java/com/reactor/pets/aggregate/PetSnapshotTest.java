@@ -7,7 +7,7 @@ import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -65,7 +65,7 @@ class PetSnapshotTest {
 
     // Simulate 30 time ticks (total = 1 create + 30 + 30 = 61 events)
     for (long tick = 1; tick <= 30; tick++) {
-      events.add(new TimePassedEvent(petId, 3, 2, 0, tick, 0.0, 1.0, 0, Instant.now()));
+      events.add(new PetTickedEvent(petId, 3, 2, 0, tick, 0.0, 1.0, 0, 0, 0, null, Instant.now()));
     }
 
     // Final command should still work correctly after snapshot
@@ -102,7 +102,7 @@ class PetSnapshotTest {
 
     // Generate exactly 20 time ticks to hit 50 events total (1 + 10 + 10 + 10 + 20 = 51)
     for (long tick = 101L; tick <= 120L; tick++) {
-      events.add(new TimePassedEvent(petId, 3, 2, 0, tick, 0.0, 1.0, 0, Instant.now()));
+      events.add(new PetTickedEvent(petId, 3, 2, 0, tick, 0.0, 1.0, 0, 0, 0, null, Instant.now()));
     }
 
     // Command after snapshot threshold should work
@@ -127,7 +127,7 @@ class PetSnapshotTest {
             new PetFedEvent(petId, 10, Instant.now()),
             new PetPlayedWithEvent(petId, 15, 5, Instant.now()),
             new PetCleanedEvent(petId, 10, Instant.now()),
-            new TimePassedEvent(petId, 3, 2, 0, 1L, 0.0, 1.0, 0, Instant.now()))
+            new PetTickedEvent(petId, 3, 2, 0, 1L, 0.0, 1.0, 0, 0, 0, null, Instant.now()))
         .when(new TimeTickCommand(petId, 2L))
         .expectSuccessfulHandlerExecution();
   }
@@ -0,0 +1,68 @@
+package com.reactor.pets.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the closed-form pet time model. */
+@DisplayName("Pet Time Model")
+class PetTimeModelTest {
+
+  private static final PetTimeModel.State NEWBORN =
+      new PetTimeModel.State(30, 70, 100, 0, 0L, 1.0, 0);
+
+  @Test
+  @DisplayName("should match applying the same ticks one at a time")
+  void shouldMatchTickByTickEvaluation() {
+    PetTimeModel.Rates rates = PetTimeModel.rates(PetStage.BABY, EvolutionPath.HEALTHY, 0, 0, 2.0);
+
+    PetTimeModel.State stepped = NEWBORN;
+    for (int tick = 0; tick < 40; tick++) {
+      PetTimeModel.Outcome outcome = PetTimeModel.advance(stepped, rates, 1);
+      stepped = outcome.state();
+      if (outcome.died()) {
+        break;
+      }
+    }
+    PetTimeModel.State direct = PetTimeModel.advance(NEWBORN, rates, 40).state();
+
+    assertThat(direct).isEqualTo(stepped);
+  }
+
+  @Test
+  @DisplayName("should find the tick of death in closed form")
+  void shouldFindTickOfDeath() {
+    PetTimeModel.Rates rates =
+        PetTimeModel.rates(PetStage.EGG, EvolutionPath.UNDETERMINED, 0, 0, 0);
+
+    // Extreme hunger from tick 17 (-5/tick), low happiness from tick 26 (-8/tick)
+    assertThat(PetTimeModel.deathTick(NEWBORN, rates)).isEqualTo(32L);
+
+    PetTimeModel.Outcome outcome = PetTimeModel.advance(NEWBORN, rates, 1_000);
+    assertThat(outcome.died()).isTrue();
+    assertThat(outcome.ticks()).isEqualTo(32L);
+    assertThat(outcome.state().health()).isZero();
+    assertThat(outcome.state().age()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should never die when regeneration outpaces damage")
+  void shouldNeverDieWithEnoughRegeneration() {
+    PetTimeModel.Rates rates = PetTimeModel.rates(PetStage.ADULT, EvolutionPath.HEALTHY, 0, 0, 8.0);
+
+    assertThat(PetTimeModel.deathTick(NEWBORN, rates)).isEqualTo(PetTimeModel.NEVER);
+    assertThat(PetTimeModel.ticksUntilTransition(NEWBORN, rates, PetStage.ADULT))
+        .isEqualTo(PetTimeModel.NEVER);
+    assertThat(PetTimeModel.advance(NEWBORN, rates, 10_000).state().health()).isEqualTo(92);
+  }
+
+  @Test
+  @DisplayName("should report evolution eligibility as a transition")
+  void shouldReportEvolutionEligibility() {
+    PetTimeModel.Rates rates = PetTimeModel.rates(PetStage.EGG, EvolutionPath.HEALTHY, 0, 0, 8.0);
+
+    // Eggs hatch at age 5, reached at local age 50
+    assertThat(PetTimeModel.ticksUntilTransition(NEWBORN, rates, PetStage.EGG)).isEqualTo(50L);
+  }
+}
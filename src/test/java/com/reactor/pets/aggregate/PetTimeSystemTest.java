@@ -2,6 +2,7 @@ package com.reactor.pets.aggregate;
 
 import static org.axonframework.test.matchers.Matchers.matches;
 
+import com.reactor.pets.command.AdvancePetTimeCommand;
 import com.reactor.pets.command.FeedPetCommand;
 import com.reactor.pets.command.TimeTickCommand;
 import com.reactor.pets.event.PetCreatedEvent;
@@ -9,9 +10,11 @@ import com.reactor.pets.event.PetDiedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetHealthDeterioratedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.event.PetTimeAdvancedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Map;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.test.aggregate.AggregateTestFixture;
 import org.axonframework.test.aggregate.FixtureConfiguration;
@@ -57,7 +60,7 @@ class PetTimeSystemTest {
                     }
                     EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
                     Object payload = eventMsg.getPayload();
-                    if (!(payload instanceof TimePassedEvent event)) {
+                    if (!(payload instanceof PetTickedEvent event)) {
                       return false;
                     }
                     // Initial hunger is 30, can increase by 3
@@ -76,19 +79,19 @@ class PetTimeSystemTest {
     void shouldIncreaseAgeAfter10Ticks() {
       String petId = "pet-123";
 
-      // Create 9 TimePassedEvents to reach tick 9
+      // Create 9 PetTickedEvents to reach tick 9
       fixture
           .given(
               new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()))
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()))
           .when(new TimeTickCommand(petId, 10))
           .expectSuccessfulHandlerExecution()
           .expectEventsMatching(
@@ -99,7 +102,7 @@ class PetTimeSystemTest {
                     }
                     EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
                     Object payload = eventMsg.getPayload();
-                    if (!(payload instanceof TimePassedEvent event)) {
+                    if (!(payload instanceof PetTickedEvent event)) {
                       return false;
                     }
                     // On the 10th tick, age should increase by 1
@@ -115,7 +118,7 @@ class PetTimeSystemTest {
       fixture
           .given(
               new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()))
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()))
           .when(new TimeTickCommand(petId, 5))
           .expectSuccessfulHandlerExecution()
           .expectNoEvents(); // Should be ignored
@@ -129,7 +132,7 @@ class PetTimeSystemTest {
       fixture
           .given(
               new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()))
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()))
           .when(new TimeTickCommand(petId, 5))
           .expectSuccessfulHandlerExecution()
           .expectNoEvents(); // Should be ignored (old tick)
@@ -150,24 +153,24 @@ class PetTimeSystemTest {
               new PetPlayedWithEvent(petId, 10, 5, Instant.now()),
               new PetPlayedWithEvent(petId, 5, 5, Instant.now()),
               // Now at 45 hunger
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 2, 2, 0, 18, 0.0, 0.0, 0, Instant.now()) // Hunger now at 98
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 2, 2, 0, 18, 0.0, 0.0, 0, 0, 0, null, Instant.now()) // Hunger now at 98
               )
           .when(new TimeTickCommand(petId, 19))
           .expectSuccessfulHandlerExecution()
@@ -179,7 +182,7 @@ class PetTimeSystemTest {
                     }
                     EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
                     Object payload = eventMsg.getPayload();
-                    if (!(payload instanceof TimePassedEvent event)) {
+                    if (!(payload instanceof PetTickedEvent event)) {
                       return false;
                     }
                     // Should cap at 2 (100 - 98 = 2), not increase by 3
@@ -197,41 +200,41 @@ class PetTimeSystemTest {
               new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()),
               // Happiness starts at 70
               // Decrease by 2 per tick - need 35 ticks to reach 0
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 27, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 28, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 29, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 30, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 31, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 32, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 33, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 34, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 1, 0, 35, 0.0, 0.0, 0, Instant.now()) // Happiness now at 1
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 27, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 28, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 29, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 30, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 31, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 32, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 33, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 34, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 1, 0, 35, 0.0, 0.0, 0, 0, 0, null, Instant.now()) // Happiness now at 1
               )
           .when(new TimeTickCommand(petId, 36))
           .expectSuccessfulHandlerExecution()
@@ -243,7 +246,7 @@ class PetTimeSystemTest {
                     }
                     EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
                     Object payload = eventMsg.getPayload();
-                    if (!(payload instanceof TimePassedEvent event)) {
+                    if (!(payload instanceof PetTickedEvent event)) {
                       return false;
                     }
                     // Should cap at 1, not decrease by 2
@@ -271,44 +274,37 @@ class PetTimeSystemTest {
               new PetPlayedWithEvent(petId, 10, 5, Instant.now()),
               new PetPlayedWithEvent(petId, 5, 5, Instant.now()),
               // Now at 45 hunger
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()) // Now at 81
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()) // Now at 81
               )
           .when(new TimeTickCommand(petId, 13))
           .expectSuccessfulHandlerExecution()
           .expectEventsMatching(
               matches(
                   events -> {
-                    if (events.size() < 2) {
-                      return false;
-                    }
-                    // First event should be TimePassedEvent
-                    EventMessage<?> event1Msg = (EventMessage<?>) events.get(0);
-                    if (!(event1Msg.getPayload() instanceof TimePassedEvent)) {
+                    // A single PetTickedEvent carries the deterioration
+                    if (events.size() != 1) {
                       return false;
                     }
-
-                    // Second event should be PetHealthDeterioratedEvent
-                    EventMessage<?> event2Msg = (EventMessage<?>) events.get(1);
-                    Object payload2 = event2Msg.getPayload();
-                    if (!(payload2 instanceof PetHealthDeterioratedEvent event)) {
+                    EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
+                    if (!(eventMsg.getPayload() instanceof PetTickedEvent event)) {
                       return false;
                     }
 
                     // Health decrease should be 5 for extreme hunger
                     return event.getPetId().equals(petId)
                         && event.getHealthDecrease() == 5
-                        && event.getReason().contains("Extreme hunger");
+                        && event.getDeteriorationReason().contains("Extreme hunger");
                   }));
     }
 
@@ -326,37 +322,37 @@ class PetTimeSystemTest {
               // Need (70-19)/2 = 25.5, so 26 ticks to get to 18
               // But we need to keep hunger below 80
               // After feeding, hunger is low, then time ticks increase it
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
               // Feed to reduce hunger (hunger is now 60)
               new PetFedEvent(petId, 30, Instant.now()),
               // Continue time passing (hunger is now 30)
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
               // Feed again to keep hunger low (hunger was 60, now 30)
               new PetFedEvent(petId, 30, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, Instant.now())
+              new PetTickedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, 0, 0, null, Instant.now())
               // Hunger is now 48, happiness is 18
               )
           .when(new TimeTickCommand(petId, 27))
@@ -364,20 +360,18 @@ class PetTimeSystemTest {
           .expectEventsMatching(
               matches(
                   events -> {
-                    if (events.size() < 2) {
+                    if (events.size() != 1) {
                       return false;
                     }
-                    // Second event should be PetHealthDeterioratedEvent
-                    EventMessage<?> event2Msg = (EventMessage<?>) events.get(1);
-                    Object payload2 = event2Msg.getPayload();
-                    if (!(payload2 instanceof PetHealthDeterioratedEvent event)) {
+                    EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
+                    if (!(eventMsg.getPayload() instanceof PetTickedEvent event)) {
                       return false;
                     }
 
                     // Health decrease should be 3 for low happiness only (hunger < 80)
                     return event.getPetId().equals(petId)
                         && event.getHealthDecrease() == 3
-                        && event.getReason().equals("Low happiness");
+                        && event.getDeteriorationReason().equals("Low happiness");
                   }));
     }
 
@@ -396,63 +390,61 @@ class PetTimeSystemTest {
               new PetPlayedWithEvent(petId, 10, 5, Instant.now()),
               new PetPlayedWithEvent(petId, 5, 5, Instant.now()),
               // Now at 45 hunger, 100 happiness
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 27, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 28, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 29, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 30, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 31, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 32, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 33, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 34, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 35, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 36, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 37, 0.0, 0.0, 0, Instant.now()) // hunger at 156 (capped 100), happiness 26
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 13, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 14, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 15, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 16, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 17, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 18, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 19, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 20, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 21, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 22, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 23, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 24, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 25, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 26, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 27, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 28, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 29, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 30, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 31, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 32, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 33, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 34, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 35, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 36, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 37, 0.0, 0.0, 0, 0, 0, null, Instant.now()) // hunger at 156 (capped 100), happiness 26
               )
           .when(new TimeTickCommand(petId, 38))
           .expectSuccessfulHandlerExecution()
           .expectEventsMatching(
               matches(
                   events -> {
-                    if (events.size() < 2) {
+                    if (events.size() != 1) {
                       return false;
                     }
-                    // Second event should be PetHealthDeterioratedEvent
-                    EventMessage<?> event2Msg = (EventMessage<?>) events.get(1);
-                    Object payload2 = event2Msg.getPayload();
-                    if (!(payload2 instanceof PetHealthDeterioratedEvent event)) {
+                    EventMessage<?> eventMsg = (EventMessage<?>) events.get(0);
+                    if (!(eventMsg.getPayload() instanceof PetTickedEvent event)) {
                       return false;
                     }
 
                     // Health decrease should be 5 (extreme hunger) only, since happiness is 24 (not < 20)
                     return event.getPetId().equals(petId)
                         && event.getHealthDecrease() == 5
-                        && event.getReason().contains("Extreme hunger");
+                        && event.getDeteriorationReason().contains("Extreme hunger");
                   }));
     }
   }
@@ -475,19 +467,19 @@ class PetTimeSystemTest {
               new PetPlayedWithEvent(petId, 10, 5, Instant.now()),
               new PetPlayedWithEvent(petId, 5, 5, Instant.now()),
               // Lots of time ticks to increase hunger and decrease health
-              new TimePassedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, Instant.now()),
-              new TimePassedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, Instant.now()),
-              // Health deterioration events
+              new PetTickedEvent(petId, 3, 2, 0, 1, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 2, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 3, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 4, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 5, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 6, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 7, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 8, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 9, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 10, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 11, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              new PetTickedEvent(petId, 3, 2, 0, 12, 0.0, 0.0, 0, 0, 0, null, Instant.now()),
+              // Health deterioration events, as emitted before PetTickedEvent
               new PetHealthDeterioratedEvent(petId, 5, "Extreme hunger", Instant.now()),
               new PetHealthDeterioratedEvent(petId, 5, "Extreme hunger", Instant.now()),
               new PetHealthDeterioratedEvent(petId, 5, "Extreme hunger", Instant.now()),
@@ -514,13 +506,13 @@ class PetTimeSystemTest {
           .expectEventsMatching(
               matches(
                   events -> {
-                    if (events.size() < 3) {
+                    if (events.size() != 2) {
                       return false;
                     }
-                    // Third event should be PetDiedEvent
-                    EventMessage<?> event3Msg = (EventMessage<?>) events.get(2);
-                    Object payload3 = event3Msg.getPayload();
-                    if (!(payload3 instanceof PetDiedEvent event)) {
+                    // Second event should be PetDiedEvent
+                    EventMessage<?> event2Msg = (EventMessage<?>) events.get(1);
+                    Object payload2 = event2Msg.getPayload();
+                    if (!(payload2 instanceof PetDiedEvent event)) {
                       return false;
                     }
 
@@ -557,4 +549,116 @@ class PetTimeSystemTest {
           .expectExceptionMessage("Cannot feed a dead pet");
     }
   }
+
+  @Nested
+  @DisplayName("Lazy Time Evaluation")
+  class LazyTimeEvaluation {
+
+    @Test
+    @DisplayName("should apply elapsed ticks as one summary event before the command")
+    void shouldApplyElapsedTicksBeforeCommand() {
+      String petId = "pet-123";
+
+      fixture
+          .given(new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()))
+          .when(new FeedPetCommand(petId, 10), Map.of(PetTimeModel.GLOBAL_TICK_METADATA, 10L))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events -> {
+                    if (events.size() != 2) {
+                      return false;
+                    }
+                    Object first = ((EventMessage<?>) events.get(0)).getPayload();
+                    Object second = ((EventMessage<?>) events.get(1)).getPayload();
+                    // 10 ticks of +3 hunger / -2 happiness, then the feeding
+                    return first instanceof PetTimeAdvancedEvent time
+                        && time.getHungerIncrease() == 30
+                        && time.getHappinessDecrease() == 20
+                        && time.getAgeIncrease() == 1
+                        && time.getFromGlobalTick() == 0
+                        && time.getToGlobalTick() == 10
+                        && second instanceof PetFedEvent fed
+                        && fed.getHungerReduction() == 10;
+                  }));
+    }
+
+    @Test
+    @DisplayName("should stop at the tick the pet dies")
+    void shouldStopAtTickOfDeath() {
+      String petId = "pet-123";
+
+      fixture
+          .given(new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()))
+          .when(new TimeTickCommand(petId, 100), Map.of(PetTimeModel.GLOBAL_TICK_METADATA, 100L))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events -> {
+                    if (events.size() != 2) {
+                      return false;
+                    }
+                    Object first = ((EventMessage<?>) events.get(0)).getPayload();
+                    Object second = ((EventMessage<?>) events.get(1)).getPayload();
+                    return first instanceof PetTimeAdvancedEvent time
+                        && time.getToGlobalTick() == 32
+                        && time.getHealthChange() == -100
+                        && "Extreme hunger and low happiness".equals(time.getDeteriorationReason())
+                        && second instanceof PetDiedEvent died
+                        && died.getCauseOfDeath().contains("Extreme hunger and low happiness");
+                  }));
+    }
+
+    @Test
+    @DisplayName("should advance several ticks in one command without metadata")
+    void shouldAdvanceSeveralTicksInOneCommand() {
+      String petId = "pet-123";
+
+      fixture
+          .given(new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()))
+          .when(new AdvancePetTimeCommand(petId, 5))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events ->
+                      events.size() == 1
+                          && ((EventMessage<?>) events.get(0)).getPayload()
+                              instanceof PetTimeAdvancedEvent time
+                          && time.getHungerIncrease() == 15
+                          && time.getHappinessDecrease() == 10
+                          && time.getToGlobalTick() == 5));
+    }
+
+    @Test
+    @DisplayName("should ignore ticks that were already applied")
+    void shouldIgnoreTicksAlreadyApplied() {
+      String petId = "pet-123";
+
+      fixture
+          .given(
+              new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()),
+              new PetTimeAdvancedEvent(
+                  petId, 0L, 5L, 15, 10, 0, 0, null, 0.0, 1.0, 0, Instant.now()))
+          .when(new AdvancePetTimeCommand(petId, 3))
+          .expectSuccessfulHandlerExecution()
+          .expectNoEvents();
+    }
+
+    @Test
+    @DisplayName("should ignore commands without a global tick")
+    void shouldIgnoreCommandsWithoutGlobalTick() {
+      String petId = "pet-123";
+
+      fixture
+          .given(new PetCreatedEvent(petId, "Buddy", PetType.DOG, 0L, Instant.now()))
+          .when(new FeedPetCommand(petId, 10))
+          .expectSuccessfulHandlerExecution()
+          .expectEventsMatching(
+              matches(
+                  events ->
+                      events.size() == 1
+                          && ((EventMessage<?>) events.get(0)).getPayload()
+                              instanceof PetFedEvent));
+    }
+  }
 }
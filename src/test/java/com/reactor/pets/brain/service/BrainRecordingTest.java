@@ -0,0 +1,136 @@
+package com.reactor.pets.brain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reactor.pets.brain.model.BrainFrame;
+import com.reactor.pets.brain.model.BrainRecordingInfo;
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.Grid;
+import com.reactor.pets.brain.model.NeuronPhase;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BrainRecordingTest {
+
+    private static final long RETENTION_MS = 60_000L;
+
+    private BrainRecording recording;
+
+    @AfterEach
+    void tearDown() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Test
+    void testKeyframeRoundTrip() {
+        recording = new BrainRecording("pet-1", 64 * 1024, RETENTION_MS, 100, null);
+        Grid grid = new Grid(10, 10);
+        fire(grid, 3, 4);
+
+        recording.append(grid, new BrainFrame(0L, true, List.of()), 1_000L);
+
+        List<BrainRecording.Entry> entries = recording.entriesBetween(0L, Long.MAX_VALUE);
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).keyframe());
+
+        BrainFrameCodec.EncodedFrame decoded = recording.read(entries.get(0));
+        assertEquals(100, decoded.indices().length);
+        CellState cell = BrainFrameCodec.toCellState(
+                4 * 10 + 3, decoded.packedStates()[4 * 10 + 3], 10, 10, decoded.timestamp());
+        assertEquals(3, cell.getX());
+        assertEquals(4, cell.getY());
+        assertTrue(cell.isFiring());
+        assertEquals(NeuronPhase.DEPOLARIZING, cell.getNeuronPhase());
+        assertEquals(1.0, cell.getActivation(), 0.005);
+    }
+
+    @Test
+    void testDeltaFrame_OnlyStoresVisibleChanges() {
+        recording = new BrainRecording("pet-1", 64 * 1024, RETENTION_MS, 100, null);
+        Grid grid = new Grid(10, 10);
+        recording.append(grid, new BrainFrame(0L, true, List.of()), 1_000L);
+
+        CellState unchanged = grid.getCell(0, 0).getCurrentState();
+        CellState changed = fire(grid, 5, 5);
+        recording.append(grid, new BrainFrame(1L, false, List.of(unchanged, changed)), 1_050L);
+
+        // A frame with nothing new is not recorded at all
+        recording.append(grid, new BrainFrame(2L, false, List.of(changed)), 1_100L);
+
+        List<BrainRecording.Entry> entries = recording.entriesBetween(0L, Long.MAX_VALUE);
+        assertEquals(2, entries.size());
+        BrainFrameCodec.EncodedFrame delta = recording.read(entries.get(1));
+        assertFalse(delta.keyframe());
+        assertArrayEquals(new int[] {55}, delta.indices());
+    }
+
+    @Test
+    void testRingWrap_OverwritesOldestFrames() {
+        Grid grid = new Grid(20, 20);
+        // A keyframe of 400 cells takes ~1.2KB, so only a handful fit
+        recording = new BrainRecording("pet-1", 4 * 1024, RETENTION_MS, 1, null);
+
+        recording.append(grid, new BrainFrame(0L, true, List.of()), 1_000L);
+        BrainRecording.Entry first = recording.entriesBetween(0L, Long.MAX_VALUE).get(0);
+
+        for (long tick = 1; tick <= 10; tick++) {
+            fire(grid, (int) tick, 0);
+            recording.append(grid, new BrainFrame(tick, false, List.of()), 1_000L + tick);
+        }
+
+        BrainRecordingInfo info = recording.info();
+        assertTrue(info.getFrameCount() < 11);
+        assertEquals(10L, info.getLastTick());
+        assertTrue(info.getBytesUsed() <= info.getCapacityBytes());
+        assertNull(recording.read(first));
+    }
+
+    @Test
+    void testEntriesBetween_StartsAtLatestKeyframeBeforeFrom() {
+        recording = new BrainRecording("pet-1", 64 * 1024, RETENTION_MS, 3, null);
+        Grid grid = new Grid(10, 10);
+
+        for (long tick = 0; tick < 6; tick++) {
+            CellState changed = fire(grid, (int) tick, 1);
+            recording.append(grid, new BrainFrame(tick, tick == 0, List.of(changed)), tick * 100);
+        }
+
+        // Keyframes at ticks 0 and 3; playback from t=450 must start at tick 3
+        List<BrainRecording.Entry> entries = recording.entriesBetween(450L, 10_000L);
+        assertEquals(3L, entries.get(0).tick());
+        assertTrue(entries.get(0).keyframe());
+        assertEquals(5L, entries.get(entries.size() - 1).tick());
+    }
+
+    @Test
+    void testRetention_DropsExpiredFrames() {
+        recording = new BrainRecording("pet-1", 64 * 1024, 1_000L, 100, null);
+        Grid grid = new Grid(10, 10);
+
+        recording.append(grid, new BrainFrame(0L, true, List.of()), 0L);
+        recording.append(grid, new BrainFrame(1L, true, List.of()), 5_000L);
+
+        BrainRecordingInfo info = recording.info();
+        assertEquals(1, info.getFrameCount());
+        assertEquals(1L, info.getFirstTick());
+    }
+
+    private static CellState fire(Grid grid, int x, int y) {
+        CellState current = grid.getCell(x, y).getCurrentState();
+        CellState firing = CellState.builder()
+                .cellId(current.getCellId())
+                .x(x)
+                .y(y)
+                .activation(1.0)
+                .isFiring(true)
+                .layer(current.getLayer())
+                .cellType(current.getCellType())
+                .neuronPhase(NeuronPhase.DEPOLARIZING)
+                .build();
+        grid.getCell(x, y).emitState(firing);
+        return firing;
+    }
+}
@@ -0,0 +1,104 @@
+package com.reactor.pets.brain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reactor.pets.brain.model.BrainSummary;
+import com.reactor.pets.brain.model.Cell;
+import com.reactor.pets.brain.model.CellState;
+import com.reactor.pets.brain.model.CorticalLayer;
+import com.reactor.pets.brain.model.Grid;
+import org.junit.jupiter.api.Test;
+
+class BrainSummaryTrackerTest {
+
+    private static final long TICK_INTERVAL_MS = 50L;
+
+    @Test
+    void testInitialSummary_CountsQuietGrid() {
+        Grid grid = new Grid(10, 10);
+
+        BrainSummary summary = new BrainSummaryTracker("pet-1", grid, 0L).getLatest();
+
+        assertEquals(100, summary.getTotalCells());
+        assertEquals(0, summary.getFiringCells());
+        assertEquals(0.0, summary.getFiringRate());
+        assertEquals(0.0, summary.getDominantFrequencyHz());
+        assertEquals(4, summary.getLayerFiringRates().size());
+    }
+
+    @Test
+    void testUpdate_TracksFiringPerLayerIncrementally() {
+        Grid grid = new Grid(10, 10);
+        BrainSummaryTracker tracker = new BrainSummaryTracker("pet-1", grid, 0L);
+
+        Cell cell = grid.getCell(2, 0);
+        transition(tracker, cell, true, false);
+        BrainSummary firing = tracker.completeTick(1L, TICK_INTERVAL_MS, 1L);
+
+        assertEquals(1, firing.getFiringCells());
+        assertEquals(0.01, firing.getFiringRate(), 1e-9);
+        assertTrue(firing.getLayerFiringRates().get(cell.getLayer()) > 0);
+
+        transition(tracker, cell, false, false);
+        BrainSummary quiet = tracker.completeTick(2L, TICK_INTERVAL_MS, 2L);
+
+        assertEquals(0, quiet.getFiringCells());
+        assertEquals(0.0, quiet.getLayerFiringRates().get(cell.getLayer()));
+    }
+
+    @Test
+    void testUpdate_CountsLayer5BurstOnsets() {
+        Grid grid = new Grid(10, 10);
+        BrainSummaryTracker tracker = new BrainSummaryTracker("pet-1", grid, 0L);
+        Cell l5Cell = findCell(grid, CorticalLayer.LAYER_5);
+
+        transition(tracker, l5Cell, true, true);
+        BrainSummary summary = tracker.completeTick(1L, TICK_INTERVAL_MS, 1L);
+
+        assertEquals(1, summary.getL5BurstingCells());
+        assertEquals(1, summary.getL5BurstOnsets());
+    }
+
+    @Test
+    void testDominantFrequency_DetectsPeriodicFiring() {
+        Grid grid = new Grid(10, 10);
+        BrainSummaryTracker tracker = new BrainSummaryTracker("pet-1", grid, 0L);
+        Cell cell = grid.getCell(0, 0);
+
+        // Fire for 4 ticks, rest for 4: period of 8 ticks at 50ms = 2.5 Hz
+        BrainSummary summary = null;
+        for (long tick = 1; tick <= 3 * BrainSummaryTracker.WINDOW + 5; tick++) {
+            transition(tracker, cell, tick % 8 < 4, false);
+            summary = tracker.completeTick(tick, TICK_INTERVAL_MS, tick);
+        }
+
+        assertEquals(2.5, summary.getDominantFrequencyHz(), 1e-9);
+    }
+
+    private static void transition(
+            BrainSummaryTracker tracker, Cell cell, boolean firing, boolean burst) {
+        CellState previous = cell.getCurrentState();
+        CellState next = CellState.builder()
+                .cellId(previous.getCellId())
+                .x(previous.getX())
+                .y(previous.getY())
+                .activation(firing ? 1.0 : 0.0)
+                .isFiring(firing)
+                .burstMode(burst)
+                .layer(cell.getLayer())
+                .cellType(cell.getCellType())
+                .neuronPhase(previous.getNeuronPhase())
+                .build();
+        cell.emitState(next);
+        tracker.update(cell, previous, next);
+    }
+
+    private static Cell findCell(Grid grid, CorticalLayer layer) {
+        for (int y = 0; y < grid.getHeight(); y++) {
+            if (grid.getCell(0, y).getLayer() == layer) {
+                return grid.getCell(0, y);
+            }
+        }
+        throw new IllegalStateException("No cell in " + layer);
+    }
+}
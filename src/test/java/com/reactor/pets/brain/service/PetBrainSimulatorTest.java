@@ -7,7 +7,11 @@ import static org.mockito.Mockito.*;
 import com.reactor.pets.aggregate.EvolutionPath;
 import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.brain.config.BrainSimulationConfig;
+import com.reactor.pets.brain.model.BrainFrame;
 import com.reactor.pets.brain.model.BrainParameters;
+import com.reactor.pets.brain.model.BrainSimulationState;
+import com.reactor.pets.brain.model.BrainSimulationStatus;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -238,4 +242,122 @@ class PetBrainSimulatorTest {
         // Assert - Should handle gracefully
         verify(petBrainMapper, atLeastOnce()).calculateBrainParameters(50, 50, 100, PetStage.EGG, null);
     }
+
+    @Test
+    void testSubscribeToBrain_FirstFrameIsKeyframe() {
+        // Arrange
+        String petId = "test-pet-8";
+
+        // Act - Fresh subscription without Last-Event-ID
+        BrainFrame first =
+                simulator
+                        .subscribeToBrain(petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY)
+                        .blockFirst(Duration.ofSeconds(2));
+
+        // Assert - Full 20x20 grid is sent up front
+        assertNotNull(first);
+        assertTrue(first.isKeyframe());
+        assertEquals(400, first.getCells().size());
+
+        simulator.cleanup();
+    }
+
+    @Test
+    void testSubscribeToBrain_ResumeReplaysMissedFrames() throws InterruptedException {
+        // Arrange - Keep one client connected so frames accumulate in the ring buffer
+        String petId = "test-pet-9";
+        var subscription =
+                simulator
+                        .subscribeToBrain(petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY)
+                        .subscribe();
+        Thread.sleep(300); // 50ms ticks
+
+        // Act - Reconnect after tick 1
+        BrainFrame resumed =
+                simulator
+                        .subscribeToBrain(
+                                petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY, 1L)
+                        .blockFirst(Duration.ofSeconds(2));
+
+        // Assert - Only the missed delta frames are replayed
+        assertNotNull(resumed);
+        assertFalse(resumed.isKeyframe());
+        assertEquals(2L, resumed.getTick());
+
+        subscription.dispose();
+        simulator.cleanup();
+    }
+
+    @Test
+    void testSubscribeToBrain_UnknownLastEventIdFallsBackToKeyframe() {
+        // Arrange
+        String petId = "test-pet-10";
+
+        // Act - Client resumes with an id from a previous server run
+        BrainFrame first =
+                simulator
+                        .subscribeToBrain(
+                                petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY, 5000L)
+                        .blockFirst(Duration.ofSeconds(2));
+
+        // Assert
+        assertNotNull(first);
+        assertTrue(first.isKeyframe());
+
+        simulator.cleanup();
+    }
+
+    @Test
+    void testGridSizeOverride_ReplacesStageGridSize() {
+        // Arrange - Stress mode forces a grid larger than the mapper's 20x20
+        String petId = "test-pet-11";
+        config.setGridSizeOverride(30);
+
+        // Act
+        BrainFrame first =
+                simulator
+                        .subscribeToBrain(petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY)
+                        .blockFirst(Duration.ofSeconds(2));
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(900, first.getCells().size());
+
+        simulator.cleanup();
+    }
+
+    @Test
+    void testGetSimulationStatus_ReflectsLifecycle() {
+        String petId = "test-pet-12";
+
+        // Unknown pet
+        assertEquals(
+                BrainSimulationState.EVICTED, simulator.getSimulationStatus(petId).getState());
+
+        // Grid initialized, simulation not started
+        simulator.updatePetState(petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY);
+        BrainSimulationStatus cached = simulator.getSimulationStatus(petId);
+        assertEquals(BrainSimulationState.CACHED, cached.getState());
+        assertEquals(20, cached.getGridWidth());
+        assertEquals(20.0, cached.getTargetTicksPerSecond(), 1e-9);
+
+        // Subscribed
+        var subscription =
+                simulator
+                        .subscribeToBrain(petId, 50, 50, 100, PetStage.EGG, EvolutionPath.HEALTHY)
+                        .subscribe();
+        BrainSimulationStatus running = simulator.getSimulationStatus(petId);
+        assertEquals(BrainSimulationState.RUNNING, running.getState());
+        assertEquals(1, running.getSubscriberCount());
+
+        // Last subscriber gone, still within the grace period
+        subscription.dispose();
+        assertEquals(BrainSimulationState.IDLE, simulator.getSimulationStatus(petId).getState());
+
+        simulator.stopBrain(petId);
+        assertEquals(
+                BrainSimulationState.EVICTED, simulator.getSimulationStatus(petId).getState());
+
+        simulator.cleanup();
+    }
 }
@@ -0,0 +1,79 @@
+package com.reactor.pets.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.axonframework.common.caching.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bounded Aggregate Cache")
+class BoundedAggregateCacheTest {
+
+  @Test
+  @DisplayName("should count hits and misses")
+  void shouldCountHitsAndMisses() {
+    BoundedAggregateCache cache = new BoundedAggregateCache("Pet", 10);
+
+    assertThat((Object) cache.get("pet-1")).isNull();
+    cache.put("pet-1", "aggregate");
+    assertThat((Object) cache.get("pet-1")).isEqualTo("aggregate");
+    assertThat((Object) cache.get("pet-1")).isEqualTo("aggregate");
+
+    BoundedAggregateCache.Stats stats = cache.getStats();
+    assertThat(stats.hits()).isEqualTo(2);
+    assertThat(stats.misses()).isEqualTo(1);
+    assertThat(stats.size()).isEqualTo(1);
+    assertThat(stats.hitRatio()).isEqualTo(2.0 / 3);
+  }
+
+  @Test
+  @DisplayName("should evict the least recently used aggregate when full")
+  void shouldEvictLeastRecentlyUsed() {
+    BoundedAggregateCache cache = new BoundedAggregateCache("Pet", 2);
+    List<Object> expired = new ArrayList<>();
+    cache.registerCacheEntryListener(
+        new Cache.EntryListenerAdapter() {
+          @Override
+          public void onEntryExpired(Object key) {
+            expired.add(key);
+          }
+        });
+
+    cache.put("pet-1", "first");
+    cache.put("pet-2", "second");
+    cache.get("pet-1"); // pet-2 is now the least recently used
+    cache.put("pet-3", "third");
+
+    assertThat(cache.containsKey("pet-1")).isTrue();
+    assertThat(cache.containsKey("pet-2")).isFalse();
+    assertThat(cache.containsKey("pet-3")).isTrue();
+    assertThat(expired).containsExactly("pet-2");
+    assertThat(cache.getStats().evictions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not store anything when sized zero")
+  void shouldNotStoreWhenDisabled() {
+    BoundedAggregateCache cache = new BoundedAggregateCache("Pet", 0);
+
+    assertThat(cache.putIfAbsent("pet-1", "aggregate")).isFalse();
+    cache.put("pet-1", "aggregate");
+
+    assertThat(cache.containsKey("pet-1")).isFalse();
+    assertThat(cache.getStats().size()).isZero();
+  }
+
+  @Test
+  @DisplayName("should drop a removed aggregate so the next load reads the event store")
+  void shouldRemoveEntry() {
+    BoundedAggregateCache cache = new BoundedAggregateCache("Pet", 10);
+    cache.put("pet-1", "stale");
+
+    assertThat(cache.remove("pet-1")).isTrue();
+
+    assertThat((Object) cache.get("pet-1")).isNull();
+    assertThat(cache.getStats().misses()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,81 @@
+package com.reactor.pets.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reactor.pets.aggregate.PlayerProgression;
+import com.reactor.pets.event.XPEarnedEvent;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Load Time Or Event Count Snapshot Trigger")
+class LoadTimeOrEventCountSnapshotTriggerDefinitionTest {
+
+  private static final String PLAYER_ID = "PLAYER_1";
+
+  @Mock private Snapshotter snapshotter;
+
+  @Test
+  @DisplayName("should snapshot once the event threshold is reached")
+  void shouldSnapshotAfterEventThreshold() {
+    SnapshotTrigger trigger =
+        new LoadTimeOrEventCountSnapshotTriggerDefinition(snapshotter, 3, 0)
+            .prepareTrigger(PlayerProgression.class);
+
+    handleEvents(trigger, 0, 2);
+    trigger.initializationFinished();
+    verify(snapshotter, never()).scheduleSnapshot(any(), anyString());
+
+    handleEvents(trigger, 2, 4);
+
+    verify(snapshotter, times(2)).scheduleSnapshot(PlayerProgression.class, PLAYER_ID);
+  }
+
+  @Test
+  @DisplayName("should snapshot when loading takes longer than the load time threshold")
+  void shouldSnapshotAfterSlowLoad() throws InterruptedException {
+    SnapshotTrigger trigger =
+        new LoadTimeOrEventCountSnapshotTriggerDefinition(snapshotter, 1_000, 1)
+            .prepareTrigger(PlayerProgression.class);
+
+    Thread.sleep(5);
+    handleEvents(trigger, 0, 1);
+
+    verify(snapshotter).scheduleSnapshot(PlayerProgression.class, PLAYER_ID);
+  }
+
+  @Test
+  @DisplayName("should ignore load time once the aggregate is initialized")
+  void shouldIgnoreLoadTimeAfterInitialization() throws InterruptedException {
+    SnapshotTrigger trigger =
+        new LoadTimeOrEventCountSnapshotTriggerDefinition(snapshotter, 1_000, 1)
+            .prepareTrigger(PlayerProgression.class);
+
+    trigger.initializationFinished();
+    Thread.sleep(5);
+    handleEvents(trigger, 0, 1);
+
+    verify(snapshotter, never()).scheduleSnapshot(any(), anyString());
+  }
+
+  private static void handleEvents(SnapshotTrigger trigger, long fromSequence, int count) {
+    for (long sequence = fromSequence; sequence < fromSequence + count; sequence++) {
+      trigger.eventHandled(
+          new GenericDomainEventMessage<>(
+              "PlayerProgression",
+              PLAYER_ID,
+              sequence,
+              new XPEarnedEvent(PLAYER_ID, 1, 0, 1, "Test", null, null)));
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package com.reactor.pets.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
+import org.axonframework.modelling.command.AggregateStreamCreationException;
+import org.axonframework.modelling.command.ConcurrencyException;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Mapped Segment Event Storage Engine")
+class MappedSegmentEventStorageEngineTest {
+
+  private static final Serializer SERIALIZER = JacksonSerializer.defaultSerializer();
+
+  @TempDir Path directory;
+
+  private final List<MappedSegmentEventStorageEngine> engines = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws IOException {
+    for (MappedSegmentEventStorageEngine engine : engines) {
+      engine.close();
+    }
+  }
+
+  @Test
+  @DisplayName("should read an aggregate's events from a sequence number")
+  void shouldReadAggregateEvents() {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    engine.appendEvents(event("pet-1", 0, "created"), event("pet-2", 0, "created"));
+    engine.appendEvents(event("pet-1", 1, "fed"), event("pet-1", 2, "played"));
+
+    List<? extends DomainEventMessage<?>> events =
+        engine.readEvents("pet-1", 1).asStream().toList();
+
+    assertThat(events).extracting(DomainEventMessage::getSequenceNumber).containsExactly(1L, 2L);
+    assertThat(payloads(events.stream())).containsExactly("fed", "played");
+    assertThat(engine.lastSequenceNumberFor("pet-1")).contains(2L);
+    assertThat(engine.lastSequenceNumberFor("pet-3")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should stream every event in append order from a tracking token")
+  void shouldStreamEventsFromToken() {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    engine.appendEvents(
+        event("pet-1", 0, "created"),
+        GenericEventMessage.asEventMessage("tick"),
+        event("pet-1", 1, "fed"));
+
+    assertThat(globalIndexes(engine.readEvents(null, false))).containsExactly(0L, 1L, 2L);
+    assertThat(payloads(engine.readEvents(new GlobalSequenceTrackingToken(0L), false)))
+        .containsExactly("tick", "fed");
+    assertThat(engine.createHeadToken()).isEqualTo(new GlobalSequenceTrackingToken(2L));
+  }
+
+  @Test
+  @DisplayName("should reject events whose sequence number is already stored")
+  void shouldRejectDuplicateSequenceNumbers() {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    engine.appendEvents(event("pet-1", 0, "created"), event("pet-1", 1, "fed"));
+
+    assertThatThrownBy(() -> engine.appendEvents(event("pet-1", 1, "fed again")))
+        .isInstanceOf(ConcurrencyException.class);
+    assertThatThrownBy(() -> engine.appendEvents(event("pet-1", 0, "created again")))
+        .isInstanceOf(AggregateStreamCreationException.class);
+    assertThat(engine.createHeadToken()).isEqualTo(new GlobalSequenceTrackingToken(1L));
+  }
+
+  @Test
+  @DisplayName("should append nothing of a batch holding an event too large for a segment")
+  void shouldRejectBatchWithOversizedEvent() {
+    MappedSegmentEventStorageEngine engine = open(1024);
+    engine.appendEvents(event("pet-1", 0, "created"));
+
+    assertThatThrownBy(
+            () ->
+                engine.appendEvents(
+                    event("pet-1", 1, "fed"), event("pet-1", 2, "x".repeat(2048))))
+        .isInstanceOf(EventStoreException.class);
+
+    assertThat(engine.createHeadToken()).isEqualTo(new GlobalSequenceTrackingToken(0L));
+    assertThat(engine.lastSequenceNumberFor("pet-1")).contains(0L);
+    engine.appendEvents(event("pet-1", 1, "fed"));
+    assertThat(payloads(engine.readEvents(null, false)))
+        .containsExactly("created", "fed");
+  }
+
+  @Test
+  @DisplayName("should refuse to open a directory another engine has open")
+  void shouldLockDirectory() {
+    open(64 * 1024);
+
+    assertThatThrownBy(() -> open(64 * 1024)).isInstanceOf(EventStoreException.class);
+  }
+
+  @Test
+  @DisplayName("should return the latest snapshot of an aggregate")
+  void shouldReturnLatestSnapshot() {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    engine.storeSnapshot(event("pet-1", 9, "snapshot at 9"));
+    engine.storeSnapshot(event("pet-1", 5, "snapshot at 5"));
+
+    assertThat(engine.readSnapshot("pet-1"))
+        .hasValueSatisfying(
+            snapshot -> assertThat(snapshot.getPayload()).isEqualTo("snapshot at 9"));
+    assertThat(engine.readSnapshot("pet-2")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should roll over to a new segment when one is full")
+  void shouldRollOverSegments() throws IOException {
+    MappedSegmentEventStorageEngine engine = open(1024);
+    for (int sequence = 0; sequence < 50; sequence++) {
+      engine.appendEvents(event("pet-1", sequence, "event " + sequence));
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.filter(file -> file.toString().endsWith(".events")).count())
+          .isGreaterThan(1);
+    }
+    assertThat(payloads(engine.readEvents("pet-1", 0).asStream()))
+        .hasSize(50)
+        .startsWith("event 0")
+        .endsWith("event 49");
+  }
+
+  @Test
+  @DisplayName("should rebuild its indexes from the segments when reopened")
+  void shouldRecoverAfterReopening() throws IOException {
+    MappedSegmentEventStorageEngine engine = open(1024);
+    for (int sequence = 0; sequence < 20; sequence++) {
+      engine.appendEvents(event("pet-1", sequence, "event " + sequence));
+    }
+    engine.storeSnapshot(event("pet-1", 19, "snapshot"));
+    engine.close();
+    engines.remove(engine);
+
+    MappedSegmentEventStorageEngine reopened = open(1024);
+    reopened.appendEvents(event("pet-1", 20, "event 20"));
+
+    assertThat(reopened.createHeadToken()).isEqualTo(new GlobalSequenceTrackingToken(20L));
+    assertThat(reopened.lastSequenceNumberFor("pet-1")).contains(20L);
+    assertThat(reopened.readSnapshot("pet-1")).isPresent();
+    assertThat(payloads(reopened.readEvents("pet-1", 19).asStream()))
+        .containsExactly("event 19", "event 20");
+  }
+
+  @Test
+  @DisplayName("should cut off a torn record when reopened")
+  void shouldCutOffTornRecord() throws IOException {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    engine.appendEvents(event("pet-1", 0, "created"), event("pet-1", 1, "fed"));
+    engine.close();
+    engines.remove(engine);
+    corruptSecondRecord(directory.resolve("0000000000.events"));
+
+    MappedSegmentEventStorageEngine reopened = open(64 * 1024);
+    reopened.appendEvents(event("pet-1", 1, "fed after restart"));
+
+    assertThat(payloads(reopened.readEvents(null, false)))
+        .containsExactly("created", "fed after restart");
+  }
+
+  @Test
+  @DisplayName("should create a token before the first event at or after a point in time")
+  void shouldCreateTokenAtTimestamp() {
+    MappedSegmentEventStorageEngine engine = open(64 * 1024);
+    Instant start = Instant.parse("2026-01-01T00:00:00Z");
+    for (int sequence = 0; sequence < 10; sequence++) {
+      engine.appendEvents(
+          new GenericDomainEventMessage<>(
+              "Pet",
+              "pet-1",
+              sequence,
+              "event " + sequence,
+              Map.of(),
+              "event-" + sequence,
+              start.plusSeconds(sequence * 10L)));
+    }
+
+    assertThat(engine.createTokenAt(start.plusSeconds(35)))
+        .isEqualTo(new GlobalSequenceTrackingToken(3L));
+    assertThat(engine.createTokenAt(start.minusSeconds(1)))
+        .isEqualTo(new GlobalSequenceTrackingToken(-1L));
+    assertThat(engine.createTokenAt(start.plusSeconds(1000)))
+        .isEqualTo(new GlobalSequenceTrackingToken(9L));
+  }
+
+  private MappedSegmentEventStorageEngine open(int segmentSize) {
+    MappedSegmentEventStorageEngine engine =
+        MappedSegmentEventStorageEngine.builder()
+            .eventSerializer(SERIALIZER)
+            .snapshotSerializer(SERIALIZER)
+            .directory(directory)
+            .segmentSize(segmentSize)
+            .build();
+    engines.add(engine);
+    return engine;
+  }
+
+  private static DomainEventMessage<String> event(
+      String aggregateId, long sequenceNumber, String payload) {
+    return new GenericDomainEventMessage<>("Pet", aggregateId, sequenceNumber, payload);
+  }
+
+  private static List<Object> payloads(Stream<? extends EventMessage<?>> events) {
+    return events.map(event -> (Object) event.getPayload()).toList();
+  }
+
+  private static List<Long> globalIndexes(Stream<? extends TrackedEventMessage<?>> events) {
+    return events
+        .map(TrackedEventMessage::trackingToken)
+        .map(TrackingToken::position)
+        .map(position -> position.orElse(-1L))
+        .toList();
+  }
+
+  /**
+   * Flip a byte in the body of the second record, as if the process died while writing it.
+   */
+  private static void corruptSecondRecord(Path segment) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+      channel.read(length, 0);
+      int secondRecord = Integer.BYTES + length.flip().getInt() + Integer.BYTES;
+      ByteBuffer body = ByteBuffer.allocate(1);
+      channel.read(body, secondRecord + Integer.BYTES + 2);
+      body.put(0, (byte) ~body.get(0));
+      channel.write(body.flip(), secondRecord + Integer.BYTES + 2);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.reactor.pets.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reactor.pets.command.FeedPetCommand;
+import com.reactor.pets.command.TimeTickCommand;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@DisplayName("Priority Lane Command Bus")
+class PriorityLaneCommandBusTest {
+
+  private PriorityLaneCommandBus commandBus;
+
+  @BeforeEach
+  void setUp() {
+    ExecutorService bulkLane =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("bulk-"));
+    ExecutorService interactiveLane =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("interactive-"));
+    commandBus =
+        new PriorityLaneCommandBus(
+            SimpleCommandBus.builder(), Set.of("TimeTickCommand"), bulkLane, interactiveLane);
+    commandBus.subscribe(
+        TimeTickCommand.class.getName(), command -> Thread.currentThread().getName());
+    commandBus.subscribe(
+        FeedPetCommand.class.getName(), command -> Thread.currentThread().getName());
+  }
+
+  @AfterEach
+  void tearDown() {
+    commandBus.shutdown();
+  }
+
+  @Test
+  @DisplayName("should handle bulk commands on the bulk lane")
+  void shouldHandleBulkCommandsOnBulkLane() throws Exception {
+    assertThat(handlingThread(new TimeTickCommand("pet-1", 1))).startsWith("bulk-");
+  }
+
+  @Test
+  @DisplayName("should handle other commands on the interactive lane")
+  void shouldHandleInteractiveCommandsOnInteractiveLane() throws Exception {
+    assertThat(handlingThread(new FeedPetCommand("pet-1", 20))).startsWith("interactive-");
+  }
+
+  @Test
+  @DisplayName("should keep interactive commands moving while the bulk lane is busy")
+  void shouldNotQueueInteractiveCommandsBehindBulkCommands() throws Exception {
+    CompletableFuture<Void> blocker = new CompletableFuture<>();
+    commandBus.subscribe(
+        "blocking-tick",
+        command -> {
+          blocker.get(5, TimeUnit.SECONDS);
+          return null;
+        });
+    commandBus.dispatch(
+        new GenericCommandMessage<>(
+            GenericCommandMessage.asCommandMessage(new TimeTickCommand("pet-1", 1)),
+            "blocking-tick"));
+
+    assertThat(handlingThread(new FeedPetCommand("pet-2", 20))).startsWith("interactive-");
+    blocker.complete(null);
+  }
+
+  @Test
+  @DisplayName("should reject bulk commands while the bulk lane is full")
+  void shouldRejectBulkCommandsWhenBulkLaneIsFull() throws Exception {
+    commandBus.shutdown();
+    CompletableFuture<Void> blocker = new CompletableFuture<>();
+    ExecutorService bulkLane =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(1),
+            new CustomizableThreadFactory("bulk-"));
+    commandBus =
+        new PriorityLaneCommandBus(
+            SimpleCommandBus.builder(),
+            Set.of("TimeTickCommand"),
+            bulkLane,
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("interactive-")));
+    commandBus.subscribe(
+        TimeTickCommand.class.getName(),
+        command -> {
+          blocker.get(5, TimeUnit.SECONDS);
+          return Thread.currentThread().getName();
+        });
+
+    // One tick runs, one waits in the queue, the third finds the lane full
+    commandBus.dispatch(GenericCommandMessage.asCommandMessage(new TimeTickCommand("pet-1", 1)));
+    commandBus.dispatch(GenericCommandMessage.asCommandMessage(new TimeTickCommand("pet-2", 1)));
+    assertThatThrownBy(() -> handlingThread(new TimeTickCommand("pet-3", 1)))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    blocker.complete(null);
+  }
+
+  private String handlingThread(Object payload) throws Exception {
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    CommandMessage<Object> command = GenericCommandMessage.asCommandMessage(payload);
+    commandBus.dispatch(
+        command,
+        (message, commandResult) -> {
+          if (commandResult.isExceptional()) {
+            result.completeExceptionally(commandResult.exceptionResult());
+          } else {
+            result.complete(commandResult.getPayload());
+          }
+        });
+    return (String) result.get(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,99 @@
+package com.reactor.pets.config;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Segment Balancer")
+class SegmentBalancerTest {
+
+  private static final long HEAD = 100_000;
+  // Segments 0 and 1 of a processor split in two
+  private static final Segment[] HALVES = Segment.ROOT_SEGMENT.split();
+
+  @Mock private EventProcessingConfiguration eventProcessingConfiguration;
+  @Mock private EventStore eventStore;
+  @Mock private StreamingEventProcessor processor;
+
+  private SegmentBalancer balancer;
+
+  @BeforeEach
+  void setUp() {
+    SegmentBalancerConfig config = new SegmentBalancerConfig();
+    config.setSplitLagThreshold(5000);
+    config.setMergeLagThreshold(100);
+    config.setMinSegments(1);
+    balancer = new SegmentBalancer(eventProcessingConfiguration, eventStore, config);
+
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(HEAD));
+    when(eventProcessingConfiguration.eventProcessor("pet-status", StreamingEventProcessor.class))
+        .thenReturn(Optional.of(processor));
+  }
+
+  @Test
+  @DisplayName("should split the most lagging segment")
+  void shouldSplitMostLaggingSegment() {
+    EventTrackerStatus first = status(HALVES[0], HEAD - 6000);
+    EventTrackerStatus second = status(HALVES[1], HEAD - 20_000);
+    when(processor.processingStatus()).thenReturn(Map.of(0, first, 1, second));
+
+    balancer.rebalance();
+
+    verify(processor).splitSegment(1);
+    verify(processor, never()).mergeSegment(anyInt());
+  }
+
+  @Test
+  @DisplayName("should merge segments back once all are caught up")
+  void shouldMergeCaughtUpSegments() {
+    EventTrackerStatus first = status(HALVES[0], HEAD - 10);
+    EventTrackerStatus second = status(HALVES[1], HEAD);
+    when(processor.processingStatus()).thenReturn(Map.of(0, first, 1, second));
+
+    balancer.rebalance();
+
+    verify(processor).mergeSegment(1);
+    verify(processor, never()).splitSegment(anyInt());
+  }
+
+  @Test
+  @DisplayName("should leave segments alone while one has no position yet")
+  void shouldWaitForAllSegmentsToBeClaimed() {
+    EventTrackerStatus unclaimed = mock(EventTrackerStatus.class);
+    when(unclaimed.getCurrentPosition()).thenReturn(OptionalLong.empty());
+    EventTrackerStatus first = status(HALVES[0], HEAD - 20_000);
+    when(processor.processingStatus()).thenReturn(Map.of(0, first, 1, unclaimed));
+
+    balancer.rebalance();
+
+    verify(processor, never()).splitSegment(anyInt());
+    verify(processor, never()).mergeSegment(anyInt());
+  }
+
+  private static EventTrackerStatus status(Segment segment, long position) {
+    EventTrackerStatus status = mock(EventTrackerStatus.class);
+    lenient().when(status.getSegment()).thenReturn(segment);
+    lenient().when(status.getCurrentPosition()).thenReturn(OptionalLong.of(position));
+    return status;
+  }
+}
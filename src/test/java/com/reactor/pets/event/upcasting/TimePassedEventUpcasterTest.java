@@ -0,0 +1,94 @@
+package com.reactor.pets.event.upcasting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reactor.pets.event.PetTickedEvent;
+import com.thoughtworks.xstream.XStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.serialization.xml.XStreamSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for upcasting stored TimePassedEvents to PetTickedEvent. */
+@DisplayName("TimePassedEvent Upcaster")
+class TimePassedEventUpcasterTest {
+
+  private static final String TIME_PASSED_XML =
+      "<com.reactor.pets.event.TimePassedEvent>"
+          + "<petId>pet-123</petId>"
+          + "<hungerIncrease>3</hungerIncrease>"
+          + "<happinessDecrease>2</happinessDecrease>"
+          + "<ageIncrease>1</ageIncrease>"
+          + "<globalTick>10</globalTick>"
+          + "<xpMultiplierChange>0.1</xpMultiplierChange>"
+          + "<newXpMultiplier>1.1</newXpMultiplier>"
+          + "<newLowStatsTicks>0</newLowStatsTicks>"
+          + "</com.reactor.pets.event.TimePassedEvent>";
+
+  private Serializer serializer;
+  private TimePassedEventUpcaster upcaster;
+
+  @BeforeEach
+  void setUp() {
+    XStream xStream = new XStream();
+    xStream.allowTypesByWildcard(new String[] {"com.reactor.pets.**"});
+    serializer = XStreamSerializer.builder().xStream(xStream).build();
+    upcaster = new TimePassedEventUpcaster();
+  }
+
+  @Test
+  @DisplayName("should upcast TimePassedEvent to PetTickedEvent without health changes")
+  void shouldUpcastTimePassedEvent() {
+    List<IntermediateEventRepresentation> upcast =
+        upcaster.upcast(Stream.of(representation(TimePassedEventUpcaster.TIME_PASSED_EVENT_TYPE)))
+            .toList();
+
+    assertThat(upcast).hasSize(1);
+    assertThat(upcast.get(0).getType().getName()).isEqualTo(PetTickedEvent.class.getName());
+
+    PetTickedEvent event = serializer.deserialize(upcast.get(0).getData());
+    assertThat(event.getPetId()).isEqualTo("pet-123");
+    assertThat(event.getHungerIncrease()).isEqualTo(3);
+    assertThat(event.getHappinessDecrease()).isEqualTo(2);
+    assertThat(event.getAgeIncrease()).isEqualTo(1);
+    assertThat(event.getGlobalTick()).isEqualTo(10L);
+    assertThat(event.getNewXpMultiplier()).isEqualTo(1.1);
+    assertThat(event.getHealthRegenerated()).isZero();
+    assertThat(event.getHealthDecrease()).isZero();
+    assertThat(event.getDeteriorationReason()).isNull();
+  }
+
+  @Test
+  @DisplayName("should leave other events untouched")
+  void shouldLeaveOtherEventsUntouched() {
+    IntermediateEventRepresentation other = representation("com.reactor.pets.event.PetFedEvent");
+
+    List<IntermediateEventRepresentation> upcast = upcaster.upcast(Stream.of(other)).toList();
+
+    assertThat(upcast).containsExactly(other);
+  }
+
+  private IntermediateEventRepresentation representation(String payloadType) {
+    String metaData = serializer.serialize(MetaData.emptyInstance(), String.class).getData();
+    GenericDomainEventEntry<String> entry =
+        new GenericDomainEventEntry<>(
+            "Pet",
+            "pet-123",
+            0L,
+            "event-1",
+            Instant.now(),
+            payloadType,
+            null,
+            TIME_PASSED_XML,
+            metaData);
+    return new InitialEventRepresentation(entry, serializer);
+  }
+}
@@ -10,8 +10,6 @@ import com.reactor.pets.query.GetGlobalTimeQuery;
 import com.reactor.pets.query.GlobalTimeRepository;
 import com.reactor.pets.query.GlobalTimeView;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,11 +29,14 @@ class GlobalTimeProjectionTest {
   @Mock
   private GlobalTimeRepository globalTimeRepository;
 
+  private GlobalClock globalClock;
+
   private GlobalTimeProjection projection;
 
   @BeforeEach
   void setUp() {
-    projection = new GlobalTimeProjection(globalTimeRepository);
+    globalClock = new GlobalClock();
+    projection = new GlobalTimeProjection(globalTimeRepository, globalClock);
   }
 
   @Test
@@ -85,6 +86,21 @@ class GlobalTimeProjectionTest {
     GlobalTimeView updatedView = captor.getValue();
     assertThat(updatedView.getCurrentGlobalTick()).isEqualTo(newTick);
     assertThat(updatedView.getLastUpdated()).isEqualTo(timestamp);
+    assertThat(globalClock.currentTick()).isEqualTo(newTick);
+  }
+
+  @Test
+  @DisplayName("should never move the clock backwards")
+  void shouldNotMoveClockBackwards() {
+    // Given: the scheduler already recorded tick 43 from the command result
+    globalClock.advanceTo(43L, Instant.now());
+    when(globalTimeRepository.findById("GLOBAL_TIME")).thenReturn(Optional.empty());
+
+    // When: the event for tick 42 arrives late
+    projection.on(new GlobalTimeAdvancedEvent("GLOBAL_TIME", 42L, Instant.now()));
+
+    // Then
+    assertThat(globalClock.currentTick()).isEqualTo(43L);
   }
 
   @Test
@@ -107,12 +123,7 @@ class GlobalTimeProjectionTest {
   @DisplayName("should return global time view when it exists")
   void shouldReturnGlobalTimeView() {
     // Given
-    GlobalTimeView view = new GlobalTimeView();
-    view.setTimeId("GLOBAL_TIME");
-    view.setCurrentGlobalTick(123L);
-    view.setLastUpdated(Instant.now());
-
-    when(globalTimeRepository.findAll()).thenReturn(List.of(view));
+    globalClock.advanceTo(123L, Instant.now());
 
     // When
     GlobalTimeView result = projection.handle(new GetGlobalTimeQuery());
@@ -126,9 +137,6 @@ class GlobalTimeProjectionTest {
   @Test
   @DisplayName("should return null when global time does not exist")
   void shouldReturnNullWhenNotExists() {
-    // Given
-    when(globalTimeRepository.findAll()).thenReturn(Collections.emptyList());
-
     // When
     GlobalTimeView result = projection.handle(new GetGlobalTimeQuery());
 
@@ -0,0 +1,131 @@
+package com.reactor.pets.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reactor.pets.aggregate.PetType;
+import com.reactor.pets.config.PetHistoryConfig;
+import com.reactor.pets.event.PetCreatedEvent;
+import com.reactor.pets.event.PetFedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.query.GetPetHistoryQuery;
+import com.reactor.pets.query.PetEventDto;
+import com.reactor.pets.query.PetHistoryEntry;
+import com.reactor.pets.query.PetHistoryRepository;
+import java.time.Instant;
+import java.util.List;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pet History Projection")
+class PetHistoryProjectionTest {
+
+  private static final String PET_ID = "pet-1";
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+  @Mock private PetHistoryRepository historyRepository;
+
+  private PetHistoryConfig config;
+  private PetHistoryProjection projection;
+
+  @BeforeEach
+  void setUp() {
+    config = new PetHistoryConfig();
+    config.setRingSize(3);
+    projection = new PetHistoryProjection(historyRepository, config);
+  }
+
+  @Test
+  @DisplayName("should archive interactions and skip time passing by default")
+  void shouldArchiveInteractionsOnly() {
+    publish(0, new PetCreatedEvent(PET_ID, "Fluffy", PetType.CAT, 0L, NOW));
+    publish(1, new PetTickedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 0.0, 0, 0, 0, null, NOW));
+    publish(2, new PetFedEvent(PET_ID, 10, NOW));
+
+    ArgumentCaptor<PetHistoryEntry> saved = ArgumentCaptor.forClass(PetHistoryEntry.class);
+    verify(historyRepository, times(2)).save(saved.capture());
+    assertThat(saved.getAllValues())
+        .extracting(PetHistoryEntry::getSequenceNumber, PetHistoryEntry::getEventType)
+        .containsExactly(
+            tuple(0L, "PetCreatedEvent"),
+            tuple(2L, "PetFedEvent"));
+  }
+
+  @Test
+  @DisplayName("should serve the latest events of a fully known pet from memory")
+  void shouldServeLatestEventsFromRing() {
+    publish(0, new PetCreatedEvent(PET_ID, "Fluffy", PetType.CAT, 0L, NOW));
+    publish(1, new PetFedEvent(PET_ID, 10, NOW));
+
+    List<PetEventDto> history = projection.handle(new GetPetHistoryQuery(PET_ID, 10));
+
+    assertThat(history)
+        .extracting(PetEventDto::getEventType)
+        .containsExactly("PetCreatedEvent", "PetFedEvent");
+    assertThat(history.get(0).getDetails()).contains("Fluffy");
+    verify(historyRepository, never()).findPageBefore(anyString(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("should read the archive when the ring does not hold enough events")
+  void shouldFallBackToArchive() {
+    // Only the latest three events are kept in memory
+    publish(0, new PetCreatedEvent(PET_ID, "Fluffy", PetType.CAT, 0L, NOW));
+    for (int sequence = 1; sequence <= 4; sequence++) {
+      publish(sequence, new PetFedEvent(PET_ID, sequence, NOW));
+    }
+    when(historyRepository.findPageBefore(eq(PET_ID), eq(Long.MAX_VALUE), any(Pageable.class)))
+        .thenReturn(
+            List.of(
+                entry(4, "PetFedEvent"),
+                entry(3, "PetFedEvent"),
+                entry(2, "PetFedEvent"),
+                entry(1, "PetFedEvent")));
+
+    List<PetEventDto> fromRing = projection.handle(new GetPetHistoryQuery(PET_ID, 3));
+    List<PetEventDto> fromArchive = projection.handle(new GetPetHistoryQuery(PET_ID, 4));
+
+    assertThat(fromRing).extracting(PetEventDto::getSequenceNumber).containsExactly(2L, 3L, 4L);
+    assertThat(fromArchive)
+        .extracting(PetEventDto::getSequenceNumber)
+        .containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  @DisplayName("should page older events by sequence number")
+  void shouldPageByKeyset() {
+    when(historyRepository.findPageBefore(eq(PET_ID), eq(2L), any(Pageable.class)))
+        .thenReturn(List.of(entry(1, "PetFedEvent"), entry(0, "PetCreatedEvent")));
+
+    List<PetEventDto> page = projection.handle(new GetPetHistoryQuery(PET_ID, 2, 2L));
+
+    assertThat(page).extracting(PetEventDto::getSequenceNumber).containsExactly(0L, 1L);
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(historyRepository).findPageBefore(eq(PET_ID), eq(2L), pageable.capture());
+    assertThat(pageable.getValue().getPageSize()).isEqualTo(2);
+  }
+
+  private void publish(long sequence, Object event) {
+    projection.on(event, new GenericDomainEventMessage<>("Pet", PET_ID, sequence, event));
+  }
+
+  private static PetHistoryEntry entry(long sequence, String eventType) {
+    return new PetHistoryEntry(null, PET_ID, sequence, eventType, NOW, eventType + " details");
+  }
+}
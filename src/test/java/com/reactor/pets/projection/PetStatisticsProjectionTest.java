@@ -11,14 +11,19 @@ import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetDiedEvent;
 import com.reactor.pets.event.PetEvolvedEvent;
 import com.reactor.pets.query.*;
+import com.reactor.pets.service.PetTimeService;
 import java.time.Instant;
 import java.util.*;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +33,12 @@ class PetStatisticsProjectionTest {
 
   @Mock private PetStatusRepository petStatusRepository;
 
+  @Spy private LeaderboardIndex leaderboardIndex = new LeaderboardIndex();
+
+  @Mock private PetTimeService petTimeService;
+
+  @Mock private ProjectionUpdateEmitter updateEmitter;
+
   @InjectMocks private PetStatisticsProjection projection;
 
   private PetStatistics mockStats;
@@ -190,11 +201,78 @@ class PetStatisticsProjectionTest {
     assertThat(result.getId()).isEqualTo("GLOBAL");
   }
 
+  @Test
+  void shouldWriteStatisticsOncePerUnitOfWork() {
+    // Given
+    mockStats.setTotalPetsCreated(5);
+    mockStats.getStageDistribution().put(PetStage.EGG, 5);
+    when(statisticsRepository.findById("GLOBAL")).thenReturn(Optional.of(mockStats));
+    UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+
+    // When
+    projection.on(new PetCreatedEvent("pet-6", "Rex", PetType.DOG, 0L, Instant.now()));
+    projection.on(new PetCreatedEvent("pet-7", "Tom", PetType.CAT, 0L, Instant.now()));
+    projection.on(
+        new PetEvolvedEvent(
+            "pet-6", PetStage.EGG, PetStage.BABY, EvolutionPath.HEALTHY, "Hatched", Instant.now()));
+
+    // Then: nothing is written until the unit of work commits
+    verify(statisticsRepository, never()).save(any());
+    unitOfWork.commit();
+
+    ArgumentCaptor<PetStatistics> captor = ArgumentCaptor.forClass(PetStatistics.class);
+    verify(statisticsRepository, times(1)).save(captor.capture());
+    PetStatistics saved = captor.getValue();
+    assertThat(saved.getTotalPetsCreated()).isEqualTo(7);
+    assertThat(saved.getStageDistribution())
+        .containsEntry(PetStage.EGG, 6)
+        .containsEntry(PetStage.BABY, 1);
+  }
+
+  @Test
+  void shouldDropCountsOfRolledBackUnitOfWork() {
+    // Given
+    when(statisticsRepository.findById("GLOBAL")).thenReturn(Optional.of(mockStats));
+    PetCreatedEvent event = new PetCreatedEvent("pet-1", "Fluffy", PetType.CAT, 0L, Instant.now());
+
+    // When: the batch rolls back and is retried
+    DefaultUnitOfWork.startAndGet(null);
+    projection.on(event);
+    CurrentUnitOfWork.get().rollback();
+    UnitOfWork<?> retry = DefaultUnitOfWork.startAndGet(null);
+    projection.on(event);
+    retry.commit();
+
+    // Then: the event is counted once
+    verify(statisticsRepository, times(1)).save(any());
+    assertThat(mockStats.getTotalPetsCreated()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTrackExactAverageLifespan() {
+    // Given
+    when(statisticsRepository.findById("GLOBAL")).thenReturn(Optional.of(mockStats));
+    UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+
+    // When
+    projection.on(new PetDiedEvent("pet-1", 10, 100, "Hunger", new ArrayList<>(), Instant.now()));
+    projection.on(new PetDiedEvent("pet-2", 30, 300, "Hunger", new ArrayList<>(), Instant.now()));
+    unitOfWork.commit();
+
+    // Then
+    ArgumentCaptor<PetStatistics> captor = ArgumentCaptor.forClass(PetStatistics.class);
+    verify(statisticsRepository).save(captor.capture());
+
+    PetStatistics saved = captor.getValue();
+    assertThat(saved.getTotalPetsDied()).isEqualTo(2);
+    assertThat(saved.getTotalLifespan()).isEqualTo(40);
+    assertThat(saved.getAverageLifespan()).isEqualTo(20.0);
+  }
+
   @Test
   void shouldHandleGetLeaderboardQueryByAge() {
     // Given
-    List<PetStatusView> pets = createMockPets();
-    when(petStatusRepository.findByIsAlive(true)).thenReturn(pets);
+    createMockPets().forEach(leaderboardIndex::update);
 
     // When
     List<PetStatusView> result =
@@ -209,8 +287,7 @@ class PetStatisticsProjectionTest {
   @Test
   void shouldHandleGetLeaderboardQueryByHappiness() {
     // Given
-    List<PetStatusView> pets = createMockPets();
-    when(petStatusRepository.findByIsAlive(true)).thenReturn(pets);
+    createMockPets().forEach(leaderboardIndex::update);
 
     // When
     List<PetStatusView> result =
@@ -228,10 +305,12 @@ class PetStatisticsProjectionTest {
     List<PetStatusView> pets = new ArrayList<>();
     for (int i = 0; i < 20; i++) {
       PetStatusView pet = new PetStatusView();
+      pet.setPetId("pet-" + i);
+      pet.setAlive(true);
       pet.setAge(i);
       pets.add(pet);
     }
-    when(petStatusRepository.findByIsAlive(true)).thenReturn(pets);
+    pets.forEach(leaderboardIndex::update);
 
     // When
     List<PetStatusView> result =
@@ -239,23 +318,79 @@ class PetStatisticsProjectionTest {
 
     // Then
     assertThat(result).hasSize(10);
+    assertThat(result.get(0).getAge()).isEqualTo(19);
+    assertThat(result.get(9).getAge()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReflectUpdatesAndDeathsInLeaderboard() {
+    // Given
+    List<PetStatusView> pets = createMockPets();
+    pets.forEach(leaderboardIndex::update);
+
+    // When: the oldest pet dies and another grows older than everyone
+    PetStatusView oldest = pets.get(2);
+    oldest.setAlive(false);
+    leaderboardIndex.update(oldest);
+    PetStatusView youngest = pets.get(1);
+    youngest.setAge(100);
+    leaderboardIndex.update(youngest);
+
+    // Then
+    List<PetStatusView> alive =
+        projection.handle(new GetLeaderboardQuery(GetLeaderboardQuery.LeaderboardType.AGE, true));
+    List<PetStatusView> all =
+        projection.handle(new GetLeaderboardQuery(GetLeaderboardQuery.LeaderboardType.AGE, false));
+    assertThat(alive).extracting(PetStatusView::getPetId).containsExactly("pet-2", "pet-1");
+    assertThat(all)
+        .extracting(PetStatusView::getPetId)
+        .containsExactly("pet-2", "pet-3", "pet-1");
+  }
+
+  @Test
+  void shouldRankLeaderboardByCurrentValuesWithLazyDecay() {
+    // Given: pet-2 has decayed below pet-1 and pet-3 has died since they were last saved
+    createMockPets().forEach(leaderboardIndex::update);
+    when(petTimeService.isLazyDecay()).thenReturn(true);
+    when(petTimeService.atCurrentTick(any()))
+        .thenAnswer(
+            invocation -> {
+              PetStatusView view = invocation.getArgument(0);
+              switch (view.getPetId()) {
+                case "pet-2" -> view.setHappiness(40);
+                case "pet-3" -> view.setAlive(false);
+                default -> { }
+              }
+              return view;
+            });
+
+    // When
+    List<PetStatusView> result =
+        projection.handle(new GetLeaderboardQuery(GetLeaderboardQuery.LeaderboardType.HAPPINESS, true));
+
+    // Then
+    assertThat(result).extracting(PetStatusView::getPetId).containsExactly("pet-1", "pet-2");
+    assertThat(result.get(1).getHappiness()).isEqualTo(40);
   }
 
   private List<PetStatusView> createMockPets() {
     PetStatusView pet1 = new PetStatusView();
     pet1.setPetId("pet-1");
+    pet1.setAlive(true);
     pet1.setAge(50);
     pet1.setHappiness(80);
     pet1.setHealth(90);
 
     PetStatusView pet2 = new PetStatusView();
     pet2.setPetId("pet-2");
+    pet2.setAlive(true);
     pet2.setAge(30);
     pet2.setHappiness(90);
     pet2.setHealth(70);
 
     PetStatusView pet3 = new PetStatusView();
     pet3.setPetId("pet-3");
+    pet3.setAlive(true);
     pet3.setAge(70);
     pet3.setHappiness(60);
     pet3.setHealth(85);
@@ -2,27 +2,53 @@ package com.reactor.pets.projection;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.aggregate.PetType;
+import com.reactor.pets.config.PetIdSequencingPolicy;
+import com.reactor.pets.config.TimeTickConfig;
 import com.reactor.pets.event.PetCreatedEvent;
+import com.reactor.pets.event.PetDiedEvent;
 import com.reactor.pets.event.PetFedEvent;
+import com.reactor.pets.query.GetAlivePetIdsQuery;
+import com.reactor.pets.query.GetAllPetsQuery;
 import com.reactor.pets.query.GetPetStatusQuery;
 import com.reactor.pets.query.PetStatusRepository;
 import com.reactor.pets.query.PetStatusView;
+import com.reactor.pets.service.PetTimeService;
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.GenericTrackedEventMessage;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.ReplayToken;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.queryhandling.QueryUpdateEmitter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * Unit tests for PetStatusProjection.
@@ -41,6 +67,16 @@ class PetStatusProjectionTest {
   @Mock
   private PetStatusRepository petStatusRepository;
 
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private QueryUpdateEmitter queryUpdateEmitter;
+
+  private AlivePetRegistry alivePetRegistry;
+
+  private GlobalClock globalClock;
+
   private PetStatusProjection projection;
 
   // In-memory store to simulate repository behavior for tests
@@ -49,7 +85,17 @@ class PetStatusProjectionTest {
   @BeforeEach
   void setUp() {
     testStore = new HashMap<>();
-    projection = new PetStatusProjection(petStatusRepository);
+    alivePetRegistry = new AlivePetRegistry(4);
+    globalClock = new GlobalClock();
+    projection =
+        new PetStatusProjection(
+            petStatusRepository,
+            new PetTimeService(new TimeTickConfig(), globalClock),
+            new PetStatusWriteBehind(
+                petStatusRepository, new PetIdSequencingPolicy(), entityManager),
+            new LeaderboardIndex(),
+            new ProjectionUpdateEmitter(queryUpdateEmitter),
+            alivePetRegistry);
 
     // Setup mock behavior with lenient() to avoid unnecessary stubbing errors
     // Some tests may not use all stubs, which is fine
@@ -144,6 +190,24 @@ class PetStatusProjectionTest {
       assertThat(view.getHunger()).isEqualTo(15); // 30 - 15 = 15
     }
 
+    @Test
+    @DisplayName("should push the changed view to subscription queries")
+    void shouldEmitChangedViewToSubscribers() {
+      // Given: Create a pet
+      String petId = "pet-123";
+      projection.on(new PetCreatedEvent(petId, "Watched Pet", PetType.DOG, 0L, Instant.now()));
+      clearInvocations(queryUpdateEmitter);
+
+      // When: Feed the pet
+      projection.on(new PetFedEvent(petId, 15, Instant.now()));
+
+      // Then: The fed view is pushed to the pet list and to that pet's status
+      ArgumentCaptor<PetStatusView> update = ArgumentCaptor.forClass(PetStatusView.class);
+      verify(queryUpdateEmitter).emit(eq(GetAllPetsQuery.class), any(), update.capture());
+      verify(queryUpdateEmitter).emit(eq(GetPetStatusQuery.class), any(), any(PetStatusView.class));
+      assertThat(update.getValue().getHunger()).isEqualTo(15);
+    }
+
     @Test
     @DisplayName("should handle multiple feedings correctly")
     void shouldHandleMultipleFeedingsCorrectly() {
@@ -287,4 +351,262 @@ class PetStatusProjectionTest {
       assertThat(view.isAlive()).isTrue(); // Unchanged
     }
   }
+
+  @Nested
+  @DisplayName("Batched Writes")
+  class BatchedWrites {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("should load and save each pet once per event processor batch")
+    void shouldLoadAndSaveEachPetOncePerBatch() {
+      // Given: two existing pets (hunger 30) and a batch with three events for them
+      projection.on(new PetCreatedEvent("pet-1", "One", PetType.CAT, 0L, Instant.now()));
+      projection.on(new PetCreatedEvent("pet-2", "Two", PetType.DOG, 0L, Instant.now()));
+      clearInvocations(petStatusRepository);
+      when(petStatusRepository.findAllById(any()))
+          .thenReturn(List.of(testStore.get("pet-1"), testStore.get("pet-2")));
+      List<EventMessage<?>> batch =
+          List.of(
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-1", 10, Instant.now())),
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-1", 10, Instant.now())),
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-2", 5, Instant.now())));
+
+      // When
+      new BatchingUnitOfWork<>(batch)
+          .execute(
+              () ->
+                  projection.on(
+                      (PetFedEvent) CurrentUnitOfWork.get().getMessage().getPayload()));
+
+      // Then: one query for both pets, no per-event reads or writes, one batched save
+      verify(petStatusRepository).findAllById(any());
+      verify(petStatusRepository, never()).findById(any());
+      verify(petStatusRepository, never()).save(any());
+      ArgumentCaptor<List<PetStatusView>> saved = ArgumentCaptor.forClass(List.class);
+      verify(petStatusRepository).saveAll(saved.capture());
+      assertThat(saved.getValue())
+          .extracting(PetStatusView::getPetId, PetStatusView::getHunger)
+          .containsExactly(tuple("pet-1", 10), tuple("pet-2", 25));
+    }
+
+    @Test
+    @DisplayName("should insert pets created in the batch without merging them")
+    void shouldInsertNewPetsWithoutMerge() {
+      // Given: a batch creating two pets and feeding one of them
+      List<EventMessage<?>> batch =
+          List.of(
+              GenericEventMessage.asEventMessage(
+                  new PetCreatedEvent("pet-1", "One", PetType.CAT, 0L, Instant.now())),
+              GenericEventMessage.asEventMessage(
+                  new PetCreatedEvent("pet-2", "Two", PetType.DOG, 0L, Instant.now())),
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-1", 10, Instant.now())));
+
+      // When
+      new BatchingUnitOfWork<>(batch)
+          .execute(
+              () -> {
+                Object payload = CurrentUnitOfWork.get().getMessage().getPayload();
+                if (payload instanceof PetCreatedEvent created) {
+                  projection.on(created);
+                } else {
+                  projection.on((PetFedEvent) payload);
+                }
+              });
+
+      // Then: both views are persisted once, with the feeding already applied
+      ArgumentCaptor<PetStatusView> persisted = ArgumentCaptor.forClass(PetStatusView.class);
+      verify(entityManager, times(2)).persist(persisted.capture());
+      assertThat(persisted.getAllValues())
+          .extracting(PetStatusView::getPetId, PetStatusView::getHunger)
+          .containsExactly(tuple("pet-1", 20), tuple("pet-2", 30));
+      verify(petStatusRepository, never()).save(any());
+      verify(petStatusRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("should push one update per pet per batch with its final view")
+    void shouldConflateUpdatesPerPet() {
+      // Given: two existing pets (hunger 30) and a batch with three events for them
+      projection.on(new PetCreatedEvent("pet-1", "One", PetType.CAT, 0L, Instant.now()));
+      projection.on(new PetCreatedEvent("pet-2", "Two", PetType.DOG, 0L, Instant.now()));
+      clearInvocations(queryUpdateEmitter);
+      when(petStatusRepository.findAllById(any()))
+          .thenReturn(List.of(testStore.get("pet-1"), testStore.get("pet-2")));
+      List<EventMessage<?>> batch =
+          List.of(
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-1", 10, Instant.now())),
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-1", 10, Instant.now())),
+              GenericEventMessage.asEventMessage(new PetFedEvent("pet-2", 5, Instant.now())));
+
+      // When
+      new BatchingUnitOfWork<>(batch)
+          .execute(
+              () ->
+                  projection.on(
+                      (PetFedEvent) CurrentUnitOfWork.get().getMessage().getPayload()));
+
+      // Then: each pet's list update carries the view after all of its events
+      ArgumentCaptor<PetStatusView> update = ArgumentCaptor.forClass(PetStatusView.class);
+      verify(queryUpdateEmitter, times(2))
+          .emit(eq(GetAllPetsQuery.class), any(), update.capture());
+      verify(queryUpdateEmitter, times(2))
+          .emit(eq(GetPetStatusQuery.class), any(), any(PetStatusView.class));
+      assertThat(update.getAllValues())
+          .extracting(PetStatusView::getPetId, PetStatusView::getHunger)
+          .containsExactly(tuple("pet-1", 10), tuple("pet-2", 25));
+    }
+
+    @Test
+    @DisplayName("should not push updates while the processor replays")
+    void shouldNotEmitDuringReplay() {
+      // Given: a replayed batch creating a pet
+      TrackingToken replay =
+          ReplayToken.createReplayToken(
+              new GlobalSequenceTrackingToken(10L), new GlobalSequenceTrackingToken(0L));
+      List<EventMessage<?>> batch =
+          List.of(
+              new GenericTrackedEventMessage<>(
+                  replay,
+                  GenericEventMessage.asEventMessage(
+                      new PetCreatedEvent("pet-1", "One", PetType.CAT, 0L, Instant.now()))));
+
+      // When
+      new BatchingUnitOfWork<>(batch)
+          .execute(
+              () ->
+                  projection.on(
+                      (PetCreatedEvent) CurrentUnitOfWork.get().getMessage().getPayload()));
+
+      // Then: the view is written, but subscribers see nothing
+      verify(entityManager).persist(any(PetStatusView.class));
+      verify(queryUpdateEmitter, never())
+          .emit(eq(GetAllPetsQuery.class), any(), any(PetStatusView.class));
+      verify(queryUpdateEmitter, never())
+          .emit(eq(GetPetStatusQuery.class), any(), any(PetStatusView.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("Alive Pet Id Paging")
+  class AlivePetIdPaging {
+
+    @Test
+    @DisplayName("should start from the beginning when no cursor is given")
+    void shouldStartFromBeginningWithoutCursor() {
+      // Given
+      when(petStatusRepository.findAlivePetIdsAfter("", PageRequest.of(0, 2)))
+          .thenReturn(List.of("pet-a", "pet-b"));
+
+      // When
+      List<String> page = projection.handle(new GetAlivePetIdsQuery(null, 2));
+
+      // Then
+      assertThat(page).containsExactly("pet-a", "pet-b");
+    }
+
+    @Test
+    @DisplayName("should continue after the cursor")
+    void shouldContinueAfterCursor() {
+      // Given
+      when(petStatusRepository.findAlivePetIdsAfter("pet-b", PageRequest.of(0, 2)))
+          .thenReturn(List.of("pet-c"));
+
+      // When
+      List<String> page = projection.handle(new GetAlivePetIdsQuery("pet-b", 2));
+
+      // Then
+      assertThat(page).containsExactly("pet-c");
+    }
+  }
+
+  @Nested
+  @DisplayName("Alive Pet Registry")
+  class AlivePetRegistryTracking {
+
+    @Test
+    @DisplayName("should register created pets and drop them when they die")
+    void shouldTrackAlivePets() {
+      // Given
+      projection.on(new PetCreatedEvent("pet-a", "Alpha", PetType.DOG, 0L, Instant.now()));
+      projection.on(new PetCreatedEvent("pet-b", "Beta", PetType.CAT, 0L, Instant.now()));
+
+      // When
+      projection.on(new PetDiedEvent("pet-a", 3, 30, "Starvation", List.of(), Instant.now()));
+
+      // Then
+      assertThat(alivePetRegistry.petIds()).containsExactly("pet-b");
+      assertThat(alivePetRegistry.segment(alivePetRegistry.segmentOf("pet-b")))
+          .containsExactly("pet-b");
+    }
+
+    @Test
+    @DisplayName("should load alive pets from the stored views on startup")
+    void shouldLoadAlivePetsOnStartup() {
+      // Given
+      PetStatusView alive = new PetStatusView();
+      alive.setPetId("pet-a");
+      alive.setAlive(true);
+      PetStatusView dead = new PetStatusView();
+      dead.setPetId("pet-b");
+      when(petStatusRepository.findAll()).thenReturn(List.of(alive, dead));
+
+      // When
+      projection.loadIndexes();
+
+      // Then
+      assertThat(alivePetRegistry.petIds()).containsExactly("pet-a");
+    }
+  }
+
+  @Nested
+  @DisplayName("Lazy Time Evaluation")
+  class LazyTimeEvaluation {
+
+    private PetStatusProjection lazyProjection;
+
+    @BeforeEach
+    void setUp() {
+      TimeTickConfig config = new TimeTickConfig();
+      config.setLazyDecay(true);
+      lazyProjection =
+          new PetStatusProjection(
+              petStatusRepository,
+              new PetTimeService(config, globalClock),
+              new PetStatusWriteBehind(
+                  petStatusRepository, new PetIdSequencingPolicy(), entityManager),
+              new LeaderboardIndex(),
+              new ProjectionUpdateEmitter(queryUpdateEmitter),
+              alivePetRegistry);
+    }
+
+    @Test
+    @DisplayName("should apply elapsed decay when the view is read")
+    void shouldApplyElapsedDecayOnRead() {
+      // Given: a pet born at tick 0 and a global clock at tick 10
+      String petId = "pet-lazy";
+      lazyProjection.on(new PetCreatedEvent(petId, "Lazy", PetType.CAT, 0L, Instant.now()));
+      globalClock.advanceTo(10L, Instant.now());
+
+      // When
+      PetStatusView view = lazyProjection.handle(new GetPetStatusQuery(petId));
+
+      // Then: 10 ticks of +3 hunger / -2 happiness, one age unit
+      assertThat(view.getHunger()).isEqualTo(60);
+      assertThat(view.getHappiness()).isEqualTo(50);
+      assertThat(view.getAge()).isEqualTo(1);
+      assertThat(view.getCurrentGlobalTick()).isEqualTo(10L);
+      assertThat(testStore.get(petId).getHunger()).isEqualTo(30); // Stored view untouched
+    }
+
+    @Test
+    @DisplayName("should record when an untended pet next needs a tick")
+    void shouldRecordNextTransitionTick() {
+      // When
+      lazyProjection.on(new PetCreatedEvent("pet-lazy", "Lazy", PetType.CAT, 5L, Instant.now()));
+
+      // Then: extreme hunger from tick 17, low happiness from tick 26, dead on tick 32
+      assertThat(testStore.get("pet-lazy").getNextTransitionTick()).isEqualTo(5L + 32L);
+    }
+  }
 }
@@ -4,22 +4,35 @@ import static org.axonframework.test.matchers.Matchers.andNoMore;
 import static org.axonframework.test.matchers.Matchers.exactSequenceOf;
 import static org.axonframework.test.matchers.Matchers.messageWithPayload;
 import static org.hamcrest.Matchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.reactor.pets.aggregate.EvolutionPath;
 import com.reactor.pets.aggregate.PetStage;
 import com.reactor.pets.aggregate.PetType;
 import com.reactor.pets.command.EarnXPCommand;
+import com.reactor.pets.config.XPAccumulatorConfig;
 import com.reactor.pets.event.PetCleanedEvent;
 import com.reactor.pets.event.PetCreatedEvent;
 import com.reactor.pets.event.PetEvolvedEvent;
 import com.reactor.pets.event.PetFedEvent;
 import com.reactor.pets.event.PetPlayedWithEvent;
-import com.reactor.pets.event.TimePassedEvent;
+import com.reactor.pets.event.PetTickedEvent;
+import com.reactor.pets.service.XPAccumulator;
+import com.thoughtworks.xstream.XStream;
 import java.time.Instant;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.commandhandling.gateway.DefaultCommandGateway;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.xml.XStreamSerializer;
 import org.axonframework.test.saga.SagaTestFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /** Unit tests for XPEarningSaga. */
 @DisplayName("XPEarningSaga")
@@ -32,6 +45,12 @@ class XPEarningSagaTest {
   @BeforeEach
   void setUp() {
     fixture = new SagaTestFixture<>(XPEarningSaga.class);
+    // Unbuffered, so each earning is dispatched as its own EarnXPCommand
+    XPAccumulatorConfig config = new XPAccumulatorConfig();
+    config.setEnabled(false);
+    CommandGateway commandGateway =
+        DefaultCommandGateway.builder().commandBus(fixture.getCommandBus()).build();
+    fixture.registerResource(new XPAccumulator(commandGateway, config));
   }
 
   @Test
@@ -78,16 +97,28 @@ class XPEarningSagaTest {
   }
 
   @Test
-  @DisplayName("should earn survival XP on TimePassedEvent")
-  void shouldEarnSurvivalXPOnTimePassedEvent() {
+  @DisplayName("should earn survival XP on PetTickedEvent")
+  void shouldEarnSurvivalXPOnPetTickedEvent() {
     fixture
         .givenAPublished(new PetCreatedEvent(PET_ID, "Test Pet", PetType.DOG, 0L, NOW))
-        .whenPublishingA(new TimePassedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.0, 0, NOW))
+        .whenPublishingA(new PetTickedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.0, 0, 0, 0, null, NOW))
         .expectActiveSagas(1)
         .expectDispatchedCommandsMatching(
             exactSequenceOf(messageWithPayload(any(EarnXPCommand.class)), andNoMore()));
   }
 
+  @Test
+  @DisplayName("should itemize survival XP under the pet's current stage")
+  void shouldItemizeSurvivalXPByStage() {
+    fixture
+        .givenAPublished(new PetCreatedEvent(PET_ID, "Test Pet", PetType.DOG, 0L, NOW))
+        .andThenAPublished(
+            new PetEvolvedEvent(
+                PET_ID, PetStage.EGG, PetStage.BABY, EvolutionPath.HEALTHY, "Hatched", NOW))
+        .whenPublishingA(new PetTickedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.0, 0, 0, 0, null, NOW))
+        .expectDispatchedCommands(new EarnXPCommand("PLAYER_1", 1L, "Pets survived tick (BABY)"));
+  }
+
   @Test
   @DisplayName("should earn bonus XP when pet evolves to BABY")
   void shouldEarnBonusXPWhenEvolvingToBaby() {
@@ -128,12 +159,12 @@ class XPEarningSagaTest {
   }
 
   @Test
-  @DisplayName("should track XP multiplier from TimePassedEvent")
-  void shouldTrackXPMultiplierFromTimePassedEvent() {
+  @DisplayName("should track XP multiplier from PetTickedEvent")
+  void shouldTrackXPMultiplierFromPetTickedEvent() {
     fixture
         .givenAPublished(new PetCreatedEvent(PET_ID, "Test Pet", PetType.DOG, 0L, NOW))
         // First time tick with 1.5x multiplier
-        .andThenAPublished(new TimePassedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.5, 0, NOW))
+        .andThenAPublished(new PetTickedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.5, 0, 0, 0, null, NOW))
         // Feed with the new multiplier
         .whenPublishingA(new PetFedEvent(PET_ID, 15, NOW))
         .expectActiveSagas(1)
@@ -149,9 +180,34 @@ class XPEarningSagaTest {
         .andThenAPublished(new PetFedEvent(PET_ID, 15, NOW))
         .andThenAPublished(new PetPlayedWithEvent(PET_ID, 10, 5, NOW))
         .andThenAPublished(new PetCleanedEvent(PET_ID, 10, NOW))
-        .whenPublishingA(new TimePassedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.0, 0, NOW))
+        .whenPublishingA(new PetTickedEvent(PET_ID, 3, 2, 1, 1L, 0.0, 1.0, 0, 0, 0, null, NOW))
         .expectActiveSagas(1)
         .expectDispatchedCommandsMatching(
             exactSequenceOf(messageWithPayload(any(EarnXPCommand.class)), andNoMore()));
   }
+
+  @Test
+  @DisplayName("should earn one tick of survival XP for a saga stored without its last tick")
+  void shouldEarnOneTickForSagaStoredWithoutLastTick() {
+    // Given: a saga serialized before it tracked the last global tick
+    XStream xStream = new XStream();
+    xStream.allowTypesByWildcard(new String[] {"com.reactor.pets.**"});
+    Serializer serializer = XStreamSerializer.builder().xStream(xStream).build();
+    String stored =
+        "<com.reactor.pets.saga.XPEarningSaga>"
+            + "<petXpMultiplier>2.0</petXpMultiplier>"
+            + "</com.reactor.pets.saga.XPEarningSaga>";
+    XPEarningSaga saga =
+        serializer.deserialize(
+            new SimpleSerializedObject<>(
+                stored, String.class, XPEarningSaga.class.getName(), null));
+    XPAccumulator xpAccumulator = mock(XPAccumulator.class);
+    ReflectionTestUtils.setField(saga, "xpAccumulator", xpAccumulator);
+
+    // When: the pet ticks at global tick 500
+    saga.on(new PetTickedEvent(PET_ID, 3, 2, 1, 500L, 0.0, 2.0, 0, 0, 0, null, NOW));
+
+    // Then: one tick at 2x, not the world's age
+    verify(xpAccumulator).earn(eq("PLAYER_1"), eq(2L), anyString());
+  }
 }
@@ -0,0 +1,58 @@
+package com.reactor.pets.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimit")
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(50);
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+  @Test
+  @DisplayName("should grow while commands are fast")
+  void shouldGrowWhileCommandsAreFast() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 64, 8, TARGET);
+
+    for (int i = 0; i < 200; i++) {
+      limit.onSuccess(FAST);
+    }
+
+    assertThat(limit.current()).isGreaterThan(8).isLessThanOrEqualTo(64);
+  }
+
+  @Test
+  @DisplayName("should back off once per window of slow commands")
+  void shouldBackOffOncePerWindow() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 64, 16, TARGET);
+
+    limit.onSuccess(SLOW);
+    assertThat(limit.current()).isEqualTo(12);
+
+    // The rest of the same window does not shrink it again
+    for (int i = 0; i < 5; i++) {
+      limit.onSuccess(SLOW);
+    }
+    assertThat(limit.current()).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("should stay within bounds")
+  void shouldStayWithinBounds() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 10, 8, TARGET);
+
+    for (int i = 0; i < 1000; i++) {
+      limit.onFailure();
+    }
+    assertThat(limit.current()).isEqualTo(4);
+
+    for (int i = 0; i < 1000; i++) {
+      limit.onSuccess(FAST);
+    }
+    assertThat(limit.current()).isEqualTo(10);
+  }
+}
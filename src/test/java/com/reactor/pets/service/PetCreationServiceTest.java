@@ -10,15 +10,13 @@ import static org.mockito.Mockito.when;
 import com.reactor.pets.aggregate.PetType;
 import com.reactor.pets.command.CreatePetCommand;
 import com.reactor.pets.command.SpendXPCommand;
-import com.reactor.pets.query.GetGlobalTimeQuery;
+import com.reactor.pets.projection.GlobalClock;
 import com.reactor.pets.query.GetPlayerProgressionQuery;
-import com.reactor.pets.query.GlobalTimeView;
 import com.reactor.pets.query.PlayerProgressionView;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import org.axonframework.commandhandling.gateway.CommandGateway;
-import org.axonframework.messaging.responsetypes.ResponseTypes;
 import org.axonframework.queryhandling.QueryGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -42,6 +41,9 @@ class PetCreationServiceTest {
   @Mock
   private QueryGateway queryGateway;
 
+  @Spy
+  private GlobalClock globalClock = new GlobalClock();
+
   @InjectMocks
   private PetCreationService petCreationService;
 
@@ -51,7 +53,6 @@ class PetCreationServiceTest {
   private static final PetType PET_TYPE = PetType.CAT;
 
   private PlayerProgressionView progressionView;
-  private GlobalTimeView globalTimeView;
 
   @BeforeEach
   void setUp() {
@@ -68,18 +69,13 @@ class PetCreationServiceTest {
         0, // Phase 7E: tickCountLast10
         new HashSet<>());
 
-    globalTimeView = new GlobalTimeView();
-    globalTimeView.setTimeId("GLOBAL_TIME");
-    globalTimeView.setCurrentGlobalTick(100L);
-    globalTimeView.setLastUpdated(Instant.now());
+    globalClock.advanceTo(100L, Instant.now());
   }
 
   @Test
   @DisplayName("should create first pet for free")
   void shouldCreateFirstPetForFree() {
     // Given: Player with 0 pets created
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
     when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
@@ -100,6 +96,7 @@ class PetCreationServiceTest {
     assertThat(command.getPetId()).isEqualTo(PET_ID);
     assertThat(command.getName()).isEqualTo(PET_NAME);
     assertThat(command.getType()).isEqualTo(PET_TYPE);
+    assertThat(command.getBirthGlobalTick()).isEqualTo(100L);
   }
 
   @Test
@@ -108,8 +105,6 @@ class PetCreationServiceTest {
     // Given: Player with 1 pet created and 200 XP
     progressionView.setTotalPetsCreated(1);
 
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
     when(commandGateway.sendAndWait(any())).thenReturn(null);
@@ -138,8 +133,6 @@ class PetCreationServiceTest {
     // Given: Player with 2 pets created
     progressionView.setTotalPetsCreated(2);
 
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
     when(commandGateway.sendAndWait(any())).thenReturn(null);
@@ -162,8 +155,6 @@ class PetCreationServiceTest {
     // Given: Player with 3 pets created
     progressionView.setTotalPetsCreated(3);
 
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
     when(commandGateway.sendAndWait(any())).thenReturn(null);
@@ -187,8 +178,6 @@ class PetCreationServiceTest {
     progressionView.setTotalPetsCreated(1);
     progressionView.setTotalXP(40L);
 
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
 
@@ -211,8 +200,6 @@ class PetCreationServiceTest {
     progressionView.setTotalPetsCreated(2);
     progressionView.setTotalXP(90L);
 
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(progressionView));
 
@@ -274,8 +261,6 @@ class PetCreationServiceTest {
   @DisplayName("should handle null progression view gracefully")
   void shouldHandleNullProgressionViewGracefully() {
     // Given: No player progression exists
-    when(queryGateway.query(any(GetGlobalTimeQuery.class), eq(ResponseTypes.instanceOf(GlobalTimeView.class))))
-        .thenReturn(CompletableFuture.completedFuture(globalTimeView));
     when(queryGateway.query(any(GetPlayerProgressionQuery.class), eq(PlayerProgressionView.class)))
         .thenReturn(CompletableFuture.completedFuture(null));
     when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
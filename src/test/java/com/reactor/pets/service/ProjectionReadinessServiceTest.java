@@ -0,0 +1,129 @@
+package com.reactor.pets.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reactor.pets.config.ProjectionReadinessConfig;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Projection Readiness Service")
+class ProjectionReadinessServiceTest {
+
+  private static final String PROCESSOR = "pet-status";
+
+  @Mock private EventProcessingConfiguration eventProcessingConfiguration;
+  @Mock private EventStore eventStore;
+  @Mock private StreamingEventProcessor processor;
+
+  private ProjectionReadinessConfig config;
+  private ProjectionReadinessService service;
+
+  @BeforeEach
+  void setUp() {
+    config = new ProjectionReadinessConfig();
+    config.setCheckIntervalMs(0); // Readiness is polled explicitly by the tests
+    service = new ProjectionReadinessService(eventProcessingConfiguration, eventStore, config);
+  }
+
+  @Test
+  @DisplayName("should not be ready before the application has started")
+  void shouldNotBeReadyBeforeStart() {
+    assertThat(service.isReady()).isFalse();
+    assertThat(service.readiness().getProcessors()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should stay unready while a processor is behind the head on startup")
+  void shouldReportLagWhileCatchingUp() {
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(100L));
+    givenSegmentPositions(40L, 90L);
+
+    service.start();
+    ProjectionReadiness readiness = service.readiness();
+
+    assertThat(readiness.isReady()).isFalse();
+    assertThat(readiness.getTargetPosition()).isEqualTo(100L);
+    ProjectionCatchUp catchUp = readiness.getProcessors().get(0);
+    assertThat(catchUp.getProcessorName()).isEqualTo(PROCESSOR);
+    assertThat(catchUp.isCaughtUp()).isFalse();
+    assertThat(catchUp.getSegments()).isEqualTo(2);
+    assertThat(catchUp.getPosition()).isEqualTo(40L);
+    assertThat(catchUp.getLag()).isEqualTo(60L);
+  }
+
+  @Test
+  @DisplayName("should become ready once the slowest segment reaches the startup head")
+  void shouldBecomeReadyWhenCaughtUp() {
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(100L));
+    givenSegmentPositions(40L, 90L);
+    service.start();
+
+    givenSegmentPositions(100L, 120L);
+    ProjectionReadiness readiness = service.readiness();
+
+    assertThat(readiness.isReady()).isTrue();
+    assertThat(readiness.getReadyAt()).isNotNull();
+    assertThat(service.isReady()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should be ready when other instances hold every segment")
+  void shouldBeReadyWithoutLocalSegments() {
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(100L));
+    givenSegmentPositions();
+
+    service.start();
+
+    assertThat(service.isReady()).isTrue();
+    assertThat(service.readiness().getProcessors().get(0).getLag()).isZero();
+  }
+
+  @Test
+  @DisplayName("should be ready at once when the event store is empty")
+  void shouldBeReadyWithEmptyStore() {
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(-1L));
+    givenSegmentPositions();
+
+    service.start();
+
+    assertThat(service.isReady()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should be ready at once when the gate is disabled")
+  void shouldBeReadyWhenDisabled() {
+    config.setEnabled(false);
+
+    service.start();
+
+    assertThat(service.isReady()).isTrue();
+  }
+
+  private void givenSegmentPositions(long... positions) {
+    Map<Integer, EventTrackerStatus> status = new HashMap<>();
+    for (int segment = 0; segment < positions.length; segment++) {
+      EventTrackerStatus segmentStatus = mock(EventTrackerStatus.class);
+      when(segmentStatus.getCurrentPosition()).thenReturn(OptionalLong.of(positions[segment]));
+      status.put(segment, segmentStatus);
+    }
+    Map<String, EventProcessor> processors = Map.of(PROCESSOR, processor);
+    when(eventProcessingConfiguration.eventProcessors()).thenReturn(processors);
+    when(processor.processingStatus()).thenReturn(status);
+  }
+}
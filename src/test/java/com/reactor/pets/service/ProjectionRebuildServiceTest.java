@@ -0,0 +1,118 @@
+package com.reactor.pets.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reactor.pets.config.ProjectionRebuildConfig;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Projection Rebuild Service")
+class ProjectionRebuildServiceTest {
+
+  private static final String PROCESSOR = "pet-status";
+  private static final String QUIET_LOGGER = "com.reactor.pets.projection";
+
+  @Mock private EventProcessingConfiguration eventProcessingConfiguration;
+  @Mock private EventStore eventStore;
+  @Mock private LoggingSystem loggingSystem;
+  @Mock private StreamingEventProcessor processor;
+
+  private ProjectionRebuildService service;
+
+  @BeforeEach
+  void setUp() {
+    ProjectionRebuildConfig config = new ProjectionRebuildConfig();
+    config.setProgressIntervalMs(0); // Progress is polled explicitly by the tests
+    service =
+        new ProjectionRebuildService(
+            eventProcessingConfiguration, eventStore, loggingSystem, config);
+  }
+
+  @Test
+  @DisplayName("should reset and restart the processor with projection logging quieted")
+  void shouldResetProcessor() {
+    givenProcessor(Map.of());
+
+    ProjectionRebuildProgress progress = service.start(PROCESSOR);
+
+    InOrder order = inOrder(loggingSystem, processor);
+    order.verify(loggingSystem).setLogLevel(QUIET_LOGGER, LogLevel.WARN);
+    order.verify(processor).shutDown();
+    order.verify(processor).resetTokens();
+    order.verify(processor).start();
+    assertThat(progress.isCompleted()).isFalse();
+    assertThat(progress.getTargetPosition()).isEqualTo(1000L);
+  }
+
+  @Test
+  @DisplayName("should report progress and restore logging once caught up")
+  void shouldCompleteWhenCaughtUp() {
+    EventTrackerStatus first = segment(400, true);
+    EventTrackerStatus second = segment(600, true);
+    givenProcessor(Map.of(0, first, 1, second));
+    service.start(PROCESSOR);
+
+    ProjectionRebuildProgress halfway = service.progress(PROCESSOR).orElseThrow();
+    assertThat(halfway.isCompleted()).isFalse();
+    assertThat(halfway.getSegments()).isEqualTo(2);
+    assertThat(halfway.getPosition()).isEqualTo(400L); // The slowest segment
+    assertThat(halfway.getPercentComplete()).isEqualTo(40.0);
+    assertThat(halfway.getEventsPerSecond()).isPositive();
+    assertThat(halfway.getEtaSeconds()).isNotNegative();
+
+    EventTrackerStatus done = segment(1000, false);
+    when(processor.processingStatus()).thenReturn(Map.of(0, done, 1, done));
+    ProjectionRebuildProgress completed = service.progress(PROCESSOR).orElseThrow();
+
+    assertThat(completed.isCompleted()).isTrue();
+    assertThat(completed.getPercentComplete()).isEqualTo(100.0);
+    assertThat(completed.getEtaSeconds()).isZero();
+    verify(loggingSystem).setLogLevel(QUIET_LOGGER, null);
+  }
+
+  @Test
+  @DisplayName("should reject processors that are not configured for rebuilds")
+  void shouldRejectUnknownProcessor() {
+    assertThatThrownBy(() -> service.start("inventory"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("cannot be rebuilt");
+    assertThat(service.progress("inventory")).isEmpty();
+  }
+
+  private void givenProcessor(Map<Integer, EventTrackerStatus> segments) {
+    when(eventProcessingConfiguration.eventProcessor(PROCESSOR, StreamingEventProcessor.class))
+        .thenReturn(Optional.of(processor));
+    when(processor.supportsReset()).thenReturn(true);
+    when(processor.processingStatus()).thenReturn(segments);
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(1000));
+  }
+
+  private static EventTrackerStatus segment(long position, boolean replaying) {
+    EventTrackerStatus status = mock(EventTrackerStatus.class);
+    lenient().when(status.getCurrentPosition()).thenReturn(OptionalLong.of(position));
+    lenient().when(status.isReplaying()).thenReturn(replaying);
+    return status;
+  }
+}
@@ -0,0 +1,130 @@
+package com.reactor.pets.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reactor.pets.config.ReadConsistencyConfig;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Read Consistency Service")
+class ReadConsistencyServiceTest {
+
+  private static final String PROCESSOR = "pet-status";
+  // "a" and "b" hash to 97 and 98, so with two segments they fall in segments 1 and 0
+  private static final String PET_IN_SEGMENT_0 = "b";
+  private static final String PET_IN_SEGMENT_1 = "a";
+
+  @Mock private EventStore eventStore;
+  @Mock private EventProcessingConfiguration eventProcessingConfiguration;
+  @Mock private StreamingEventProcessor processor;
+  @Mock private InterceptorChain interceptorChain;
+
+  private ReadConsistencyConfig config;
+  private ReadConsistencyService service;
+
+  @BeforeEach
+  void setUp() {
+    config = new ReadConsistencyConfig();
+    config.setRecheckIntervalMs(0); // Waiters are re-checked explicitly by the tests
+    config.setTimeoutMs(200);
+    service = new ReadConsistencyService(eventStore, eventProcessingConfiguration, config);
+  }
+
+  @Test
+  @DisplayName("should complete at once when the pet's segment has passed the token")
+  void shouldCompleteWhenAlreadyProcessed() {
+    givenSegmentPositions(12L, 15L);
+
+    CompletableFuture<Boolean> caughtUp = service.awaitProcessed(PROCESSOR, PET_IN_SEGMENT_0, 12L);
+
+    assertThat(caughtUp).isCompletedWithValue(true);
+  }
+
+  @Test
+  @DisplayName("should not wait for the segments of other pets")
+  void shouldIgnoreOtherSegments() {
+    givenSegmentPositions(3L, 15L);
+
+    CompletableFuture<Boolean> caughtUp = service.awaitProcessed(PROCESSOR, PET_IN_SEGMENT_1, 12L);
+
+    assertThat(caughtUp).isCompletedWithValue(true);
+  }
+
+  @Test
+  @DisplayName("should complete once the pet's segment passes the command's token")
+  void shouldCompleteWhenProcessorCatchesUp() throws Exception {
+    givenSegmentPositions(8L, 15L);
+    when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(12L));
+    CommandMessage<?> command = service.withConsistencyToken("feed");
+    DefaultUnitOfWork<CommandMessage<?>> commandUnitOfWork = DefaultUnitOfWork.startAndGet(command);
+    service.commandInterceptor().handle(commandUnitOfWork, interceptorChain);
+    commandUnitOfWork.commit(); // The command's events are stored, which takes its token
+
+    // Later events from other commands do not move the token
+    lenient().when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(40L));
+    CompletableFuture<Long> token = service.awaitCommandToken(PROCESSOR, PET_IN_SEGMENT_0, command);
+    assertThat(token).isNotDone();
+
+    givenSegmentPositions(12L, 15L);
+    DefaultUnitOfWork<EventMessage<?>> unitOfWork =
+        DefaultUnitOfWork.startAndGet(GenericEventMessage.asEventMessage("handled event"));
+    service.interceptor(PROCESSOR).handle(unitOfWork, interceptorChain);
+    unitOfWork.commit(); // The processor committed, which wakes the waiters
+
+    assertThat(token).isCompletedWithValue(12L);
+  }
+
+  @Test
+  @DisplayName("should give up after the timeout so the query can run on stale data")
+  void shouldTimeOut() throws Exception {
+    givenSegmentPositions(3L);
+
+    Boolean caughtUp =
+        service.awaitProcessed(PROCESSOR, PET_IN_SEGMENT_0, 10L).get(2, TimeUnit.SECONDS);
+
+    assertThat(caughtUp).isFalse();
+  }
+
+  /** One segment per position, split by the lowest bit of the pet id's hash code. */
+  private void givenSegmentPositions(long... positions) {
+    Map<Integer, EventTrackerStatus> status = new HashMap<>();
+    Segment[] segments = Segment.computeSegments(IntStream.range(0, positions.length).toArray());
+    for (int segment = 0; segment < positions.length; segment++) {
+      EventTrackerStatus segmentStatus = mock(EventTrackerStatus.class);
+      lenient().when(segmentStatus.getSegment()).thenReturn(segments[segment]);
+      lenient()
+          .when(segmentStatus.getCurrentPosition())
+          .thenReturn(OptionalLong.of(positions[segment]));
+      status.put(segment, segmentStatus);
+    }
+    when(eventProcessingConfiguration.eventProcessor(PROCESSOR, StreamingEventProcessor.class))
+        .thenReturn(Optional.of(processor));
+    when(processor.processingStatus()).thenReturn(status);
+  }
+}
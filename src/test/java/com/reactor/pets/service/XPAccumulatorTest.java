@@ -0,0 +1,99 @@
+package com.reactor.pets.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reactor.pets.command.EarnXPBatchCommand;
+import com.reactor.pets.command.EarnXPCommand;
+import com.reactor.pets.config.XPAccumulatorConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("XP Accumulator")
+class XPAccumulatorTest {
+
+  private static final String PLAYER_ID = "PLAYER_1";
+
+  @Mock private CommandGateway commandGateway;
+
+  private XPAccumulatorConfig config;
+  private XPAccumulator accumulator;
+
+  @BeforeEach
+  void setUp() {
+    config = new XPAccumulatorConfig();
+    config.setFlushIntervalMs(0); // Flushed explicitly by the tests
+    accumulator = new XPAccumulator(commandGateway, config);
+  }
+
+  @Test
+  @DisplayName("should send one itemized command per player on flush")
+  void shouldCoalesceEarningsIntoOneCommand() {
+    when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    accumulator.earn(PLAYER_ID, 10, "Fed pet pet-1");
+    accumulator.earn(PLAYER_ID, 1, "Pets survived tick (ADULT)");
+    accumulator.earn(PLAYER_ID, 1, "Pets survived tick (ADULT)");
+    accumulator.earn(PLAYER_ID, 15, "Played with pet pet-2");
+    verify(commandGateway, never()).send(any());
+
+    accumulator.flush();
+
+    ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+    verify(commandGateway, times(1)).send(sent.capture());
+    EarnXPBatchCommand command = (EarnXPBatchCommand) sent.getValue();
+    assertThat(command.getPlayerId()).isEqualTo(PLAYER_ID);
+    assertThat(command.getXpBySource())
+        .containsExactly(
+            Map.entry("Fed pet pet-1", 10L),
+            Map.entry("Pets survived tick (ADULT)", 2L),
+            Map.entry("Played with pet pet-2", 15L));
+
+    // The buffer is empty after a flush
+    accumulator.flush();
+    verify(commandGateway, times(1)).send(any());
+  }
+
+  @Test
+  @DisplayName("should keep earnings whose command failed for the next flush")
+  void shouldRetryFailedEarnings() {
+    when(commandGateway.send(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Not initialized")))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    accumulator.earn(PLAYER_ID, 10, "Fed pet pet-1");
+    accumulator.flush();
+    accumulator.earn(PLAYER_ID, 5, "Fed pet pet-1");
+    accumulator.flush();
+
+    ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+    verify(commandGateway, times(2)).send(sent.capture());
+    List<Object> commands = sent.getAllValues();
+    assertThat(((EarnXPBatchCommand) commands.get(1)).getXpBySource())
+        .containsExactly(Map.entry("Fed pet pet-1", 15L));
+  }
+
+  @Test
+  @DisplayName("should send each earning immediately when disabled")
+  void shouldSendImmediatelyWhenDisabled() {
+    config.setEnabled(false);
+
+    accumulator.earn(PLAYER_ID, 10, "Fed pet pet-1");
+
+    verify(commandGateway).send(new EarnXPCommand(PLAYER_ID, 10, "Fed pet pet-1"));
+  }
+}